@@ -32,6 +32,7 @@ import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGene
 import com.github.vladislavsevruk.generator.model.graphql.generator.GqlModelClassContentGeneratorProvider;
 import com.github.vladislavsevruk.generator.model.graphql.optimization.EagerAndSpec;
 import com.github.vladislavsevruk.generator.model.graphql.optimization.GenerateGraphqlModelsAction;
+import com.github.vladislavsevruk.generator.model.graphql.optimization.GenerateGraphqlOperationManifestAction;
 import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -67,6 +68,7 @@ class GqlModelGeneratorPluginTest {
         String targetPath = mockTargetPath(project);
         mockSourceDirectorySet(sourceSet, targetPath);
         mockGraphqlModelsTaskCreation(project);
+        mockGraphqlOperationManifestTaskCreation(project);
         Assertions.assertDoesNotThrow(() -> new GqlModelGeneratorPlugin().apply(project));
         verifyGeneratorProviders();
     }
@@ -95,6 +97,15 @@ class GqlModelGeneratorPluginTest {
         when(project.getTasks()).thenReturn(taskContainer);
     }
 
+    private void mockGraphqlOperationManifestTaskCreation(Project project) {
+        Task task = Mockito.mock(Task.class);
+        when(task.doLast(any(GenerateGraphqlOperationManifestAction.class))).thenReturn(task);
+        when(project.task("generateGraphqlOperationManifest")).thenReturn(task);
+        TaskOutputs taskOutputs = Mockito.mock(TaskOutputs.class);
+        doNothing().when(taskOutputs).upToDateWhen(any(EagerAndSpec.class));
+        when(task.getOutputs()).thenReturn(taskOutputs);
+    }
+
     private SourceSet mockMainSourceSet(Project project) {
         SourceSet sourceSet = Mockito.mock(SourceSet.class);
         SourceSetContainer sourceSetContainer = Mockito.mock(SourceSetContainer.class);
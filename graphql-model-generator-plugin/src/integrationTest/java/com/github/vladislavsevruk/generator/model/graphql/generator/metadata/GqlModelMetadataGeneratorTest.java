@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.metadata;
+
+import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.java.type.SchemaObject;
+import com.github.vladislavsevruk.generator.java.type.predefined.CommonJavaSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.PrimitiveSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ArraySchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.test.constant.TestData;
+import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaObject;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnion;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnionType;
+import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+class GqlModelMetadataGeneratorTest {
+
+    @BeforeEach
+    void createTempDir() {
+        TestData.createTempTestRssDir();
+    }
+
+    @Test
+    void generateTest() {
+        GqlModelGeneratorPluginExtension extension = TestExtensionUtil.mockPluginExtension();
+        String targetDirPath = TestData.tempTestRssPath("generateMetadataTest" + File.separator);
+        SchemaObjectStorage storage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaField schemaField11 = new GqlSchemaField("field11", "field11", CommonJavaSchemaEntity.BOOLEAN, false);
+        SchemaObject schemaObject1 = new GqlSchemaObject("com.test", "TestObject1", null, Collections.emptyList(),
+                Collections.singletonList(schemaField11));
+        SchemaObject schemaObject2 = new GqlSchemaUnion("com.test", "TestObject2",
+                new GqlSchemaUnionType[] { new GqlSchemaUnionType("TestObject2", schemaObject1) });
+        GqlSchemaField schemaField31 = new GqlSchemaField("field31", "field_31", schemaObject1, true);
+        GqlSchemaField schemaField32 = new GqlSchemaField("field32", "field32", new ArraySchemaEntity(schemaObject1),
+                true);
+        GqlSchemaField schemaField33 = new GqlSchemaField("flag", "flag", PrimitiveSchemaEntity.BOOLEAN, false);
+        SchemaObject schemaObject3 = new GqlSchemaObject("com.test", "TestObject3", null,
+                Collections.singletonList(schemaObject2), Arrays.asList(schemaField31, schemaField32, schemaField33));
+        Collection<SchemaObject> schemaObjects = Arrays.asList(schemaObject2, schemaObject1, schemaObject3);
+        Mockito.when(storage.getAllObjects()).thenReturn(schemaObjects);
+        new GqlModelMetadataGenerator().generate(extension, targetDirPath, storage);
+        String packageDirPath = String.format("%sgenerated%ssources%<sgraphqlModels%<sjava%<smain%<scom%<stest%<s",
+                targetDirPath, File.separator);
+        String[] fileNames = new File(packageDirPath).list();
+        Assertions.assertNotNull(fileNames);
+        Assertions.assertEquals(3, fileNames.length);
+        List<String> classNames = Arrays.asList(fileNames);
+        verifyMetadataFile1(packageDirPath, classNames);
+        verifyMetadataFile3(packageDirPath, classNames);
+        verifyRegistrationFile(packageDirPath, classNames);
+    }
+
+    @AfterEach
+    void removeTempDir() {
+        TestData.removeTempTestRssDir();
+    }
+
+    private List<String> nonEmptyLines(String filePath) {
+        String fileContent = ReadWriteFileUtil.readFileContent(filePath);
+        Assertions.assertNotNull(fileContent);
+        return Arrays.asList(fileContent.split("\\s*\\n+\\s*"));
+    }
+
+    private void verifyMetadataFile1(String packageDirPath, List<String> classNames) {
+        String fileName = "TestObject1_GqlModelMetadata.java";
+        Assertions.assertTrue(classNames.contains(fileName));
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + fileName);
+        Assertions.assertEquals("package com.test;", nonEmptyLines.get(0));
+        Assertions.assertTrue(nonEmptyLines
+                .contains("public final class TestObject1_GqlModelMetadata extends BaseGqlModelMetadata {"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static final String ALL_FIELDS = \"{field11}\";"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static final String ONLY_ID = \"{}\";"));
+        Assertions.assertTrue(nonEmptyLines.contains("super(com.test.TestObject1.class, \"field11\");"));
+        Assertions.assertTrue(nonEmptyLines
+                .contains("addValueAccessor(\"field11\", model -> ((com.test.TestObject1) model).getField11());"));
+    }
+
+    private void verifyMetadataFile3(String packageDirPath, List<String> classNames) {
+        String fileName = "TestObject3_GqlModelMetadata.java";
+        Assertions.assertTrue(classNames.contains(fileName));
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + fileName);
+        Assertions.assertTrue(nonEmptyLines.contains(
+                "public static final String ALL_FIELDS = \"{field_31{field11} field32{field11} flag}\";"));
+        Assertions.assertTrue(nonEmptyLines.contains(
+                "public static final String ALL_FIELDS_CANONICAL = \"{field32{field11} field_31{field11} flag}\";"));
+        Assertions.assertTrue(
+                nonEmptyLines.contains("public static final String WITHOUT_SELECTION_SETS = \"{flag}\";"));
+        Assertions.assertTrue(
+                nonEmptyLines.contains("super(com.test.TestObject3.class, \"field_31\", \"field32\", \"flag\");"));
+        Assertions.assertTrue(nonEmptyLines
+                .contains("addValueAccessor(\"field31\", model -> ((com.test.TestObject3) model).getField31());"));
+        Assertions.assertTrue(nonEmptyLines.stream().noneMatch(line -> line.startsWith("addValueAccessor(\"flag\"")));
+    }
+
+    private void verifyRegistrationFile(String packageDirPath, List<String> classNames) {
+        String fileName = GqlModelMetadataGenerator.REGISTRATION_CLASS_NAME + ".java";
+        Assertions.assertTrue(classNames.contains(fileName));
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + fileName);
+        Assertions.assertTrue(nonEmptyLines
+                .contains("GqlModelMetadataRegistry.register(new com.test.TestObject1_GqlModelMetadata());"));
+        Assertions.assertTrue(nonEmptyLines
+                .contains("GqlModelMetadataRegistry.register(new com.test.TestObject3_GqlModelMetadata());"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.operation;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaField;
+import com.github.vladislavsevruk.generator.java.type.predefined.CommonJavaSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.PrimitiveSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ListSchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.test.constant.TestData;
+import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaType;
+import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class GqlOperationClassGeneratorTest {
+
+    @BeforeEach
+    void createTempDir() {
+        TestData.createTempTestRssDir();
+    }
+
+    @Test
+    void generateTest() {
+        GqlModelGeneratorPluginExtension extension = TestExtensionUtil.mockPluginExtension();
+        String targetDirPath = TestData.tempTestRssPath("generateOperationsTest" + File.separator);
+        List<SchemaField> fields = Arrays.asList(new GqlSchemaField("id", "id", CommonJavaSchemaEntity.STRING, true),
+                new GqlSchemaField("displayName", "display_name", CommonJavaSchemaEntity.STRING, false));
+        GqlSchemaType userType = new GqlSchemaType("com.test", "User", Collections.emptyList(), fields);
+        GqlSchemaOperation userQuery = new GqlSchemaOperation("UserQuery", "user", GqlOperationType.QUERY,
+                Collections.singletonList(new GqlSchemaArgument("id", "id", "ID!", CommonJavaSchemaEntity.STRING,
+                        true)), userType);
+        GqlSchemaOperation usersQuery = new GqlSchemaOperation("UsersQuery", "users", GqlOperationType.QUERY,
+                Arrays.asList(new GqlSchemaArgument("ids", "ids", "[ID!]",
+                                new ListSchemaEntity(CommonJavaSchemaEntity.STRING), false),
+                        new GqlSchemaArgument("first", "first", "Int!", PrimitiveSchemaEntity.INT, true)), userType);
+        GqlSchemaOperation removeMutation = new GqlSchemaOperation("RemoveAllMutation", "remove_all",
+                GqlOperationType.MUTATION, Collections.emptyList(), null);
+        new GqlOperationClassGenerator()
+                .generate(extension, targetDirPath, Arrays.asList(userQuery, usersQuery, removeMutation));
+        String packageDirPath = String.format(
+                "%sgenerated%ssources%<sgraphqlModels%<sjava%<smain%<scom%<stest%<soperation%<s", targetDirPath,
+                File.separator);
+        String[] fileNames = new File(packageDirPath).list();
+        Assertions.assertNotNull(fileNames);
+        Assertions.assertEquals(3, fileNames.length);
+        verifyUserQueryFile(packageDirPath);
+        verifyUsersQueryFile(packageDirPath);
+        verifyRemoveAllMutationFile(packageDirPath);
+    }
+
+    @AfterEach
+    void removeTempDir() {
+        TestData.removeTempTestRssDir();
+    }
+
+    private List<String> nonEmptyLines(String filePath) {
+        String fileContent = ReadWriteFileUtil.readFileContent(filePath);
+        Assertions.assertNotNull(fileContent);
+        return Arrays.asList(fileContent.split("\\s*\\n+\\s*"));
+    }
+
+    private void verifyRemoveAllMutationFile(String packageDirPath) {
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + "RemoveAllMutation.java");
+        Assertions.assertTrue(
+                nonEmptyLines.contains("public static final String OPERATION = \"mutation{remove_all}\";"));
+        Assertions.assertTrue(nonEmptyLines.contains(
+                "public static final PreparedGqlOperation PREPARED_OPERATION = PreparedGqlOperation.of(OPERATION);"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static String bind() {"));
+        Assertions.assertFalse(nonEmptyLines.contains("import java.util.Objects;"));
+    }
+
+    private void verifyUserQueryFile(String packageDirPath) {
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + "UserQuery.java");
+        Assertions.assertEquals("package com.test.operation;", nonEmptyLines.get(0));
+        Assertions.assertTrue(nonEmptyLines.contains("public final class UserQuery {"));
+        Assertions.assertTrue(nonEmptyLines.contains(
+                "public static final String OPERATION = \"query($id:ID!){user(id:$id){id display_name}}\";"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static final PreparedGqlOperation PREPARED_OPERATION = "
+                + "PreparedGqlOperation.of(OPERATION, \"id\");"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static String bind(String id) {"));
+        Assertions.assertTrue(nonEmptyLines.contains("public static String bindPersisted(String id) {"));
+        Assertions.assertTrue(nonEmptyLines
+                .contains("variables.put(\"id\", Objects.requireNonNull(id, \"Argument 'id' cannot be null.\"));"));
+    }
+
+    private void verifyUsersQueryFile(String packageDirPath) {
+        List<String> nonEmptyLines = nonEmptyLines(packageDirPath + "UsersQuery.java");
+        Assertions.assertTrue(nonEmptyLines.contains("public static final String OPERATION = "
+                + "\"query($ids:[ID!],$first:Int!){users(ids:$ids,first:$first){id display_name}}\";"));
+        Assertions.assertTrue(
+                nonEmptyLines.contains("public static String bind(java.util.List<String> ids, int first) {"));
+        Assertions.assertTrue(nonEmptyLines.contains("if (ids != null) {"));
+        Assertions.assertTrue(nonEmptyLines.contains("variables.put(\"first\", first);"));
+    }
+}
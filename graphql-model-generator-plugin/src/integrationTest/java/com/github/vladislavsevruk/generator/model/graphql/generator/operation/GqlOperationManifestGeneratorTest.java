@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.operation;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaField;
+import com.github.vladislavsevruk.generator.java.type.predefined.CommonJavaSchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.test.constant.TestData;
+import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaType;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
+import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
+import org.gradle.api.provider.ListProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+class GqlOperationManifestGeneratorTest {
+
+    private static final String USER_QUERY = "query($id:ID!){user(id:$id){id}}";
+    private static final String USER_QUERY_HASH = "47b72af312cea34e7819316ff47535286320c6500bb811a3934b3d4a39191427";
+
+    @BeforeEach
+    void createTempDir() {
+        TestData.createTempTestRssDir();
+    }
+
+    @Test
+    void generateManifestEscapesOperationTextTest() {
+        String manifest = new GqlOperationManifestGenerator()
+                .generateManifest(Collections.singletonList("{user(name:\"a\\b\")\n{id}}"));
+        Assertions.assertTrue(manifest.contains("\": \"{user(name:\\\"a\\\\b\\\")\\n{id}}\""));
+    }
+
+    @Test
+    void generateManifestIsSortedByHashTest() {
+        List<String> operations = Arrays.asList(USER_QUERY, "{users{id}}", "mutation{remove_all}");
+        GqlOperationManifestGenerator generator = new GqlOperationManifestGenerator();
+        String manifest = generator.generateManifest(operations);
+        Collections.reverse(operations);
+        Assertions.assertEquals(manifest, generator.generateManifest(operations));
+    }
+
+    @Test
+    void generateManifestWithoutOperationsTest() {
+        Assertions.assertEquals("{}\n", new GqlOperationManifestGenerator().generateManifest(Collections.emptyList()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateTest() {
+        GqlModelGeneratorPluginExtension extension = TestExtensionUtil.mockPluginExtension();
+        ListProperty<String> manifestOperations = Mockito.mock(ListProperty.class);
+        when(manifestOperations.get()).thenReturn(Collections.singletonList("{users{id}}"));
+        when(extension.getManifestOperations()).thenReturn(manifestOperations);
+        String targetDirPath = TestData.tempTestRssPath("generateOperationManifestTest" + File.separator);
+        List<SchemaField> fields = Collections
+                .singletonList(new GqlSchemaField("id", "id", CommonJavaSchemaEntity.STRING, true));
+        GqlSchemaType userType = new GqlSchemaType("com.test", "User", Collections.emptyList(), fields);
+        GqlSchemaOperation userQuery = new GqlSchemaOperation("UserQuery", "user", GqlOperationType.QUERY,
+                Collections.singletonList(new GqlSchemaArgument("id", "id", "ID!", CommonJavaSchemaEntity.STRING,
+                        true)), userType);
+        new GqlOperationManifestGenerator().generate(extension, targetDirPath, Collections.singletonList(userQuery));
+        String manifest = ReadWriteFileUtil
+                .readFileContent(GqlModelPathBuilder.buildOperationManifestPath(targetDirPath));
+        Assertions.assertNotNull(manifest);
+        Assertions.assertTrue(manifest.contains("  \"" + USER_QUERY_HASH + "\": \"" + USER_QUERY + "\""));
+        Assertions.assertTrue(manifest.contains("\": \"{users{id}}\""));
+    }
+
+    @AfterEach
+    void removeTempDir() {
+        TestData.removeTempTestRssDir();
+    }
+}
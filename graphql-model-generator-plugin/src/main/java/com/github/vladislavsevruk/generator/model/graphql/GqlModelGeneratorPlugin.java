@@ -31,6 +31,7 @@ import com.github.vladislavsevruk.generator.model.graphql.generator.GqlModelClas
 import com.github.vladislavsevruk.generator.model.graphql.optimization.ConfigurationUpToDateSpec;
 import com.github.vladislavsevruk.generator.model.graphql.optimization.EagerAndSpec;
 import com.github.vladislavsevruk.generator.model.graphql.optimization.GenerateGraphqlModelsAction;
+import com.github.vladislavsevruk.generator.model.graphql.optimization.GenerateGraphqlOperationManifestAction;
 import com.github.vladislavsevruk.generator.model.graphql.optimization.SchemaUpToDateSpec;
 import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
 import org.gradle.api.NonNullApi;
@@ -49,6 +50,7 @@ public class GqlModelGeneratorPlugin implements Plugin<Project> {
 
     private static final String COMPILE_JAVA_TASK_NAME = "compileJava";
     private static final String EXTENSION_NAME = "graphqlModelGenerator";
+    private static final String MANIFEST_TASK_NAME = "generateGraphqlOperationManifest";
     private static final String TASK_NAME = "generateGraphqlModels";
 
     /**
@@ -62,6 +64,7 @@ public class GqlModelGeneratorPlugin implements Plugin<Project> {
         sourceSet.java(set -> set.srcDir(GqlModelPathBuilder.buildModelSrcJavaPath(targetPath)));
         setGqlModelClassContentGenerator();
         createGraphqlModelsTask(project, extension, targetPath);
+        createGraphqlOperationManifestTask(project, extension, targetPath);
     }
 
     private GqlModelGeneratorPluginExtension createExtension(Project project, SourceSet sourceSet) {
@@ -80,6 +83,16 @@ public class GqlModelGeneratorPlugin implements Plugin<Project> {
         project.getTasks().getByName(COMPILE_JAVA_TASK_NAME).dependsOn(TASK_NAME);
     }
 
+    private void createGraphqlOperationManifestTask(Project project, GqlModelGeneratorPluginExtension extension,
+            String targetPath) {
+        Task generateGraphqlOperationManifestTask = project.task(MANIFEST_TASK_NAME)
+                .doLast(new GenerateGraphqlOperationManifestAction<>(extension, targetPath));
+        generateGraphqlOperationManifestTask.getOutputs()
+                .file(GqlModelPathBuilder.buildOperationManifestPath(targetPath));
+        generateGraphqlOperationManifestTask.getOutputs()
+                .upToDateWhen(getOperationManifestUpToDateSpec(extension, targetPath));
+    }
+
     private SourceSet getMainSourceSet(Project project) {
         JavaPluginConvention javaPlugin = project.getConvention().getPlugin(JavaPluginConvention.class);
         return javaPlugin.getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
@@ -90,6 +103,15 @@ public class GqlModelGeneratorPlugin implements Plugin<Project> {
                 new ConfigurationUpToDateSpec<>(extension, targetPath));
     }
 
+    private <T extends Task> Spec<T> getOperationManifestUpToDateSpec(GqlModelGeneratorPluginExtension extension,
+            String targetPath) {
+        // separate hash sums so models and manifest tasks don't mark each other up-to-date
+        String manifestDirPath = GqlModelPathBuilder.buildOperationManifestDirPath(targetPath);
+        return new EagerAndSpec<>(
+                new SchemaUpToDateSpec<>(extension.getPathToSchemaFile(), manifestDirPath, ".schemaHashSum"),
+                new ConfigurationUpToDateSpec<>(extension, manifestDirPath, ".configurationHashSum"));
+    }
+
     private void setGqlModelClassContentGenerator() {
         ClassGenerationContextManager.getContext().getClassContentGeneratorProviderStorage()
                 .addBefore(new GqlModelClassContentGeneratorProvider(), ClassContentGeneratorProvider.class);
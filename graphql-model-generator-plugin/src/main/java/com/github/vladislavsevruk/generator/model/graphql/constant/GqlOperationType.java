@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents GraphQL operation types that are declared by root types of schema.
+ */
+@Getter
+@AllArgsConstructor
+public enum GqlOperationType {
+
+    MUTATION("Mutation", "mutation"), QUERY("Query", "query");
+
+    private final String rootTypeName;
+    private final String keyword;
+
+    /**
+     * Returns <code>GqlOperationType</code> that is declared by root type with received name.
+     *
+     * @param rootTypeName <code>String</code> with GraphQL root type name.
+     * @return <code>GqlOperationType</code> that is declared by received root type or <code>null</code> if received
+     * type isn't root one.
+     */
+    public static GqlOperationType getByRootTypeName(String rootTypeName) {
+        for (GqlOperationType operationType : values()) {
+            if (operationType.rootTypeName.equals(rootTypeName)) {
+                return operationType;
+            }
+        }
+        return null;
+    }
+}
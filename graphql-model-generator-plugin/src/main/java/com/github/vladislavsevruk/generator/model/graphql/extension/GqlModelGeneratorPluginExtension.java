@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.model.graphql.extension;
 import com.github.vladislavsevruk.generator.model.graphql.constant.ElementSequence;
 import com.github.vladislavsevruk.generator.model.graphql.constant.GqlFloatType;
 import com.github.vladislavsevruk.generator.model.graphql.constant.GqlIntType;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 
 /**
@@ -49,6 +50,24 @@ public interface GqlModelGeneratorPluginExtension {
      */
     Property<String> getEntitiesPrefix();
 
+    /**
+     * Returns <code>Property</code> with <code>Boolean</code> flag that reflects if companion metadata classes with
+     * precomputed selection sets and typed field value accessors should be generated for POJO models.
+     */
+    Property<Boolean> getGenerateModelMetadata();
+
+    /**
+     * Returns <code>Property</code> with <code>Boolean</code> flag that reflects if operation classes with pre-rendered
+     * operation text should be generated for fields of GraphQL Query and Mutation types.
+     */
+    Property<Boolean> getGenerateOperations();
+
+    /**
+     * Returns <code>ListProperty</code> with <code>String</code> GraphQL operations that should be added to operation
+     * manifest besides operations of GraphQL Query and Mutation type fields.
+     */
+    ListProperty<String> getManifestOperations();
+
     /**
      * Returns <code>Property</code> with <code>String</code> path to GraphQL schema file.
      */
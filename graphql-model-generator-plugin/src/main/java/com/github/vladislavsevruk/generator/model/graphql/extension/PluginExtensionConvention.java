@@ -29,6 +29,7 @@ import com.github.vladislavsevruk.generator.model.graphql.constant.GqlIntType;
 import org.gradle.api.tasks.SourceSet;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.Iterator;
 
 /**
@@ -46,6 +47,9 @@ public class PluginExtensionConvention {
         extension.getAddJacksonAnnotations().convention(false);
         extension.getEntitiesPostfix().convention("");
         extension.getEntitiesPrefix().convention("");
+        extension.getGenerateModelMetadata().convention(false);
+        extension.getGenerateOperations().convention(false);
+        extension.getManifestOperations().convention(Collections.emptyList());
         Iterator<File> iterator = sourceSet.getResources().getSrcDirs().iterator();
         String rssAbsDir = !iterator.hasNext() ? "" : iterator.next().getAbsolutePath() + File.separator;
         extension.getPathToSchemaFile()
@@ -24,7 +24,7 @@
 package com.github.vladislavsevruk.generator.model.graphql.extension;
 
 import lombok.extern.slf4j.Slf4j;
-import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 
 import java.lang.reflect.Method;
 
@@ -52,7 +52,7 @@ public class PluginExtensionValueStringBuilder {
                     builder.append(",");
                 }
                 try {
-                    Object value = ((Property<?>) method.invoke(pluginExtension)).get();
+                    Object value = ((Provider<?>) method.invoke(pluginExtension)).get();
                     builder.append(method.getName()).append(":").append(value);
                 } catch (ReflectiveOperationException roEx) {
                     log.warn("Issue happened during configuration check", roEx);
@@ -63,6 +63,7 @@ public class PluginExtensionValueStringBuilder {
     }
 
     private boolean isPropertyMethod(Method method) {
-        return Property.class.equals(method.getReturnType()) && method.getParameters().length == 0;
+        // list and map properties are providers as well
+        return Provider.class.isAssignableFrom(method.getReturnType()) && method.getParameters().length == 0;
     }
 }
@@ -33,6 +33,7 @@ import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
 import com.github.vladislavsevruk.generator.java.type.SchemaObject;
 import com.github.vladislavsevruk.generator.java.util.FileUtil;
 import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.generator.metadata.GqlModelMetadataGenerator;
 import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
 
 /**
@@ -41,17 +42,25 @@ import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuild
 public class GqlModelGenerator {
 
     private final ClassContentGeneratorPicker classContentGeneratorPicker;
+    private final GqlModelMetadataGenerator modelMetadataGenerator;
 
     public GqlModelGenerator() {
         this(ClassGenerationContextManager.getContext().getClassContentGeneratorPicker());
     }
 
     public GqlModelGenerator(ClassContentGeneratorPicker classContentGeneratorPicker) {
+        this(classContentGeneratorPicker, new GqlModelMetadataGenerator());
+    }
+
+    public GqlModelGenerator(ClassContentGeneratorPicker classContentGeneratorPicker,
+            GqlModelMetadataGenerator modelMetadataGenerator) {
         this.classContentGeneratorPicker = classContentGeneratorPicker;
+        this.modelMetadataGenerator = modelMetadataGenerator;
     }
 
     /**
-     * Generates POJO classes according to received schemas and configuration properties.
+     * Generates POJO classes according to received schemas and configuration properties. Companion metadata classes
+     * are generated as well if it's enabled by configuration.
      *
      * @param pluginExtension <code>GqlModelGeneratorPluginExtension</code> with plugin configuration properties.
      * @param targetDirPath   <code>String</code> with POJO classes generation target path.
@@ -62,6 +71,9 @@ public class GqlModelGenerator {
         JavaClassGeneratorConfig javaClassGeneratorConfig = buildJavaClassGeneratorConfig(pluginExtension,
                 targetDirPath);
         storage.getAllObjects().forEach(object -> generateModel(javaClassGeneratorConfig, object));
+        if (Boolean.TRUE.equals(pluginExtension.getGenerateModelMetadata().get())) {
+            modelMetadataGenerator.generate(pluginExtension, targetDirPath, storage);
+        }
     }
 
     private JavaClassGeneratorConfig buildJavaClassGeneratorConfig(GqlModelGeneratorPluginExtension pluginExtension,
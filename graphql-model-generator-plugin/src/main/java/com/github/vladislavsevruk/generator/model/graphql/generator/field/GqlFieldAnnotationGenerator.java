@@ -25,11 +25,9 @@ package com.github.vladislavsevruk.generator.model.graphql.generator.field;
 
 import com.github.vladislavsevruk.generator.java.config.JavaClassGeneratorConfig;
 import com.github.vladislavsevruk.generator.java.generator.FieldAnnotationGenerator;
-import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
 import com.github.vladislavsevruk.generator.java.type.SchemaField;
-import com.github.vladislavsevruk.generator.java.type.predefined.sequence.BaseSchemaElementSequence;
-import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaEnum;
 import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlSchemaFieldUtil;
 
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,7 +49,7 @@ public class GqlFieldAnnotationGenerator implements FieldAnnotationGenerator {
         GqlSchemaField gqlField = (GqlSchemaField) field;
         stringBuilder.append(config.getIndent().value()).append("@GqlField");
         String nonNullParameter = gqlField.isNonNull() ? "nonNull = true" : "";
-        String withSelectionSetParameter = !gqlField.isUnion() && hasSelectionSet(gqlField.getType())
+        String withSelectionSetParameter = GqlSchemaFieldUtil.isWithSelectionSet(gqlField)
                 ? "withSelectionSet = true" : "";
         String rawSchemaName = gqlField.getRawSchemaName();
         String nameParameter = rawSchemaName.equals(field.getName()) ? ""
@@ -64,25 +62,6 @@ public class GqlFieldAnnotationGenerator implements FieldAnnotationGenerator {
         return stringBuilder.append("\n").toString();
     }
 
-    private boolean hasSelectionSet(SchemaEntity type) {
-        if (isElementSequence(type)) {
-            return hasSelectionSet(((BaseSchemaElementSequence) type).getElementTypes().iterator().next());
-        }
-        return !isScalar(type) && !isEnum(type);
-    }
-
-    private boolean isElementSequence(SchemaEntity type) {
-        return BaseSchemaElementSequence.class.isAssignableFrom(type.getClass());
-    }
-
-    private boolean isEnum(SchemaEntity schemaEntity) {
-        return GqlSchemaEnum.class.isAssignableFrom(schemaEntity.getClass());
-    }
-
-    private boolean isScalar(SchemaEntity schemaEntity) {
-        return schemaEntity.getPackage() == null || "java.math".equals(schemaEntity.getPackage());
-    }
-
     private boolean isSimpleUnion(GqlSchemaField schemaField) {
         return schemaField.isUnion() && !schemaField.isNonNull() && schemaField.getRawSchemaName()
                 .equals(schemaField.getName());
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.metadata;
+
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlSchemaFieldUtil;
+
+/**
+ * Represents fields picking strategies of GraphQL Request Body Generator library selection sets are precomputed for.
+ * Names of constants match names of <code>SelectionSetGenerationStrategy</code> constants at library.
+ */
+public enum GqlFieldsPickingStrategy {
+
+    ALL_FIELDS {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean shouldBePicked(GqlSchemaField field) {
+            return true;
+        }
+    },
+    ONLY_ID {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean shouldBePicked(GqlSchemaField field) {
+            return field.isUnion() || GqlSchemaFieldUtil.isWithSelectionSet(field) || ID.equals(
+                    field.getRawSchemaName());
+        }
+    },
+    ONLY_NON_NULL {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean shouldBePicked(GqlSchemaField field) {
+            return field.isNonNull();
+        }
+    },
+    WITHOUT_SELECTION_SETS {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean shouldBePicked(GqlSchemaField field) {
+            return !field.isUnion() && !GqlSchemaFieldUtil.isWithSelectionSet(field);
+        }
+    };
+
+    private static final String ID = "id";
+
+    /**
+     * Checks if received field should be added to selection set.
+     *
+     * @param field <code>GqlSchemaField</code> to check.
+     * @return <code>true</code> if field should be picked, <code>false</code> otherwise.
+     */
+    public abstract boolean shouldBePicked(GqlSchemaField field);
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.metadata;
+
+import com.github.vladislavsevruk.generator.java.constant.Indent;
+import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.java.type.SchemaField;
+import com.github.vladislavsevruk.generator.java.type.SchemaObject;
+import com.github.vladislavsevruk.generator.java.type.predefined.PrimitiveSchemaEntity;
+import com.github.vladislavsevruk.generator.java.util.FileUtil;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaObject;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates companion metadata classes for generated POJO models and registration class for them. Metadata class
+ * contains GraphQL names of model fields, selection sets precomputed for every predefined fields picking strategy of
+ * GraphQL Request Body Generator library at both declaration and canonical orders and typed accessors of field values,
+ * so library can process generated models without reflection.
+ */
+public class GqlModelMetadataGenerator {
+
+    public static final String METADATA_CLASS_SUFFIX = "_GqlModelMetadata";
+    public static final String REGISTRATION_CLASS_NAME = "GqlModelMetadataRegistration";
+    private static final String CANONICAL_POSTFIX = "_CANONICAL";
+    private static final String[] IMPORTS = { "com.github.vladislavsevruk.generator.metadata.BaseGqlModelMetadata",
+            "com.github.vladislavsevruk.generator.metadata.FieldMarkingStrategyType",
+            "com.github.vladislavsevruk.generator.strategy.order.OutputOrder",
+            "com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy" };
+    private static final String INDENT = Indent.SPACES_2.value();
+    private final GqlSelectionSetCollector selectionSetCollector;
+
+    public GqlModelMetadataGenerator() {
+        this(new GqlSelectionSetCollector());
+    }
+
+    public GqlModelMetadataGenerator(GqlSelectionSetCollector selectionSetCollector) {
+        this.selectionSetCollector = selectionSetCollector;
+    }
+
+    /**
+     * Generates metadata classes for POJO models of received storage and registration class for them.
+     *
+     * @param pluginExtension <code>GqlModelGeneratorPluginExtension</code> with plugin configuration properties.
+     * @param targetDirPath   <code>String</code> with POJO classes generation target path.
+     * @param storage         <code>SchemaObjectStorage</code> with schema objects to generate metadata for.
+     */
+    public void generate(GqlModelGeneratorPluginExtension pluginExtension, String targetDirPath,
+            SchemaObjectStorage storage) {
+        List<GqlSchemaObject> models = new ArrayList<>();
+        for (SchemaObject schemaObject : storage.getAllObjects()) {
+            if (GqlSchemaObject.class.isAssignableFrom(schemaObject.getClass())) {
+                models.add((GqlSchemaObject) schemaObject);
+            }
+        }
+        for (GqlSchemaObject model : models) {
+            createClassFile(targetDirPath, model.getPackage(), model.getName() + METADATA_CLASS_SUFFIX,
+                    generateMetadataClass(model));
+        }
+        String targetPackage = pluginExtension.getTargetPackage().get();
+        createClassFile(targetDirPath, targetPackage, REGISTRATION_CLASS_NAME,
+                generateRegistrationClass(targetPackage, models));
+    }
+
+    private static String getConstantName(GqlFieldsPickingStrategy pickingStrategy, boolean isCanonical) {
+        return pickingStrategy.name() + (isCanonical ? CANONICAL_POSTFIX : "");
+    }
+
+    private static String getQualifiedName(String packageName, String className) {
+        return packageName == null || packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    private void appendAddSelectionSet(StringBuilder source, GqlFieldsPickingStrategy pickingStrategy,
+            boolean isCanonical) {
+        source.append(INDENT).append(INDENT).append(INDENT)
+                .append("addSelectionSet(fieldMarkingStrategyType, SelectionSetGenerationStrategy.")
+                .append(pickingStrategy.name()).append(",\n").append(INDENT).append(INDENT).append(INDENT)
+                .append(INDENT).append(INDENT).append("OutputOrder.").append(isCanonical ? "CANONICAL" : "DECLARATION")
+                .append(", ").append(getConstantName(pickingStrategy, isCanonical)).append(");\n");
+    }
+
+    private void appendPackage(StringBuilder source, String packageName) {
+        if (packageName != null && !packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    private void appendValueAccessor(StringBuilder source, String modelClassName, GqlSchemaField field) {
+        String fieldName = field.getName();
+        String getterName = "get" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        source.append(INDENT).append(INDENT).append("addValueAccessor(\"").append(fieldName)
+                .append("\", model -> ((").append(modelClassName).append(") model).").append(getterName)
+                .append("());\n");
+    }
+
+    private void createClassFile(String targetDirPath, String packageName, String className, String classContent) {
+        String classDir = GqlModelPathBuilder.buildModelPackagePath(targetDirPath, packageName);
+        FileUtil.recursiveMkdir(classDir);
+        String filePath = GqlModelPathBuilder.buildModelPath(classDir, className);
+        FileUtil.writeToNewFile(filePath, classContent);
+    }
+
+    private String generateMetadataClass(GqlSchemaObject model) {
+        String modelClassName = getQualifiedName(model.getPackage(), model.getName());
+        String metadataClassName = model.getName() + METADATA_CLASS_SUFFIX;
+        List<GqlSchemaField> fields = getGqlFields(model);
+        StringBuilder source = new StringBuilder();
+        appendPackage(source, model.getPackage());
+        for (String importedClass : IMPORTS) {
+            source.append("import ").append(importedClass).append(";\n");
+        }
+        source.append("\n/**\n * Precomputed metadata of {@link ").append(modelClassName)
+                .append("} model.\n * Generated by GraphQL model generator plugin, do not modify.\n */\n");
+        source.append("public final class ").append(metadataClassName).append(" extends BaseGqlModelMetadata {\n\n");
+        for (GqlFieldsPickingStrategy pickingStrategy : GqlFieldsPickingStrategy.values()) {
+            for (boolean isCanonical : new boolean[]{ false, true }) {
+                source.append(INDENT).append("public static final String ")
+                        .append(getConstantName(pickingStrategy, isCanonical)).append(" = \"")
+                        .append(selectionSetCollector.collect(model, pickingStrategy, isCanonical)).append("\";\n");
+            }
+        }
+        source.append('\n').append(INDENT).append("public ").append(metadataClassName).append("() {\n")
+                .append(INDENT).append(INDENT).append("super(").append(modelClassName).append(".class");
+        for (GqlSchemaField field : fields) {
+            source.append(", \"").append(field.getRawSchemaName()).append('"');
+        }
+        source.append(");\n");
+        // every field of generated model is annotated so selection sets are the same for all field marking strategies
+        source.append(INDENT).append(INDENT).append("for (FieldMarkingStrategyType fieldMarkingStrategyType : ")
+                .append("FieldMarkingStrategyType.values()) {\n");
+        for (GqlFieldsPickingStrategy pickingStrategy : GqlFieldsPickingStrategy.values()) {
+            appendAddSelectionSet(source, pickingStrategy, false);
+            appendAddSelectionSet(source, pickingStrategy, true);
+        }
+        source.append(INDENT).append(INDENT).append("}\n");
+        for (GqlSchemaField field : fields) {
+            // getter name of primitive boolean field depends on the way getters are generated
+            if (!PrimitiveSchemaEntity.BOOLEAN.equals(field.getType())) {
+                appendValueAccessor(source, modelClassName, field);
+            }
+        }
+        return source.append(INDENT).append("}\n}\n").toString();
+    }
+
+    private String generateRegistrationClass(String packageName, List<GqlSchemaObject> models) {
+        StringBuilder source = new StringBuilder();
+        appendPackage(source, packageName);
+        source.append("import com.github.vladislavsevruk.generator.metadata.GqlModelMetadataRegistry;\n\n")
+                .append("/**\n * Registers metadata of all generated POJO models at GqlModelMetadataRegistry.\n")
+                .append(" * Generated by GraphQL model generator plugin, do not modify.\n */\n")
+                .append("public final class ").append(REGISTRATION_CLASS_NAME).append(" {\n\n")
+                .append(INDENT).append("private ").append(REGISTRATION_CLASS_NAME).append("() {\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("/**\n").append(INDENT)
+                .append(" * Registers metadata of all generated POJO models.\n").append(INDENT).append(" */\n")
+                .append(INDENT).append("public static void registerAll() {\n");
+        for (GqlSchemaObject model : models) {
+            source.append(INDENT).append(INDENT).append("GqlModelMetadataRegistry.register(new ")
+                    .append(getQualifiedName(model.getPackage(), model.getName() + METADATA_CLASS_SUFFIX))
+                    .append("());\n");
+        }
+        return source.append(INDENT).append("}\n}\n").toString();
+    }
+
+    private List<GqlSchemaField> getGqlFields(GqlSchemaObject model) {
+        List<GqlSchemaField> fields = new ArrayList<>();
+        for (SchemaField field : model.getFields()) {
+            if (GqlSchemaField.class.isAssignableFrom(field.getClass())) {
+                fields.add((GqlSchemaField) field);
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.metadata;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.SchemaField;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ArraySchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.CollectionSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ListSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.SetSchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaObject;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnion;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnionType;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlSchemaFieldUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects selection sets of generated POJO models following the same rules as <code>SelectionSetGenerator</code> of
+ * GraphQL Request Body Generator library does at runtime with default endless loop breaking strategy for annotations
+ * this plugin adds to models.
+ */
+public class GqlSelectionSetCollector {
+
+    private static final Set<Class<?>> COLLECTIONS_AND_ARRAYS = new HashSet<>(Arrays
+            .asList(ArraySchemaEntity.class, CollectionSchemaEntity.class, ListSchemaEntity.class,
+                    SetSchemaEntity.class));
+    private static final int DEFAULT_MAX_NESTING_LOOP_LEVEL = 0;
+    private static final Comparator<GqlSchemaField> FIELDS_CANONICAL_ORDER = Comparator
+            .comparing(GqlSchemaField::getRawSchemaName).thenComparing(GqlSchemaField::getName);
+
+    /**
+     * Collects selection set for received model using received fields picking strategy.
+     *
+     * @param model           <code>GqlSchemaObject</code> of model to collect selection set for.
+     * @param pickingStrategy <code>GqlFieldsPickingStrategy</code> to filter fields.
+     * @param isCanonical     <code>true</code> if fields should be sorted at canonical order.
+     * @return <code>String</code> with selection set.
+     */
+    public String collect(GqlSchemaObject model, GqlFieldsPickingStrategy pickingStrategy, boolean isCanonical) {
+        CollectingContext context = new CollectingContext(pickingStrategy, isCanonical);
+        context.addToTrace(toTraceItem(model));
+        return "{" + String.join(" ", collectQueryParameters(model, context)) + "}";
+    }
+
+    /**
+     * Collects selection set for received union using received fields picking strategy. Selection set contains inline
+     * fragment for every union type.
+     *
+     * @param union           <code>GqlSchemaUnion</code> to collect selection set for.
+     * @param pickingStrategy <code>GqlFieldsPickingStrategy</code> to filter fields.
+     * @param isCanonical     <code>true</code> if fields should be sorted at canonical order.
+     * @return <code>String</code> with selection set.
+     */
+    public String collect(GqlSchemaUnion union, GqlFieldsPickingStrategy pickingStrategy, boolean isCanonical) {
+        CollectingContext context = new CollectingContext(pickingStrategy, isCanonical);
+        Set<String> queryParams = new LinkedHashSet<>();
+        for (GqlSchemaUnionType unionType : union.getUnionTypes()) {
+            addUnionQueryParameter(queryParams, unionType, context);
+        }
+        return "{" + String.join(" ", queryParams) + "}";
+    }
+
+    private static String toNode(String name, Set<String> children) {
+        return name + "{" + String.join(" ", children) + "}";
+    }
+
+    private void addFieldWithSelectionSetQueryParameter(Set<String> queryParams, GqlSchemaField field,
+            CollectingContext context) {
+        SchemaEntity fieldType = field.getType();
+        TraceItem traceItem = toTraceItem(fieldType);
+        context.addToTrace(traceItem);
+        if (!context.shouldBreakOnItem(traceItem)) {
+            Set<String> fieldQueryParams = collectQueryParameters(getSelectionSetType(fieldType), context);
+            if (!fieldQueryParams.isEmpty()) {
+                queryParams.add(toNode(field.getRawSchemaName(), fieldQueryParams));
+            }
+        }
+        context.removeLastItemFromTrace();
+    }
+
+    private void addQueryParameter(Set<String> queryParams, GqlSchemaField field, CollectingContext context) {
+        if (field.isUnion()) {
+            addUnionQueryParameters(queryParams, field, context);
+        } else if (GqlSchemaFieldUtil.isWithSelectionSet(field)) {
+            addFieldWithSelectionSetQueryParameter(queryParams, field, context);
+        } else {
+            queryParams.add(field.getRawSchemaName());
+        }
+    }
+
+    private void addUnionQueryParameter(Set<String> queryParams, GqlSchemaUnionType unionType,
+            CollectingContext context) {
+        SchemaEntity unionModelType = unionType.getType();
+        TraceItem traceItem = toTraceItem(unionModelType);
+        context.addToTrace(traceItem);
+        if (!context.shouldBreakOnItem(traceItem)) {
+            Set<String> unionQueryParams = collectQueryParameters(unionModelType, context);
+            if (!unionQueryParams.isEmpty()) {
+                queryParams.add(toNode("... on " + unionType.getRawSchemaName(), unionQueryParams));
+            }
+        }
+        context.removeLastItemFromTrace();
+    }
+
+    private void addUnionQueryParameters(Set<String> queryParams, GqlSchemaField field, CollectingContext context) {
+        Set<String> unionQueryParams = new LinkedHashSet<>();
+        for (GqlSchemaUnionType unionType : field.getUnionTypes()) {
+            addUnionQueryParameter(unionQueryParams, unionType, context);
+        }
+        if (!unionQueryParams.isEmpty()) {
+            queryParams.add(toNode(field.getRawSchemaName(), unionQueryParams));
+        }
+    }
+
+    private Set<String> collectQueryParameters(SchemaEntity type, CollectingContext context) {
+        Set<String> queryParams = new LinkedHashSet<>();
+        // fields of sequences that are not unwrapped (e.g. Iterable) are not collected by library as well
+        if (!GqlSchemaObject.class.isAssignableFrom(type.getClass())) {
+            return queryParams;
+        }
+        GqlSchemaObject schemaObject = (GqlSchemaObject) type;
+        List<GqlSchemaField> fields = new ArrayList<>();
+        for (SchemaField field : schemaObject.getFields()) {
+            if (GqlSchemaField.class.isAssignableFrom(field.getClass())) {
+                fields.add((GqlSchemaField) field);
+            }
+        }
+        if (context.isCanonical) {
+            fields.sort(FIELDS_CANONICAL_ORDER);
+        }
+        for (GqlSchemaField field : fields) {
+            if (context.pickingStrategy.shouldBePicked(field)) {
+                addQueryParameter(queryParams, field, context);
+            }
+        }
+        if (schemaObject.getSuperclass() != null) {
+            queryParams.addAll(collectQueryParameters(schemaObject.getSuperclass(), context));
+        }
+        return queryParams;
+    }
+
+    private String getKey(SchemaEntity type) {
+        if (ArraySchemaEntity.class.equals(type.getClass())) {
+            return getKey(GqlSchemaFieldUtil.getElementType(type)) + "[]";
+        }
+        if (GqlSchemaFieldUtil.isElementSequence(type)) {
+            return type.getClass().getName() + "<" + getKey(GqlSchemaFieldUtil.getElementType(type)) + ">";
+        }
+        return type.getPackage() == null ? type.getName() : type.getPackage() + "." + type.getName();
+    }
+
+    private SchemaEntity getSelectionSetType(SchemaEntity type) {
+        return isCollectionOrArray(type) ? GqlSchemaFieldUtil.getElementType(type) : type;
+    }
+
+    private boolean isCollectionOrArray(SchemaEntity type) {
+        return COLLECTIONS_AND_ARRAYS.contains(type.getClass());
+    }
+
+    private TraceItem toTraceItem(SchemaEntity type) {
+        SchemaEntity elementType = type;
+        while (isCollectionOrArray(elementType)) {
+            elementType = GqlSchemaFieldUtil.getElementType(elementType);
+        }
+        return new TraceItem(getKey(type), getKey(elementType));
+    }
+
+    /**
+     * Holds state of single selection set collecting and mirrors loop detection of library.
+     */
+    private static final class CollectingContext {
+
+        private final boolean isCanonical;
+        // ArrayList is permissible as we delete elements only from list end
+        private final List<String> loopedItems = new ArrayList<>();
+        private final GqlFieldsPickingStrategy pickingStrategy;
+        private final List<TraceItem> trace = new ArrayList<>();
+
+        private CollectingContext(GqlFieldsPickingStrategy pickingStrategy, boolean isCanonical) {
+            this.pickingStrategy = pickingStrategy;
+            this.isCanonical = isCanonical;
+        }
+
+        private void addToTrace(TraceItem traceItem) {
+            trace.add(traceItem);
+            for (int i = 0; i < trace.size() - 1; ++i) {
+                if (trace.get(i).key.equals(traceItem.key)) {
+                    loopedItems.add(traceItem.key);
+                    return;
+                }
+            }
+        }
+
+        private void removeLastItemFromTrace() {
+            TraceItem lastItem = trace.remove(trace.size() - 1);
+            int lastLoopedItemIndex = loopedItems.size() - 1;
+            if (lastLoopedItemIndex >= 0 && lastItem.key.equals(loopedItems.get(lastLoopedItemIndex))) {
+                loopedItems.remove(lastLoopedItemIndex);
+            }
+        }
+
+        private boolean shouldBreakOnItem(TraceItem traceItem) {
+            if (loopedItems.isEmpty()) {
+                return false;
+            }
+            long entriesAmount = trace.stream().filter(item -> item.elementKey.equals(traceItem.elementKey)).count();
+            return entriesAmount > DEFAULT_MAX_NESTING_LOOP_LEVEL + 1;
+        }
+    }
+
+    /**
+     * Represents type at trace with key of type itself and key of its element type for collections and arrays.
+     */
+    private static final class TraceItem {
+
+        private final String elementKey;
+        private final String key;
+
+        private TraceItem(String key, String elementKey) {
+            this.key = key;
+            this.elementKey = elementKey;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.operation;
+
+import com.github.vladislavsevruk.generator.java.constant.Indent;
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.PrimitiveSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ArraySchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.CollectionSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.IterableSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ListSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.SetSchemaEntity;
+import com.github.vladislavsevruk.generator.java.util.FileUtil;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlSchemaFieldUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Generates operation classes for fields of GraphQL Query and Mutation types. Every operation class contains operation
+ * text rendered at build time and typed methods that only serialize received arguments as variables of request body.
+ *
+ * @see GqlOperationRenderer
+ */
+public class GqlOperationClassGenerator {
+
+    public static final String OPERATION_PACKAGE_POSTFIX = ".operation";
+    private static final String INDENT = Indent.SPACES_2.value();
+    private static final Map<Class<?>, String> SEQUENCE_TYPES = initSequenceTypes();
+    private final GqlOperationRenderer operationRenderer;
+
+    public GqlOperationClassGenerator() {
+        this(new GqlOperationRenderer());
+    }
+
+    public GqlOperationClassGenerator(GqlOperationRenderer operationRenderer) {
+        this.operationRenderer = operationRenderer;
+    }
+
+    /**
+     * Generates operation classes for received operations at 'operation' subpackage of target package.
+     *
+     * @param pluginExtension <code>GqlModelGeneratorPluginExtension</code> with plugin configuration properties.
+     * @param targetDirPath   <code>String</code> with POJO classes generation target path.
+     * @param operations      <code>List</code> of <code>GqlSchemaOperation</code> to generate classes for.
+     */
+    public void generate(GqlModelGeneratorPluginExtension pluginExtension, String targetDirPath,
+            List<GqlSchemaOperation> operations) {
+        String packageName = pluginExtension.getTargetPackage().get() + OPERATION_PACKAGE_POSTFIX;
+        String classDir = GqlModelPathBuilder.buildModelPackagePath(targetDirPath, packageName);
+        FileUtil.recursiveMkdir(classDir);
+        for (GqlSchemaOperation operation : operations) {
+            String filePath = GqlModelPathBuilder.buildModelPath(classDir, operation.getName());
+            FileUtil.writeToNewFile(filePath, generateOperationClass(packageName, operation));
+        }
+    }
+
+    private static Map<Class<?>, String> initSequenceTypes() {
+        Map<Class<?>, String> sequenceTypes = new HashMap<>();
+        sequenceTypes.put(CollectionSchemaEntity.class, "java.util.Collection");
+        sequenceTypes.put(IterableSchemaEntity.class, "Iterable");
+        sequenceTypes.put(ListSchemaEntity.class, "java.util.List");
+        sequenceTypes.put(SetSchemaEntity.class, "java.util.Set");
+        return sequenceTypes;
+    }
+
+    private void appendBindMethod(StringBuilder source, String methodName, String javadoc, String parameters,
+            String parameterNames) {
+        source.append('\n').append(INDENT).append("/**\n").append(INDENT).append(" * ").append(javadoc).append('\n')
+                .append(INDENT).append(" */\n").append(INDENT).append("public static String ").append(methodName)
+                .append('(').append(parameters).append(") {\n").append(INDENT).append(INDENT)
+                .append("return PREPARED_OPERATION.").append(methodName).append("(toVariables(").append(parameterNames)
+                .append("));\n").append(INDENT).append("}\n");
+    }
+
+    private void appendVariable(StringBuilder source, GqlSchemaArgument argument) {
+        String javaType = toJavaType(argument.getType());
+        String put = "variables.put(\"" + argument.getRawSchemaName() + "\", ";
+        if (isPrimitive(argument.getType())) {
+            source.append(INDENT).append(INDENT).append(put).append(argument.getName()).append(");\n");
+        } else if (argument.isNonNull()) {
+            source.append(INDENT).append(INDENT).append(put).append("Objects.requireNonNull(")
+                    .append(argument.getName()).append(", \"Argument '").append(argument.getRawSchemaName())
+                    .append("' cannot be null.\"));\n");
+        } else {
+            // optional variables without value are omitted
+            source.append(INDENT).append(INDENT).append("if (").append(argument.getName()).append(" != null) {\n")
+                    .append(INDENT).append(INDENT).append(INDENT).append(put).append(argument.getName())
+                    .append(");\n").append(INDENT).append(INDENT).append("}\n");
+        }
+    }
+
+    private String generateOperationClass(String packageName, GqlSchemaOperation operation) {
+        String className = operation.getName();
+        StringJoiner parameters = new StringJoiner(", ");
+        StringJoiner parameterNames = new StringJoiner(", ");
+        StringJoiner variableNames = new StringJoiner(", ");
+        boolean hasMandatoryObjects = false;
+        for (GqlSchemaArgument argument : operation.getArguments()) {
+            parameters.add(toJavaType(argument.getType()) + " " + argument.getName());
+            parameterNames.add(argument.getName());
+            variableNames.add("\"" + argument.getRawSchemaName() + "\"");
+            hasMandatoryObjects |= argument.isNonNull() && !isPrimitive(argument.getType());
+        }
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n")
+                .append("import com.github.vladislavsevruk.generator.generator.PreparedGqlOperation;\n\n")
+                .append("import java.util.LinkedHashMap;\nimport java.util.Map;\n");
+        if (hasMandatoryObjects) {
+            source.append("import java.util.Objects;\n");
+        }
+        source.append("\n/**\n * Pre-rendered '").append(operation.getRawSchemaName()).append("' ")
+                .append(operation.getOperationType().getKeyword())
+                .append(" operation.\n * Generated by GraphQL model generator plugin, do not modify.\n */\n")
+                .append("public final class ").append(className).append(" {\n\n")
+                .append(INDENT).append("public static final String OPERATION = \"")
+                .append(operationRenderer.render(operation)).append("\";\n").append(INDENT)
+                .append("public static final PreparedGqlOperation PREPARED_OPERATION = PreparedGqlOperation.of(")
+                .append("OPERATION");
+        if (!operation.getArguments().isEmpty()) {
+            source.append(", ").append(variableNames);
+        }
+        source.append(");\n\n").append(INDENT).append("private ").append(className).append("() {\n").append(INDENT)
+                .append("}\n");
+        appendBindMethod(source, "bind", "Returns request body with pre-rendered operation and received variables.",
+                parameters.toString(), parameterNames.toString());
+        appendBindMethod(source, "bindPersisted",
+                "Returns automatic persisted query request body with operation hash and received variables.",
+                parameters.toString(), parameterNames.toString());
+        source.append('\n').append(INDENT).append("private static Map<String, Object> toVariables(").append(parameters)
+                .append(") {\n").append(INDENT).append(INDENT)
+                .append("Map<String, Object> variables = new LinkedHashMap<>();\n");
+        for (GqlSchemaArgument argument : operation.getArguments()) {
+            appendVariable(source, argument);
+        }
+        return source.append(INDENT).append(INDENT).append("return variables;\n").append(INDENT).append("}\n}\n")
+                .toString();
+    }
+
+    private boolean isPrimitive(SchemaEntity type) {
+        return type != null && PrimitiveSchemaEntity.class.isAssignableFrom(type.getClass());
+    }
+
+    private String toJavaType(SchemaEntity type) {
+        if (type == null) {
+            // GraphQL type is unknown for plugin, e.g. custom scalar
+            return "Object";
+        }
+        if (ArraySchemaEntity.class.equals(type.getClass())) {
+            return toJavaType(GqlSchemaFieldUtil.getElementType(type)) + "[]";
+        }
+        String sequenceType = SEQUENCE_TYPES.get(type.getClass());
+        if (sequenceType != null) {
+            return sequenceType + "<" + toJavaType(GqlSchemaFieldUtil.getElementType(type)) + ">";
+        }
+        String packageName = type.getPackage();
+        return packageName == null || packageName.isEmpty() || "java.lang".equals(packageName) ? type.getName()
+                : packageName + "." + type.getName();
+    }
+}
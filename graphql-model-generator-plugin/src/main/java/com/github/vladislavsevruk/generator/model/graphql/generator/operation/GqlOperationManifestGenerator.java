@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.operation;
+
+import com.github.vladislavsevruk.generator.java.constant.Indent;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
+import com.github.vladislavsevruk.generator.model.graphql.util.HashCalculator;
+import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates JSON manifest with SHA-256 hash of operation text as key and operation text as value for operations of
+ * GraphQL Query and Mutation type fields and operations declared at plugin configuration. Server can preload manifest
+ * as allow-list or persisted queries store, so clients can send only operation hash.
+ */
+public class GqlOperationManifestGenerator {
+
+    private static final String INDENT = Indent.SPACES_2.value();
+    private final GqlOperationRenderer operationRenderer;
+
+    public GqlOperationManifestGenerator() {
+        this(new GqlOperationRenderer());
+    }
+
+    public GqlOperationManifestGenerator(GqlOperationRenderer operationRenderer) {
+        this.operationRenderer = operationRenderer;
+    }
+
+    /**
+     * Generates operation manifest file for received operations and operations declared at plugin configuration.
+     *
+     * @param pluginExtension <code>GqlModelGeneratorPluginExtension</code> with plugin configuration properties.
+     * @param targetDirPath   <code>String</code> with generation target path.
+     * @param operations      <code>List</code> of <code>GqlSchemaOperation</code> to add to manifest.
+     */
+    public void generate(GqlModelGeneratorPluginExtension pluginExtension, String targetDirPath,
+            List<GqlSchemaOperation> operations) {
+        List<String> operationTexts = new ArrayList<>();
+        for (GqlSchemaOperation operation : operations) {
+            operationTexts.add(operationRenderer.render(operation));
+        }
+        operationTexts.addAll(pluginExtension.getManifestOperations().get());
+        ReadWriteFileUtil.replaceFileContent(GqlModelPathBuilder.buildOperationManifestPath(targetDirPath),
+                generateManifest(operationTexts));
+    }
+
+    /**
+     * Generates JSON manifest content for received operation texts. Entries are sorted by hash, so manifest content
+     * doesn't depend on operations order.
+     *
+     * @param operationTexts <code>Collection</code> of <code>String</code> with GraphQL operations.
+     * @return <code>String</code> with JSON manifest.
+     */
+    public String generateManifest(Collection<String> operationTexts) {
+        Map<String, String> manifest = new TreeMap<>();
+        for (String operationText : operationTexts) {
+            // persisted query hashes are sent at lower case hex format
+            manifest.put(HashCalculator.calculateCheckSum(operationText).toLowerCase(Locale.ENGLISH), operationText);
+        }
+        if (manifest.isEmpty()) {
+            return "{}\n";
+        }
+        StringBuilder json = new StringBuilder("{\n");
+        boolean isFirst = true;
+        for (Map.Entry<String, String> entry : manifest.entrySet()) {
+            if (!isFirst) {
+                json.append(",\n");
+            }
+            isFirst = false;
+            json.append(INDENT).append('"').append(entry.getKey()).append("\": \"").append(escape(entry.getValue()))
+                    .append('"');
+        }
+        return json.append("\n}\n").toString();
+    }
+
+    private String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char symbol : value.toCharArray()) {
+            switch (symbol) {
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    if (symbol < ' ') {
+                        escaped.append(String.format("\\u%04x", (int) symbol));
+                    } else {
+                        escaped.append(symbol);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.operation;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import com.github.vladislavsevruk.generator.model.graphql.generator.metadata.GqlFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.model.graphql.generator.metadata.GqlSelectionSetCollector;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaObject;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnion;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Renders operations declared by fields of GraphQL Query and Mutation types with variable for every argument and
+ * selection set of all fields of returned type.
+ */
+public class GqlOperationRenderer {
+
+    private final GqlSelectionSetCollector selectionSetCollector;
+
+    public GqlOperationRenderer() {
+        this(new GqlSelectionSetCollector());
+    }
+
+    public GqlOperationRenderer(GqlSelectionSetCollector selectionSetCollector) {
+        this.selectionSetCollector = selectionSetCollector;
+    }
+
+    /**
+     * Renders operation text for received operation the same way as GraphQL Request Body Generator library does for
+     * operation with variables for every argument.
+     *
+     * @param operation <code>GqlSchemaOperation</code> to render.
+     * @return <code>String</code> with operation text.
+     */
+    public String render(GqlSchemaOperation operation) {
+        List<GqlSchemaArgument> arguments = operation.getArguments();
+        StringBuilder operationText = new StringBuilder();
+        if (!arguments.isEmpty()) {
+            StringJoiner variables = new StringJoiner(",", "(", ")");
+            for (GqlSchemaArgument argument : arguments) {
+                variables.add("$" + argument.getRawSchemaName() + ":" + argument.getRawSchemaType());
+            }
+            operationText.append(operation.getOperationType().getKeyword()).append(variables);
+        } else if (GqlOperationType.MUTATION.equals(operation.getOperationType())) {
+            // query keyword is omitted for operations without variables
+            operationText.append(operation.getOperationType().getKeyword());
+        }
+        operationText.append('{').append(operation.getRawSchemaName());
+        if (!arguments.isEmpty()) {
+            StringJoiner argumentValues = new StringJoiner(",", "(", ")");
+            for (GqlSchemaArgument argument : arguments) {
+                argumentValues.add(argument.getRawSchemaName() + ":$" + argument.getRawSchemaName());
+            }
+            operationText.append(argumentValues);
+        }
+        return operationText.append(collectSelectionSet(operation.getSelectionSetType())).append('}').toString();
+    }
+
+    private String collectSelectionSet(SchemaEntity selectionSetType) {
+        if (selectionSetType == null) {
+            return "";
+        }
+        if (GqlSchemaUnion.class.isAssignableFrom(selectionSetType.getClass())) {
+            return selectionSetCollector
+                    .collect((GqlSchemaUnion) selectionSetType, GqlFieldsPickingStrategy.ALL_FIELDS, false);
+        }
+        if (GqlSchemaObject.class.isAssignableFrom(selectionSetType.getClass())) {
+            return selectionSetCollector
+                    .collect((GqlSchemaObject) selectionSetType, GqlFieldsPickingStrategy.ALL_FIELDS, false);
+        }
+        return "";
+    }
+}
@@ -38,12 +38,17 @@ import org.gradle.api.specs.Spec;
  */
 public class ConfigurationUpToDateSpec<T extends Task> implements Spec<T> {
 
+    private final String configurationHashSumPath;
     private final GqlModelGeneratorPluginExtension pluginExtension;
-    private final String targetPath;
 
     public ConfigurationUpToDateSpec(GqlModelGeneratorPluginExtension pluginExtension, String targetPath) {
+        this(pluginExtension, GqlModelPathBuilder.buildModelSrcPath(targetPath), ".configurationHashSum");
+    }
+
+    public ConfigurationUpToDateSpec(GqlModelGeneratorPluginExtension pluginExtension, String hashSumDirPath,
+            String hashSumFileName) {
         this.pluginExtension = pluginExtension;
-        this.targetPath = targetPath;
+        this.configurationHashSumPath = hashSumDirPath + hashSumFileName;
     }
 
     /**
@@ -56,16 +61,11 @@ public class ConfigurationUpToDateSpec<T extends Task> implements Spec<T> {
         if (schemaHashSum == null) {
             return false;
         }
-        String schemaHashSumPath = buildConfigurationHashSumPath();
-        String cachedSchemaHashSum = ReadWriteFileUtil.readFileContent(schemaHashSumPath);
+        String cachedSchemaHashSum = ReadWriteFileUtil.readFileContent(configurationHashSumPath);
         if (schemaHashSum.equals(cachedSchemaHashSum)) {
             return true;
         }
-        ReadWriteFileUtil.replaceFileContent(schemaHashSumPath, schemaHashSum);
+        ReadWriteFileUtil.replaceFileContent(configurationHashSumPath, schemaHashSum);
         return false;
     }
-
-    private String buildConfigurationHashSumPath() {
-        return GqlModelPathBuilder.buildModelSrcPath(targetPath) + ".configurationHashSum";
-    }
 }
@@ -26,6 +26,8 @@ package com.github.vladislavsevruk.generator.model.graphql.optimization;
 import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
 import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
 import com.github.vladislavsevruk.generator.model.graphql.generator.GqlModelGenerator;
+import com.github.vladislavsevruk.generator.model.graphql.generator.operation.GqlOperationClassGenerator;
+import com.github.vladislavsevruk.generator.model.graphql.parser.GqlSchemaParser;
 import com.github.vladislavsevruk.generator.model.graphql.parser.impl.GqlSchemaParserImpl;
 import com.github.vladislavsevruk.generator.model.graphql.util.GqlModelPathBuilder;
 import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
@@ -42,6 +44,7 @@ import org.gradle.api.Task;
 public class GenerateGraphqlModelsAction<T extends Task> implements Action<T> {
 
     private final GqlModelGenerator modelGenerator = new GqlModelGenerator();
+    private final GqlOperationClassGenerator operationClassGenerator = new GqlOperationClassGenerator();
     private final GqlModelGeneratorPluginExtension pluginExtension;
     private final String targetDirPath;
 
@@ -57,7 +60,11 @@ public class GenerateGraphqlModelsAction<T extends Task> implements Action<T> {
     public void execute(T task) {
         String srcJavaPath = GqlModelPathBuilder.buildModelSrcJavaPath(targetDirPath);
         ReadWriteFileUtil.recursivelyDelete(srcJavaPath);
-        SchemaObjectStorage storage = new GqlSchemaParserImpl(pluginExtension).parseSchema();
+        GqlSchemaParser schemaParser = new GqlSchemaParserImpl(pluginExtension);
+        SchemaObjectStorage storage = schemaParser.parseSchema();
         modelGenerator.generate(pluginExtension, targetDirPath, storage);
+        if (Boolean.TRUE.equals(pluginExtension.getGenerateOperations().get())) {
+            operationClassGenerator.generate(pluginExtension, targetDirPath, schemaParser.parseOperations(storage));
+        }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.optimization;
+
+import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.generator.operation.GqlOperationManifestGenerator;
+import com.github.vladislavsevruk.generator.model.graphql.parser.GqlSchemaParser;
+import com.github.vladislavsevruk.generator.model.graphql.parser.impl.GqlSchemaParserImpl;
+import org.gradle.api.Action;
+import org.gradle.api.NonNullApi;
+import org.gradle.api.Task;
+
+/**
+ * Performs generate GraphQL operation manifest action against objects of type T.
+ *
+ * @param <T> The type of object which this action accepts.
+ */
+@NonNullApi
+public class GenerateGraphqlOperationManifestAction<T extends Task> implements Action<T> {
+
+    private final GqlOperationManifestGenerator manifestGenerator = new GqlOperationManifestGenerator();
+    private final GqlModelGeneratorPluginExtension pluginExtension;
+    private final String targetDirPath;
+
+    public GenerateGraphqlOperationManifestAction(GqlModelGeneratorPluginExtension pluginExtension,
+            String targetDirPath) {
+        this.pluginExtension = pluginExtension;
+        this.targetDirPath = targetDirPath;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(T task) {
+        GqlSchemaParser schemaParser = new GqlSchemaParserImpl(pluginExtension);
+        SchemaObjectStorage storage = schemaParser.parseSchema();
+        manifestGenerator.generate(pluginExtension, targetDirPath, schemaParser.parseOperations(storage));
+    }
+}
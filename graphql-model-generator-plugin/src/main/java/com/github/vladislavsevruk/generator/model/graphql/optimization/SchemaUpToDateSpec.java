@@ -38,11 +38,16 @@ import org.gradle.api.specs.Spec;
 public class SchemaUpToDateSpec<T extends Task> implements Spec<T> {
 
     private final Property<String> pathToSchemaFileProperty;
-    private final String targetPath;
+    private final String schemaHashSumPath;
 
     public SchemaUpToDateSpec(Property<String> pathToSchemaFileProperty, String targetPath) {
+        this(pathToSchemaFileProperty, GqlModelPathBuilder.buildModelSrcPath(targetPath), ".schemaHashSum");
+    }
+
+    public SchemaUpToDateSpec(Property<String> pathToSchemaFileProperty, String hashSumDirPath,
+            String hashSumFileName) {
         this.pathToSchemaFileProperty = pathToSchemaFileProperty;
-        this.targetPath = targetPath;
+        this.schemaHashSumPath = hashSumDirPath + hashSumFileName;
     }
 
     /**
@@ -54,7 +59,6 @@ public class SchemaUpToDateSpec<T extends Task> implements Spec<T> {
         if (schemaHashSum == null) {
             return false;
         }
-        String schemaHashSumPath = buildSchemaHashSumPath();
         String cachedSchemaHashSum = ReadWriteFileUtil.readFileContent(schemaHashSumPath);
         if (schemaHashSum.equals(cachedSchemaHashSum)) {
             return true;
@@ -62,8 +66,4 @@ public class SchemaUpToDateSpec<T extends Task> implements Spec<T> {
         ReadWriteFileUtil.replaceFileContent(schemaHashSumPath, schemaHashSum);
         return false;
     }
-
-    private String buildSchemaHashSumPath() {
-        return GqlModelPathBuilder.buildModelSrcPath(targetPath) + ".schemaHashSum";
-    }
 }
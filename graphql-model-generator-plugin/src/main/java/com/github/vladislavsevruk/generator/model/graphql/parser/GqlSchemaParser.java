@@ -24,12 +24,23 @@
 package com.github.vladislavsevruk.generator.model.graphql.parser;
 
 import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+
+import java.util.List;
 
 /**
  * Parses GraphQL schema to POJO model schemas.
  */
 public interface GqlSchemaParser {
 
+    /**
+     * Returns <code>List</code> with operations declared by fields of GraphQL Query and Mutation types.
+     *
+     * @param storage <code>SchemaObjectStorage</code> with parsed GraphQL entities to resolve operation types.
+     * @return <code>List</code> of parsed <code>GqlSchemaOperation</code>.
+     */
+    List<GqlSchemaOperation> parseOperations(SchemaObjectStorage storage);
+
     /**
      * Return <code>SchemaObjectStorage</code> with parsed GraphQL entities.
      */
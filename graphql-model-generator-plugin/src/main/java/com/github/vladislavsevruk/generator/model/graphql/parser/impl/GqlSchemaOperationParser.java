@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.parser.impl;
+
+import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.SchemaObject;
+import com.github.vladislavsevruk.generator.java.util.EntityNameUtil;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import com.github.vladislavsevruk.generator.model.graphql.exception.GqlEntityParsingException;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.resolver.GqlSchemaInputResolver;
+import com.github.vladislavsevruk.generator.model.graphql.resolver.GqlTypeResolver;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlScalarType;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaEnum;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses string with GraphQL Query or Mutation root type to operations declared by its fields.
+ */
+public class GqlSchemaOperationParser {
+
+    private static final String VALUE_TYPE_PATTERN = GqlSchemaModelObjectParser.VALUE_TYPE_PATTERN;
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile("(\\w+)\\s*:\\s*(" + VALUE_TYPE_PATTERN
+            + ")(?>\\s*=\\s*(?>\"[^\"]*\"|\\[[^\\]]*]|\\{[^}]*}|[^,\\s]+))?");
+    private static final Pattern FIELD_PATTERN = Pattern.compile(
+            "(\\w+)\\s*(?>\\(([^)]*)\\))?\\s*:\\s*(" + VALUE_TYPE_PATTERN + ")");
+    private static final Pattern ROOT_TYPE_PATTERN = Pattern.compile("type\\s+(\\w+)[^{]*\\{((?s).*)}");
+    private final SchemaObjectStorage customEntitiesStorage;
+    private final GqlTypeResolver gqlTypeResolver;
+    private final GqlModelGeneratorPluginExtension pluginExtension;
+
+    public GqlSchemaOperationParser(GqlModelGeneratorPluginExtension pluginExtension,
+            SchemaObjectStorage customEntitiesStorage) {
+        this.pluginExtension = pluginExtension;
+        this.customEntitiesStorage = customEntitiesStorage;
+        this.gqlTypeResolver = new GqlSchemaInputResolver(pluginExtension);
+    }
+
+    /**
+     * Checks if received entity is Query or Mutation root type declaration.
+     *
+     * @param entity <code>String</code> with GraphQL entity.
+     * @return <code>true</code> if received entity can be parsed to operations, <code>false</code> otherwise.
+     */
+    public boolean canParse(String entity) {
+        Matcher matcher = ROOT_TYPE_PATTERN.matcher(entity);
+        return matcher.matches() && GqlOperationType.getByRootTypeName(matcher.group(1)) != null;
+    }
+
+    /**
+     * Parses fields of received Query or Mutation root type to operations. Argument and return types should be
+     * already present at custom entities storage.
+     *
+     * @param entity <code>String</code> with GraphQL root type.
+     * @return <code>List</code> of <code>GqlSchemaOperation</code> declared by root type fields.
+     */
+    public List<GqlSchemaOperation> parse(String entity) {
+        Matcher matcher = ROOT_TYPE_PATTERN.matcher(entity);
+        GqlOperationType operationType = matcher.matches() ? GqlOperationType.getByRootTypeName(matcher.group(1))
+                : null;
+        if (operationType == null) {
+            throw new GqlEntityParsingException("Cannot parse to operations: " + entity);
+        }
+        List<GqlSchemaOperation> operations = new ArrayList<>();
+        Matcher fieldMatcher = FIELD_PATTERN.matcher(matcher.group(2));
+        while (fieldMatcher.find()) {
+            String rawSchemaName = fieldMatcher.group(1);
+            List<GqlSchemaArgument> arguments = parseArguments(fieldMatcher.group(2));
+            SchemaEntity selectionSetType = pickSelectionSetType(getElementTypeName(fieldMatcher.group(3)));
+            operations.add(new GqlSchemaOperation(modifyOperationName(rawSchemaName, operationType), rawSchemaName,
+                    operationType, arguments, selectionSetType));
+        }
+        return operations;
+    }
+
+    private String getElementTypeName(String rawSchemaType) {
+        return rawSchemaType.replaceAll("[\\[\\]!\\s]", "");
+    }
+
+    private String modifyArgumentName(String name) {
+        name = Boolean.TRUE.equals(pluginExtension.getUpdateNamesToJavaStyle().get())
+                ? EntityNameUtil.getJavaFormatFieldName(name) : name;
+        // argument name is used as java parameter name at generated operation class
+        return SourceVersion.isKeyword(name) ? name + "Value" : name;
+    }
+
+    private String modifyName(String name) {
+        name = Boolean.TRUE.equals(pluginExtension.getUpdateNamesToJavaStyle().get())
+                ? EntityNameUtil.getJavaFormatClassName(name) : name;
+        return String.format("%s%s%s", pluginExtension.getEntitiesPrefix().get(), name,
+                pluginExtension.getEntitiesPostfix().get());
+    }
+
+    private String modifyOperationName(String name, GqlOperationType operationType) {
+        name = Boolean.TRUE.equals(pluginExtension.getUpdateNamesToJavaStyle().get())
+                ? EntityNameUtil.getJavaFormatClassName(name)
+                : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        return name + operationType.getRootTypeName();
+    }
+
+    private List<GqlSchemaArgument> parseArguments(String lineToParse) {
+        List<GqlSchemaArgument> arguments = new ArrayList<>();
+        if (lineToParse == null) {
+            return arguments;
+        }
+        Matcher matcher = ARGUMENT_PATTERN.matcher(lineToParse);
+        while (matcher.find()) {
+            String rawSchemaName = matcher.group(1);
+            String rawSchemaType = matcher.group(2).replaceAll("\\s", "");
+            boolean nonNull = rawSchemaType.endsWith("!");
+            boolean isArray = rawSchemaType.startsWith("[");
+            SchemaEntity type = pickArgumentType(getElementTypeName(rawSchemaType), isArray);
+            arguments.add(new GqlSchemaArgument(modifyArgumentName(rawSchemaName), rawSchemaName, rawSchemaType,
+                    type, nonNull));
+        }
+        return arguments;
+    }
+
+    private SchemaEntity pickArgumentType(String typeName, boolean isArray) {
+        GqlScalarType gqlScalarType = GqlScalarType.getByName(typeName);
+        if (gqlScalarType != null) {
+            return gqlTypeResolver.pickJavaType(gqlScalarType, isArray);
+        }
+        SchemaObject typeSchemaObject = customEntitiesStorage.get(modifyName(typeName));
+        return typeSchemaObject == null ? null : gqlTypeResolver.pickJavaType(typeSchemaObject, isArray);
+    }
+
+    private SchemaEntity pickSelectionSetType(String typeName) {
+        if (GqlScalarType.getByName(typeName) != null) {
+            return null;
+        }
+        SchemaObject typeSchemaObject = customEntitiesStorage.get(modifyName(typeName));
+        if (typeSchemaObject == null || GqlSchemaEnum.class.isAssignableFrom(typeSchemaObject.getClass())) {
+            return null;
+        }
+        return typeSchemaObject;
+    }
+}
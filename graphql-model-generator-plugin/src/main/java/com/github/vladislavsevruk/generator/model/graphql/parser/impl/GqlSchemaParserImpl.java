@@ -31,8 +31,10 @@ import com.github.vladislavsevruk.generator.model.graphql.collector.impl.SchemaE
 import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
 import com.github.vladislavsevruk.generator.model.graphql.parser.GqlSchemaObjectParser;
 import com.github.vladislavsevruk.generator.model.graphql.parser.GqlSchemaParser;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,8 @@ import java.util.stream.Collectors;
 @Log4j2
 public class GqlSchemaParserImpl implements GqlSchemaParser {
 
+    private static final String QUERY_AND_MUTATION_PATTERN = "type\\s+(Query|Mutation)\\s+(?s).+";
+
     private final SchemaEntityCollector collector;
     private final GqlModelGeneratorPluginExtension pluginExtension;
 
@@ -52,19 +56,36 @@ public class GqlSchemaParserImpl implements GqlSchemaParser {
         this.pluginExtension = pluginExtension;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GqlSchemaOperation> parseOperations(SchemaObjectStorage storage) {
+        List<String> entities = collector.collect(pluginExtension.getPathToSchemaFile().get());
+        log.info("Parsing operations.");
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, storage);
+        List<GqlSchemaOperation> operations = new ArrayList<>();
+        for (String entity : entities) {
+            if (entity.matches(QUERY_AND_MUTATION_PATTERN) && parser.canParse(entity)) {
+                operations.addAll(parser.parse(entity));
+            }
+        }
+        return operations;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public SchemaObjectStorage parseSchema() {
         List<String> entities = collector.collect(pluginExtension.getPathToSchemaFile().get());
-        // filter out 'Query' and 'Mutation' types
+        // filter out 'Query' and 'Mutation' types as they are parsed to operations
         entities = filterOutQueryAndMutationDeclarations(entities);
         return parseEntities(entities);
     }
 
     private List<String> filterOutQueryAndMutationDeclarations(List<String> entities) {
-        return entities.stream().filter(entity -> !entity.matches("type\\s+(Query|Mutation)\\s+(?s).+"))
+        return entities.stream().filter(entity -> !entity.matches(QUERY_AND_MUTATION_PATTERN))
                 .collect(Collectors.toList());
     }
 
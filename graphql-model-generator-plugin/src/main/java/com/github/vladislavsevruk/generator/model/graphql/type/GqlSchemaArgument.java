@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.type;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import lombok.Getter;
+
+/**
+ * Represents GraphQL operation argument meta information. Raw schema type keeps GraphQL type of argument as it should
+ * be declared for variable, e.g. <code>[ID!]!</code>. Java type is <code>null</code> if GraphQL type is unknown for
+ * plugin, e.g. custom scalar.
+ */
+@Getter
+public class GqlSchemaArgument {
+
+    private final String name;
+    private final boolean nonNull;
+    private final String rawSchemaName;
+    private final String rawSchemaType;
+    private final SchemaEntity type;
+
+    public GqlSchemaArgument(String name, String rawSchemaName, String rawSchemaType, SchemaEntity type,
+            boolean nonNull) {
+        this.name = name;
+        this.rawSchemaName = rawSchemaName;
+        this.rawSchemaType = rawSchemaType;
+        this.type = type;
+        this.nonNull = nonNull;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.type;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents GraphQL operation meta information that is declared by field of Query or Mutation root type. Selection
+ * set type is element type of root field or <code>null</code> if root field has no selection set.
+ */
+@Getter
+public class GqlSchemaOperation {
+
+    private final List<GqlSchemaArgument> arguments;
+    private final String name;
+    private final GqlOperationType operationType;
+    private final String rawSchemaName;
+    private final SchemaEntity selectionSetType;
+
+    public GqlSchemaOperation(String name, String rawSchemaName, GqlOperationType operationType,
+            List<GqlSchemaArgument> arguments, SchemaEntity selectionSetType) {
+        this.name = name;
+        this.rawSchemaName = rawSchemaName;
+        this.operationType = operationType;
+        this.arguments = Collections.unmodifiableList(arguments);
+        this.selectionSetType = selectionSetType;
+    }
+}
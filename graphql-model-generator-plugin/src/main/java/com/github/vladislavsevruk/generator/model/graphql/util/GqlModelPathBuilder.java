@@ -75,6 +75,26 @@ public final class GqlModelPathBuilder {
         return prepareModelSrcPath(targetDirPath).toString();
     }
 
+    /**
+     * Builds path for operation manifest target directory.
+     *
+     * @param targetDirPath <code>String</code> with generation target directory.
+     * @return <code>String</code> with operation manifest target directory.
+     */
+    public static String buildOperationManifestDirPath(String targetDirPath) {
+        return prepareOperationManifestDirPath(targetDirPath).toString();
+    }
+
+    /**
+     * Builds path for operation manifest file.
+     *
+     * @param targetDirPath <code>String</code> with generation target directory.
+     * @return <code>String</code> with operation manifest file path.
+     */
+    public static String buildOperationManifestPath(String targetDirPath) {
+        return prepareOperationManifestDirPath(targetDirPath).append("operationManifest.json").toString();
+    }
+
     private static StringBuilder prepareModelPackagePath(String targetDirPath, String packageName) {
         StringBuilder builder = prepareModelSrcJavaPath(targetDirPath);
         for (String packagePart : packageName.split("\\.")) {
@@ -88,12 +108,20 @@ public final class GqlModelPathBuilder {
                 .append(File.separator);
     }
 
-    private static StringBuilder prepareModelSrcPath(String targetDirPath) {
+    private static StringBuilder prepareGeneratedPath(String targetDirPath) {
         StringBuilder builder = new StringBuilder(targetDirPath);
         if (!targetDirPath.endsWith(File.separator)) {
             builder.append(File.separator);
         }
-        return builder.append("generated").append(File.separator).append("sources").append(File.separator)
-                .append("graphqlModels").append(File.separator);
+        return builder.append("generated").append(File.separator);
+    }
+
+    private static StringBuilder prepareModelSrcPath(String targetDirPath) {
+        return prepareGeneratedPath(targetDirPath).append("sources").append(File.separator).append("graphqlModels")
+                .append(File.separator);
+    }
+
+    private static StringBuilder prepareOperationManifestDirPath(String targetDirPath) {
+        return prepareGeneratedPath(targetDirPath).append("graphqlOperationManifest").append(File.separator);
     }
 }
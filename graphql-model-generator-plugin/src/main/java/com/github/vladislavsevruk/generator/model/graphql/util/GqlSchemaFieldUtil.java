@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.util;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.BaseSchemaElementSequence;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaEnum;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+
+/**
+ * Contains utility methods for GraphQL schema fields processing.
+ */
+public final class GqlSchemaFieldUtil {
+
+    private GqlSchemaFieldUtil() {
+    }
+
+    /**
+     * Returns element type of received element sequence.
+     *
+     * @param type <code>SchemaEntity</code> of element sequence to get element type from.
+     * @return <code>SchemaEntity</code> of sequence element.
+     */
+    public static SchemaEntity getElementType(SchemaEntity type) {
+        return ((BaseSchemaElementSequence) type).getElementTypes().iterator().next();
+    }
+
+    /**
+     * Checks if received schema entity is element sequence.
+     *
+     * @param type <code>SchemaEntity</code> to check.
+     * @return <code>true</code> if received entity is element sequence, <code>false</code> otherwise.
+     */
+    public static boolean isElementSequence(SchemaEntity type) {
+        return BaseSchemaElementSequence.class.isAssignableFrom(type.getClass());
+    }
+
+    /**
+     * Checks if received field should be marked as one with selection set at generated POJO model.
+     *
+     * @param field <code>GqlSchemaField</code> to check.
+     * @return <code>true</code> if field has selection set, <code>false</code> otherwise.
+     */
+    public static boolean isWithSelectionSet(GqlSchemaField field) {
+        return !field.isUnion() && hasSelectionSet(field.getType());
+    }
+
+    private static boolean hasSelectionSet(SchemaEntity type) {
+        if (isElementSequence(type)) {
+            return hasSelectionSet(getElementType(type));
+        }
+        return !isScalar(type) && !isEnum(type);
+    }
+
+    private static boolean isEnum(SchemaEntity schemaEntity) {
+        return GqlSchemaEnum.class.isAssignableFrom(schemaEntity.getClass());
+    }
+
+    private static boolean isScalar(SchemaEntity schemaEntity) {
+        return schemaEntity.getPackage() == null || "java.math".equals(schemaEntity.getPackage());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.generator.metadata;
+
+import com.github.vladislavsevruk.generator.java.type.SchemaField;
+import com.github.vladislavsevruk.generator.java.type.predefined.CommonJavaSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.IterableSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ListSchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaField;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaType;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnion;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class GqlSelectionSetCollectorTest {
+
+    @Test
+    void collectAllFieldsCanonicalTest() {
+        Assertions.assertEquals("{children{content{... on Text{body}} display_name id} content{... on Text{body}} "
+                + "display_name id}", new GqlSelectionSetCollector()
+                .collect(createNodeType(), GqlFieldsPickingStrategy.ALL_FIELDS, true));
+    }
+
+    @Test
+    void collectAllFieldsTest() {
+        Assertions.assertEquals("{id display_name children{id display_name content{... on Text{body}}} "
+                + "content{... on Text{body}}}", new GqlSelectionSetCollector()
+                .collect(createNodeType(), GqlFieldsPickingStrategy.ALL_FIELDS, false));
+    }
+
+    @Test
+    void collectOnlyIdTest() {
+        Assertions.assertEquals("{id children{id}}", new GqlSelectionSetCollector()
+                .collect(createNodeType(), GqlFieldsPickingStrategy.ONLY_ID, false));
+    }
+
+    @Test
+    void collectOnlyNonNullTest() {
+        Assertions.assertEquals("{id children{id content{... on Text{body}}} content{... on Text{body}}}",
+                new GqlSelectionSetCollector()
+                        .collect(createNodeType(), GqlFieldsPickingStrategy.ONLY_NON_NULL, false));
+    }
+
+    @Test
+    void collectUnionTest() {
+        GqlSchemaUnion union = new GqlSchemaUnion("com.test", "SearchResult", new GqlSchemaUnionType[]{
+                new GqlSchemaUnionType("Text", createTextType()), new GqlSchemaUnionType("Node", createNodeType()) });
+        Assertions.assertEquals("{... on Text{body} ... on Node{id display_name children{id display_name "
+                + "content{... on Text{body}}} content{... on Text{body}}}}", new GqlSelectionSetCollector()
+                .collect(union, GqlFieldsPickingStrategy.ALL_FIELDS, false));
+    }
+
+    @Test
+    void collectWithoutSelectionSetsTest() {
+        Assertions.assertEquals("{id display_name}", new GqlSelectionSetCollector()
+                .collect(createNodeType(), GqlFieldsPickingStrategy.WITHOUT_SELECTION_SETS, false));
+    }
+
+    @Test
+    void iterableFieldIsSkippedTest() {
+        GqlSchemaType textType = createTextType();
+        List<SchemaField> fields = new ArrayList<>();
+        fields.add(new GqlSchemaField("id", "id", CommonJavaSchemaEntity.STRING, true));
+        fields.add(new GqlSchemaField("texts", "texts", new IterableSchemaEntity(textType), true));
+        GqlSchemaType type = new GqlSchemaType("com.test", "Container", new ArrayList<>(), fields);
+        Assertions.assertEquals("{id}", new GqlSelectionSetCollector()
+                .collect(type, GqlFieldsPickingStrategy.ALL_FIELDS, false));
+    }
+
+    private GqlSchemaType createNodeType() {
+        GqlSchemaType textType = createTextType();
+        GqlSchemaUnion contentUnion = new GqlSchemaUnion("com.test", "Content",
+                new GqlSchemaUnionType[]{ new GqlSchemaUnionType("Text", textType) });
+        List<SchemaField> fields = new ArrayList<>();
+        GqlSchemaType nodeType = new GqlSchemaType("com.test", "Node", new ArrayList<>(), fields);
+        fields.add(new GqlSchemaField("id", "id", CommonJavaSchemaEntity.STRING, true));
+        fields.add(new GqlSchemaField("displayName", "display_name", CommonJavaSchemaEntity.STRING, false));
+        fields.add(new GqlSchemaField("parent", "parent", nodeType, false));
+        fields.add(new GqlSchemaField("children", "children", new ListSchemaEntity(nodeType), true));
+        fields.add(new GqlSchemaField("content", "content", contentUnion, true));
+        return nodeType;
+    }
+
+    private GqlSchemaType createTextType() {
+        return new GqlSchemaType("com.test", "Text", new ArrayList<>(),
+                Collections.singletonList(new GqlSchemaField("body", "body", CommonJavaSchemaEntity.STRING, true)));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.model.graphql.parser.impl;
+
+import com.github.vladislavsevruk.generator.java.storage.SchemaObjectStorage;
+import com.github.vladislavsevruk.generator.java.type.predefined.CommonJavaSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.PrimitiveSchemaEntity;
+import com.github.vladislavsevruk.generator.java.type.predefined.sequence.ArraySchemaEntity;
+import com.github.vladislavsevruk.generator.model.graphql.constant.GqlOperationType;
+import com.github.vladislavsevruk.generator.model.graphql.exception.GqlEntityParsingException;
+import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import com.github.vladislavsevruk.generator.model.graphql.test.data.GraphQlSchemaGenerator;
+import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaArgument;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaEnum;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaInput;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+class GqlSchemaOperationParserTest {
+
+    @Test
+    void canParseMutationTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        Assertions.assertTrue(parser.canParse("type Mutation {\ncreate(input: SimpleInput!): SimpleType!\n}"));
+    }
+
+    @Test
+    void canParseQueryTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        Assertions.assertTrue(parser.canParse("type Query {\nuser(id: ID!): SimpleType\n}"));
+    }
+
+    @Test
+    void cannotParseNotRootTypeTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        Assertions.assertFalse(parser.canParse(GraphQlSchemaGenerator.getSimpleType()));
+    }
+
+    @Test
+    void parseMutationTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaInput schemaInput = new GqlSchemaInput("com.test", "SimpleInput", Collections.emptyList());
+        when(schemaObjectStorage.get("SimpleInput")).thenReturn(schemaInput);
+        GqlSchemaType schemaType = new GqlSchemaType("com.test", "SimpleType", Collections.emptyList(),
+                Collections.emptyList());
+        when(schemaObjectStorage.get("SimpleType")).thenReturn(schemaType);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        List<GqlSchemaOperation> operations = parser
+                .parse("type Mutation {\ncreate_entity(input: SimpleInput!, ids: [ ID! ]): [SimpleType!]!\n}");
+        Assertions.assertEquals(1, operations.size());
+        GqlSchemaOperation operation = operations.get(0);
+        Assertions.assertEquals("CreateEntityMutation", operation.getName());
+        Assertions.assertEquals("create_entity", operation.getRawSchemaName());
+        Assertions.assertEquals(GqlOperationType.MUTATION, operation.getOperationType());
+        Assertions.assertEquals(schemaType, operation.getSelectionSetType());
+        Assertions.assertEquals(2, operation.getArguments().size());
+        GqlSchemaArgument argument = operation.getArguments().get(0);
+        Assertions.assertEquals("input", argument.getName());
+        Assertions.assertEquals("SimpleInput!", argument.getRawSchemaType());
+        Assertions.assertEquals(schemaInput, argument.getType());
+        Assertions.assertTrue(argument.isNonNull());
+        argument = operation.getArguments().get(1);
+        Assertions.assertEquals("ids", argument.getName());
+        Assertions.assertEquals("[ID!]", argument.getRawSchemaType());
+        Assertions.assertEquals(ArraySchemaEntity.class, argument.getType().getClass());
+        Assertions.assertEquals(CommonJavaSchemaEntity.INTEGER,
+                ((ArraySchemaEntity) argument.getType()).getElementTypes().iterator().next());
+        Assertions.assertFalse(argument.isNonNull());
+    }
+
+    @Test
+    void parseNotRootTypeThrowsExceptionTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        String simpleType = GraphQlSchemaGenerator.getSimpleType();
+        Assertions.assertThrows(GqlEntityParsingException.class, () -> parser.parse(simpleType));
+    }
+
+    @Test
+    void parseQueryTest() {
+        GqlModelGeneratorPluginExtension pluginExtension = TestExtensionUtil.mockPluginExtension();
+        SchemaObjectStorage schemaObjectStorage = Mockito.mock(SchemaObjectStorage.class);
+        GqlSchemaEnum schemaEnum = new GqlSchemaEnum("com.test", "SimpleEnumType", Collections.emptyList());
+        when(schemaObjectStorage.get("SimpleEnumType")).thenReturn(schemaEnum);
+        GqlSchemaOperationParser parser = new GqlSchemaOperationParser(pluginExtension, schemaObjectStorage);
+        List<GqlSchemaOperation> operations = parser.parse("type Query {\nstatus(default: Int = 10, "
+                + "name: String = \"a, b\"): SimpleEnumType\ncount: Int!\n}");
+        Assertions.assertEquals(2, operations.size());
+        GqlSchemaOperation operation = operations.get(0);
+        Assertions.assertEquals("StatusQuery", operation.getName());
+        Assertions.assertEquals(GqlOperationType.QUERY, operation.getOperationType());
+        Assertions.assertNull(operation.getSelectionSetType());
+        Assertions.assertEquals(2, operation.getArguments().size());
+        GqlSchemaArgument argument = operation.getArguments().get(0);
+        Assertions.assertEquals("defaultValue", argument.getName());
+        Assertions.assertEquals("default", argument.getRawSchemaName());
+        Assertions.assertEquals("Int", argument.getRawSchemaType());
+        Assertions.assertEquals(PrimitiveSchemaEntity.INT, argument.getType());
+        Assertions.assertFalse(argument.isNonNull());
+        argument = operation.getArguments().get(1);
+        Assertions.assertEquals("name", argument.getName());
+        Assertions.assertEquals(CommonJavaSchemaEntity.STRING, argument.getType());
+        operation = operations.get(1);
+        Assertions.assertEquals("CountQuery", operation.getName());
+        Assertions.assertTrue(operation.getArguments().isEmpty());
+        Assertions.assertNull(operation.getSelectionSetType());
+    }
+}
@@ -29,6 +29,9 @@ import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGene
 import com.github.vladislavsevruk.generator.model.graphql.test.constant.TestData;
 import com.github.vladislavsevruk.generator.model.graphql.test.data.GraphQlSchemaGenerator;
 import com.github.vladislavsevruk.generator.model.graphql.test.data.extension.TestExtensionUtil;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaInput;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaOperation;
+import com.github.vladislavsevruk.generator.model.graphql.type.GqlSchemaUnion;
 import com.github.vladislavsevruk.generator.model.graphql.util.ReadWriteFileUtil;
 import org.gradle.api.provider.Property;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +39,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,6 +52,31 @@ class GqlSchemaParserImplTest {
         TestData.createTempTestRssDir();
     }
 
+    @Test
+    void parseOperationsTest() {
+        GqlModelGeneratorPluginExtension extension = TestExtensionUtil.mockPluginExtension();
+        String schemaFilePath = TestData.tempTestRssPath("parseOperationsTestSchema");
+        Property<String> schemaFilePathProperty = TestExtensionUtil.mockProperty(schemaFilePath);
+        when(extension.getPathToSchemaFile()).thenReturn(schemaFilePathProperty);
+        String schema = new GraphQlSchemaGenerator().addComplexInput().addMultiUnion().build();
+        ReadWriteFileUtil.replaceFileContent(schemaFilePath, schema);
+        GqlSchemaParserImpl parser = new GqlSchemaParserImpl(extension);
+        List<GqlSchemaOperation> operations = parser.parseOperations(parser.parseSchema());
+        Assertions.assertEquals(8, operations.size());
+        Set<String> operationNames = operations.stream().map(GqlSchemaOperation::getName).collect(Collectors.toSet());
+        Assertions.assertTrue(operationNames.contains("TestQuery0Query"));
+        Assertions.assertTrue(operationNames.contains("TestMutation1Mutation"));
+        GqlSchemaOperation unionOperation = operations.stream()
+                .filter(operation -> operation.getRawSchemaName().equals("testQuery1")).findAny().orElse(null);
+        Assertions.assertNotNull(unionOperation);
+        Assertions.assertEquals(GqlSchemaUnion.class, unionOperation.getSelectionSetType().getClass());
+        GqlSchemaOperation mutation = operations.stream()
+                .filter(operation -> operation.getRawSchemaName().equals("testMutation0")).findAny().orElse(null);
+        Assertions.assertNotNull(mutation);
+        Assertions.assertEquals(1, mutation.getArguments().size());
+        Assertions.assertEquals(GqlSchemaInput.class, mutation.getArguments().get(0).getType().getClass());
+    }
+
     @Test
     void parseSchemaTest() {
         GqlModelGeneratorPluginExtension extension = TestExtensionUtil.mockPluginExtension();
@@ -23,8 +23,10 @@
  */
 package com.github.vladislavsevruk.generator.model.graphql.test.data.extension;
 
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,6 +42,10 @@ public class SimpleExtension {
         return TestExtensionUtil.mockProperty(true);
     }
 
+    public ListProperty<String> getValues() {
+        return TestExtensionUtil.mockListProperty(Arrays.asList("value1", "value2"));
+    }
+
     public Property<String> methodWithArgs(String value) {
         throw shouldNotBeCalledException();
     }
@@ -55,6 +61,7 @@ public class SimpleExtension {
     private static Map<String, Object> initValuesMap() {
         Map<String, Object> valuesMap = new HashMap<>();
         valuesMap.put("getFlag", true);
+        valuesMap.put("getValues", Arrays.asList("value1", "value2"));
         valuesMap.put("value", "testValue");
         return valuesMap;
     }
@@ -27,9 +27,13 @@ import com.github.vladislavsevruk.generator.model.graphql.constant.ElementSequen
 import com.github.vladislavsevruk.generator.model.graphql.constant.GqlFloatType;
 import com.github.vladislavsevruk.generator.model.graphql.constant.GqlIntType;
 import com.github.vladislavsevruk.generator.model.graphql.extension.GqlModelGeneratorPluginExtension;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.mockito.Mockito;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +50,12 @@ public final class TestExtensionUtil {
         when(pluginExtension.getEntitiesPostfix()).thenReturn(entitiesPostfix);
         Property<String> entitiesPrefix = mockProperty("");
         when(pluginExtension.getEntitiesPrefix()).thenReturn(entitiesPrefix);
+        Property<Boolean> generateModelMetadata = mockProperty(false);
+        when(pluginExtension.getGenerateModelMetadata()).thenReturn(generateModelMetadata);
+        Property<Boolean> generateOperations = mockProperty(false);
+        when(pluginExtension.getGenerateOperations()).thenReturn(generateOperations);
+        ListProperty<String> manifestOperations = mockListProperty(Collections.emptyList());
+        when(pluginExtension.getManifestOperations()).thenReturn(manifestOperations);
         Property<String> pathToSchemaFile = mockProperty("");
         when(pluginExtension.getPathToSchemaFile()).thenReturn(pathToSchemaFile);
         Property<String> targetPackage = mockProperty("com.test");
@@ -69,6 +79,13 @@ public final class TestExtensionUtil {
         return pluginExtension;
     }
 
+    @SuppressWarnings("unchecked")
+    public static <T> ListProperty<T> mockListProperty(List<T> value) {
+        ListProperty<T> property = Mockito.mock(ListProperty.class);
+        when(property.get()).thenReturn(value);
+        return property;
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> Property<T> mockProperty(T value) {
         Property<T> property = Mockito.mock(Property.class);
@@ -65,4 +65,21 @@ class GqlFilePathBuilderTest {
         String expectedResult = String.format("target%sgenerated%<ssources%<sgraphqlModels%<s", File.separator);
         Assertions.assertEquals(expectedResult, result);
     }
+
+    @Test
+    void buildOperationManifestDirPathTest() {
+        String targetDir = "target";
+        String result = GqlModelPathBuilder.buildOperationManifestDirPath(targetDir);
+        String expectedResult = String.format("target%sgenerated%<sgraphqlOperationManifest%<s", File.separator);
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void buildOperationManifestPathTest() {
+        String targetDir = "target";
+        String result = GqlModelPathBuilder.buildOperationManifestPath(targetDir);
+        String expectedResult = String.format("target%sgenerated%<sgraphqlOperationManifest%<soperationManifest.json",
+                File.separator);
+        Assertions.assertEquals(expectedResult, result);
+    }
 }
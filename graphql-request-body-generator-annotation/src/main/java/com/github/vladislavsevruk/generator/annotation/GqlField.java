@@ -65,4 +65,17 @@ public @interface GqlField {
      * operation generation.
      */
     int maxNestingLoopLevel() default -1;
+
+    /**
+     * Returns <code>int</code> with multiplier of nested selection set cost that should be used for list field during
+     * selection set cost estimation, e.g. expected amount of list elements. Negative value means that default list
+     * multiplier should be used.
+     */
+    int listMultiplier() default -1;
+
+    /**
+     * Returns <code>int</code> with own cost of field that should be used during selection set cost estimation.
+     * Negative value means that default field weight should be used.
+     */
+    int weight() default -1;
 }
@@ -37,6 +37,19 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface GqlUnion {
 
+    /**
+     * Returns <code>String</code> with name of GraphQL interface implemented by all union types that should be used as
+     * type condition of inline fragment with common fields. If it isn't set common fields are added to selection set of
+     * field directly, which is valid only for fields of GraphQL interface type.
+     */
+    String commonFieldsInterface() default "";
+
+    /**
+     * Returns <code>true</code> if fields shared by all union types should be selected only once outside of their
+     * inline fragments, <code>false</code> otherwise.
+     */
+    boolean hoistCommonFields() default false;
+
     /**
      * Returns {@link GqlUnionType} array that represent possible values for that union.
      */
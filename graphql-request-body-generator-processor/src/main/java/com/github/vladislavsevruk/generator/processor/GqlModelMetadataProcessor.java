@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates class with precomputed metadata for every model that has fields annotated with {@link GqlField},
+ * {@link GqlUnion} or {@link GqlDelegate}. Generated class contains GraphQL names of model fields and selection set
+ * constants for every predefined field marking and selection set generation strategy at both declaration and canonical
+ * orders, so runtime library can get selection sets of model without reflection. Metadata class is placed at the same
+ * package as model and is named after model binary name with <code>$</code> replaced by <code>_</code> and
+ * <code>_GqlModelMetadata</code> suffix. Models that cannot be resolved at compile time or already have metadata class
+ * (e.g. generated by GraphQL model generator plugin) are skipped with note and are processed as is at runtime.
+ */
+public class GqlModelMetadataProcessor extends AbstractProcessor {
+
+    private static final int MAX_CONSTANT_LENGTH = 65535;
+    private static final String METADATA_CLASS_SUFFIX = "_GqlModelMetadata";
+    private final Set<String> processedModels = new HashSet<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Arrays.asList(GqlDelegate.class, GqlField.class, GqlUnion.class).stream().map(Class::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        Set<TypeElement> models = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    models.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement model : models) {
+            if (processedModels.add(model.getQualifiedName().toString())) {
+                generateMetadata(model);
+            }
+        }
+        return false;
+    }
+
+    private Map<String, String> collectSelectionSets(TypeElement model) throws UnsupportedModelException {
+        SelectionSetCollector collector = new SelectionSetCollector(processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils());
+        DeclaredType modelType = (DeclaredType) model.asType();
+        Map<String, String> selectionSets = new LinkedHashMap<>();
+        for (MarkingStrategy markingStrategy : MarkingStrategy.values()) {
+            for (PickingStrategy pickingStrategy : PickingStrategy.values()) {
+                for (boolean isCanonical : new boolean[]{false, true}) {
+                    String selectionSet = collector.collect(modelType, markingStrategy, pickingStrategy, isCanonical);
+                    if (selectionSet.length() > MAX_CONSTANT_LENGTH / 3) {
+                        verifyConstantLength(selectionSet);
+                    }
+                    selectionSets.put(ModelMetadataSourceWriter
+                            .getConstantName(markingStrategy, pickingStrategy, isCanonical), selectionSet);
+                }
+            }
+        }
+        return selectionSets;
+    }
+
+    private void generateMetadata(TypeElement model) {
+        String unsupportedReason = getUnsupportedReason(model);
+        if (unsupportedReason != null) {
+            printSkipNote(model, unsupportedReason);
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(model).toString();
+        String metadataClassName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + METADATA_CLASS_SUFFIX;
+        String qualifiedMetadataClassName = packageName.isEmpty() ? metadataClassName
+                : packageName + "." + metadataClassName;
+        if (processingEnv.getElementUtils().getTypeElement(qualifiedMetadataClassName) != null) {
+            printSkipNote(model, "metadata class '" + qualifiedMetadataClassName + "' is already present");
+            return;
+        }
+        Map<String, String> selectionSets;
+        try {
+            selectionSets = collectSelectionSets(model);
+        } catch (UnsupportedModelException umEx) {
+            printSkipNote(model, umEx.getMessage());
+            return;
+        }
+        List<String> fieldNames = ElementFilter.fieldsIn(model.getEnclosedElements()).stream()
+                .map(ModelElementUtil::getFieldName).collect(Collectors.toList());
+        String source = ModelMetadataSourceWriter.write(packageName, metadataClassName,
+                model.getQualifiedName().toString(), fieldNames, selectionSets);
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedMetadataClassName, model)
+                .openWriter()) {
+            writer.write(source);
+        } catch (IOException ioEx) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write metadata class '" + qualifiedMetadataClassName + "': " + ioEx.getMessage(),
+                    model);
+        }
+    }
+
+    private String getUnsupportedReason(TypeElement model) {
+        if (!model.getTypeParameters().isEmpty()) {
+            return "generic models are resolved only at runtime";
+        }
+        Element element = model;
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local and anonymous classes cannot be referenced from generated class";
+            }
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private classes cannot be referenced from generated class";
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return null;
+    }
+
+    private void printSkipNote(TypeElement model, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "Selection sets of '" + model.getQualifiedName() + "' won't be precomputed as " + reason + ".",
+                model);
+    }
+
+    private void verifyConstantLength(String selectionSet) throws UnsupportedModelException {
+        int utf8Length = 0;
+        for (int i = 0; i < selectionSet.length(); ++i) {
+            char character = selectionSet.charAt(i);
+            utf8Length += character != 0 && character < 0x80 ? 1 : character < 0x800 ? 2 : 3;
+        }
+        if (utf8Length > MAX_CONSTANT_LENGTH) {
+            throw new UnsupportedModelException("selection set exceeds maximum length of string constant");
+        }
+    }
+}
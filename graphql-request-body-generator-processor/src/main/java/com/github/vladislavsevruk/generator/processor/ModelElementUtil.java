@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDefer;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlFieldArgument;
+import com.github.vladislavsevruk.generator.annotation.GqlStream;
+import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeMirror;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Picks GraphQL names of model elements the same way as <code>GqlNamePicker</code> does at runtime.
+ */
+final class ModelElementUtil {
+
+    static final String LABELED_DEFERRED_FRAGMENT_NAME_PREFIX = "... @defer(label:";
+    private static final String DEFERRED_FRAGMENT_NAME = "... @defer";
+
+    private ModelElementUtil() {
+    }
+
+    /**
+     * Returns type condition of inline fragment with <code>@defer</code> directive for received field.
+     *
+     * @param field <code>VariableElement</code> of field to get deferred inline fragment for.
+     * @return <code>String</code> with inline fragment with directive or <code>null</code> if field isn't deferred.
+     */
+    static String getDeferredFragmentName(VariableElement field) {
+        GqlDefer deferAnnotation = field.getAnnotation(GqlDefer.class);
+        if (deferAnnotation == null) {
+            return null;
+        }
+        String label = deferAnnotation.label();
+        return label.isEmpty() ? DEFERRED_FRAGMENT_NAME : LABELED_DEFERRED_FRAGMENT_NAME_PREFIX + "\"" + label + "\")";
+    }
+
+    /**
+     * Returns GraphQL name of received field.
+     *
+     * @param field <code>VariableElement</code> of field to get name for.
+     * @return <code>String</code> with field name.
+     */
+    static String getFieldName(VariableElement field) {
+        GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+        if (fieldAnnotation != null && !fieldAnnotation.name().isEmpty()) {
+            return fieldAnnotation.name();
+        }
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * Returns GraphQL name of received field with alias, arguments and <code>@stream</code> directive if present.
+     *
+     * @param field <code>VariableElement</code> of field to get name for.
+     * @return <code>String</code> with field name, alias, arguments and directives.
+     */
+    static String getFieldNameWithArgumentsAndAlias(VariableElement field) {
+        String fieldName = getFieldName(field);
+        GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+        if (fieldAnnotation != null) {
+            String alias = fieldAnnotation.alias();
+            fieldName = alias.isEmpty() ? fieldName : alias + ":" + fieldName;
+            GqlFieldArgument[] arguments = fieldAnnotation.arguments();
+            if (arguments.length != 0) {
+                fieldName += Arrays.stream(arguments).map(argument -> argument.name() + ":" + argument.value())
+                        .collect(Collectors.joining(",", "(", ")"));
+            }
+        }
+        GqlStream streamAnnotation = field.getAnnotation(GqlStream.class);
+        if (streamAnnotation != null) {
+            String label = streamAnnotation.label();
+            fieldName += " @stream(initialCount:" + streamAnnotation.initialCount() + (label.isEmpty() ? ""
+                    : ",label:\"" + label + "\"") + ")";
+        }
+        return fieldName;
+    }
+
+    /**
+     * Returns type mirror of class that is used as union type.
+     *
+     * @param unionType <code>GqlUnionType</code> annotation to get type for.
+     * @return <code>TypeMirror</code> of union type class.
+     */
+    static TypeMirror getUnionTypeMirror(GqlUnionType unionType) {
+        try {
+            unionType.value();
+        } catch (MirroredTypeException mtEx) {
+            return mtEx.getTypeMirror();
+        }
+        throw new IllegalStateException("Class values of annotations are expected to be mirrored by compiler.");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders source code of class with precomputed model metadata that extends <code>BaseGqlModelMetadata</code> of
+ * runtime library.
+ */
+final class ModelMetadataSourceWriter {
+
+    private static final String CANONICAL_POSTFIX = "_CANONICAL";
+    private static final String INDENT = "    ";
+    private static final String[] IMPORTS = { "com.github.vladislavsevruk.generator.metadata.BaseGqlModelMetadata",
+            "com.github.vladislavsevruk.generator.metadata.FieldMarkingStrategyType",
+            "com.github.vladislavsevruk.generator.strategy.order.OutputOrder",
+            "com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy" };
+
+    private ModelMetadataSourceWriter() {
+    }
+
+    /**
+     * Returns name of constant with selection set for received strategies.
+     *
+     * @param markingStrategy <code>MarkingStrategy</code> selection set was collected with.
+     * @param pickingStrategy <code>PickingStrategy</code> selection set was collected with.
+     * @param isCanonical     <code>true</code> if selection set was collected at canonical order.
+     * @return <code>String</code> with constant name.
+     */
+    static String getConstantName(MarkingStrategy markingStrategy, PickingStrategy pickingStrategy,
+            boolean isCanonical) {
+        return markingStrategy.name() + "_" + pickingStrategy.name() + (isCanonical ? CANONICAL_POSTFIX : "");
+    }
+
+    /**
+     * Renders source code of metadata class.
+     *
+     * @param packageName       <code>String</code> with package name of metadata class.
+     * @param metadataClassName <code>String</code> with simple name of metadata class.
+     * @param modelClassName    <code>String</code> with canonical name of model class.
+     * @param fieldNames        <code>List</code> of GraphQL names of fields declared by model.
+     * @param selectionSets     <code>Map</code> with selection sets mapped to names of their constants.
+     * @return <code>String</code> with source code.
+     */
+    static String write(String packageName, String metadataClassName, String modelClassName, List<String> fieldNames,
+            Map<String, String> selectionSets) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        for (String importedClass : IMPORTS) {
+            source.append("import ").append(importedClass).append(";\n");
+        }
+        source.append('\n');
+        source.append("/**\n * Precomputed metadata of {@link ").append(modelClassName)
+                .append("} model.\n * Generated by ").append(GqlModelMetadataProcessor.class.getName())
+                .append(", do not modify.\n */\n");
+        source.append("public final class ").append(metadataClassName).append(" extends BaseGqlModelMetadata {\n\n");
+        for (Map.Entry<String, String> entry : selectionSets.entrySet()) {
+            source.append(INDENT).append("public static final String ").append(entry.getKey()).append(" = ");
+            appendLiteral(source, entry.getValue());
+            source.append(";\n");
+        }
+        source.append('\n').append(INDENT).append("public ").append(metadataClassName).append("() {\n")
+                .append(INDENT).append(INDENT).append("super(").append(modelClassName).append(".class");
+        for (String fieldName : fieldNames) {
+            source.append(", ");
+            appendLiteral(source, fieldName);
+        }
+        source.append(");\n");
+        for (MarkingStrategy markingStrategy : MarkingStrategy.values()) {
+            for (PickingStrategy pickingStrategy : PickingStrategy.values()) {
+                appendAddSelectionSet(source, markingStrategy, pickingStrategy, false);
+                appendAddSelectionSet(source, markingStrategy, pickingStrategy, true);
+            }
+        }
+        return source.append(INDENT).append("}\n}\n").toString();
+    }
+
+    private static void appendAddSelectionSet(StringBuilder source, MarkingStrategy markingStrategy,
+            PickingStrategy pickingStrategy, boolean isCanonical) {
+        source.append(INDENT).append(INDENT).append("addSelectionSet(FieldMarkingStrategyType.")
+                .append(markingStrategy.name()).append(", SelectionSetGenerationStrategy.")
+                .append(pickingStrategy.name()).append(",\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("OutputOrder.")
+                .append(isCanonical ? "CANONICAL" : "DECLARATION").append(", ")
+                .append(getConstantName(markingStrategy, pickingStrategy, isCanonical)).append(");\n");
+    }
+
+    private static void appendLiteral(StringBuilder source, String value) {
+        source.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    source.append("\\\"");
+                    break;
+                case '\\':
+                    source.append("\\\\");
+                    break;
+                case '\n':
+                    source.append("\\n");
+                    break;
+                case '\r':
+                    source.append("\\r");
+                    break;
+                default:
+                    if (character < ' ' || character > '~') {
+                        source.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        source.append(character);
+                    }
+            }
+        }
+        source.append('"');
+    }
+}
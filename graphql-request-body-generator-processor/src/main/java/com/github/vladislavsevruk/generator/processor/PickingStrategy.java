@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+
+import javax.lang.model.element.VariableElement;
+
+/**
+ * Compile time counterparts of predefined fields picking strategies. Names of constants match names of
+ * <code>SelectionSetGenerationStrategy</code> constants at runtime library.
+ */
+enum PickingStrategy {
+
+    ALL_FIELDS {
+        @Override
+        boolean shouldBePicked(VariableElement field) {
+            return true;
+        }
+    },
+    ONLY_ID {
+        @Override
+        boolean shouldBePicked(VariableElement field) {
+            if (field.getAnnotation(GqlDelegate.class) != null || field.getAnnotation(GqlUnion.class) != null) {
+                return true;
+            }
+            GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+            if (fieldAnnotation != null && fieldAnnotation.withSelectionSet()) {
+                return true;
+            }
+            return ModelElementUtil.getFieldName(field).equals(ID);
+        }
+    },
+    ONLY_NON_NULL {
+        @Override
+        boolean shouldBePicked(VariableElement field) {
+            GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+            if (fieldAnnotation != null) {
+                return fieldAnnotation.nonNull();
+            }
+            return field.getAnnotation(GqlDelegate.class) != null;
+        }
+    },
+    WITHOUT_SELECTION_SETS {
+        @Override
+        boolean shouldBePicked(VariableElement field) {
+            GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+            if (fieldAnnotation != null && fieldAnnotation.withSelectionSet()) {
+                return false;
+            }
+            return field.getAnnotation(GqlUnion.class) == null;
+        }
+    };
+
+    private static final String ID = "id";
+
+    /**
+     * Checks if received field should be added to selection set.
+     *
+     * @param field <code>VariableElement</code> of field to check.
+     * @return <code>true</code> if field should be picked, <code>false</code> otherwise.
+     */
+    abstract boolean shouldBePicked(VariableElement field);
+}
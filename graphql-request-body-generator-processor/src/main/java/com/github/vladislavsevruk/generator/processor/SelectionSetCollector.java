@@ -0,0 +1,436 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDefer;
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlStream;
+import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Collects selection sets of models at compile time following the same rules as <code>SelectionSetGenerator</code>
+ * with default endless loop breaking strategy does at runtime. Models that contain elements which types cannot be
+ * resolved unambiguously at compile time are rejected with {@link UnsupportedModelException}.
+ */
+final class SelectionSetCollector {
+
+    private static final Comparator<VariableElement> FIELDS_CANONICAL_ORDER = Comparator
+            .comparing(ModelElementUtil::getFieldName)
+            .thenComparing(field -> field.getSimpleName().toString());
+    private static final int DEFAULT_MAX_NESTING_LOOP_LEVEL = 0;
+    private final TypeMirror collectionType;
+    private final Elements elements;
+    private final Types types;
+
+    SelectionSetCollector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+        this.collectionType = types.erasure(elements.getTypeElement("java.util.Collection").asType());
+    }
+
+    /**
+     * Collects selection set for received model using received strategies.
+     *
+     * @param modelType       <code>DeclaredType</code> of model.
+     * @param markingStrategy <code>MarkingStrategy</code> to get marked fields.
+     * @param pickingStrategy <code>PickingStrategy</code> to filter fields.
+     * @param isCanonical     <code>true</code> if fields should be sorted at canonical order.
+     * @return <code>String</code> with selection set.
+     * @throws UnsupportedModelException if selection set cannot be precomputed for received model.
+     */
+    String collect(DeclaredType modelType, MarkingStrategy markingStrategy, PickingStrategy pickingStrategy,
+            boolean isCanonical) throws UnsupportedModelException {
+        CollectingContext context = new CollectingContext(markingStrategy, pickingStrategy, isCanonical);
+        context.addToTrace(toTraceItem(modelType));
+        return "{" + String.join(" ", collectQueryParameters(modelType, context)) + "}";
+    }
+
+    private static int getLabeledDeferredFragmentNameLength(String queryParam) {
+        if (!queryParam.startsWith(ModelElementUtil.LABELED_DEFERRED_FRAGMENT_NAME_PREFIX)) {
+            return -1;
+        }
+        int labelEnd = queryParam.indexOf("\"){", ModelElementUtil.LABELED_DEFERRED_FRAGMENT_NAME_PREFIX.length() + 1);
+        return labelEnd < 0 ? -1 : labelEnd + 2;
+    }
+
+    // labels are added to directives as string literals without escaping
+    private static boolean isValidLabel(String label) {
+        return label.chars().noneMatch(character -> character == '"' || character == '\\' || character < ' ');
+    }
+
+    // mirrors grouping of fields deferred with the same label at runtime library
+    private static Set<String> mergeLabeledDeferredFragments(Set<String> queryParams) {
+        Map<String, List<String>> labeledDeferredQueryParams = new HashMap<>();
+        int labeledDeferredFragmentsCount = 0;
+        for (String queryParam : queryParams) {
+            int nameLength = getLabeledDeferredFragmentNameLength(queryParam);
+            if (nameLength > 0) {
+                labeledDeferredQueryParams.computeIfAbsent(queryParam.substring(0, nameLength),
+                        name -> new ArrayList<>()).add(queryParam.substring(nameLength + 1, queryParam.length() - 1));
+                labeledDeferredFragmentsCount++;
+            }
+        }
+        if (labeledDeferredQueryParams.size() == labeledDeferredFragmentsCount) {
+            return queryParams;
+        }
+        Set<String> mergedQueryParams = new LinkedHashSet<>();
+        for (String queryParam : queryParams) {
+            int nameLength = getLabeledDeferredFragmentNameLength(queryParam);
+            if (nameLength <= 0) {
+                mergedQueryParams.add(queryParam);
+                continue;
+            }
+            String name = queryParam.substring(0, nameLength);
+            List<String> deferredQueryParams = labeledDeferredQueryParams.remove(name);
+            if (deferredQueryParams != null) {
+                mergedQueryParams.add(name + "{" + String.join(" ", deferredQueryParams) + "}");
+            }
+        }
+        return mergedQueryParams;
+    }
+
+    private static String toNode(String name, Set<String> children) {
+        return name + "{" + String.join(" ", children) + "}";
+    }
+
+    private void addFieldQueryParameter(Set<String> queryParams, DeclaredType type, VariableElement field,
+            CollectingContext context) throws UnsupportedModelException {
+        GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+        if (field.getAnnotation(GqlDelegate.class) != null) {
+            queryParams.addAll(collectQueryParameters(getModelType(types.asMemberOf(type, field)), context));
+        } else if (field.getAnnotation(GqlUnion.class) != null) {
+            addUnionQueryParameters(queryParams, field, context);
+        } else if (fieldAnnotation != null && fieldAnnotation.withSelectionSet()) {
+            addFieldWithSelectionSetQueryParameter(queryParams, type, field, context);
+        } else {
+            queryParams.add(ModelElementUtil.getFieldNameWithArgumentsAndAlias(field));
+        }
+    }
+
+    private void addFieldWithSelectionSetQueryParameter(Set<String> queryParams, DeclaredType type,
+            VariableElement field, CollectingContext context) throws UnsupportedModelException {
+        TypeMirror fieldType = types.asMemberOf(type, field);
+        TraceItem traceItem = toTraceItem(fieldType);
+        context.addToTrace(traceItem);
+        if (!context.shouldBreakOnItem(traceItem, field.getAnnotation(GqlField.class).maxNestingLoopLevel())) {
+            Set<String> fieldQueryParams = collectQueryParameters(getModelType(getSelectionSetType(fieldType)),
+                    context);
+            if (!fieldQueryParams.isEmpty()) {
+                queryParams.add(toNode(ModelElementUtil.getFieldNameWithArgumentsAndAlias(field), fieldQueryParams));
+            }
+        }
+        context.removeLastItemFromTrace();
+    }
+
+    private void addQueryParameter(Set<String> queryParams, DeclaredType type, VariableElement field,
+            CollectingContext context) throws UnsupportedModelException {
+        verifyIncrementalDeliveryField(field);
+        String deferredFragmentName = ModelElementUtil.getDeferredFragmentName(field);
+        if (deferredFragmentName == null) {
+            addFieldQueryParameter(queryParams, type, field, context);
+            return;
+        }
+        Set<String> deferredQueryParams = new LinkedHashSet<>();
+        addFieldQueryParameter(deferredQueryParams, type, field, context);
+        if (!deferredQueryParams.isEmpty()) {
+            queryParams.add(toNode(deferredFragmentName, deferredQueryParams));
+        }
+    }
+
+    private void addUnionQueryParameters(Set<String> queryParams, VariableElement field, CollectingContext context)
+            throws UnsupportedModelException {
+        GqlUnion unionAnnotation = field.getAnnotation(GqlUnion.class);
+        Map<String, Set<String>> unionTypesQueryParams = new LinkedHashMap<>();
+        for (GqlUnionType unionType : unionAnnotation.value()) {
+            DeclaredType unionModelType = getModelType(ModelElementUtil.getUnionTypeMirror(unionType));
+            Set<String> unionTypeQueryParams = collectUnionTypeQueryParameters(unionModelType, unionType, context);
+            if (!unionTypeQueryParams.isEmpty()) {
+                String unionName = unionType.name().isEmpty() ? unionModelType.asElement().getSimpleName()
+                        .toString() : unionType.name();
+                unionTypesQueryParams.put(unionName, unionTypeQueryParams);
+            }
+        }
+        Set<String> commonQueryParams = unionAnnotation.hoistCommonFields()
+                ? collectCommonQueryParameters(unionTypesQueryParams.values()) : Collections.emptySet();
+        Set<String> unionQueryParams = new LinkedHashSet<>();
+        if (!commonQueryParams.isEmpty()) {
+            String interfaceName = unionAnnotation.commonFieldsInterface();
+            if (!interfaceName.isEmpty()) {
+                unionQueryParams.add(toNode("... on " + interfaceName, commonQueryParams));
+            } else {
+                unionQueryParams.addAll(commonQueryParams);
+            }
+        }
+        for (Entry<String, Set<String>> entry : unionTypesQueryParams.entrySet()) {
+            Set<String> distinctQueryParams = new LinkedHashSet<>(entry.getValue());
+            distinctQueryParams.removeAll(commonQueryParams);
+            if (!distinctQueryParams.isEmpty()) {
+                unionQueryParams.add(toNode("... on " + entry.getKey(), distinctQueryParams));
+            }
+        }
+        if (!unionQueryParams.isEmpty()) {
+            queryParams.add(toNode(ModelElementUtil.getFieldNameWithArgumentsAndAlias(field), unionQueryParams));
+        }
+    }
+
+    private Set<String> collectCommonQueryParameters(Collection<Set<String>> unionTypesQueryParams) {
+        if (unionTypesQueryParams.size() < 2) {
+            return Collections.emptySet();
+        }
+        Iterator<Set<String>> iterator = unionTypesQueryParams.iterator();
+        Set<String> commonQueryParams = new LinkedHashSet<>(iterator.next());
+        while (iterator.hasNext() && !commonQueryParams.isEmpty()) {
+            commonQueryParams.retainAll(iterator.next());
+        }
+        return commonQueryParams;
+    }
+
+    private Set<String> collectQueryParameters(DeclaredType type, CollectingContext context)
+            throws UnsupportedModelException {
+        Set<String> queryParams = new LinkedHashSet<>();
+        TypeElement typeElement = (TypeElement) type.asElement();
+        if (Object.class.getName().equals(typeElement.getQualifiedName().toString())) {
+            return queryParams;
+        }
+        List<VariableElement> markedFields = ElementFilter.fieldsIn(typeElement.getEnclosedElements()).stream()
+                .filter(context.markingStrategy::isMarkedField).collect(Collectors.toList());
+        if (context.isCanonical) {
+            markedFields.sort(FIELDS_CANONICAL_ORDER);
+        }
+        for (VariableElement field : markedFields) {
+            if (context.pickingStrategy.shouldBePicked(field)) {
+                addQueryParameter(queryParams, type, field, context);
+            }
+        }
+        DeclaredType superclassType = getSuperclassType(type, typeElement);
+        if (superclassType != null) {
+            queryParams.addAll(collectQueryParameters(getModelType(superclassType), context));
+        }
+        return mergeLabeledDeferredFragments(queryParams);
+    }
+
+    private Set<String> collectUnionTypeQueryParameters(DeclaredType unionModelType, GqlUnionType unionType,
+            CollectingContext context) throws UnsupportedModelException {
+        TraceItem traceItem = toTraceItem(unionModelType);
+        context.addToTrace(traceItem);
+        Set<String> unionTypeQueryParams = Collections.emptySet();
+        if (!context.shouldBreakOnItem(traceItem, unionType.maxNestingLoopLevel())) {
+            unionTypeQueryParams = collectQueryParameters(unionModelType, context);
+        }
+        context.removeLastItemFromTrace();
+        return unionTypeQueryParams;
+    }
+
+    private TypeMirror getElementType(TypeMirror type) throws UnsupportedModelException {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType();
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            throw new UnsupportedModelException("element type of '" + type + "' is resolved only at runtime");
+        }
+        return typeArguments.get(0);
+    }
+
+    private String getKey(TypeMirror type) throws UnsupportedModelException {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return getKey(((ArrayType) type).getComponentType()) + "[]";
+        }
+        DeclaredType declaredType = getDeclaredType(type);
+        String key = elements.getBinaryName((TypeElement) declaredType.asElement()).toString();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            return key;
+        }
+        List<String> argumentKeys = new ArrayList<>();
+        for (TypeMirror typeArgument : typeArguments) {
+            argumentKeys.add(getKey(typeArgument));
+        }
+        return key + "<" + String.join(",", argumentKeys) + ">";
+    }
+
+    private DeclaredType getDeclaredType(TypeMirror type) throws UnsupportedModelException {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedModelException("type '" + type + "' is resolved only at runtime");
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        if (declaredType.getTypeArguments().size() != ((TypeElement) declaredType.asElement())
+                .getTypeParameters().size()) {
+            throw new UnsupportedModelException("raw type '" + type + "' is resolved only at runtime");
+        }
+        return declaredType;
+    }
+
+    private DeclaredType getModelType(TypeMirror type) throws UnsupportedModelException {
+        DeclaredType declaredType = getDeclaredType(type);
+        String typeName = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        if ((typeName.startsWith("java.") || typeName.startsWith("javax.")) && !Object.class.getName()
+                .equals(typeName)) {
+            throw new UnsupportedModelException("JDK type '" + type + "' cannot be used as model");
+        }
+        return declaredType;
+    }
+
+    private TypeMirror getSelectionSetType(TypeMirror type) throws UnsupportedModelException {
+        return isCollectionOrArray(type) ? getElementType(type) : type;
+    }
+
+    private DeclaredType getSuperclassType(DeclaredType type, TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeMirror superclassErasure = types.erasure(superclass);
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (types.isSameType(types.erasure(supertype), superclassErasure)) {
+                return (DeclaredType) supertype;
+            }
+        }
+        return (DeclaredType) superclass;
+    }
+
+    private boolean isCollectionOrArray(TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY || type.getKind() == TypeKind.DECLARED && types
+                .isAssignable(types.erasure(type), collectionType);
+    }
+
+    private TraceItem toTraceItem(TypeMirror type) throws UnsupportedModelException {
+        TypeMirror elementType = type;
+        while (isCollectionOrArray(elementType)) {
+            elementType = getElementType(elementType);
+        }
+        return new TraceItem(getKey(type), getKey(elementType));
+    }
+
+    // mirrors verification of incremental delivery annotations at runtime library
+    private void verifyIncrementalDeliveryField(VariableElement field) throws UnsupportedModelException {
+        GqlDefer deferAnnotation = field.getAnnotation(GqlDefer.class);
+        if (deferAnnotation != null && !isValidLabel(deferAnnotation.label())) {
+            throw new UnsupportedModelException("field '" + field.getSimpleName() + "' with GqlDefer annotation "
+                    + "has label that contains quote, backslash or control character");
+        }
+        GqlStream streamAnnotation = field.getAnnotation(GqlStream.class);
+        if (streamAnnotation == null) {
+            return;
+        }
+        if (!isCollectionOrArray(field.asType())) {
+            throw new UnsupportedModelException("field '" + field.getSimpleName() + "' with GqlStream annotation "
+                    + "isn't collection or array");
+        }
+        if (streamAnnotation.initialCount() < 0) {
+            throw new UnsupportedModelException("field '" + field.getSimpleName() + "' with GqlStream annotation "
+                    + "has negative initial count");
+        }
+        if (!isValidLabel(streamAnnotation.label())) {
+            throw new UnsupportedModelException("field '" + field.getSimpleName() + "' with GqlStream annotation "
+                    + "has label that contains quote, backslash or control character");
+        }
+    }
+
+    /**
+     * Holds state of single selection set collecting and mirrors loop detection of runtime library.
+     */
+    private static final class CollectingContext {
+
+        private final boolean isCanonical;
+        // ArrayList is permissible as we delete elements only from list end
+        private final List<String> loopedItems = new ArrayList<>();
+        private final MarkingStrategy markingStrategy;
+        private final PickingStrategy pickingStrategy;
+        private final List<TraceItem> trace = new ArrayList<>();
+
+        private CollectingContext(MarkingStrategy markingStrategy, PickingStrategy pickingStrategy,
+                boolean isCanonical) {
+            this.markingStrategy = markingStrategy;
+            this.pickingStrategy = pickingStrategy;
+            this.isCanonical = isCanonical;
+        }
+
+        private void addToTrace(TraceItem traceItem) {
+            trace.add(traceItem);
+            for (int i = 0; i < trace.size() - 1; ++i) {
+                if (trace.get(i).key.equals(traceItem.key)) {
+                    loopedItems.add(traceItem.key);
+                    return;
+                }
+            }
+        }
+
+        private void removeLastItemFromTrace() {
+            TraceItem lastItem = trace.remove(trace.size() - 1);
+            int lastLoopedItemIndex = loopedItems.size() - 1;
+            if (lastLoopedItemIndex >= 0 && lastItem.key.equals(loopedItems.get(lastLoopedItemIndex))) {
+                loopedItems.remove(lastLoopedItemIndex);
+            }
+        }
+
+        private boolean shouldBreakOnItem(TraceItem traceItem, int maxNestingLoopLevel) {
+            if (loopedItems.isEmpty()) {
+                return false;
+            }
+            int nestingLoopLevel = maxNestingLoopLevel >= 0 ? maxNestingLoopLevel : DEFAULT_MAX_NESTING_LOOP_LEVEL;
+            long entriesAmount = trace.stream().filter(item -> item.elementKey.equals(traceItem.elementKey)).count();
+            return entriesAmount > nestingLoopLevel + 1;
+        }
+    }
+
+    /**
+     * Represents type at trace with key of type itself and key of its element type for collections and arrays.
+     */
+    private static final class TraceItem {
+
+        private final String elementKey;
+        private final String key;
+
+        private TraceItem(String key, String elementKey) {
+            this.key = key;
+            this.elementKey = elementKey;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor;
+
+import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
+import com.github.vladislavsevruk.generator.metadata.GqlModelMetadata;
+import com.github.vladislavsevruk.generator.metadata.GqlModelMetadataRegistry;
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class GqlModelMetadataProcessorTest {
+
+    private static final String DATA_PACKAGE = "com.github.vladislavsevruk.generator.processor.data.";
+    private static final List<String> MODELS = Arrays
+            .asList("BackslashStreamLabelModel", "ComplexModel", "DelegatedModel", "GenericModel",
+                    "GenericParentModel", "NegativeInitialCountModel", "PresetMetadataModel",
+                    "PresetMetadataModel_GqlModelMetadata", "QuotedDeferLabelModel", "SimpleModel",
+                    "StreamedFieldModel");
+    private static URLClassLoader classLoader;
+    private static DiagnosticCollector<JavaFileObject> diagnostics;
+    @TempDir
+    static Path tempDir;
+
+    @BeforeAll
+    static void compileModels() throws IOException {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Path outputDir = Files.createDirectories(tempDir.resolve("out"));
+        List<File> sourceFiles = new ArrayList<>();
+        for (String model : MODELS) {
+            String resourceName = "/models/" + (DATA_PACKAGE + model).replace('.', '/') + ".java";
+            Path sourceFile = sourceDir.resolve(model + ".java");
+            try (InputStream source = GqlModelMetadataProcessorTest.class.getResourceAsStream(resourceName)) {
+                Files.copy(source, sourceFile);
+            }
+            sourceFiles.add(sourceFile.toFile());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler
+                .getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+                outputDir.toString(), "-s", outputDir.toString());
+        CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+        task.setProcessors(Collections.singletonList(new GqlModelMetadataProcessor()));
+        Assertions.assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        fileManager.close();
+        classLoader = new URLClassLoader(new URL[]{ outputDir.toUri().toURL() },
+                GqlModelMetadataProcessorTest.class.getClassLoader());
+    }
+
+    @AfterAll
+    static void closeClassLoader() throws IOException {
+        classLoader.close();
+    }
+
+    @AfterEach
+    void reset() {
+        GqlModelMetadataRegistry.enable();
+        OutputOrderManager.useDeclarationOrder();
+    }
+
+    @Test
+    void backslashStreamLabelModelIsSkippedTest() {
+        Assertions.assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(DATA_PACKAGE + "BackslashStreamLabelModel_GqlModelMetadata"));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .anyMatch(message -> message.contains(DATA_PACKAGE + "BackslashStreamLabelModel")
+                        && message.contains("label that contains quote")));
+    }
+
+    @Test
+    void genericModelIsSkippedTest() {
+        Assertions.assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(DATA_PACKAGE + "GenericModel_GqlModelMetadata"));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .anyMatch(diagnostic -> diagnostic.getMessage(null).contains(DATA_PACKAGE + "GenericModel")));
+    }
+
+    @Test
+    void metadataIsLoadedByRegistryTest() throws Exception {
+        Class<?> modelClass = classLoader.loadClass(DATA_PACKAGE + "SimpleModel");
+        GqlModelMetadata metadata = GqlModelMetadataRegistry.get(modelClass);
+        Assertions.assertNotNull(metadata);
+        Assertions.assertEquals(modelClass, metadata.getModelClass());
+        Assertions.assertEquals(Arrays.asList("id", "fullName", "ignored", "notMarked"), metadata.getFieldNames());
+    }
+
+    @Test
+    void negativeInitialCountModelIsSkippedTest() {
+        Assertions.assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(DATA_PACKAGE + "NegativeInitialCountModel_GqlModelMetadata"));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .anyMatch(message -> message.contains(DATA_PACKAGE + "NegativeInitialCountModel")
+                        && message.contains("negative initial count")));
+    }
+
+    @Test
+    void nestedModelMetadataIsGeneratedTest() throws Exception {
+        Class<?> metadataClass = classLoader.loadClass(DATA_PACKAGE + "ComplexModel_NestedModel_GqlModelMetadata");
+        Assertions.assertEquals("{value}", metadataClass.getField("ONLY_MARKED_ONLY_NON_NULL").get(null));
+    }
+
+    @Test
+    void precomputedSelectionSetsMatchRuntimeGenerationTest() throws Exception {
+        for (String model : Arrays.asList("ComplexModel", "ComplexModel$NestedModel", "DelegatedModel",
+                "SimpleModel")) {
+            Class<?> modelClass = classLoader.loadClass(DATA_PACKAGE + model);
+            for (FieldMarkingStrategy fieldMarkingStrategy : Arrays
+                    .asList(new AllExceptIgnoredFieldMarkingStrategy(), new OnlyMarkedFieldMarkingStrategy())) {
+                for (SelectionSetGenerationStrategy strategy : SelectionSetGenerationStrategy.values()) {
+                    OutputOrderManager.useDeclarationOrder();
+                    verifySelectionSet(modelClass, fieldMarkingStrategy, strategy);
+                    OutputOrderManager.useCanonicalOrder();
+                    verifySelectionSet(modelClass, fieldMarkingStrategy, strategy);
+                }
+            }
+        }
+    }
+
+    @Test
+    void presetMetadataIsNotRegeneratedTest() throws Exception {
+        Class<?> modelClass = classLoader.loadClass(DATA_PACKAGE + "PresetMetadataModel");
+        GqlModelMetadata metadata = GqlModelMetadataRegistry.get(modelClass);
+        Assertions.assertNotNull(metadata);
+        Assertions.assertEquals(Collections.singletonList("presetValue"), metadata.getFieldNames());
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .anyMatch(diagnostic -> diagnostic.getMessage(null).contains("is already present")));
+    }
+
+    @Test
+    void quotedDeferLabelModelIsSkippedTest() {
+        Assertions.assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(DATA_PACKAGE + "QuotedDeferLabelModel_GqlModelMetadata"));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .anyMatch(message -> message.contains(DATA_PACKAGE + "QuotedDeferLabelModel")
+                        && message.contains("label that contains quote")));
+    }
+
+    @Test
+    void selectionSetConstantsTest() throws Exception {
+        Class<?> metadataClass = classLoader.loadClass(DATA_PACKAGE + "SimpleModel_GqlModelMetadata");
+        Assertions.assertEquals("{id name:fullName notMarked}",
+                metadataClass.getField("ALL_EXCEPT_IGNORED_ALL_FIELDS").get(null));
+        Assertions.assertEquals("{name:fullName id notMarked}",
+                metadataClass.getField("ALL_EXCEPT_IGNORED_ALL_FIELDS_CANONICAL").get(null));
+        Assertions.assertEquals("{id}", metadataClass.getField("ONLY_MARKED_ONLY_NON_NULL").get(null));
+        Assertions.assertEquals("{id}", metadataClass.getField("ONLY_MARKED_ONLY_ID").get(null));
+    }
+
+    @Test
+    void streamedNonListFieldModelIsSkippedTest() {
+        Assertions.assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(DATA_PACKAGE + "StreamedFieldModel_GqlModelMetadata"));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .anyMatch(diagnostic -> diagnostic.getMessage(null).contains("GqlStream")));
+    }
+
+    private String generate(Class<?> modelClass, FieldMarkingStrategy fieldMarkingStrategy,
+            SelectionSetGenerationStrategy strategy) {
+        return new SelectionSetGenerator(new TypeMeta<>(modelClass), fieldMarkingStrategy,
+                EndlessLoopBreakingStrategy.defaultStrategy().getLoopBreakingStrategy())
+                .generate(strategy.getFieldsPickingStrategy());
+    }
+
+    private void verifySelectionSet(Class<?> modelClass, FieldMarkingStrategy fieldMarkingStrategy,
+            SelectionSetGenerationStrategy strategy) {
+        GqlModelMetadataRegistry.disable();
+        String expected = generate(modelClass, fieldMarkingStrategy, strategy);
+        GqlModelMetadataRegistry.enable();
+        Assertions.assertNotNull(GqlModelMetadataRegistry.get(modelClass));
+        Assertions.assertEquals(expected, generate(modelClass, fieldMarkingStrategy, strategy),
+                modelClass.getName() + " " + fieldMarkingStrategy.getClass().getSimpleName() + " " + strategy + " "
+                        + OutputOrderManager.getOrder());
+    }
+}
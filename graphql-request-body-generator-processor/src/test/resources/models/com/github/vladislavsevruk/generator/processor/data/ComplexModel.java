@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.processor.data;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDefer;
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlFieldArgument;
+import com.github.vladislavsevruk.generator.annotation.GqlStream;
+import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+
+import java.util.List;
+
+public class ComplexModel extends GenericParentModel<SimpleModel> {
+
+    @GqlField
+    private Long id;
+    @GqlField(withSelectionSet = true, nonNull = true, arguments = { @GqlFieldArgument(name = "first", value = "10"),
+            @GqlFieldArgument(name = "filter", value = "\"active\"") })
+    private List<SimpleModel> items;
+    @GqlField(withSelectionSet = true)
+    private ComplexModel parent;
+    @GqlField(withSelectionSet = true, maxNestingLoopLevel = 1)
+    private ComplexModel[] children;
+    @GqlUnion({ @GqlUnionType(NestedModel.class), @GqlUnionType(value = ComplexModel.class, name = "Complex") })
+    private Object union;
+    @GqlUnion(value = { @GqlUnionType(SimpleModel.class), @GqlUnionType(value = ComplexModel.class, name = "Complex") },
+            hoistCommonFields = true, commonFieldsInterface = "Node")
+    private Object node;
+    @GqlDelegate
+    private DelegatedModel delegated;
+    @GqlDefer(label = "related")
+    @GqlField(withSelectionSet = true)
+    private SimpleModel related;
+    @GqlStream(initialCount = 2)
+    @GqlField(withSelectionSet = true)
+    private List<SimpleModel> streamedItems;
+
+    public static class NestedModel {
+
+        @GqlField(nonNull = true)
+        private String value;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.generator;
 
+import com.github.vladislavsevruk.generator.generator.GqlBatchRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.GqlMergedQueryRequestBodyGenerator;
 import com.github.vladislavsevruk.generator.generator.mutation.GqlMutationRequestBodyGenerator;
 import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
 
@@ -34,6 +36,21 @@ public class GqlRequestBodyGenerator {
     private GqlRequestBodyGenerator() {
     }
 
+    /**
+     * Returns new instance of {@link GqlBatchRequestBodyGenerator} for batched GraphQL operations generation.
+     */
+    public static GqlBatchRequestBodyGenerator batch() {
+        return new GqlBatchRequestBodyGenerator();
+    }
+
+    /**
+     * Returns new instance of {@link GqlMergedQueryRequestBodyGenerator} for generation of several GraphQL queries
+     * merged into single operation.
+     */
+    public static GqlMergedQueryRequestBodyGenerator mergedQuery() {
+        return new GqlMergedQueryRequestBodyGenerator();
+    }
+
     /**
      * Returns new instance of {@link GqlMutationRequestBodyGenerator} with received mutation name.
      *
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.accessor;
+
+import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates {@link ValueAccessor} for fields and methods. Accessors are compiled to method handles when it's possible
+ * and fall back to reflection otherwise.
+ */
+@Log4j2
+public final class ValueAccessorFactory {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private ValueAccessorFactory() {
+    }
+
+    /**
+     * Creates accessor for received field that uses received getter method if it is present or reads field directly
+     * otherwise.
+     *
+     * @param field        <code>Field</code> to create accessor for.
+     * @param getterMethod getter <code>Method</code> for field or <code>null</code> if there is no such method.
+     * @return <code>ValueAccessor</code> for field.
+     */
+    public static ValueAccessor forField(Field field, Method getterMethod) {
+        if (getterMethod != null) {
+            log.debug("Found '{}' getter method for '{}' field.", getterMethod.getName(), field.getName());
+            return forMethod(getterMethod);
+        }
+        log.debug("There was no getter method for '{}' field found.", field.getName());
+        try {
+            field.setAccessible(true);
+            MethodHandle methodHandle = MethodHandles.lookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+            return model -> invoke(methodHandle, model, field.getName());
+        } catch (IllegalAccessException | RuntimeException ex) {
+            log.debug("Failed to compile accessor for '{}' field, reflection will be used.", field.getName());
+            return model -> ArgumentValueUtil.getValueByField(model, field);
+        }
+    }
+
+    /**
+     * Creates accessor that invokes received method.
+     *
+     * @param method <code>Method</code> to create accessor for.
+     * @return <code>ValueAccessor</code> for method.
+     */
+    public static ValueAccessor forMethod(Method method) {
+        try {
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+            return model -> invoke(methodHandle, model, method.getName());
+        } catch (IllegalAccessException | RuntimeException ex) {
+            log.debug("Failed to compile accessor for '{}' method, reflection will be used.", method.getName());
+            return model -> ArgumentValueUtil.getValueByMethod(model, method);
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private static Object invoke(MethodHandle methodHandle, Object model, String memberName) {
+        try {
+            return methodHandle.invokeExact(model);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable throwable) {
+            log.error(String.format("Failed to get value of '%s'.", memberName), throwable);
+            return null;
+        }
+    }
+}
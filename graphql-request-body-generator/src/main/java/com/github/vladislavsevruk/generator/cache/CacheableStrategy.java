@@ -0,0 +1,44 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+/**
+ * Marks strategy as stateless one so results of selection set generation made with it can be safely reused for the
+ * same model. All predefined strategies are cacheable, custom strategies may opt in by implementing this interface.
+ * Implementations should either be singletons or override <code>equals</code> and <code>hashCode</code> methods to
+ * get benefits from caching.
+ *
+ * @see SelectionSetCache
+ */
+public interface CacheableStrategy {
+
+    /**
+     * Checks if this strategy can be cached. Strategies that wrap other strategies may depend on wrapped ones.
+     *
+     * @return <code>true</code> if strategy can be cached, <code>false</code> otherwise.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+}
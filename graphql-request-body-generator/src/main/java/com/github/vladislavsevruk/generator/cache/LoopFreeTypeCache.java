@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded thread-safe cache for results of model type graph analysis for loops. Results are shared between
+ * generations only for field marking strategies that implement {@link CacheableStrategy}, otherwise every generation
+ * gets its own results. When amount of field marking strategies with cached results exceeds maximum size results of
+ * the eldest ones are evicted. Cache is invalidated together with {@link SelectionSetCache}.
+ */
+@Log4j2
+public final class LoopFreeTypeCache {
+
+    private static final Map<FieldMarkingStrategy, Map<TypeMeta<?>, Boolean>> CACHE = new ConcurrentHashMap<>();
+    private static final int DEFAULT_MAX_SIZE = 64;
+    private static final Queue<FieldMarkingStrategy> INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private LoopFreeTypeCache() {
+    }
+
+    /**
+     * Returns thread-safe map with results of type graph analysis for received field marking strategy. Map is shared
+     * for cacheable strategies and new one is created for every call otherwise.
+     *
+     * @param fieldMarkingStrategy <code>FieldMarkingStrategy</code> that is used for type graph building.
+     * @return <code>Map</code> with loop free flags of analyzed types.
+     */
+    public static Map<TypeMeta<?>, Boolean> get(FieldMarkingStrategy fieldMarkingStrategy) {
+        if (!isCacheable(fieldMarkingStrategy) || maxSize == 0) {
+            // results may be accessed by several tasks of parallel generation
+            return new ConcurrentHashMap<>();
+        }
+        Map<TypeMeta<?>, Boolean> loopFreeTypes = CACHE.get(fieldMarkingStrategy);
+        if (loopFreeTypes != null) {
+            return loopFreeTypes;
+        }
+        loopFreeTypes = new ConcurrentHashMap<>();
+        Map<TypeMeta<?>, Boolean> cachedLoopFreeTypes = CACHE.putIfAbsent(fieldMarkingStrategy, loopFreeTypes);
+        if (cachedLoopFreeTypes != null) {
+            return cachedLoopFreeTypes;
+        }
+        INSERTION_ORDER.add(fieldMarkingStrategy);
+        evictEldest();
+        return loopFreeTypes;
+    }
+
+    /**
+     * Returns maximum amount of field marking strategies which type graph analysis results can be cached.
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all cached type graph analysis results.
+     */
+    public static void invalidate() {
+        log.debug("Invalidating loop free type cache.");
+        CACHE.clear();
+        INSERTION_ORDER.clear();
+    }
+
+    /**
+     * Sets maximum amount of field marking strategies which type graph analysis results can be cached. Zero value
+     * disables caching.
+     *
+     * @param newMaxSize maximum amount of field marking strategies to cache results for.
+     */
+    public static void setMaxSize(int newMaxSize) {
+        if (newMaxSize < 0) {
+            throw new IllegalArgumentException("Max size should be greater than or equal to zero.");
+        }
+        maxSize = newMaxSize;
+        evictEldest();
+    }
+
+    static int size() {
+        return CACHE.size();
+    }
+
+    private static void evictEldest() {
+        while (CACHE.size() > maxSize) {
+            FieldMarkingStrategy eldestKey = INSERTION_ORDER.poll();
+            if (eldestKey == null) {
+                return;
+            }
+            CACHE.remove(eldestKey);
+        }
+    }
+
+    private static boolean isCacheable(FieldMarkingStrategy fieldMarkingStrategy) {
+        return fieldMarkingStrategy instanceof CacheableStrategy && ((CacheableStrategy) fieldMarkingStrategy)
+                .isCacheable();
+    }
+}
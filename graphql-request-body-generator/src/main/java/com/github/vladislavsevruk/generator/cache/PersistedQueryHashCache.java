@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded thread-safe cache for SHA-256 hashes of GraphQL operations that are used by automatic persisted queries.
+ * Hash is calculated only once for every distinct operation text. When amount of cached hashes exceeds maximum size
+ * the eldest ones are evicted.
+ */
+@Log4j2
+public final class PersistedQueryHashCache {
+
+    private static final String ALGORITHM_NAME = "SHA-256";
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+    private static final int DEFAULT_MAX_SIZE = 1024;
+    private static final char[] HEX_SYMBOLS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd',
+            'e', 'f' };
+    private static final Queue<String> INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private PersistedQueryHashCache() {
+    }
+
+    /**
+     * Calculates SHA-256 hash of received operation at lowercase hex format without caching.
+     *
+     * @param operation <code>String</code> with GraphQL operation.
+     * @return <code>String</code> with SHA-256 hash at hex format.
+     */
+    public static String calculateHash(String operation) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(ALGORITHM_NAME);
+            return toHexForm(messageDigest.digest(operation.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException nsaEx) {
+            throw new IllegalStateException("Failed to calculate operation hash.", nsaEx);
+        }
+    }
+
+    /**
+     * Returns cached SHA-256 hash of received operation or calculates and caches it if there is no such value at cache
+     * yet.
+     *
+     * @param operation <code>String</code> with GraphQL operation.
+     * @return <code>String</code> with SHA-256 hash at hex format.
+     */
+    public static String get(String operation) {
+        String hash = CACHE.get(operation);
+        if (hash != null) {
+            log.debug("Using cached operation hash.");
+            return hash;
+        }
+        hash = calculateHash(operation);
+        if (maxSize > 0 && CACHE.putIfAbsent(operation, hash) == null) {
+            INSERTION_ORDER.add(operation);
+            evictEldest();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns maximum amount of operation hashes that can be cached.
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all cached operation hashes.
+     */
+    public static void invalidate() {
+        log.debug("Invalidating persisted query hash cache.");
+        CACHE.clear();
+        INSERTION_ORDER.clear();
+    }
+
+    /**
+     * Sets maximum amount of operation hashes that can be cached. Zero value disables caching.
+     *
+     * @param newMaxSize maximum amount of operation hashes to cache.
+     */
+    public static void setMaxSize(int newMaxSize) {
+        if (newMaxSize < 0) {
+            throw new IllegalArgumentException("Max size should be greater than or equal to zero.");
+        }
+        maxSize = newMaxSize;
+        evictEldest();
+    }
+
+    static int size() {
+        return CACHE.size();
+    }
+
+    private static void evictEldest() {
+        while (CACHE.size() > maxSize) {
+            String eldestOperation = INSERTION_ORDER.poll();
+            if (eldestOperation == null) {
+                return;
+            }
+            CACHE.remove(eldestOperation);
+        }
+    }
+
+    private static String toHexForm(byte[] digest) {
+        char[] hexValues = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; ++i) {
+            hexValues[i * 2] = HEX_SYMBOLS[(digest[i] & 0xF0) >> 4];
+            hexValues[i * 2 + 1] = HEX_SYMBOLS[digest[i] & 0x0F];
+        }
+        return new String(hexValues);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import com.github.vladislavsevruk.generator.generator.FragmentedSelectionSet;
+import com.github.vladislavsevruk.generator.generator.SelectionSetEstimate;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded thread-safe cache for generated selection sets. Selection set is cached only if model was generated using
+ * strategies that implement {@link CacheableStrategy}, otherwise it is generated on every call. When amount of cached
+ * selection sets exceeds maximum size the eldest ones are evicted. Inline selection sets, selection sets with named
+ * fragments and estimated selection sets are cached and bounded separately.
+ *
+ * @see CacheableStrategy
+ * @see SelectionSetCacheKey
+ */
+@Log4j2
+public final class SelectionSetCache {
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+    private static final Map<SelectionSetCacheKey, String> CACHE = new ConcurrentHashMap<>();
+    private static final Map<SelectionSetCacheKey, SelectionSetEstimate> ESTIMATED_CACHE = new ConcurrentHashMap<>();
+    private static final Queue<SelectionSetCacheKey> ESTIMATED_INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static final Map<SelectionSetCacheKey, FragmentedSelectionSet> FRAGMENTED_CACHE
+            = new ConcurrentHashMap<>();
+    private static final Queue<SelectionSetCacheKey> FRAGMENTED_INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static final Queue<SelectionSetCacheKey> INSERTION_ORDER = new ConcurrentLinkedQueue<>();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private SelectionSetCache() {
+    }
+
+    /**
+     * Returns cached selection set for received key or generates and caches it using received generator if there is
+     * no such value at cache yet. If key isn't cacheable selection set will be generated without caching.
+     *
+     * @param key       <code>SelectionSetCacheKey</code> with model and strategies.
+     * @param generator <code>Supplier</code> that generates selection set.
+     * @return <code>String</code> with selection set.
+     */
+    public static String get(SelectionSetCacheKey key, Supplier<String> generator) {
+        return get(CACHE, INSERTION_ORDER, key, generator);
+    }
+
+    /**
+     * Returns cached selection set with its estimated cost and depth for received key or generates and caches it using
+     * received generator if there is no such value at cache yet. If key isn't cacheable selection set will be
+     * generated without caching.
+     *
+     * @param key       <code>SelectionSetCacheKey</code> with model and strategies.
+     * @param generator <code>Supplier</code> that generates selection set with its estimated cost and depth.
+     * @return <code>SelectionSetEstimate</code> with selection set and its estimated cost and depth.
+     */
+    public static SelectionSetEstimate getEstimated(SelectionSetCacheKey key,
+            Supplier<SelectionSetEstimate> generator) {
+        return get(ESTIMATED_CACHE, ESTIMATED_INSERTION_ORDER, key, generator);
+    }
+
+    /**
+     * Returns cached selection set with named fragments for received key or generates and caches it using received
+     * generator if there is no such value at cache yet. If key isn't cacheable selection set will be generated without
+     * caching.
+     *
+     * @param key       <code>SelectionSetCacheKey</code> with model and strategies.
+     * @param generator <code>Supplier</code> that generates selection set with named fragments.
+     * @return <code>FragmentedSelectionSet</code> with selection set and fragment definitions.
+     */
+    public static FragmentedSelectionSet getFragmented(SelectionSetCacheKey key,
+            Supplier<FragmentedSelectionSet> generator) {
+        return get(FRAGMENTED_CACHE, FRAGMENTED_INSERTION_ORDER, key, generator);
+    }
+
+    /**
+     * Returns maximum amount of selection sets that can be cached.
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all cached selection sets and results of model type graph analysis for loops.
+     */
+    public static void invalidate() {
+        log.debug("Invalidating selection set cache.");
+        CACHE.clear();
+        INSERTION_ORDER.clear();
+        ESTIMATED_CACHE.clear();
+        ESTIMATED_INSERTION_ORDER.clear();
+        FRAGMENTED_CACHE.clear();
+        FRAGMENTED_INSERTION_ORDER.clear();
+        LoopFreeTypeCache.invalidate();
+    }
+
+    /**
+     * Sets maximum amount of selection sets that can be cached. Zero value disables caching.
+     *
+     * @param newMaxSize maximum amount of selection sets to cache.
+     */
+    public static void setMaxSize(int newMaxSize) {
+        if (newMaxSize < 0) {
+            throw new IllegalArgumentException("Max size should be greater than or equal to zero.");
+        }
+        maxSize = newMaxSize;
+        evictEldest(CACHE, INSERTION_ORDER);
+        evictEldest(ESTIMATED_CACHE, ESTIMATED_INSERTION_ORDER);
+        evictEldest(FRAGMENTED_CACHE, FRAGMENTED_INSERTION_ORDER);
+    }
+
+    static int size() {
+        return CACHE.size() + ESTIMATED_CACHE.size() + FRAGMENTED_CACHE.size();
+    }
+
+    private static void evictEldest(Map<SelectionSetCacheKey, ?> cache, Queue<SelectionSetCacheKey> insertionOrder) {
+        while (cache.size() > maxSize) {
+            SelectionSetCacheKey eldestKey = insertionOrder.poll();
+            if (eldestKey == null) {
+                return;
+            }
+            cache.remove(eldestKey);
+        }
+    }
+
+    private static <T> T get(Map<SelectionSetCacheKey, T> cache, Queue<SelectionSetCacheKey> insertionOrder,
+            SelectionSetCacheKey key, Supplier<T> generator) {
+        if (!key.isCacheable()) {
+            return generator.get();
+        }
+        T selectionSet = cache.get(key);
+        if (selectionSet != null) {
+            log.debug("Using cached selection set.");
+            return selectionSet;
+        }
+        selectionSet = generator.get();
+        if (maxSize > 0 && cache.putIfAbsent(key, selectionSet) == null) {
+            insertionOrder.add(key);
+            evictEldest(cache, insertionOrder);
+        }
+        return selectionSet;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetPaths;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Key for selection set cache that contains model type, all strategies and selection set paths that affect generated
+ * selection set.
+ *
+ * @see SelectionSetCache
+ */
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(staticName = "of")
+public final class SelectionSetCacheKey {
+
+    TypeMeta<?> modelTypeMeta;
+    FieldMarkingStrategy fieldMarkingStrategy;
+    FieldsPickingStrategy fieldsPickingStrategy;
+    LoopBreakingStrategy loopBreakingStrategy;
+    SelectionSetPaths selectionSetPaths;
+
+    /**
+     * Creates key for selection set that isn't restricted by selection set paths.
+     *
+     * @param modelTypeMeta         <code>TypeMeta</code> of selection set model.
+     * @param fieldMarkingStrategy  <code>FieldMarkingStrategy</code> for selection set generation.
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> for selection set generation.
+     * @param loopBreakingStrategy  <code>LoopBreakingStrategy</code> for selection set generation.
+     * @return new <code>SelectionSetCacheKey</code>.
+     */
+    public static SelectionSetCacheKey of(TypeMeta<?> modelTypeMeta, FieldMarkingStrategy fieldMarkingStrategy,
+            FieldsPickingStrategy fieldsPickingStrategy, LoopBreakingStrategy loopBreakingStrategy) {
+        return of(modelTypeMeta, fieldMarkingStrategy, fieldsPickingStrategy, loopBreakingStrategy,
+                SelectionSetPaths.all());
+    }
+
+    /**
+     * Checks if all strategies of this key are marked as cacheable ones.
+     *
+     * @return <code>true</code> if all strategies implement {@link CacheableStrategy} and can be cached,
+     * <code>false</code> otherwise.
+     */
+    public boolean isCacheable() {
+        return isCacheable(fieldMarkingStrategy) && isCacheable(fieldsPickingStrategy) && (loopBreakingStrategy == null
+                || isCacheable(loopBreakingStrategy));
+    }
+
+    private boolean isCacheable(Object strategy) {
+        return strategy instanceof CacheableStrategy && ((CacheableStrategy) strategy).isCacheable();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.descriptor;
+
+import com.github.vladislavsevruk.generator.accessor.ValueAccessor;
+import com.github.vladislavsevruk.generator.accessor.ValueAccessorFactory;
+import com.github.vladislavsevruk.generator.annotation.GqlDefer;
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.annotation.GqlStream;
+import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+import com.github.vladislavsevruk.generator.annotation.GqlVariableType;
+import com.github.vladislavsevruk.generator.metadata.GqlModelMetadata;
+import com.github.vladislavsevruk.generator.metadata.GqlModelMetadataRegistry;
+import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
+import com.github.vladislavsevruk.generator.util.GqlNamePicker;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Contains precomputed GraphQL related metadata of model field.
+ *
+ * @see GqlModelDescriptor
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class GqlFieldDescriptor {
+
+    boolean commonUnionFieldsHoisted;
+    String commonUnionFieldsInterface;
+    String deferredFragmentName;
+    boolean delegate;
+    Field field;
+    GqlField fieldAnnotation;
+    @Getter(AccessLevel.NONE)
+    Method getterMethod;
+    String name;
+    String nameWithArgumentsAndAlias;
+    List<GqlUnionTypeDescriptor> unionTypeDescriptors;
+    GqlUnionType[] unionTypes;
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    volatile ValueAccessor valueAccessor;
+    GqlVariableType variableType;
+
+    GqlFieldDescriptor(Field field, Method[] methods) {
+        this.field = field;
+        this.fieldAnnotation = field.getAnnotation(GqlField.class);
+        verifyDeferredField(field);
+        verifyStreamedField(field);
+        this.name = GqlNamePicker.getFieldName(field);
+        this.nameWithArgumentsAndAlias = GqlNamePicker.getFieldNameWithArgumentsAndAlias(field);
+        this.deferredFragmentName = GqlNamePicker.getDeferredFragmentName(field);
+        this.delegate = field.getAnnotation(GqlDelegate.class) != null;
+        GqlUnion unionAnnotation = field.getAnnotation(GqlUnion.class);
+        this.unionTypes = unionAnnotation != null ? unionAnnotation.value() : null;
+        this.unionTypeDescriptors = unionAnnotation != null ? Collections.unmodifiableList(Arrays
+                .stream(unionTypes).map(GqlUnionTypeDescriptor::new).collect(Collectors.toList())) : null;
+        this.commonUnionFieldsHoisted = unionAnnotation != null && unionAnnotation.hoistCommonFields();
+        this.commonUnionFieldsInterface = unionAnnotation != null && !unionAnnotation.commonFieldsInterface().isEmpty()
+                ? unionAnnotation.commonFieldsInterface() : null;
+        this.variableType = field.getAnnotation(GqlVariableType.class);
+        this.getterMethod = ArgumentValueUtil.findGetterMethod(field, methods);
+    }
+
+    /**
+     * Returns accessor that gets field value using getter method if it is present or directly from field otherwise.
+     * Typed accessor from generated model metadata is preferred if present. Accessor is compiled on first call and
+     * reused after.
+     *
+     * @see GqlModelMetadataRegistry
+     */
+    public ValueAccessor getValueAccessor() {
+        ValueAccessor accessor = valueAccessor;
+        if (accessor == null) {
+            accessor = createValueAccessor();
+            valueAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    /**
+     * Checks if field is union.
+     */
+    public boolean isUnion() {
+        return unionTypes != null;
+    }
+
+    /**
+     * Checks if field has annotation for variable.
+     */
+    public boolean isVariable() {
+        return variableType != null;
+    }
+
+    /**
+     * Checks if field is marked as one with selection set.
+     */
+    public boolean isWithSelectionSet() {
+        return fieldAnnotation != null && fieldAnnotation.withSelectionSet();
+    }
+
+    // labels are added to directives as string literals without escaping
+    private static boolean isValidLabel(String label) {
+        return label.chars().noneMatch(character -> character == '"' || character == '\\' || character < ' ');
+    }
+
+    private static void verifyDeferredField(Field field) {
+        GqlDefer deferAnnotation = field.getAnnotation(GqlDefer.class);
+        if (deferAnnotation != null && !isValidLabel(deferAnnotation.label())) {
+            throw new IllegalStateException(String.format(
+                    "'%s' field of '%s' model has GqlDefer annotation with label that contains quote, backslash or "
+                            + "control character.", field.getName(), field.getDeclaringClass().getName()));
+        }
+    }
+
+    // @stream directive is applicable only to list fields
+    private static void verifyStreamedField(Field field) {
+        GqlStream streamAnnotation = field.getAnnotation(GqlStream.class);
+        if (streamAnnotation == null) {
+            return;
+        }
+        Class<?> fieldType = field.getType();
+        if (!fieldType.isArray() && !Collection.class.isAssignableFrom(fieldType)) {
+            throw new IllegalStateException(String.format(
+                    "'%s' field of '%s' model has GqlStream annotation but isn't collection or array.",
+                    field.getName(), field.getDeclaringClass().getName()));
+        }
+        if (streamAnnotation.initialCount() < 0) {
+            throw new IllegalStateException(String.format(
+                    "'%s' field of '%s' model has GqlStream annotation with negative initial count.",
+                    field.getName(), field.getDeclaringClass().getName()));
+        }
+        if (!isValidLabel(streamAnnotation.label())) {
+            throw new IllegalStateException(String.format(
+                    "'%s' field of '%s' model has GqlStream annotation with label that contains quote, backslash or "
+                            + "control character.", field.getName(), field.getDeclaringClass().getName()));
+        }
+    }
+
+    private ValueAccessor createValueAccessor() {
+        GqlModelMetadata metadata = GqlModelMetadataRegistry.get(field.getDeclaringClass());
+        ValueAccessor metadataAccessor = metadata != null ? metadata.getValueAccessor(field.getName()) : null;
+        return metadataAccessor != null ? metadataAccessor : ValueAccessorFactory.forField(field, getterMethod);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.descriptor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
+import com.github.vladislavsevruk.generator.annotation.GqlInput;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Contains precomputed GraphQL related metadata of model class: declared fields in declaration order, input methods
+ * and superclass. Descriptor is built once per class and reused by all generators. Marked fields and input methods
+ * are returned in order set at {@link OutputOrderManager}.
+ *
+ * @see GqlFieldDescriptor
+ * @see GqlMethodDescriptor
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class GqlModelDescriptor {
+
+    private static final ClassValue<GqlModelDescriptor> DESCRIPTORS = new ClassValue<GqlModelDescriptor>() {
+        @Override
+        protected GqlModelDescriptor computeValue(Class<?> type) {
+            return new GqlModelDescriptor(type);
+        }
+    };
+    private static final Comparator<GqlFieldDescriptor> FIELDS_CANONICAL_ORDER = Comparator
+            .comparing(GqlFieldDescriptor::getName)
+            .thenComparing(fieldDescriptor -> fieldDescriptor.getField().getName());
+    private static final Comparator<GqlMethodDescriptor> METHODS_CANONICAL_ORDER = Comparator
+            .comparing(GqlMethodDescriptor::getName)
+            .thenComparing(methodDescriptor -> methodDescriptor.getMethod().toGenericString());
+    private static final int MAX_MARKED_FIELDS_CACHE_SIZE = 4;
+    Map<FieldMarkingStrategy, List<GqlFieldDescriptor>> canonicalMarkedFields = new ConcurrentHashMap<>();
+    List<GqlMethodDescriptor> canonicalInputMethods;
+    @Getter
+    List<GqlFieldDescriptor> fields;
+    Map<String, GqlFieldDescriptor> fieldsByName;
+    List<GqlMethodDescriptor> inputMethods;
+    Map<FieldMarkingStrategy, List<GqlFieldDescriptor>> markedFields = new ConcurrentHashMap<>();
+    @Getter
+    Class<?> modelClass;
+    @Getter
+    Class<?> superclass;
+
+    private GqlModelDescriptor(Class<?> modelClass) {
+        this.modelClass = modelClass;
+        Method[] methods = modelClass.getMethods();
+        this.fields = Collections.unmodifiableList(collectFields(modelClass, methods));
+        this.fieldsByName = fields.stream()
+                .collect(Collectors.toMap(fieldDescriptor -> fieldDescriptor.getField().getName(), Function.identity()));
+        List<GqlMethodDescriptor> methodDescriptors = collectInputMethods(methods);
+        this.inputMethods = Collections.unmodifiableList(methodDescriptors);
+        List<GqlMethodDescriptor> sortedMethodDescriptors = new ArrayList<>(methodDescriptors);
+        sortedMethodDescriptors.sort(METHODS_CANONICAL_ORDER);
+        this.canonicalInputMethods = Collections.unmodifiableList(sortedMethodDescriptors);
+        Class<?> modelSuperclass = modelClass.getSuperclass();
+        this.superclass = modelSuperclass != null && !Object.class.equals(modelSuperclass) ? modelSuperclass : null;
+    }
+
+    /**
+     * Returns descriptor for received class.
+     *
+     * @param modelClass <code>Class</code> to get descriptor for.
+     * @return <code>GqlModelDescriptor</code> for received class.
+     */
+    public static GqlModelDescriptor of(Class<?> modelClass) {
+        return DESCRIPTORS.get(modelClass);
+    }
+
+    /**
+     * Returns descriptor for received declared field of this class.
+     *
+     * @param field declared <code>Field</code> to get descriptor for.
+     * @return <code>GqlFieldDescriptor</code> for received field.
+     */
+    public GqlFieldDescriptor getFieldDescriptor(Field field) {
+        GqlFieldDescriptor fieldDescriptor = fieldsByName.get(field.getName());
+        return fieldDescriptor != null ? fieldDescriptor : new GqlFieldDescriptor(field, modelClass.getMethods());
+    }
+
+    /**
+     * Returns methods marked as input or delegate in current output order.
+     *
+     * @return <code>List</code> of <code>GqlMethodDescriptor</code>.
+     * @see OutputOrderManager
+     */
+    public List<GqlMethodDescriptor> getInputMethods() {
+        return OutputOrderManager.isCanonical() ? canonicalInputMethods : inputMethods;
+    }
+
+    /**
+     * Returns declared fields that are marked by received field marking strategy in current output order. Results
+     * for cacheable strategies are reused.
+     *
+     * @param fieldMarkingStrategy <code>FieldMarkingStrategy</code> to filter fields with.
+     * @return <code>List</code> of marked <code>GqlFieldDescriptor</code>.
+     * @see OutputOrderManager
+     */
+    public List<GqlFieldDescriptor> getMarkedFields(FieldMarkingStrategy fieldMarkingStrategy) {
+        boolean isCanonical = OutputOrderManager.isCanonical();
+        if (!(fieldMarkingStrategy instanceof CacheableStrategy)) {
+            return filterMarkedFields(fieldMarkingStrategy, isCanonical);
+        }
+        Map<FieldMarkingStrategy, List<GqlFieldDescriptor>> cache = isCanonical ? canonicalMarkedFields
+                : markedFields;
+        List<GqlFieldDescriptor> markedFieldDescriptors = cache.get(fieldMarkingStrategy);
+        if (markedFieldDescriptors == null) {
+            markedFieldDescriptors = filterMarkedFields(fieldMarkingStrategy, isCanonical);
+            if (cache.size() >= MAX_MARKED_FIELDS_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(fieldMarkingStrategy, markedFieldDescriptors);
+        }
+        return markedFieldDescriptors;
+    }
+
+    /**
+     * Returns descriptor of superclass if it is present and differs from <code>Object</code>.
+     *
+     * @return <code>GqlModelDescriptor</code> for superclass or <code>null</code> if there is no such superclass.
+     */
+    public GqlModelDescriptor getSuperclassDescriptor() {
+        return superclass != null ? of(superclass) : null;
+    }
+
+    private List<GqlFieldDescriptor> collectFields(Class<?> modelClass, Method[] methods) {
+        List<GqlFieldDescriptor> fieldDescriptors = new ArrayList<>();
+        for (Field field : modelClass.getDeclaredFields()) {
+            if (!field.isSynthetic()) {
+                fieldDescriptors.add(new GqlFieldDescriptor(field, methods));
+            }
+        }
+        return fieldDescriptors;
+    }
+
+    private List<GqlMethodDescriptor> collectInputMethods(Method[] methods) {
+        List<GqlMethodDescriptor> methodDescriptors = new ArrayList<>();
+        for (Method method : methods) {
+            if (method.getAnnotation(GqlInput.class) != null || method.getAnnotation(GqlDelegate.class) != null) {
+                methodDescriptors.add(new GqlMethodDescriptor(method));
+            }
+        }
+        return methodDescriptors;
+    }
+
+    private List<GqlFieldDescriptor> filterMarkedFields(FieldMarkingStrategy fieldMarkingStrategy,
+            boolean isCanonical) {
+        List<GqlFieldDescriptor> markedFieldDescriptors = fields.stream()
+                .filter(fieldDescriptor -> fieldMarkingStrategy.isMarkedField(fieldDescriptor.getField()))
+                .collect(Collectors.toList());
+        if (isCanonical) {
+            markedFieldDescriptors.sort(FIELDS_CANONICAL_ORDER);
+        }
+        return Collections.unmodifiableList(markedFieldDescriptors);
+    }
+}
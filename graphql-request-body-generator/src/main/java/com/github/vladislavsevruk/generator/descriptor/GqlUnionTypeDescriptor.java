@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.descriptor;
+
+import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+import com.github.vladislavsevruk.generator.util.GqlNamePicker;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Contains precomputed GraphQL related metadata of union type.
+ *
+ * @see GqlFieldDescriptor
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class GqlUnionTypeDescriptor {
+
+    String inlineFragmentName;
+    String name;
+    TypeMeta<?> typeMeta;
+    GqlUnionType unionType;
+
+    GqlUnionTypeDescriptor(GqlUnionType unionType) {
+        this.unionType = unionType;
+        this.name = GqlNamePicker.getUnionName(unionType);
+        this.inlineFragmentName = "... on " + name;
+        this.typeMeta = new TypeMeta<>(unionType.value());
+    }
+}
@@ -23,14 +23,14 @@
  */
 package com.github.vladislavsevruk.generator.generator;
 
-import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
-import com.github.vladislavsevruk.generator.annotation.GqlInput;
 import com.github.vladislavsevruk.generator.annotation.GqlVariableType;
+import com.github.vladislavsevruk.generator.descriptor.GqlFieldDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlMethodDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlModelDescriptor;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
 import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.variable.AnnotatedArgumentValueExtractor;
-import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
-import com.github.vladislavsevruk.generator.util.GqlNamePicker;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Field;
@@ -75,51 +75,46 @@ public abstract class AbstractGqlVariablesGenerator {
         }
     }
 
-    private void collectDelegatedValuesByFields(Object value, Class<?> valueClass,
+    private void collectDelegatedValuesByFields(Object value, GqlModelDescriptor modelDescriptor,
             InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, Object> mutationValues,
             boolean withVariables) {
-        for (Field field : valueClass.getDeclaredFields()) {
-            if (field.isSynthetic() || !inputFieldMarkingStrategy.isMarkedField(field)) {
-                continue;
-            }
+        for (GqlFieldDescriptor fieldDescriptor : modelDescriptor.getMarkedFields(inputFieldMarkingStrategy)) {
+            Field field = fieldDescriptor.getField();
             log.debug("Marked '{}' input field.", field.getName());
-            if (field.getAnnotation(GqlDelegate.class) != null) {
+            if (fieldDescriptor.isDelegate()) {
                 log.debug("'{}' is delegate.", field.getName());
-                Object delegateObject = ArgumentValueUtil.getValue(field, value);
+                Object delegateObject = fieldDescriptor.getValueAccessor().getValue(value);
                 collectDelegatedValues(delegateObject, inputFieldsPickingStrategy, mutationValues, withVariables);
-            } else if (withVariables && field.getAnnotation(GqlVariableType.class) != null) {
+            } else if (withVariables && fieldDescriptor.isVariable()) {
                 log.debug("'{}' is variable.", field.getName());
-                String fieldName = GqlNamePicker.getFieldName(field);
-                GqlVariableType variableType = field.getAnnotation(GqlVariableType.class);
-                String variableName = annotatedArgumentValueExtractor.getVariableName(variableType, fieldName);
+                GqlVariableType variableType = fieldDescriptor.getVariableType();
+                String variableName = annotatedArgumentValueExtractor.getVariableName(variableType,
+                        fieldDescriptor.getName());
                 Object variableValue = getVariableValue(value, field, variableType);
                 collectValue(variableName, variableValue, inputFieldsPickingStrategy, mutationValues);
             }
         }
-        Class<?> superclass = valueClass.getSuperclass();
-        if (superclass != null && !Object.class.equals(superclass)) {
-            collectDelegatedValuesByFields(value, superclass, inputFieldsPickingStrategy, mutationValues,
+        GqlModelDescriptor superclassDescriptor = modelDescriptor.getSuperclassDescriptor();
+        if (superclassDescriptor != null) {
+            collectDelegatedValuesByFields(value, superclassDescriptor, inputFieldsPickingStrategy, mutationValues,
                     withVariables);
         }
     }
 
-    private void collectDelegatedValuesByMethods(Object value, Class<?> valueClass,
+    private void collectDelegatedValuesByMethods(Object value, GqlModelDescriptor modelDescriptor,
             InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, Object> mutationValues,
             boolean withVariables) {
-        for (Method method : valueClass.getMethods()) {
-            GqlInput inputAnnotation = method.getAnnotation(GqlInput.class);
-            GqlDelegate delegateAnnotation = method.getAnnotation(GqlDelegate.class);
-            if (inputAnnotation == null && delegateAnnotation == null) {
-                continue;
-            }
+        for (GqlMethodDescriptor methodDescriptor : modelDescriptor.getInputMethods()) {
+            Method method = methodDescriptor.getMethod();
             log.debug("Marked '{}' input method.", method.getName());
-            if (delegateAnnotation != null) {
+            if (methodDescriptor.isDelegate()) {
                 log.debug("'{}' is delegate.", method.getName());
-                Object delegateObject = ArgumentValueUtil.getValueByMethod(value, method);
+                Object delegateObject = methodDescriptor.getValueAccessor().getValue(value);
                 collectDelegatedValues(delegateObject, inputFieldsPickingStrategy, mutationValues, withVariables);
-            } else if (withVariables && method.getAnnotation(GqlVariableType.class) != null) {
+            } else if (withVariables && methodDescriptor.isVariable()) {
                 log.debug("'{}' is variable.", method.getName());
-                collectDelegatedValuesForMethodVariable(value, method, inputFieldsPickingStrategy, mutationValues);
+                collectDelegatedValuesForMethodVariable(value, methodDescriptor, inputFieldsPickingStrategy,
+                        mutationValues);
             }
         }
     }
@@ -127,7 +122,7 @@ public abstract class AbstractGqlVariablesGenerator {
     private Map<String, Object> collectDelegatedValuesForMap(Object delegate,
             InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, Object> operationVariables,
             boolean withVariables) {
-        for (Entry<?, ?> entry : ((Map<?, ?>) delegate).entrySet()) {
+        for (Entry<?, ?> entry : OutputOrderManager.getOrder().entries((Map<?, ?>) delegate)) {
             String entryKey = entry.getKey().toString();
             if (operationVariables.containsKey(entryKey)) {
                 log.debug("Input field '{}' is already collected.", entryKey);
@@ -139,13 +134,13 @@ public abstract class AbstractGqlVariablesGenerator {
         return operationVariables;
     }
 
-    private void collectDelegatedValuesForMethodVariable(Object value, Method method,
+    private void collectDelegatedValuesForMethodVariable(Object value, GqlMethodDescriptor methodDescriptor,
             InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, Object> mutationValues) {
-        String methodName = GqlNamePicker.getInputName(method);
-        GqlVariableType variableTypeAnnotation = method.getAnnotation(GqlVariableType.class);
-        String variableName = annotatedArgumentValueExtractor.getVariableName(variableTypeAnnotation, methodName);
+        GqlVariableType variableTypeAnnotation = methodDescriptor.getVariableType();
+        String variableName = annotatedArgumentValueExtractor.getVariableName(variableTypeAnnotation,
+                methodDescriptor.getName());
         if (!mutationValues.containsKey(variableName)) {
-            Object variableValue = getVariableValue(value, method, variableTypeAnnotation);
+            Object variableValue = getVariableValue(value, methodDescriptor.getMethod(), variableTypeAnnotation);
             collectValue(variableName, variableValue, inputFieldsPickingStrategy, mutationValues);
         }
     }
@@ -154,8 +149,11 @@ public abstract class AbstractGqlVariablesGenerator {
             InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, Object> mutationValues,
             boolean withVariables) {
         log.debug("Generating delegated variable values for {}", valueClass.getName());
-        collectDelegatedValuesByFields(value, valueClass, inputFieldsPickingStrategy, mutationValues, withVariables);
-        collectDelegatedValuesByMethods(value, valueClass, inputFieldsPickingStrategy, mutationValues, withVariables);
+        GqlModelDescriptor modelDescriptor = GqlModelDescriptor.of(valueClass);
+        collectDelegatedValuesByFields(value, modelDescriptor, inputFieldsPickingStrategy, mutationValues,
+                withVariables);
+        collectDelegatedValuesByMethods(value, modelDescriptor, inputFieldsPickingStrategy, mutationValues,
+                withVariables);
         return mutationValues;
     }
 
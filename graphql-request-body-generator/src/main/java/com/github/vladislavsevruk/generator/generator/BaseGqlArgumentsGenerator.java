@@ -23,38 +23,40 @@
  */
 package com.github.vladislavsevruk.generator.generator;
 
-import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
-import com.github.vladislavsevruk.generator.annotation.GqlInput;
 import com.github.vladislavsevruk.generator.annotation.GqlVariableType;
+import com.github.vladislavsevruk.generator.descriptor.GqlFieldDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlMethodDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlModelDescriptor;
 import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
 import com.github.vladislavsevruk.generator.param.GqlParameterValue;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.AllInputFieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.WithoutNullsInputFieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.variable.AnnotatedArgumentValueExtractor;
-import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
-import com.github.vladislavsevruk.generator.util.GqlNamePicker;
 import com.github.vladislavsevruk.generator.util.StreamUtil;
 import com.github.vladislavsevruk.generator.util.StringUtil;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Date;
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
- * GraphQL arguments generator with common logic for GraphQL operation.
+ * GraphQL arguments generator with common logic for GraphQL operation. Argument values are appended to a single sink
+ * to avoid copying of nested values for every nesting level.
  */
 @Log4j2
 public class BaseGqlArgumentsGenerator {
 
-    private static final String DELIMITER = ",";
+    private static final char DELIMITER = ',';
+    private static final String NULL_VALUE = "null";
 
     protected final AnnotatedArgumentValueExtractor annotatedArgumentValueExtractor
             = new AnnotatedArgumentValueExtractor();
@@ -65,190 +67,247 @@ public class BaseGqlArgumentsGenerator {
         this.inputFieldMarkingStrategy = inputFieldMarkingStrategy;
     }
 
-    protected String generateArgumentModelValue(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            boolean withVariables) {
+    protected boolean appendArgumentModelValue(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            boolean withVariables, StringBuilder sink) {
         if (Objects.isNull(value)) {
             log.debug("Value is null.");
-            return null;
+            return false;
         }
         Class<?> valueClass = value.getClass();
         if (CharSequence.class.isAssignableFrom(valueClass)) {
             log.debug("{} is char sequence.", valueClass.getName());
             // add escaped quotes for literals
-            return StringUtil.addQuotesForStringArgument(value.toString());
-        }
-        if (isSimpleType(valueClass)) {
+            StringUtil.appendQuotesForStringArgument(value.toString(), sink);
+        } else if (isSimpleType(valueClass)) {
             log.debug("{} is simple type.", valueClass.getName());
-            return String.valueOf(value);
-        }
-        if (Iterable.class.isAssignableFrom(valueClass) || valueClass.isArray()) {
+            sink.append(value);
+        } else if (Iterable.class.isAssignableFrom(valueClass) || valueClass.isArray()) {
             log.debug("{} is iterable or array.", valueClass.getName());
             // compose all elements through the comma and surround by square brackets
-            return "[" + String.join(",", convertToStringList(value, inputFieldsPickingStrategy, withVariables)) + "]";
+            appendIterableValue(value, inputFieldsPickingStrategy, withVariables, sink);
+        } else {
+            sink.append('{');
+            appendModelArguments(value, inputFieldsPickingStrategy, withVariables, sink);
+            sink.append('}');
         }
-        return "{" + generateModelArguments(value, inputFieldsPickingStrategy, withVariables) + "}";
+        return true;
+    }
+
+    protected void appendModelArguments(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            boolean withVariables, StringBuilder sink) {
+        CollectedValues collectedValues = new CollectedValues(inputFieldsPickingStrategy, withVariables, sink);
+        collectValuesMap(value, value.getClass(), collectedValues);
+    }
+
+    protected String generateArgumentModelValue(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            boolean withVariables) {
+        StringBuilder sink = new StringBuilder();
+        return appendArgumentModelValue(value, inputFieldsPickingStrategy, withVariables, sink) ? sink.toString()
+                : null;
     }
 
     protected String generateModelArguments(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
             boolean withVariables) {
-        Map<String, String> modelValues = collectValuesMap(value, value.getClass(),
-                inputFieldsPickingStrategy, new LinkedHashMap<>(), withVariables);
-        return modelValues.entrySet().stream().map(entry -> entry.getKey() + ":" + entry.getValue())
-                .collect(Collectors.joining(DELIMITER));
+        StringBuilder sink = new StringBuilder();
+        appendModelArguments(value, inputFieldsPickingStrategy, withVariables, sink);
+        return sink.toString();
     }
 
     protected boolean isDelegate(GqlParameterValue<?> argument) {
         return GqlDelegateArgument.class.equals(argument.getClass());
     }
 
-    private void collectValue(String fieldName, String fieldValue,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, String> mutationValues) {
-        log.debug("Received '{}' value for '{}' input field.", fieldValue, fieldName);
-        if (inputFieldsPickingStrategy.shouldBePicked(fieldName, fieldValue)) {
-            log.debug("Picked '{}' input field.", fieldName);
-            mutationValues.put(fieldName, fieldValue);
+    private void appendIterableValue(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            boolean withVariables, StringBuilder sink) {
+        sink.append('[');
+        Iterator<?> iterator = StreamUtil.createStream(value).iterator();
+        while (iterator.hasNext()) {
+            if (!appendArgumentModelValue(iterator.next(), inputFieldsPickingStrategy, withVariables, sink)) {
+                sink.append(NULL_VALUE);
+            }
+            if (iterator.hasNext()) {
+                sink.append(DELIMITER);
+            }
         }
+        sink.append(']');
     }
 
-    private void collectValuesByFields(Object value, Class<?> valueClass,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, LinkedHashMap<String, String> mutationValues,
-            boolean withVariables) {
-        for (Field field : valueClass.getDeclaredFields()) {
-            if (field.isSynthetic() || !inputFieldMarkingStrategy.isMarkedField(field)) {
-                continue;
-            }
-            log.debug("Marked '{}' input field.", field.getName());
-            if (field.getAnnotation(GqlDelegate.class) != null) {
-                log.debug("'{}' is delegate.", field.getName());
-                Object delegateObject = ArgumentValueUtil.getValue(field, value);
-                collectValuesForDelegate(delegateObject, inputFieldsPickingStrategy, mutationValues, withVariables);
-            } else if (withVariables && field.getAnnotation(GqlVariableType.class) != null) {
-                log.debug("'{}' is variable.", field.getName());
-                String fieldName = GqlNamePicker.getFieldName(field);
-                GqlVariableType variableType = field.getAnnotation(GqlVariableType.class);
-                String variableValue = "$" + annotatedArgumentValueExtractor.getVariableName(variableType, fieldName);
-                collectValue(fieldName, variableValue, inputFieldsPickingStrategy, mutationValues);
+    private void collectGeneratedValue(String fieldName, Object value, CollectedValues collectedValues) {
+        StringBuilder sink = collectedValues.sink;
+        int entryStart = collectedValues.appendEntryStart(fieldName);
+        int valueStart = sink.length();
+        boolean isPresent = appendArgumentModelValue(value, collectedValues.inputFieldsPickingStrategy,
+                collectedValues.withVariables, sink);
+        if (!isPresent) {
+            sink.append(NULL_VALUE);
+        }
+        Object generatedValue = isPresent ? getGeneratedValue(collectedValues, value, valueStart) : null;
+        collectedValues.completeEntry(fieldName, generatedValue, entryStart);
+    }
+
+    private void collectValue(String fieldName, String fieldValue, CollectedValues collectedValues) {
+        int entryStart = collectedValues.appendEntryStart(fieldName);
+        collectedValues.sink.append(fieldValue);
+        collectedValues.completeEntry(fieldName, fieldValue, entryStart);
+    }
+
+    private void collectValuesByFields(Object value, GqlModelDescriptor modelDescriptor,
+            CollectedValues collectedValues) {
+        for (GqlFieldDescriptor fieldDescriptor : modelDescriptor.getMarkedFields(inputFieldMarkingStrategy)) {
+            String fieldName = fieldDescriptor.getField().getName();
+            log.debug("Marked '{}' input field.", fieldName);
+            if (fieldDescriptor.isDelegate()) {
+                log.debug("'{}' is delegate.", fieldName);
+                Object delegateObject = fieldDescriptor.getValueAccessor().getValue(value);
+                collectValuesForDelegate(delegateObject, collectedValues);
+            } else if (collectedValues.withVariables && fieldDescriptor.isVariable()) {
+                log.debug("'{}' is variable.", fieldName);
+                collectValuesForVariable(fieldDescriptor.getName(), fieldDescriptor.getVariableType(),
+                        collectedValues);
             } else {
-                log.debug("'{}' is input field.", field.getName());
-                collectValuesForField(value, field, inputFieldsPickingStrategy, mutationValues, withVariables);
+                log.debug("'{}' is input field.", fieldName);
+                collectValuesForField(value, fieldDescriptor, collectedValues);
             }
         }
-        Class<?> superclass = valueClass.getSuperclass();
-        if (superclass != null && !Object.class.equals(superclass)) {
-            collectValuesByFields(value, superclass, inputFieldsPickingStrategy, mutationValues, withVariables);
+        GqlModelDescriptor superclassDescriptor = modelDescriptor.getSuperclassDescriptor();
+        if (superclassDescriptor != null) {
+            collectValuesByFields(value, superclassDescriptor, collectedValues);
         }
     }
 
-    private void collectValuesByMethods(Object value, Class<?> valueClass,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, LinkedHashMap<String, String> mutationValues,
-            boolean withVariables) {
-        for (Method method : valueClass.getMethods()) {
-            GqlInput inputAnnotation = method.getAnnotation(GqlInput.class);
-            GqlDelegate delegateAnnotation = method.getAnnotation(GqlDelegate.class);
-            if (inputAnnotation == null && delegateAnnotation == null) {
-                continue;
-            }
-            log.debug("Marked '{}' input method.", method.getName());
-            if (delegateAnnotation != null) {
-                log.debug("'{}' is delegate.", method.getName());
-                Object delegateObject = ArgumentValueUtil.getValueByMethod(value, method);
-                collectValuesForDelegate(delegateObject, inputFieldsPickingStrategy, mutationValues, withVariables);
-            } else if (withVariables && method.getAnnotation(GqlVariableType.class) != null) {
-                log.debug("'{}' is variable.", method.getName());
-                collectValuesForMethodVariable(method, inputFieldsPickingStrategy, mutationValues);
+    private void collectValuesByMethods(Object value, GqlModelDescriptor modelDescriptor,
+            CollectedValues collectedValues) {
+        for (GqlMethodDescriptor methodDescriptor : modelDescriptor.getInputMethods()) {
+            String methodName = methodDescriptor.getMethod().getName();
+            log.debug("Marked '{}' input method.", methodName);
+            if (methodDescriptor.isDelegate()) {
+                log.debug("'{}' is delegate.", methodName);
+                Object delegateObject = methodDescriptor.getValueAccessor().getValue(value);
+                collectValuesForDelegate(delegateObject, collectedValues);
+            } else if (collectedValues.withVariables && methodDescriptor.isVariable()) {
+                log.debug("'{}' is variable.", methodName);
+                collectValuesForVariable(methodDescriptor.getName(), methodDescriptor.getVariableType(),
+                        collectedValues);
             } else {
-                log.debug("'{}' is input method.", method.getName());
-                collectValuesForMethod(value, method, inputFieldsPickingStrategy, mutationValues, withVariables);
+                log.debug("'{}' is input method.", methodName);
+                collectValuesForMethod(value, methodDescriptor, collectedValues);
             }
         }
     }
 
-    private void collectValuesForDelegate(Object delegateObject, InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            LinkedHashMap<String, String> mutationValues, boolean withVariables) {
+    private void collectValuesForDelegate(Object delegateObject, CollectedValues collectedValues) {
         if (delegateObject != null) {
-            collectValuesMap(delegateObject, delegateObject.getClass(), inputFieldsPickingStrategy, mutationValues,
-                    withVariables);
+            collectValuesMap(delegateObject, delegateObject.getClass(), collectedValues);
         }
     }
 
-    private void collectValuesForField(Object value, Field field, InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            LinkedHashMap<String, String> mutationValues, boolean withVariables) {
-        String fieldName = GqlNamePicker.getFieldName(field);
-        if (mutationValues.containsKey(fieldName)) {
+    private void collectValuesForField(Object value, GqlFieldDescriptor fieldDescriptor,
+            CollectedValues collectedValues) {
+        String fieldName = fieldDescriptor.getName();
+        if (collectedValues.isCollected(fieldName)) {
             log.debug("Input field '{}' is already collected.", fieldName);
         } else {
-            String argumentValue = generateArgumentModelValue(ArgumentValueUtil.getValue(field, value),
-                    inputFieldsPickingStrategy, withVariables);
-            collectValue(fieldName, argumentValue, inputFieldsPickingStrategy, mutationValues);
+            collectGeneratedValue(fieldName, fieldDescriptor.getValueAccessor().getValue(value), collectedValues);
         }
     }
 
-    private Map<String, String> collectValuesForMap(Object value,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, Map<String, String> mutationValues,
-            boolean withVariables) {
-        for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+    private void collectValuesForMap(Object value, CollectedValues collectedValues) {
+        for (Entry<?, ?> entry : OutputOrderManager.getOrder().entries((Map<?, ?>) value)) {
             String entryKey = entry.getKey().toString();
-            if (mutationValues.containsKey(entryKey)) {
+            if (collectedValues.isCollected(entryKey)) {
                 log.debug("Input field '{}' is already collected.", entryKey);
             } else {
-                String entryValue = generateArgumentModelValue(entry.getValue(), inputFieldsPickingStrategy,
-                        withVariables);
-                collectValue(entryKey, entryValue, inputFieldsPickingStrategy, mutationValues);
+                collectGeneratedValue(entryKey, entry.getValue(), collectedValues);
             }
         }
-        return mutationValues;
     }
 
-    private void collectValuesForMethod(Object value, Method method,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, LinkedHashMap<String, String> mutationValues,
-            boolean withVariables) {
-        String methodName = GqlNamePicker.getInputName(method);
-        if (!mutationValues.containsKey(methodName)) {
-            String argumentValue = generateArgumentModelValue(ArgumentValueUtil.getValueByMethod(value, method),
-                    inputFieldsPickingStrategy, withVariables);
-            collectValue(methodName, argumentValue, inputFieldsPickingStrategy, mutationValues);
+    private void collectValuesForMethod(Object value, GqlMethodDescriptor methodDescriptor,
+            CollectedValues collectedValues) {
+        String methodName = methodDescriptor.getName();
+        if (!collectedValues.isCollected(methodName)) {
+            collectGeneratedValue(methodName, methodDescriptor.getValueAccessor().getValue(value), collectedValues);
         }
     }
 
-    private void collectValuesForMethodVariable(Method method, InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            LinkedHashMap<String, String> mutationValues) {
-        String methodName = GqlNamePicker.getInputName(method);
-        GqlVariableType variableTypeAnnotation = method.getAnnotation(GqlVariableType.class);
-        String variableValue = "$" + annotatedArgumentValueExtractor.getVariableName(variableTypeAnnotation,
-                methodName);
-        if (!mutationValues.containsKey(methodName)) {
-            collectValue(methodName, variableValue, inputFieldsPickingStrategy, mutationValues);
+    private void collectValuesForVariable(String name, GqlVariableType variableTypeAnnotation,
+            CollectedValues collectedValues) {
+        if (!collectedValues.isCollected(name)) {
+            String variableValue = "$" + annotatedArgumentValueExtractor.getVariableName(variableTypeAnnotation,
+                    name);
+            collectValue(name, variableValue, collectedValues);
         }
     }
 
-    private LinkedHashMap<String, String> collectValuesForModel(Object value, Class<?> valueClass,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, LinkedHashMap<String, String> mutationValues,
-            boolean withVariables) {
+    private void collectValuesForModel(Object value, Class<?> valueClass, CollectedValues collectedValues) {
         log.debug("Generating mutation value for {}", valueClass.getName());
-        collectValuesByFields(value, valueClass, inputFieldsPickingStrategy, mutationValues, withVariables);
-        collectValuesByMethods(value, valueClass, inputFieldsPickingStrategy, mutationValues, withVariables);
-        return mutationValues;
+        GqlModelDescriptor modelDescriptor = GqlModelDescriptor.of(valueClass);
+        collectValuesByFields(value, modelDescriptor, collectedValues);
+        collectValuesByMethods(value, modelDescriptor, collectedValues);
     }
 
-    private Map<String, String> collectValuesMap(Object value, Class<?> valueClass,
-            InputFieldsPickingStrategy inputFieldsPickingStrategy, LinkedHashMap<String, String> mutationValues,
-            boolean withVariables) {
+    private void collectValuesMap(Object value, Class<?> valueClass, CollectedValues collectedValues) {
         if (Map.class.isAssignableFrom(valueClass)) {
             log.debug("{} is map.", valueClass.getName());
-            return collectValuesForMap(value, inputFieldsPickingStrategy, mutationValues, withVariables);
+            collectValuesForMap(value, collectedValues);
+        } else {
+            collectValuesForModel(value, valueClass, collectedValues);
         }
-        return collectValuesForModel(value, valueClass, inputFieldsPickingStrategy, mutationValues, withVariables);
     }
 
-    private List<String> convertToStringList(Object value, InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            boolean withVariables) {
-        return StreamUtil.createStream(value).map(item -> generateArgumentModelValue(item, inputFieldsPickingStrategy,
-                        withVariables))
-                .collect(Collectors.toList());
+    private Object getGeneratedValue(CollectedValues collectedValues, Object value, int valueStart) {
+        Class<?> strategyClass = collectedValues.inputFieldsPickingStrategy.getClass();
+        if (AllInputFieldsPickingStrategy.class.equals(strategyClass)
+                || WithoutNullsInputFieldsPickingStrategy.class.equals(strategyClass)) {
+            // predefined strategies check only value presence so there is no need to copy generated value
+            return value;
+        }
+        return collectedValues.sink.substring(valueStart);
     }
 
     private boolean isSimpleType(Class<?> valueClass) {
         return valueClass.isPrimitive() || PrimitiveWrapperUtil.isWrapper(valueClass) || valueClass.isEnum()
                 || Number.class.isAssignableFrom(valueClass) || Date.class.isAssignableFrom(valueClass);
     }
+
+    /**
+     * Keeps state of input object values appending: names of already collected fields and sink to append values to.
+     */
+    private static final class CollectedValues {
+
+        private final Set<String> collectedNames = new HashSet<>();
+        private final InputFieldsPickingStrategy inputFieldsPickingStrategy;
+        private final StringBuilder sink;
+        private final boolean withVariables;
+
+        private CollectedValues(InputFieldsPickingStrategy inputFieldsPickingStrategy, boolean withVariables,
+                StringBuilder sink) {
+            this.inputFieldsPickingStrategy = inputFieldsPickingStrategy;
+            this.withVariables = withVariables;
+            this.sink = sink;
+        }
+
+        private int appendEntryStart(String fieldName) {
+            int entryStart = sink.length();
+            if (!collectedNames.isEmpty()) {
+                sink.append(DELIMITER);
+            }
+            sink.append(fieldName).append(':');
+            return entryStart;
+        }
+
+        private void completeEntry(String fieldName, Object fieldValue, int entryStart) {
+            log.debug("Received value for '{}' input field.", fieldName);
+            if (inputFieldsPickingStrategy.shouldBePicked(fieldName, fieldValue)) {
+                log.debug("Picked '{}' input field.", fieldName);
+                collectedNames.add(fieldName);
+            } else {
+                sink.setLength(entryStart);
+            }
+        }
+
+        private boolean isCollected(String fieldName) {
+            return collectedNames.contains(fieldName);
+        }
+    }
 }
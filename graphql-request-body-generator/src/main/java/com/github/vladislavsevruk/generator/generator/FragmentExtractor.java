@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts repeated identical sub-selections of the same GraphQL type to named fragments. Sub-selection is extracted
+ * only if fragment definition with all spreads is shorter than inline sub-selections. Nested sub-selections of
+ * extracted ones are extracted to their own fragments as well if they are repeated outside of parent fragment. Only
+ * sub-selections with known GraphQL type name are extracted as type name is used as fragment type condition.
+ */
+final class FragmentExtractor {
+
+    private static final char DELIMITER = ' ';
+    private static final String FRAGMENT_KEYWORD = "fragment ";
+    private static final String FRAGMENT_NAME_POSTFIX = "Fields";
+    private static final String FRAGMENT_SPREAD = "...";
+    private static final String TYPE_CONDITION_KEYWORD = " on ";
+    // length of definition without name and selection set, e.g. 'fragment ' and ' on ' of 'fragment A on B{...}'
+    private static final int DEFINITION_KEYWORDS_LENGTH = FRAGMENT_KEYWORD.length() + TYPE_CONDITION_KEYWORD.length();
+    // length of spread without name, e.g. '{', '...' and '}' of '{...A}'
+    private static final int SPREAD_KEYWORDS_LENGTH = FRAGMENT_SPREAD.length() + 2;
+    private final Map<FragmentKey, Integer> counts = new HashMap<>();
+    private final Map<FragmentKey, String> fragmentNames = new HashMap<>();
+    private final Map<String, String> fragments = new LinkedHashMap<>();
+
+    private FragmentExtractor() {
+    }
+
+    /**
+     * Renders received selection set nodes with repeated sub-selections extracted to named fragments.
+     *
+     * @param nodes <code>Collection</code> of <code>SelectionSetNode</code> of root selection set.
+     * @return <code>FragmentedSelectionSet</code> with rendered selection set and fragment definitions.
+     */
+    static FragmentedSelectionSet extract(Collection<SelectionSetNode> nodes) {
+        FragmentExtractor extractor = new FragmentExtractor();
+        extractor.count(nodes);
+        StringBuilder sink = new StringBuilder();
+        extractor.appendSelectionSet(nodes, sink);
+        return new FragmentedSelectionSet(sink.toString(), extractor.fragments);
+    }
+
+    private void appendNode(SelectionSetNode node, StringBuilder sink) {
+        sink.append(node.getName());
+        if (node.getChildren().isEmpty()) {
+            return;
+        }
+        String fragmentName = getFragmentName(node);
+        if (fragmentName != null) {
+            sink.append('{').append(FRAGMENT_SPREAD).append(fragmentName).append('}');
+        } else {
+            appendSelectionSet(node.getChildren(), sink);
+        }
+    }
+
+    private void appendSelectionSet(Collection<SelectionSetNode> nodes, StringBuilder sink) {
+        sink.append('{');
+        boolean isFirst = true;
+        for (SelectionSetNode node : nodes) {
+            if (!isFirst) {
+                sink.append(DELIMITER);
+            }
+            appendNode(node, sink);
+            isFirst = false;
+        }
+        sink.append('}');
+    }
+
+    private void count(Collection<SelectionSetNode> nodes) {
+        for (SelectionSetNode node : nodes) {
+            if (node.getChildren().isEmpty()) {
+                continue;
+            }
+            // nested selections of repeated sub-selection were already counted on its first occurrence
+            if (node.getTypeName() == null || counts.merge(new FragmentKey(node), 1, Integer::sum) == 1) {
+                count(node.getChildren());
+            }
+        }
+    }
+
+    private String getFragmentName(SelectionSetNode node) {
+        if (node.getTypeName() == null) {
+            return null;
+        }
+        FragmentKey fragmentKey = new FragmentKey(node);
+        if (fragmentNames.containsKey(fragmentKey)) {
+            return fragmentNames.get(fragmentKey);
+        }
+        String fragmentName = pickFragmentName(node.getTypeName());
+        if (!isShorterWithFragment(node, fragmentName, counts.getOrDefault(fragmentKey, 0))) {
+            fragmentNames.put(fragmentKey, null);
+            return null;
+        }
+        fragmentNames.put(fragmentKey, fragmentName);
+        // name is reserved before nested selections are rendered to keep definitions in order of first usage
+        fragments.put(fragmentName, null);
+        StringBuilder definition = new StringBuilder(FRAGMENT_KEYWORD).append(fragmentName)
+                .append(TYPE_CONDITION_KEYWORD).append(node.getTypeName());
+        appendSelectionSet(node.getChildren(), definition);
+        fragments.put(fragmentName, definition.toString());
+        return fragmentName;
+    }
+
+    private boolean isShorterWithFragment(SelectionSetNode node, String fragmentName, int count) {
+        if (count < 2) {
+            return false;
+        }
+        int inlineLength = node.toString().length() - node.getName().length();
+        int spreadLength = SPREAD_KEYWORDS_LENGTH + fragmentName.length();
+        int definitionLength = DEFINITION_KEYWORDS_LENGTH + fragmentName.length() + node.getTypeName().length()
+                + inlineLength;
+        return (long) count * spreadLength + definitionLength < (long) count * inlineLength;
+    }
+
+    private String pickFragmentName(String typeName) {
+        String fragmentName = typeName + FRAGMENT_NAME_POSTFIX;
+        int index = 2;
+        while (fragments.containsKey(fragmentName)) {
+            fragmentName = typeName + FRAGMENT_NAME_POSTFIX + index++;
+        }
+        return fragmentName;
+    }
+
+    /**
+     * Identifies sub-selection by its GraphQL type and nested selections.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class FragmentKey {
+
+        private final String typeName;
+        private final List<SelectionSetNode> children;
+
+        private FragmentKey(SelectionSetNode node) {
+            this(node.getTypeName(), node.getChildren());
+        }
+    }
+}
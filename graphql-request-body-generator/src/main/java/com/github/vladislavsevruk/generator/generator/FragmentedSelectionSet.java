@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable selection set where repeated sub-selections are replaced with spreads of named fragments. Fragment
+ * definitions should be appended to the end of GraphQL document that contains this selection set.
+ *
+ * @see com.github.vladislavsevruk.generator.strategy.fragment.FragmentOutput
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class FragmentedSelectionSet {
+
+    Map<String, String> fragments;
+    String selectionSet;
+
+    FragmentedSelectionSet(String selectionSet, Map<String, String> fragments) {
+        this.selectionSet = selectionSet;
+        this.fragments = Collections.unmodifiableMap(new LinkedHashMap<>(fragments));
+    }
+
+    /**
+     * Appends received fragment definitions to received sink. Every definition is preceded by space, so they can be
+     * appended right after operation.
+     *
+     * @param fragments <code>Map</code> with fragment names and definitions.
+     * @param sink      <code>StringBuilder</code> to append fragment definitions to.
+     */
+    public static void appendFragments(Map<String, String> fragments, StringBuilder sink) {
+        for (String fragment : fragments.values()) {
+            sink.append(' ').append(fragment);
+        }
+    }
+
+    /**
+     * Checks if fragments of this selection set can be added to received fragments of GraphQL document, i.e. there
+     * are no other fragments with the same names.
+     *
+     * @param documentFragments <code>Map</code> with names and definitions of fragments already used at document.
+     * @return <code>true</code> if fragments don't clash with received ones, <code>false</code> otherwise.
+     */
+    public boolean isCompatibleWith(Map<String, String> documentFragments) {
+        for (Map.Entry<String, String> fragment : fragments.entrySet()) {
+            String documentFragment = documentFragments.get(fragment.getKey());
+            if (documentFragment != null && !documentFragment.equals(fragment.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.util.StringUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Generates batched request body with JSON array of several GraphQL operations. Operations are written to sink one by
+ * one. Escaped text of identical operations is reused and operation of request body generator that is added to batch
+ * several times is rendered only once.
+ */
+@Log4j2
+public class GqlBatchRequestBodyGenerator extends GqlBodyGenerator {
+
+    private final List<BatchEntry> entries = new ArrayList<>();
+
+    /**
+     * Adds operation generated by received request body generator to batch. Generator is used during batch generation
+     * so it shouldn't be modified after adding.
+     *
+     * @param generator <code>GqlOperationRequestBodyGenerator</code> with GraphQL operation to add.
+     * @return this.
+     */
+    public GqlBatchRequestBodyGenerator operation(GqlOperationRequestBodyGenerator<?> generator) {
+        Objects.requireNonNull(generator);
+        entries.add((sink, escapedOperations) -> appendOperation(generator, sink, escapedOperations));
+        return this;
+    }
+
+    /**
+     * Adds prepared operation with received variables to batch.
+     *
+     * @param preparedOperation <code>PreparedGqlOperation</code> to add.
+     * @param variables         <code>Map</code> with variable names and values.
+     * @return this.
+     */
+    public GqlBatchRequestBodyGenerator operation(PreparedGqlOperation preparedOperation, Map<String, ?> variables) {
+        Objects.requireNonNull(preparedOperation);
+        Objects.requireNonNull(variables);
+        entries.add((sink, escapedOperations) -> preparedOperation.write(variables, sink));
+        return this;
+    }
+
+    /**
+     * Adds operations generated by received request body generators to batch.
+     *
+     * @param generators <code>Iterable</code> of <code>GqlOperationRequestBodyGenerator</code> with GraphQL
+     *                   operations to add.
+     * @return this.
+     */
+    public GqlBatchRequestBodyGenerator operations(Iterable<? extends GqlOperationRequestBodyGenerator<?>> generators) {
+        generators.forEach(this::operation);
+        return this;
+    }
+
+    /**
+     * Adds prepared operation to batch once for every received variables set.
+     *
+     * @param preparedOperation <code>PreparedGqlOperation</code> to add.
+     * @param variableSets      <code>Iterable</code> of <code>Map</code> with variable names and values.
+     * @return this.
+     */
+    public GqlBatchRequestBodyGenerator operations(PreparedGqlOperation preparedOperation,
+            Iterable<? extends Map<String, ?>> variableSets) {
+        for (Map<String, ?> variables : variableSets) {
+            operation(preparedOperation, variables);
+        }
+        return this;
+    }
+
+    /**
+     * Returns generated batched request body.
+     */
+    public String generate() {
+        StringBuilder sink = new StringBuilder();
+        try {
+            writeBody(sink);
+        } catch (IOException ioEx) {
+            // isn't thrown by StringBuilder
+            throw new UncheckedIOException(ioEx);
+        }
+        return sink.toString();
+    }
+
+    /**
+     * Appends generated batched request body to received sink. Operations are written to sink one by one, so whole
+     * batched request body isn't assembled in memory.
+     *
+     * @param sink <code>Appendable</code> to append generated batched request body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     */
+    public void generate(Appendable sink) throws IOException {
+        Objects.requireNonNull(sink);
+        writeBody(sink);
+    }
+
+    /**
+     * Writes generated batched request body to received writer. Writer isn't flushed or closed by this method.
+     *
+     * @param writer <code>Writer</code> to write generated batched request body to.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        generate(writer);
+    }
+
+    private void appendOperation(GqlOperationRequestBodyGenerator<?> generator, Appendable sink,
+            EscapedOperations escapedOperations) throws IOException {
+        String escapedOperation = escapedOperations.get(generator);
+        String variables = new GqlVariablesGenerator(FieldMarkingStrategySourceManager.input().getStrategy())
+                .generate(generator.getVariablesFieldsPickingStrategy(), generator.getVariablePickingStrategy(),
+                        generator.getArguments());
+        appendRequestBody(variables, escapedOperation, sink);
+    }
+
+    private void writeBody(Appendable sink) throws IOException {
+        log.info("Generating batch of {} GraphQL operations.", entries.size());
+        EscapedOperations escapedOperations = new EscapedOperations();
+        sink.append('[');
+        Iterator<BatchEntry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().appendTo(sink, escapedOperations);
+            if (iterator.hasNext()) {
+                sink.append(',');
+            }
+        }
+        sink.append(']');
+    }
+
+    @FunctionalInterface
+    private interface BatchEntry {
+
+        void appendTo(Appendable sink, EscapedOperations escapedOperations) throws IOException;
+    }
+
+    /**
+     * Holds escaped operations of single batch generation. Operation text is used as key to reuse escaped text of
+     * identical operations, while generators are matched by identity to render operation of the same generator once.
+     */
+    private static final class EscapedOperations {
+
+        private final Map<GqlOperationRequestBodyGenerator<?>, String> generatorOperations = new IdentityHashMap<>();
+        private final Map<String, String> textOperations = new HashMap<>();
+
+        private String get(GqlOperationRequestBodyGenerator<?> generator) {
+            return generatorOperations.computeIfAbsent(generator, this::renderEscapedOperation);
+        }
+
+        private String renderEscapedOperation(GqlOperationRequestBodyGenerator<?> generator) {
+            StringBuilder operationSink = new StringBuilder();
+            generator.writeOperation(operationSink);
+            return textOperations.computeIfAbsent(operationSink.toString(), StringUtil::escapeQuotes);
+        }
+    }
+}
@@ -26,16 +26,110 @@ package com.github.vladislavsevruk.generator.generator;
 import com.github.vladislavsevruk.generator.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 
+import java.io.IOException;
+
 /**
  * Class body generator with common logic for GraphQL operation.
  */
 @Log4j2
 public class GqlBodyGenerator {
 
+    /**
+     * Appends automatic persisted query request body with received variables and operation hash to received sink.
+     * Operation body is added only if it's present, which is needed when server doesn't know operation hash yet.
+     *
+     * @param variables            <code>String</code> with GraphQL operation variables.
+     * @param sha256Hash           <code>String</code> with SHA-256 hash of GraphQL operation.
+     * @param escapedOperationBody <code>String</code> with escaped GraphQL operation body or <code>null</code> if
+     *                             only hash should be sent.
+     * @param sink                 <code>StringBuilder</code> to append request body to.
+     */
+    protected void appendPersistedRequestBody(String variables, String sha256Hash, String escapedOperationBody,
+            StringBuilder sink) {
+        sink.append("{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"").append(sha256Hash)
+                .append("\"}}");
+        if (!variables.isEmpty()) {
+            sink.append(",\"variables\":").append(variables);
+        }
+        if (escapedOperationBody != null) {
+            sink.append(",\"query\":\"").append(escapedOperationBody).append('"');
+        }
+        sink.append('}');
+    }
+
+    /**
+     * Appends request body with received variables and already escaped operation body to received sink.
+     *
+     * @param variables            <code>String</code> with GraphQL operation variables.
+     * @param escapedOperationBody <code>String</code> with escaped GraphQL operation body.
+     * @param sink                 <code>Appendable</code> to append request body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     */
+    protected void appendRequestBody(String variables, String escapedOperationBody, Appendable sink)
+            throws IOException {
+        writeRequestBodyStart(variables, sink);
+        sink.append(escapedOperationBody).append("\"}");
+    }
+
+    /**
+     * Escapes operation body appended to received sink in place and appends closing part of request body, so operation
+     * body is copied to request body only once.
+     *
+     * @param operationStart <code>int</code> with position of sink where operation body starts.
+     * @param sink           <code>StringBuilder</code> to append request body to.
+     */
+    protected void appendRequestBodyEnd(int operationStart, StringBuilder sink) {
+        StringUtil.escapeQuotes(sink, operationStart);
+        sink.append("\"}");
+    }
+
+    /**
+     * Appends opening part of request body with received variables to received sink. Operation body should be
+     * appended to sink right after this method call and finished by {@link #appendRequestBodyEnd(int, StringBuilder)}.
+     *
+     * @param variables <code>String</code> with GraphQL operation variables.
+     * @param sink      <code>StringBuilder</code> to append request body to.
+     * @return <code>int</code> with position of sink where operation body starts.
+     */
+    protected int appendRequestBodyStart(String variables, StringBuilder sink) {
+        sink.append('{');
+        if (!variables.isEmpty()) {
+            sink.append("\"variables\":").append(variables).append(',');
+        }
+        sink.append("\"query\":\"");
+        return sink.length();
+    }
+
+    /**
+     * Writes request body with received variables and not escaped operation body to received sink. Request body is
+     * written to sink part by part and operation body is escaped while it's written, so whole request body isn't
+     * assembled in memory.
+     *
+     * @param variables     <code>String</code> with GraphQL operation variables.
+     * @param operationBody <code>CharSequence</code> with not escaped GraphQL operation body.
+     * @param sink          <code>Appendable</code> to write request body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     */
+    protected void writeRequestBody(String variables, CharSequence operationBody, Appendable sink)
+            throws IOException {
+        writeRequestBodyStart(variables, sink);
+        StringUtil.escapeQuotes(operationBody, sink);
+        sink.append("\"}");
+    }
+
     protected String wrapForRequestBody(String operationBody, String variables) {
-        if (variables.isEmpty()) {
-            return "{\"query\":\"" + StringUtil.escapeQuotes(operationBody) + "\"}";
+        StringBuilder sink = new StringBuilder(operationBody.length() + variables.length() + 32);
+        int operationStart = appendRequestBodyStart(variables, sink);
+        sink.append(operationBody);
+        appendRequestBodyEnd(operationStart, sink);
+        return sink.toString();
+    }
+
+    private void writeRequestBodyStart(String variables, Appendable sink) throws IOException {
+        sink.append('{');
+        if (!variables.isEmpty()) {
+            sink.append("\"variables\":").append(variables).append(',');
         }
-        return "{\"variables\":" + variables + ",\"query\":\"" + StringUtil.escapeQuotes(operationBody) + "\"}";
+        sink.append("\"query\":\"");
     }
 }
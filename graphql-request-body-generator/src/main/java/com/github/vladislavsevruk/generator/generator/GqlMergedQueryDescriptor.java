@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Describes GraphQL queries merged into single operation and maps aliases of root fields back to original query
+ * generators and selection set models, so response data of every root field can be processed separately.
+ *
+ * @see GqlMergedQueryRequestBodyGenerator
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class GqlMergedQueryDescriptor {
+
+    Map<String, GqlQueryRequestBodyGenerator> generators;
+
+    GqlMergedQueryDescriptor(Map<String, GqlQueryRequestBodyGenerator> generators) {
+        this.generators = Collections.unmodifiableMap(new LinkedHashMap<>(generators));
+    }
+
+    /**
+     * Returns aliases of merged root fields at the same order as they are present at operation.
+     */
+    public Set<String> getAliases() {
+        return generators.keySet();
+    }
+
+    /**
+     * Returns original query generator of root field with received alias.
+     *
+     * @param alias <code>String</code> with alias of root field.
+     * @return <code>GqlQueryRequestBodyGenerator</code> of root field or <code>null</code> if there is no root field
+     * with such alias.
+     */
+    public GqlQueryRequestBodyGenerator getGenerator(String alias) {
+        return generators.get(alias);
+    }
+
+    /**
+     * Returns selection set model type of root field with received alias.
+     *
+     * @param alias <code>String</code> with alias of root field.
+     * @return <code>TypeMeta</code> of selection set model or <code>null</code> if there is no root field with such
+     * alias.
+     */
+    public TypeMeta<?> getSelectionSetTypeMeta(String alias) {
+        GqlQueryRequestBodyGenerator generator = generators.get(alias);
+        return generator == null ? null : generator.getSelectionSetTypeMeta();
+    }
+}
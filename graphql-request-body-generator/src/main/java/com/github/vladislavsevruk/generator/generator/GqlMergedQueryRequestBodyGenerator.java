@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryArgumentsGenerator;
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.util.StringUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Merges several GraphQL queries into single operation with aliased root fields, so all of them can be sent within
+ * single request. Variables of all queries are hoisted to common operation header, variables with the same name are
+ * declared once.
+ *
+ * @see GqlMergedQueryDescriptor
+ */
+@Log4j2
+public class GqlMergedQueryRequestBodyGenerator extends GqlBodyGenerator {
+
+    private static final String GENERATED_ALIAS_PREFIX = "q";
+
+    private String operationAlias;
+    private final List<AliasedQuery> queries = new ArrayList<>();
+
+    /**
+     * Returns descriptor that maps aliases of root fields to original query generators.
+     */
+    public GqlMergedQueryDescriptor getDescriptor() {
+        return new GqlMergedQueryDescriptor(resolveAliases());
+    }
+
+    /**
+     * Returns generated request body with all queries merged into single operation.
+     */
+    public String generate() {
+        Map<String, GqlQueryRequestBodyGenerator> aliasedQueries = resolveAliases();
+        log.info("Generating {} merged GraphQL queries.", aliasedQueries.size());
+        FieldMarkingStrategy inputFieldMarkingStrategy = FieldMarkingStrategySourceManager.input().getStrategy();
+        GqlVariableArgumentsGenerator operationArgumentsGenerator = new GqlVariableArgumentsGenerator(
+                inputFieldMarkingStrategy);
+        GqlVariablesGenerator variablesGenerator = new GqlVariablesGenerator(inputFieldMarkingStrategy);
+        Map<String, String> operationArguments = new LinkedHashMap<>();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (GqlQueryRequestBodyGenerator generator : aliasedQueries.values()) {
+            InputFieldsPickingStrategy inputFieldsPickingStrategy = generator.getVariablesFieldsPickingStrategy();
+            merge(operationArguments, operationArgumentsGenerator.generateMap(inputFieldsPickingStrategy,
+                    generator.getVariablePickingStrategy(), generator.getArguments()));
+            merge(variables, variablesGenerator.generateMap(inputFieldsPickingStrategy,
+                    generator.getVariablePickingStrategy(), generator.getArguments()));
+        }
+        StringBuilder sink = new StringBuilder();
+        int queryStart = appendRequestBodyStart(variablesGenerator.generate(variables), sink);
+        appendOperationHeader(operationArguments, sink);
+        appendRootFields(aliasedQueries, sink);
+        if (log.isDebugEnabled()) {
+            log.debug("Resulted merged query: {}", sink.substring(queryStart));
+        }
+        appendRequestBodyEnd(queryStart, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Sets alias for merged GraphQL operation.
+     *
+     * @param operationAlias <code>String</code> with alias that should be used for merged GraphQL operation.
+     * @return this.
+     */
+    public GqlMergedQueryRequestBodyGenerator operationAlias(String operationAlias) {
+        this.operationAlias = operationAlias;
+        return this;
+    }
+
+    /**
+     * Adds query to merged operation. Operation alias of received query is used as alias of root field, if it isn't
+     * set alias is generated.
+     *
+     * @param queryGenerator <code>GqlQueryRequestBodyGenerator</code> with query to add.
+     * @return this.
+     */
+    public GqlMergedQueryRequestBodyGenerator query(GqlQueryRequestBodyGenerator queryGenerator) {
+        return query(null, queryGenerator);
+    }
+
+    /**
+     * Adds query to merged operation with received alias of root field.
+     *
+     * @param alias          <code>String</code> with alias of root field.
+     * @param queryGenerator <code>GqlQueryRequestBodyGenerator</code> with query to add.
+     * @return this.
+     */
+    public GqlMergedQueryRequestBodyGenerator query(String alias, GqlQueryRequestBodyGenerator queryGenerator) {
+        Objects.requireNonNull(queryGenerator);
+        queries.add(new AliasedQuery(alias, queryGenerator));
+        return this;
+    }
+
+    private static <T> void merge(Map<String, T> mergedValues, Map<String, T> values) {
+        for (Entry<String, T> entry : values.entrySet()) {
+            T mergedValue = mergedValues.putIfAbsent(entry.getKey(), entry.getValue());
+            if (mergedValue != null && !mergedValue.equals(entry.getValue())) {
+                throw new IllegalStateException(
+                        String.format("Variable '%s' has different values at merged queries: '%s' and '%s'.",
+                                entry.getKey(), mergedValue, entry.getValue()));
+            }
+        }
+    }
+
+    private void appendOperationHeader(Map<String, String> operationArguments, StringBuilder sink) {
+        if (!StringUtil.isNotBlank(operationAlias) && operationArguments.isEmpty()) {
+            return;
+        }
+        sink.append("query");
+        if (StringUtil.isNotBlank(operationAlias)) {
+            sink.append(' ').append(operationAlias);
+        }
+        if (operationArguments.isEmpty()) {
+            return;
+        }
+        sink.append('(');
+        Iterator<Entry<String, String>> iterator = operationArguments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, String> entry = iterator.next();
+            sink.append('$').append(entry.getKey()).append(':').append(entry.getValue());
+            if (iterator.hasNext()) {
+                sink.append(',');
+            }
+        }
+        sink.append(')');
+    }
+
+    private void appendRootFields(Map<String, GqlQueryRequestBodyGenerator> aliasedQueries, StringBuilder sink) {
+        GqlQueryArgumentsGenerator queryArgumentsGenerator = new GqlQueryArgumentsGenerator();
+        Map<String, String> fragments = new LinkedHashMap<>();
+        sink.append('{');
+        Iterator<Entry<String, GqlQueryRequestBodyGenerator>> iterator = aliasedQueries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, GqlQueryRequestBodyGenerator> entry = iterator.next();
+            GqlQueryRequestBodyGenerator generator = entry.getValue();
+            sink.append(entry.getKey()).append(':').append(generator.getOperationName());
+            queryArgumentsGenerator.generate(generator.getVariablePickingStrategy(), generator.getArguments(), sink);
+            generator.getSelectionSetGenerator().generate(generator.getSelectionSetFieldsPickingStrategy(), sink,
+                    fragments);
+            if (iterator.hasNext()) {
+                sink.append(' ');
+            }
+        }
+        sink.append('}');
+        FragmentedSelectionSet.appendFragments(fragments, sink);
+    }
+
+    private Map<String, GqlQueryRequestBodyGenerator> resolveAliases() {
+        Map<String, GqlQueryRequestBodyGenerator> aliasedQueries = new LinkedHashMap<>();
+        for (AliasedQuery query : queries) {
+            String alias = StringUtil.isNotBlank(query.alias) ? query.alias : query.generator.getOperationAlias();
+            if (!StringUtil.isNotBlank(alias)) {
+                continue;
+            }
+            if (aliasedQueries.putIfAbsent(alias, query.generator) != null) {
+                throw new IllegalArgumentException(String.format("Alias '%s' is used by several queries.", alias));
+            }
+        }
+        // aliases are generated after explicit ones are collected to avoid clashes with them
+        Map<String, GqlQueryRequestBodyGenerator> result = new LinkedHashMap<>();
+        int generatedAliasIndex = 0;
+        for (AliasedQuery query : queries) {
+            String alias = StringUtil.isNotBlank(query.alias) ? query.alias : query.generator.getOperationAlias();
+            if (!StringUtil.isNotBlank(alias)) {
+                do {
+                    alias = GENERATED_ALIAS_PREFIX + generatedAliasIndex++;
+                } while (aliasedQueries.containsKey(alias));
+            }
+            result.put(alias, query.generator);
+        }
+        return result;
+    }
+
+    private static final class AliasedQuery {
+
+        private final String alias;
+        private final GqlQueryRequestBodyGenerator generator;
+
+        private AliasedQuery(String alias, GqlQueryRequestBodyGenerator generator) {
+            this.alias = alias;
+            this.generator = generator;
+        }
+    }
+}
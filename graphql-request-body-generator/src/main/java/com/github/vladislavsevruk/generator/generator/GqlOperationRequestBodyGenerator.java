@@ -23,22 +23,31 @@
  */
 package com.github.vladislavsevruk.generator.generator;
 
+import com.github.vladislavsevruk.generator.cache.PersistedQueryHashCache;
 import com.github.vladislavsevruk.generator.param.GqlParameterValue;
 import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputGenerationStrategy;
 import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetPaths;
 import com.github.vladislavsevruk.generator.strategy.variable.VariableGenerationStrategy;
 import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStrategy;
+import com.github.vladislavsevruk.generator.util.StringUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -48,6 +57,8 @@ import java.util.function.Supplier;
  */
 public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationRequestBodyGenerator<T>> {
 
+    private static final GqlBodyGenerator BODY_GENERATOR = new GqlBodyGenerator();
+
     @Getter(AccessLevel.PROTECTED)
     private Iterable<? extends GqlParameterValue<?>> arguments = Collections.emptyList();
     private LoopBreakingStrategy loopBreakingStrategy = EndlessLoopBreakingStrategy.defaultStrategy()
@@ -59,6 +70,9 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
     @Getter(AccessLevel.PROTECTED)
     private FieldsPickingStrategy selectionSetFieldsPickingStrategy = SelectionSetGenerationStrategy.defaultStrategy()
             .getFieldsPickingStrategy();
+    @Getter(AccessLevel.PROTECTED)
+    private SelectionSetPaths selectionSetPaths = SelectionSetPaths.all();
+    @Getter(AccessLevel.PROTECTED)
     private TypeMeta<?> selectionSetTypeMeta;
     @Getter(AccessLevel.PROTECTED)
     private VariablePickingStrategy variablePickingStrategy = VariableGenerationStrategy.defaultStrategy()
@@ -143,10 +157,70 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
         return thisInstance();
     }
 
+    /**
+     * Returns selection set of GraphQL operation with its estimated cost and depth, so operation that exceeds server
+     * limits can be detected before sending request.
+     *
+     * @return <code>SelectionSetEstimate</code> with selection set and its estimated cost and depth.
+     * @see com.github.vladislavsevruk.generator.strategy.cost.FieldCostRegistry
+     */
+    public SelectionSetEstimate estimateSelectionSet() {
+        return getSelectionSetGenerator().estimate(selectionSetFieldsPickingStrategy);
+    }
+
     /**
      * Returns generated GraphQL operation body with predefined parameters.
      */
-    public abstract String generate();
+    public String generate() {
+        StringBuilder sink = new StringBuilder();
+        writeBody(sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends generated GraphQL operation body with predefined parameters to received sink. Operation body is written
+     * directly to <code>StringBuilder</code> sinks. Other sinks receive variables and request body parts directly
+     * while operation itself is escaped on the fly, but operation text is rendered to single buffer first as selection
+     * sets are taken from cache as rendered text and named fragments are defined after operation is rendered.
+     *
+     * @param sink <code>Appendable</code> to append generated GraphQL operation body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     */
+    public void generate(Appendable sink) throws IOException {
+        Objects.requireNonNull(sink);
+        if (sink instanceof StringBuilder) {
+            writeBody((StringBuilder) sink);
+            return;
+        }
+        StringBuilder operation = new StringBuilder();
+        writeOperation(operation);
+        if (isWrappedBody()) {
+            BODY_GENERATOR.writeRequestBody(generateVariables(), operation, sink);
+        } else {
+            sink.append(operation);
+        }
+    }
+
+    /**
+     * Returns automatic persisted query request body with SHA-256 hash of generated GraphQL operation instead of
+     * operation itself. Hash is calculated only once for every distinct operation.
+     *
+     * @see PersistedQueryHashCache
+     */
+    public String generatePersisted() {
+        return generatePersisted(false);
+    }
+
+    /**
+     * Returns automatic persisted query request body with both SHA-256 hash of generated GraphQL operation and
+     * operation itself, which is sent when server doesn't know operation hash yet. Hash is calculated only once for
+     * every distinct operation.
+     *
+     * @see PersistedQueryHashCache
+     */
+    public String generatePersistedWithQuery() {
+        return generatePersisted(true);
+    }
 
     /**
      * Sets operation alias for GraphQL operation.
@@ -159,6 +233,24 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
         return thisInstance();
     }
 
+    /**
+     * Renders GraphQL operation with predefined parameters once and returns immutable thread-safe operation that
+     * only serializes variables for every request body.
+     *
+     * @return <code>PreparedGqlOperation</code> with pre-rendered operation.
+     */
+    public PreparedGqlOperation prepare() {
+        StringBuilder sink = new StringBuilder();
+        writeOperation(sink);
+        FieldMarkingStrategy inputFieldMarkingStrategy = FieldMarkingStrategySourceManager.input().getStrategy();
+        InputFieldsPickingStrategy variablesFieldsPickingStrategy = getVariablesFieldsPickingStrategy();
+        // names are taken from variable declarations of operation as variables values may change on every binding
+        Set<String> variableNames = new GqlVariableArgumentsGenerator(inputFieldMarkingStrategy)
+                .generateMap(variablesFieldsPickingStrategy, variablePickingStrategy, arguments).keySet();
+        return new PreparedGqlOperation(sink.toString(), variableNames,
+                new GqlVariablesGenerator(inputFieldMarkingStrategy), variablesFieldsPickingStrategy);
+    }
+
     /**
      * Sets selection set model for GraphQL operation with default selection set fields picking strategy.
      *
@@ -289,6 +381,35 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
                 loopBreakingStrategy);
     }
 
+    /**
+     * Sets selection set model for GraphQL operation with default selection set fields picking strategy that is
+     * restricted by received include and exclude paths.
+     *
+     * @param model <code>Class</code> of model that will be used for selection set generation.
+     * @param paths <code>String</code> array with include paths, e.g. <code>items.product.reviews</code>, and exclude
+     *              paths, e.g. <code>!customer.orders</code>.
+     * @return this.
+     * @see SelectionSetPaths
+     */
+    public T selectionSet(Class<?> model, String... paths) {
+        return selectionSet(model).selectionSetPaths(paths);
+    }
+
+    /**
+     * Sets selection set model for GraphQL operation with default selection set fields picking strategy that is
+     * restricted by received include and exclude paths.
+     *
+     * @param typeProvider <code>TypeProvider</code> with model reference that will be used for selection set
+     *                     generation.
+     * @param paths        <code>String</code> array with include paths, e.g. <code>items.product.reviews</code>, and
+     *                     exclude paths, e.g. <code>!customer.orders</code>.
+     * @return this.
+     * @see SelectionSetPaths
+     */
+    public T selectionSet(TypeProvider<?> typeProvider, String... paths) {
+        return selectionSet(typeProvider).selectionSetPaths(paths);
+    }
+
     /**
      * Sets selection set model for GraphQL operation with received predefined selection set fields picking strategy.
      *
@@ -355,16 +476,96 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
         return selectionSet(typeProvider.getTypeMeta(), selectionSetFieldsPickingStrategy, loopBreakingStrategy);
     }
 
+    /**
+     * Restricts fields of already set selection set model by received include and exclude paths. Paths are reset to
+     * default ones that don't restrict any field every time selection set model is set.
+     *
+     * @param paths <code>String</code> array with include paths, e.g. <code>items.product.reviews</code>, and exclude
+     *              paths, e.g. <code>!customer.orders</code>.
+     * @return this.
+     * @see SelectionSetPaths
+     */
+    public T selectionSetPaths(String... paths) {
+        return selectionSetPaths(SelectionSetPaths.of(paths));
+    }
+
+    /**
+     * Restricts fields of already set selection set model by received compiled paths. Paths are reset to default ones
+     * that don't restrict any field every time selection set model is set.
+     *
+     * @param selectionSetPaths <code>SelectionSetPaths</code> with compiled include and exclude paths.
+     * @return this.
+     */
+    public T selectionSetPaths(SelectionSetPaths selectionSetPaths) {
+        this.selectionSetPaths = orDefault(selectionSetPaths, SelectionSetPaths::all);
+        return thisInstance();
+    }
+
+    /**
+     * Writes generated GraphQL operation body with predefined parameters to received writer. Writer isn't flushed or
+     * closed by this method.
+     *
+     * @param writer <code>Writer</code> to write generated GraphQL operation body to.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        generate(writer);
+    }
+
     protected SelectionSetGenerator getSelectionSetGenerator() {
         Objects.requireNonNull(selectionSetTypeMeta, "Selection set model wasn't set.");
         return new SelectionSetGenerator(selectionSetTypeMeta,
-                FieldMarkingStrategySourceManager.selectionSet().getStrategy(), loopBreakingStrategy);
+                FieldMarkingStrategySourceManager.selectionSet().getStrategy(), loopBreakingStrategy,
+                selectionSetPaths);
+    }
+
+    /**
+     * Returns input fields picking strategy that is used for collecting of operation variables.
+     */
+    protected InputFieldsPickingStrategy getVariablesFieldsPickingStrategy() {
+        return InputGenerationStrategy.nonNullsFields().getInputFieldsPickingStrategy();
+    }
+
+    /**
+     * Checks if generated GraphQL operation is wrapped into JSON request body.
+     */
+    protected boolean isWrappedBody() {
+        return true;
     }
 
     // can be overridden at descendants to reset strategies to default when methods for argument modification from this class are called
     protected void setExtendedArgumentsStrategiesToDefault() {
     }
 
+    /**
+     * Appends generated GraphQL operation body with predefined parameters to received sink.
+     *
+     * @param sink <code>StringBuilder</code> to append generated GraphQL operation body to.
+     */
+    protected abstract void writeBody(StringBuilder sink);
+
+    /**
+     * Appends generated unwrapped GraphQL operation with predefined parameters to received sink.
+     *
+     * @param sink <code>StringBuilder</code> to append generated GraphQL operation to.
+     */
+    protected abstract void writeOperation(StringBuilder sink);
+
+    private String generatePersisted(boolean withQuery) {
+        StringBuilder operationSink = new StringBuilder();
+        writeOperation(operationSink);
+        String operation = operationSink.toString();
+        StringBuilder sink = new StringBuilder();
+        BODY_GENERATOR.appendPersistedRequestBody(generateVariables(), PersistedQueryHashCache.get(operation),
+                withQuery ? StringUtil.escapeQuotes(operation) : null, sink);
+        return sink.toString();
+    }
+
+    private String generateVariables() {
+        return new GqlVariablesGenerator(FieldMarkingStrategySourceManager.input().getStrategy())
+                .generate(getVariablesFieldsPickingStrategy(), variablePickingStrategy, arguments);
+    }
+
     private <U> U orDefault(U value, Supplier<U> defaultValue) {
         if (value != null) {
             return value;
@@ -372,13 +573,15 @@ public abstract class GqlOperationRequestBodyGenerator<T extends GqlOperationReq
         return defaultValue.get();
     }
 
-    private T selectionSet(TypeMeta<?> typeMeta, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
+    // package-private to let operation specification configure generator with already resolved type
+    T selectionSet(TypeMeta<?> typeMeta, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
             LoopBreakingStrategy loopBreakingStrategy) {
         this.selectionSetTypeMeta = typeMeta;
         this.selectionSetFieldsPickingStrategy = orDefault(selectionSetFieldsPickingStrategy,
                 SelectionSetGenerationStrategy.defaultStrategy()::getFieldsPickingStrategy);
         this.loopBreakingStrategy = orDefault(loopBreakingStrategy,
                 EndlessLoopBreakingStrategy.defaultStrategy()::getLoopBreakingStrategy);
+        this.selectionSetPaths = SelectionSetPaths.all();
         return thisInstance();
     }
 
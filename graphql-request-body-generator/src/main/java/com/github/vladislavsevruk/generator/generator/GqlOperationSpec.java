@@ -0,0 +1,480 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.generator.mutation.GqlMutationRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.mutation.UnwrappedGqlMutationRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.query.UnwrappedGqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlParameterValue;
+import com.github.vladislavsevruk.generator.strategy.argument.ModelArgumentGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.argument.ModelArgumentStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetPaths;
+import com.github.vladislavsevruk.generator.strategy.variable.VariableGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable specification of GraphQL operation. Every <code>with...</code> method returns new specification and
+ * leaves current one untouched, so specification can be stored at static field and used for request body generation
+ * concurrently. Specification is rendered by request body generator that is configured from it once on first use and
+ * isn't modified afterwards, so all generation features of request body generators are available for specification
+ * as well and only arguments, variables and selection set lookup are processed per call.
+ *
+ * @see GqlOperationRequestBodyGenerator
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class GqlOperationSpec {
+
+    List<GqlParameterValue<?>> arguments;
+    InputFieldsPickingStrategy inputFieldsPickingStrategy;
+    LoopBreakingStrategy loopBreakingStrategy;
+    ModelArgumentStrategy modelArgumentStrategy;
+    String operationAlias;
+    String operationName;
+    @Getter(AccessLevel.NONE)
+    boolean query;
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    volatile GqlOperationRequestBodyGenerator<?> requestBodyGenerator;
+    FieldsPickingStrategy selectionSetFieldsPickingStrategy;
+    SelectionSetPaths selectionSetPaths;
+    TypeMeta<?> selectionSetTypeMeta;
+    VariablePickingStrategy variablePickingStrategy;
+    boolean wrappedBody;
+
+    @SuppressWarnings("java:S107")
+    private GqlOperationSpec(boolean query, String operationName, String operationAlias,
+            List<GqlParameterValue<?>> arguments, VariablePickingStrategy variablePickingStrategy,
+            InputFieldsPickingStrategy inputFieldsPickingStrategy, ModelArgumentStrategy modelArgumentStrategy,
+            TypeMeta<?> selectionSetTypeMeta, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
+            SelectionSetPaths selectionSetPaths, LoopBreakingStrategy loopBreakingStrategy, boolean wrappedBody) {
+        this.query = query;
+        this.operationName = operationName;
+        this.operationAlias = operationAlias;
+        this.arguments = arguments;
+        this.variablePickingStrategy = variablePickingStrategy;
+        this.inputFieldsPickingStrategy = inputFieldsPickingStrategy;
+        this.modelArgumentStrategy = modelArgumentStrategy;
+        this.selectionSetTypeMeta = selectionSetTypeMeta;
+        this.selectionSetFieldsPickingStrategy = selectionSetFieldsPickingStrategy;
+        this.selectionSetPaths = selectionSetPaths;
+        this.loopBreakingStrategy = loopBreakingStrategy;
+        this.wrappedBody = wrappedBody;
+    }
+
+    /**
+     * Creates specification of GraphQL mutation with default strategies.
+     *
+     * @param mutationName <code>String</code> with GraphQL mutation name.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public static GqlOperationSpec mutation(String mutationName) {
+        return create(false, mutationName);
+    }
+
+    /**
+     * Creates specification of GraphQL query with default strategies.
+     *
+     * @param queryName <code>String</code> with GraphQL query name.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public static GqlOperationSpec query(String queryName) {
+        return create(true, queryName);
+    }
+
+    private static GqlOperationSpec create(boolean query, String operationName) {
+        return new GqlOperationSpec(query, operationName, null, Collections.emptyList(),
+                VariableGenerationStrategy.defaultStrategy().getVariablePickingStrategy(),
+                InputGenerationStrategy.defaultStrategy().getInputFieldsPickingStrategy(),
+                ModelArgumentGenerationStrategy.defaultStrategy().getModelArgumentStrategy(), null,
+                SelectionSetGenerationStrategy.defaultStrategy().getFieldsPickingStrategy(), SelectionSetPaths.all(),
+                EndlessLoopBreakingStrategy.defaultStrategy().getLoopBreakingStrategy(), true);
+    }
+
+    /**
+     * Returns selection set of GraphQL operation with its estimated cost and depth.
+     *
+     * @return <code>SelectionSetEstimate</code> with selection set and its estimated cost and depth.
+     * @see GqlOperationRequestBodyGenerator#estimateSelectionSet()
+     */
+    public SelectionSetEstimate estimateSelectionSet() {
+        return toGenerator().estimateSelectionSet();
+    }
+
+    /**
+     * Returns generated GraphQL operation body.
+     */
+    public String generate() {
+        return toGenerator().generate();
+    }
+
+    /**
+     * Appends generated GraphQL operation body to received sink.
+     *
+     * @param sink <code>Appendable</code> to append generated GraphQL operation body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     * @see GqlOperationRequestBodyGenerator#generate(Appendable)
+     */
+    public void generate(Appendable sink) throws IOException {
+        toGenerator().generate(sink);
+    }
+
+    /**
+     * Returns automatic persisted query request body with SHA-256 hash of generated GraphQL operation instead of
+     * operation itself.
+     *
+     * @see GqlOperationRequestBodyGenerator#generatePersisted()
+     */
+    public String generatePersisted() {
+        return toGenerator().generatePersisted();
+    }
+
+    /**
+     * Returns automatic persisted query request body with both SHA-256 hash of generated GraphQL operation and
+     * operation itself.
+     *
+     * @see GqlOperationRequestBodyGenerator#generatePersistedWithQuery()
+     */
+    public String generatePersistedWithQuery() {
+        return toGenerator().generatePersistedWithQuery();
+    }
+
+    /**
+     * Checks if specification describes GraphQL mutation.
+     */
+    public boolean isMutation() {
+        return !query;
+    }
+
+    /**
+     * Checks if specification describes GraphQL query.
+     */
+    public boolean isQuery() {
+        return query;
+    }
+
+    /**
+     * Renders GraphQL operation once and returns immutable thread-safe operation that only serializes variables for
+     * every request body.
+     *
+     * @return <code>PreparedGqlOperation</code> with pre-rendered operation.
+     */
+    public PreparedGqlOperation prepare() {
+        return toGenerator().prepare();
+    }
+
+    /**
+     * Returns copy of this specification with received arguments.
+     *
+     * @param arguments <code>GqlParameterValue</code> varargs with argument names and values.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withArguments(GqlParameterValue<?>... arguments) {
+        return withArguments(Arrays.asList(arguments));
+    }
+
+    /**
+     * Returns copy of this specification with received arguments. Arguments are copied, so further modification of
+     * received iterable doesn't affect specification.
+     *
+     * @param arguments <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and values.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withArguments(Iterable<? extends GqlParameterValue<?>> arguments) {
+        List<GqlParameterValue<?>> argumentsCopy = new ArrayList<>();
+        arguments.forEach(argumentsCopy::add);
+        return new GqlOperationSpec(query, operationName, operationAlias,
+                Collections.unmodifiableList(argumentsCopy), variablePickingStrategy, inputFieldsPickingStrategy,
+                modelArgumentStrategy, selectionSetTypeMeta, selectionSetFieldsPickingStrategy, selectionSetPaths,
+                loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received predefined mutation input fields picking strategy. Queries
+     * always use only non-null input fields.
+     *
+     * @param inputGenerationStrategy <code>InputGenerationStrategy</code> with predefined fields picking strategy.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withInputFieldsPickingStrategy(InputGenerationStrategy inputGenerationStrategy) {
+        return withInputFieldsPickingStrategy(inputGenerationStrategy.getInputFieldsPickingStrategy());
+    }
+
+    /**
+     * Returns copy of this specification with received mutation input fields picking strategy. Queries always use only
+     * non-null input fields.
+     *
+     * @param inputFieldsPickingStrategy <code>InputFieldsPickingStrategy</code> to filter required fields for mutation
+     *                                   input.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withInputFieldsPickingStrategy(InputFieldsPickingStrategy inputFieldsPickingStrategy) {
+        Objects.requireNonNull(inputFieldsPickingStrategy);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received predefined loop breaking strategy.
+     *
+     * @param endlessLoopBreakingStrategy <code>EndlessLoopBreakingStrategy</code> with predefined loop breaking
+     *                                    strategy.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withLoopBreakingStrategy(EndlessLoopBreakingStrategy endlessLoopBreakingStrategy) {
+        return withLoopBreakingStrategy(endlessLoopBreakingStrategy.getLoopBreakingStrategy());
+    }
+
+    /**
+     * Returns copy of this specification with received loop breaking strategy.
+     *
+     * @param loopBreakingStrategy <code>LoopBreakingStrategy</code> for picking element on which loop should be
+     *                             broken.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withLoopBreakingStrategy(LoopBreakingStrategy loopBreakingStrategy) {
+        Objects.requireNonNull(loopBreakingStrategy);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received predefined mutation model argument strategy.
+     *
+     * @param modelArgumentGenerationStrategy <code>ModelArgumentGenerationStrategy</code> with predefined model
+     *                                        argument strategy.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withModelArgumentStrategy(ModelArgumentGenerationStrategy modelArgumentGenerationStrategy) {
+        return withModelArgumentStrategy(modelArgumentGenerationStrategy.getModelArgumentStrategy());
+    }
+
+    /**
+     * Returns copy of this specification with received mutation model argument strategy.
+     *
+     * @param modelArgumentStrategy <code>ModelArgumentStrategy</code> for mutation argument generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withModelArgumentStrategy(ModelArgumentStrategy modelArgumentStrategy) {
+        Objects.requireNonNull(modelArgumentStrategy);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received operation alias.
+     *
+     * @param operationAlias <code>String</code> with alias that should be used for GraphQL operation generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withOperationAlias(String operationAlias) {
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received selection set model.
+     *
+     * @param model <code>Class</code> of model that will be used for selection set generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withSelectionSet(Class<?> model) {
+        return withSelectionSet(new TypeMeta<>(model));
+    }
+
+    /**
+     * Returns copy of this specification with received selection set model.
+     *
+     * @param typeProvider <code>TypeProvider</code> with model reference that will be used for selection set
+     *                     generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withSelectionSet(TypeProvider<?> typeProvider) {
+        return withSelectionSet(typeProvider.getTypeMeta());
+    }
+
+    /**
+     * Returns copy of this specification with received predefined selection set fields picking strategy.
+     *
+     * @param selectionSetGenerationStrategy <code>SelectionSetGenerationStrategy</code> with predefined fields picking
+     *                                       strategy for selection set generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withSelectionSetFieldsPickingStrategy(
+            SelectionSetGenerationStrategy selectionSetGenerationStrategy) {
+        return withSelectionSetFieldsPickingStrategy(selectionSetGenerationStrategy.getFieldsPickingStrategy());
+    }
+
+    /**
+     * Returns copy of this specification with received selection set fields picking strategy.
+     *
+     * @param selectionSetFieldsPickingStrategy <code>FieldsPickingStrategy</code> for selection set generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withSelectionSetFieldsPickingStrategy(
+            FieldsPickingStrategy selectionSetFieldsPickingStrategy) {
+        Objects.requireNonNull(selectionSetFieldsPickingStrategy);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with selection set restricted by received include and exclude paths. Paths
+     * are reset to default ones that don't restrict any field every time selection set model is changed.
+     *
+     * @param paths <code>String</code> array with include paths, e.g. <code>items.product.reviews</code>, and exclude
+     *              paths, e.g. <code>!customer.orders</code>.
+     * @return new <code>GqlOperationSpec</code>.
+     * @see SelectionSetPaths
+     */
+    public GqlOperationSpec withSelectionSetPaths(String... paths) {
+        return withSelectionSetPaths(SelectionSetPaths.of(paths));
+    }
+
+    /**
+     * Returns copy of this specification with selection set restricted by received compiled paths. Paths are reset to
+     * default ones that don't restrict any field every time selection set model is changed.
+     *
+     * @param selectionSetPaths <code>SelectionSetPaths</code> with compiled include and exclude paths.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withSelectionSetPaths(SelectionSetPaths selectionSetPaths) {
+        Objects.requireNonNull(selectionSetPaths);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification with received predefined variable picking strategy.
+     *
+     * @param variableGenerationStrategy <code>VariableGenerationStrategy</code> with predefined variables picking
+     *                                   strategy.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withVariablePickingStrategy(VariableGenerationStrategy variableGenerationStrategy) {
+        return withVariablePickingStrategy(variableGenerationStrategy.getVariablePickingStrategy());
+    }
+
+    /**
+     * Returns copy of this specification with received variable picking strategy.
+     *
+     * @param variablePickingStrategy <code>VariablePickingStrategy</code> for operation variables generation.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withVariablePickingStrategy(VariablePickingStrategy variablePickingStrategy) {
+        Objects.requireNonNull(variablePickingStrategy);
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Returns copy of this specification that generates operation wrapped into JSON request body or pure unwrapped
+     * GraphQL operation.
+     *
+     * @param wrappedBody <code>boolean</code> that shows if operation should be wrapped into JSON request body.
+     * @return new <code>GqlOperationSpec</code>.
+     */
+    public GqlOperationSpec withWrappedBody(boolean wrappedBody) {
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, selectionSetPaths, loopBreakingStrategy, wrappedBody);
+    }
+
+    /**
+     * Writes generated GraphQL operation body to received writer. Writer isn't flushed or closed by this method.
+     *
+     * @param writer <code>Writer</code> to write generated GraphQL operation body to.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        generate(writer);
+    }
+
+    private GqlOperationRequestBodyGenerator<?> toGenerator() {
+        GqlOperationRequestBodyGenerator<?> generator = requestBodyGenerator;
+        if (generator == null) {
+            // configured generator isn't modified by generation, so concurrent initialization is harmless
+            generator = createGenerator();
+            requestBodyGenerator = generator;
+        }
+        return generator;
+    }
+
+    private GqlOperationRequestBodyGenerator<?> createGenerator() {
+        GqlOperationRequestBodyGenerator<?> generator = query ? toQueryGenerator() : toMutationGenerator();
+        return generator.operationAlias(operationAlias)
+                .selectionSet(selectionSetTypeMeta, selectionSetFieldsPickingStrategy, loopBreakingStrategy)
+                .selectionSetPaths(selectionSetPaths);
+    }
+
+    private GqlOperationRequestBodyGenerator<?> toMutationGenerator() {
+        if (wrappedBody) {
+            return new GqlMutationRequestBodyGenerator(operationName).arguments(inputFieldsPickingStrategy,
+                    variablePickingStrategy, modelArgumentStrategy, arguments);
+        }
+        return new UnwrappedGqlMutationRequestBodyGenerator(operationName).arguments(inputFieldsPickingStrategy,
+                variablePickingStrategy, modelArgumentStrategy, arguments);
+    }
+
+    private GqlOperationRequestBodyGenerator<?> toQueryGenerator() {
+        if (wrappedBody) {
+            return new GqlQueryRequestBodyGenerator(operationName).arguments(variablePickingStrategy, arguments);
+        }
+        return new UnwrappedGqlQueryRequestBodyGenerator(operationName).arguments(variablePickingStrategy, arguments);
+    }
+
+    private GqlOperationSpec withSelectionSet(TypeMeta<?> selectionSetTypeMeta) {
+        return new GqlOperationSpec(query, operationName, operationAlias, arguments, variablePickingStrategy,
+                inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetTypeMeta,
+                selectionSetFieldsPickingStrategy, SelectionSetPaths.all(), loopBreakingStrategy, wrappedBody);
+    }
+}
@@ -78,12 +78,37 @@ public class GqlVariableArgumentsGenerator extends AbstractGqlVariablesGenerator
      */
     public String generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
             VariablePickingStrategy variablePickingStrategy, Iterable<? extends GqlParameterValue<?>> arguments) {
-        String operationArguments = generateOperationArguments(variablePickingStrategy, arguments);
-        String delegatedArguments = generateDelegatedArguments(inputFieldsPickingStrategy, arguments);
-        operationArguments = combineOperationArguments(operationArguments, delegatedArguments);
+        String operationArguments = generateMap(inputFieldsPickingStrategy, variablePickingStrategy, arguments)
+                .entrySet().stream().map(entry -> generateOperationArgument(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(","));
         return operationArguments.isEmpty() ? "" : "(" + operationArguments + ")";
     }
 
+    /**
+     * Collects GraphQL operation variable declarations according to received variable picking strategy.
+     *
+     * @param inputFieldsPickingStrategy <code>InputFieldsPickingStrategy</code> to filter required fields for
+     *                                   mutation input.
+     * @param variablePickingStrategy    <code>VariablePickingStrategy</code> for operation variables generation.
+     * @param arguments                  <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and
+     *                                   values.
+     * @return <code>Map</code> with variable names and their types with required marks or default values.
+     */
+    public Map<String, String> generateMap(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            VariablePickingStrategy variablePickingStrategy, Iterable<? extends GqlParameterValue<?>> arguments) {
+        Map<String, String> operationArguments = new LinkedHashMap<>();
+        StreamSupport.stream(arguments.spliterator(), false).filter(variablePickingStrategy::isVariable)
+                .forEach(argument -> operationArguments.put(variablePickingStrategy.getVariableName(argument),
+                        generateOperationArgument(variablePickingStrategy, argument)));
+        StreamSupport.stream(arguments.spliterator(), false).filter(this::isDelegate)
+                .map(argument -> (GqlDelegateArgument<?>) argument)
+                .map(argument -> collectDelegatedValuesMap(inputFieldsPickingStrategy, argument.getValue(),
+                        argument.getValue().getClass(), new LinkedHashMap<>(), argument.isShouldUseVariables()))
+                .map(Map::entrySet).flatMap(Collection::stream)
+                .forEach(entry -> operationArguments.put(entry.getKey(), entry.getValue().toString()));
+        return operationArguments;
+    }
+
     @Override
     protected Object getVariableValue(Object value, Field field, GqlVariableType variableType) {
         Object variableValue = ArgumentValueUtil.getValue(field, value);
@@ -96,38 +121,16 @@ public class GqlVariableArgumentsGenerator extends AbstractGqlVariablesGenerator
         return generateOperationArgument(variableValue, variableType);
     }
 
-    private String combineOperationArguments(String operationArguments, String delegatedArguments) {
-        if (operationArguments.isEmpty()) {
-            return delegatedArguments;
-        }
-        if (delegatedArguments.isEmpty()) {
-            return operationArguments;
-        }
-        return operationArguments + "," + delegatedArguments;
-    }
-
-    private String generateDelegatedArguments(InputFieldsPickingStrategy inputFieldsPickingStrategy,
-            Iterable<? extends GqlParameterValue<?>> arguments) {
-        return StreamSupport.stream(arguments.spliterator(), false).filter(this::isDelegate)
-                .map(argument -> (GqlDelegateArgument<?>) argument)
-                .map(argument -> collectDelegatedValuesMap(inputFieldsPickingStrategy, argument.getValue(),
-                        argument.getValue().getClass(), new LinkedHashMap<>(), argument.isShouldUseVariables()))
-                .map(Map::entrySet).flatMap(Collection::stream)
-                .map(entry -> generateOperationArgument(entry.getKey(), entry.getValue()))
-                .collect(Collectors.joining(","));
-    }
-
     private String generateOperationArgument(VariablePickingStrategy variablePickingStrategy,
             GqlParameterValue<?> argument) {
-        String variableName = variablePickingStrategy.getVariableName(argument);
         String variableType = variablePickingStrategy.getVariableType(argument);
         String requiredArgumentPostfix = Optional.ofNullable(variablePickingStrategy.getDefaultValue(argument))
                 .filter(value -> !value.isEmpty()).map(value -> "=" + value)
                 .orElseGet(() -> variablePickingStrategy.isRequired(argument) ? "!" : "");
-        return String.format("$%s:%s%s", variableName, variableType, requiredArgumentPostfix);
+        return variableType + requiredArgumentPostfix;
     }
 
-    private String generateOperationArgument(String variableName, Object variableType) {
+    private String generateOperationArgument(String variableName, String variableType) {
         return String.format("$%s:%s", variableName, variableType);
     }
 
@@ -140,13 +143,6 @@ public class GqlVariableArgumentsGenerator extends AbstractGqlVariablesGenerator
         return String.format("%s%s", variableType, requiredArgumentPostfix);
     }
 
-    private String generateOperationArguments(VariablePickingStrategy variablePickingStrategy,
-            Iterable<? extends GqlParameterValue<?>> arguments) {
-        return StreamSupport.stream(arguments.spliterator(), false).filter(variablePickingStrategy::isVariable)
-                .map(argument -> generateOperationArgument(variablePickingStrategy, argument))
-                .collect(Collectors.joining(","));
-    }
-
     private boolean isDelegate(GqlParameterValue<?> argument) {
         return GqlDelegateArgument.class.equals(argument.getClass());
     }
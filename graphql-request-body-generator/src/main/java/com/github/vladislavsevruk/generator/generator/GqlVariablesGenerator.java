@@ -24,11 +24,15 @@
 package com.github.vladislavsevruk.generator.generator;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.vladislavsevruk.generator.annotation.GqlVariableType;
 import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
 import com.github.vladislavsevruk.generator.param.GqlParameterValue;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
 import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStrategy;
 import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
@@ -51,6 +55,9 @@ import java.util.stream.StreamSupport;
 @Log4j2
 public class GqlVariablesGenerator extends AbstractGqlVariablesGenerator {
 
+    private static final ObjectMapper canonicalJsonMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
     private static final ObjectMapper jsonMapper = new ObjectMapper();
 
     public GqlVariablesGenerator(FieldMarkingStrategy inputFieldMarkingStrategy) {
@@ -68,21 +75,59 @@ public class GqlVariablesGenerator extends AbstractGqlVariablesGenerator {
      */
     public String generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
             VariablePickingStrategy variablePickingStrategy, Iterable<? extends GqlParameterValue<?>> arguments) {
-        Map<String, Object> variablesMap = getVariablesMap(variablePickingStrategy, arguments);
-        Map<String, Object> delegatedVariablesMap = getDelegatedVariablesMap(inputFieldsPickingStrategy, arguments);
-        validateNoDuplicates(variablesMap, delegatedVariablesMap);
-        variablesMap.putAll(delegatedVariablesMap);
+        return generate(generateMap(inputFieldsPickingStrategy, variablePickingStrategy, arguments));
+    }
+
+    /**
+     * Represents received GraphQL operation variables as JSON.
+     *
+     * @param variablesMap <code>Map</code> with variable names and values.
+     * @return <code>String</code> with JSON representation of variables or empty <code>String</code> if there are no
+     * variables.
+     */
+    public String generate(Map<String, ?> variablesMap) {
         if (variablesMap.isEmpty()) {
             return "";
         }
         try {
-            return jsonMapper.writeValueAsString(variablesMap);
+            ObjectMapper mapper = OutputOrderManager.isCanonical() ? canonicalJsonMapper : jsonMapper;
+            return mapper.writeValueAsString(variablesMap);
         } catch (JsonProcessingException jpEx) {
             log.error("Failed to represent variables as JSON.", jpEx);
             return "";
         }
     }
 
+    /**
+     * Collects GraphQL operation variables according to received variable picking strategy.
+     *
+     * @param inputFieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @param variablePickingStrategy    <code>VariablePickingStrategy</code> for operation variables generation.
+     * @param arguments                  <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and
+     *                                   values.
+     * @return <code>Map</code> with variable names and values.
+     */
+    public Map<String, Object> generateMap(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            VariablePickingStrategy variablePickingStrategy, Iterable<? extends GqlParameterValue<?>> arguments) {
+        Map<String, Object> variablesMap = getVariablesMap(variablePickingStrategy, arguments);
+        Map<String, Object> delegatedVariablesMap = getDelegatedVariablesMap(inputFieldsPickingStrategy, arguments);
+        validateNoDuplicates(variablesMap, delegatedVariablesMap);
+        variablesMap.putAll(delegatedVariablesMap);
+        return variablesMap;
+    }
+
+    /**
+     * Collects GraphQL operation variables from received model the same way as for delegate argument with variables.
+     *
+     * @param inputFieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields of model.
+     * @param model                      <code>Object</code> with fields and methods marked as variables.
+     * @return <code>Map</code> with variable names and values.
+     */
+    public Map<String, Object> generateMap(InputFieldsPickingStrategy inputFieldsPickingStrategy, Object model) {
+        return collectDelegatedValuesMap(inputFieldsPickingStrategy, model, model.getClass(), new LinkedHashMap<>(),
+                true);
+    }
+
     @Override
     protected Object getVariableValue(Object value, Field field, GqlVariableType variableType) {
         return ArgumentValueUtil.getValue(field, value);
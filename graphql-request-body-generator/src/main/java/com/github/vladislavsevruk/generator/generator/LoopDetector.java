@@ -23,24 +23,40 @@
  */
 package com.github.vladislavsevruk.generator.generator;
 
+import com.github.vladislavsevruk.generator.strategy.looping.CountingLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.util.TypeMetaUtil;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * Detects if POJOs was configured with circle reference on each other and helps to avoid endless looping.
+ * Detects if POJOs was configured with circle reference on each other and helps to avoid endless looping. Numbers of
+ * trace items and their element types are updated on every trace change, so loop checks don't scan whole trace.
  */
 public final class LoopDetector {
 
     // ArrayList is permissible as we delete elements only from list end
+    private final List<TypeMeta<?>> elementTrace = new ArrayList<>();
+    private final Map<TypeMeta<?>, Integer> elementTraceCounts = new HashMap<>();
     private final List<TypeMeta<?>> loopedItems = new ArrayList<>();
     private final List<TypeMeta<?>> trace = new ArrayList<>();
+    private final Map<TypeMeta<?>, Integer> traceCounts = new HashMap<>();
 
     public LoopDetector(TypeMeta<?> initialTypeMeta) {
-        trace.add(initialTypeMeta);
+        push(initialTypeMeta);
+    }
+
+    private LoopDetector(LoopDetector loopDetector) {
+        elementTrace.addAll(loopDetector.elementTrace);
+        elementTraceCounts.putAll(loopDetector.elementTraceCounts);
+        loopedItems.addAll(loopDetector.loopedItems);
+        trace.addAll(loopDetector.trace);
+        traceCounts.putAll(loopDetector.traceCounts);
     }
 
     /**
@@ -49,8 +65,24 @@ public final class LoopDetector {
      * @param typeMeta new <code>TypeMeta</code> trace element.
      */
     public void addToTrace(TypeMeta<?> typeMeta) {
-        trace.add(typeMeta);
-        checkForLooping(typeMeta);
+        if (push(typeMeta) > 1) {
+            loopedItems.add(typeMeta);
+        }
+    }
+
+    /**
+     * Returns independent copy of this detector with the same trace, so subtrees can be traced separately.
+     */
+    public LoopDetector copy() {
+        return new LoopDetector(this);
+    }
+
+    /**
+     * Returns copy of numbers of occurrences of every trace item. Decisions of loop breaking strategies that support
+     * counting depend only on these numbers, so they identify trace state regardless of items order.
+     */
+    public Map<TypeMeta<?>, Integer> getTraceCounts() {
+        return new HashMap<>(traceCounts);
     }
 
     /**
@@ -64,7 +96,10 @@ public final class LoopDetector {
      * Removes last item from trace and checks if elements looping is still present at trace.
      */
     public void removeLastItemFromTrace() {
-        TypeMeta<?> lastItem = trace.remove(trace.size() - 1);
+        int lastItemIndex = trace.size() - 1;
+        TypeMeta<?> lastItem = trace.remove(lastItemIndex);
+        decrement(traceCounts, lastItem);
+        decrement(elementTraceCounts, elementTrace.remove(lastItemIndex));
         if (isLoopDetected()) {
             int lastLoopedItemIndex = loopedItems.size() - 1;
             if (lastItem.equals(loopedItems.get(lastLoopedItemIndex))) {
@@ -85,16 +120,37 @@ public final class LoopDetector {
         if (!isLoopDetected()) {
             return false;
         }
+        if (loopBreakingStrategy instanceof CountingLoopBreakingStrategy
+                && ((CountingLoopBreakingStrategy) loopBreakingStrategy).isCountingSupported()) {
+            TypeMeta<?> elementTypeMeta = getElementTypeMeta(typeMeta);
+            return ((CountingLoopBreakingStrategy) loopBreakingStrategy)
+                    .shouldBreakOnElement(elementTypeMeta, elementTraceCounts.getOrDefault(elementTypeMeta, 0));
+        }
         return loopBreakingStrategy.shouldBreakOnItem(typeMeta, trace);
     }
 
-    private void checkForLooping(TypeMeta<?> typeMeta) {
-        if (trace.indexOf(typeMeta) != trace.size() - 1) {
-            loopedItems.add(typeMeta);
+    private void decrement(Map<TypeMeta<?>, Integer> counts, TypeMeta<?> typeMeta) {
+        counts.computeIfPresent(typeMeta, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private TypeMeta<?> getElementTypeMeta(TypeMeta<?> typeMeta) {
+        int lastItemIndex = trace.size() - 1;
+        // checked item is usually the last one added to trace, so its element type is already unwrapped
+        if (trace.get(lastItemIndex) == typeMeta) {
+            return elementTrace.get(lastItemIndex);
         }
+        return TypeMetaUtil.getElementTypeMeta(typeMeta);
     }
 
     private boolean isLoopDetected() {
         return !loopedItems.isEmpty();
     }
+
+    private int push(TypeMeta<?> typeMeta) {
+        trace.add(typeMeta);
+        TypeMeta<?> elementTypeMeta = TypeMetaUtil.getElementTypeMeta(typeMeta);
+        elementTrace.add(elementTypeMeta);
+        elementTraceCounts.merge(elementTypeMeta, 1, Integer::sum);
+        return traceCounts.merge(typeMeta, 1, Integer::sum);
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.cache.PersistedQueryHashCache;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputGenerationStrategy;
+import com.github.vladislavsevruk.generator.util.StringUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable GraphQL operation with pre-rendered and pre-escaped operation text. Only variables are serialized when
+ * request body is built, so same instance can be stored and used concurrently for all requests with the same operation
+ * shape.
+ *
+ * @see GqlOperationRequestBodyGenerator#prepare()
+ * @see #of(String, String...)
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class PreparedGqlOperation {
+
+    private static final GqlBodyGenerator BODY_GENERATOR = new GqlBodyGenerator();
+
+    String escapedOperation;
+    InputFieldsPickingStrategy inputFieldsPickingStrategy;
+    @Getter
+    String operation;
+    String queryOnlyBody;
+    String queryPart;
+    @NonFinal
+    volatile String sha256Hash;
+    @Getter
+    Set<String> variableNames;
+    GqlVariablesGenerator variablesGenerator;
+
+    PreparedGqlOperation(String operation, Set<String> variableNames, GqlVariablesGenerator variablesGenerator,
+            InputFieldsPickingStrategy inputFieldsPickingStrategy) {
+        this.operation = operation;
+        this.variableNames = Collections.unmodifiableSet(new LinkedHashSet<>(variableNames));
+        this.variablesGenerator = variablesGenerator;
+        this.inputFieldsPickingStrategy = inputFieldsPickingStrategy;
+        this.escapedOperation = StringUtil.escapeQuotes(operation);
+        this.queryOnlyBody = "{\"query\":\"" + escapedOperation + "\"}";
+        this.queryPart = ",\"query\":\"" + escapedOperation + "\"}";
+    }
+
+    /**
+     * Creates prepared operation from already rendered operation text, e.g. the one generated at build time. Received
+     * operation text is used as is, so it should be valid GraphQL operation that declares all received variables.
+     *
+     * @param operation     <code>String</code> with rendered GraphQL operation.
+     * @param variableNames <code>String</code> array with names of variables declared by operation.
+     * @return <code>PreparedGqlOperation</code> for received operation.
+     */
+    public static PreparedGqlOperation of(String operation, String... variableNames) {
+        Objects.requireNonNull(operation);
+        return new PreparedGqlOperation(operation, new LinkedHashSet<>(Arrays.asList(variableNames)),
+                new GqlVariablesGenerator(FieldMarkingStrategySourceManager.input().getStrategy()),
+                InputGenerationStrategy.nonNullsFields().getInputFieldsPickingStrategy());
+    }
+
+    /**
+     * Returns request body with prepared operation and received variables. Variables that weren't declared by
+     * operation aren't allowed.
+     *
+     * @param variables <code>Map</code> with variable names and values.
+     * @return <code>String</code> with request body.
+     */
+    public String bind(Map<String, ?> variables) {
+        StringBuilder sink = new StringBuilder();
+        bind(variables, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends request body with prepared operation and received variables to received sink. Variables that weren't
+     * declared by operation aren't allowed.
+     *
+     * @param variables <code>Map</code> with variable names and values.
+     * @param sink      <code>StringBuilder</code> to append request body to.
+     */
+    public void bind(Map<String, ?> variables, StringBuilder sink) {
+        try {
+            write(variables, sink);
+        } catch (IOException ioEx) {
+            // isn't thrown by StringBuilder
+            throw new UncheckedIOException(ioEx);
+        }
+    }
+
+    /**
+     * Returns request body with prepared operation and variables collected from received model. Model fields and
+     * methods are treated as variables the same way as for delegate argument with variables. Variables that weren't
+     * declared by operation aren't allowed.
+     *
+     * @param model <code>Object</code> with fields and methods marked as variables.
+     * @return <code>String</code> with request body.
+     */
+    public String bindModel(Object model) {
+        Objects.requireNonNull(model);
+        Map<String, Object> variables = variablesGenerator.generateMap(inputFieldsPickingStrategy, model);
+        return bind(variables);
+    }
+
+    /**
+     * Returns automatic persisted query request body with hash of prepared operation and received variables.
+     * Variables that weren't declared by operation aren't allowed.
+     *
+     * @param variables <code>Map</code> with variable names and values.
+     * @return <code>String</code> with request body.
+     */
+    public String bindPersisted(Map<String, ?> variables) {
+        StringBuilder sink = new StringBuilder();
+        BODY_GENERATOR.appendPersistedRequestBody(generateVariables(variables), getSha256Hash(), null, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Returns automatic persisted query request body with hash of prepared operation, received variables and prepared
+     * operation itself, which is sent when server doesn't know operation hash yet. Variables that weren't declared by
+     * operation aren't allowed.
+     *
+     * @param variables <code>Map</code> with variable names and values.
+     * @return <code>String</code> with request body.
+     */
+    public String bindPersistedWithQuery(Map<String, ?> variables) {
+        StringBuilder sink = new StringBuilder();
+        BODY_GENERATOR.appendPersistedRequestBody(generateVariables(variables), getSha256Hash(), escapedOperation,
+                sink);
+        return sink.toString();
+    }
+
+    /**
+     * Returns SHA-256 hash of prepared operation at hex format. Hash is calculated only once on first call.
+     */
+    public String getSha256Hash() {
+        String hash = sha256Hash;
+        if (hash == null) {
+            hash = PersistedQueryHashCache.calculateHash(operation);
+            sha256Hash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Writes request body with prepared operation and received variables to received sink.
+     *
+     * @param variables <code>Map</code> with variable names and values.
+     * @param sink      <code>Appendable</code> to write request body to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     */
+    void write(Map<String, ?> variables, Appendable sink) throws IOException {
+        String variablesStr = generateVariables(variables);
+        if (variablesStr.isEmpty()) {
+            sink.append(queryOnlyBody);
+            return;
+        }
+        sink.append("{\"variables\":").append(variablesStr).append(queryPart);
+    }
+
+    private String generateVariables(Map<String, ?> variables) {
+        Objects.requireNonNull(variables);
+        for (String variableName : variables.keySet()) {
+            if (!variableNames.contains(variableName)) {
+                throw new IllegalArgumentException(
+                        String.format("Variable '%s' isn't declared by operation.", variableName));
+            }
+        }
+        return variablesGenerator.generate(variables);
+    }
+}
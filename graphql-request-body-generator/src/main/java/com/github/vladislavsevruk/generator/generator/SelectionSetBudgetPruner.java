@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Prunes nested selection sets of selection set until it fits maximum cost and depth. Fields deeper than maximum depth
+ * are removed first. Then nested selection sets are removed one by one starting from the deepest ones and the most
+ * expensive one among ones at the same depth. Candidates are sorted once per depth and only costs of ancestors of
+ * removed selection set are updated, so selection set isn't rescanned after every removal. Fields without selection
+ * set are never removed by cost, so selection set may still exceed maximum cost if it is exceeded by such fields only.
+ * Fields and inline fragments that lose all nested selections are removed as well.
+ */
+@Log4j2
+final class SelectionSetBudgetPruner {
+
+    private SelectionSetBudgetPruner() {
+    }
+
+    /**
+     * Returns received selection set nodes pruned to fit received maximum cost and depth.
+     *
+     * @param nodes    <code>Collection</code> of <code>SelectionSetNode</code> of root selection set.
+     * @param maxCost  <code>long</code> with maximum cost of selection set.
+     * @param maxDepth <code>int</code> with maximum nesting level of fields.
+     * @return <code>Collection</code> of pruned <code>SelectionSetNode</code>.
+     */
+    static Collection<SelectionSetNode> prune(Collection<SelectionSetNode> nodes, long maxCost, int maxDepth) {
+        List<SelectionSetNode> prunedNodes = pruneDepth(new ArrayList<>(nodes), 1, maxDepth);
+        if (SelectionSetNode.getCost(prunedNodes) <= maxCost) {
+            return prunedNodes;
+        }
+        PruningNode root = new PruningNode(null, null);
+        List<List<PruningNode>> candidatesByLevel = new ArrayList<>();
+        collectCandidates(root, prunedNodes, 1, candidatesByLevel);
+        root.updateCost();
+        for (int level = candidatesByLevel.size(); level > 0 && root.cost > maxCost; --level) {
+            // candidates at the same level are never nested, so their costs don't change while they are removed
+            List<PruningNode> candidates = candidatesByLevel.get(level - 1);
+            candidates.sort(Comparator.comparingLong((PruningNode candidate) -> candidate.cost).reversed());
+            for (int i = 0; i < candidates.size() && root.cost > maxCost; ++i) {
+                PruningNode candidate = candidates.get(i);
+                if (!candidate.isRemoved) {
+                    log.debug("'{}' is pruned as selection set exceeds max cost.", candidate.node.getName());
+                    candidate.remove();
+                }
+            }
+        }
+        if (root.cost > maxCost) {
+            log.warn("Selection set cost {} exceeds max cost {} by fields without selection set.", root.cost,
+                    maxCost);
+        }
+        return root.getChildNodes();
+    }
+
+    private static void collectCandidates(PruningNode parent, List<SelectionSetNode> nodes, int level,
+            List<List<PruningNode>> candidatesByLevel) {
+        for (SelectionSetNode node : nodes) {
+            PruningNode pruningNode = new PruningNode(node, parent);
+            parent.children.add(pruningNode);
+            if (node.getChildren().isEmpty()) {
+                pruningNode.cost = node.getCost();
+                continue;
+            }
+            if (!node.isFragment()) {
+                while (candidatesByLevel.size() < level) {
+                    candidatesByLevel.add(new ArrayList<>());
+                }
+                candidatesByLevel.get(level - 1).add(pruningNode);
+            }
+            collectCandidates(pruningNode, node.getChildren(), node.isFragment() ? level : level + 1,
+                    candidatesByLevel);
+            pruningNode.cost = node.getCost();
+        }
+    }
+
+    private static List<SelectionSetNode> pruneDepth(List<SelectionSetNode> nodes, int level, int maxDepth) {
+        if (level - 1 + SelectionSetNode.getDepth(nodes) <= maxDepth) {
+            return nodes;
+        }
+        List<SelectionSetNode> prunedNodes = new ArrayList<>(nodes.size());
+        for (SelectionSetNode node : nodes) {
+            if (node.getChildren().isEmpty()) {
+                if (level <= maxDepth) {
+                    prunedNodes.add(node);
+                }
+                continue;
+            }
+            if (!node.isFragment() && level >= maxDepth) {
+                log.debug("'{}' is pruned as it exceeds max depth {}.", node.getName(), maxDepth);
+                continue;
+            }
+            List<SelectionSetNode> children = pruneDepth(node.getChildren(), node.isFragment() ? level : level + 1,
+                    maxDepth);
+            if (!children.isEmpty()) {
+                prunedNodes.add(withChildren(node, children));
+            }
+        }
+        return prunedNodes;
+    }
+
+    private static SelectionSetNode withChildren(SelectionSetNode node, List<SelectionSetNode> children) {
+        if (children.equals(node.getChildren())) {
+            return node;
+        }
+        return SelectionSetNode.of(node.getName(), node.getTypeName(), children, node.getWeight(),
+                node.getMultiplier());
+    }
+
+    /**
+     * Mutable copy of selection set node that keeps current cost of its subtree while nested selection sets are
+     * removed. Root node without selection set node holds cost of the whole selection set.
+     */
+    private static final class PruningNode {
+
+        private final List<PruningNode> children = new ArrayList<>();
+        private final SelectionSetNode node;
+        private final PruningNode parent;
+        private long cost;
+        private boolean isModified;
+        private boolean isRemoved;
+
+        private PruningNode(SelectionSetNode node, PruningNode parent) {
+            this.node = node;
+            this.parent = parent;
+        }
+
+        private List<SelectionSetNode> getChildNodes() {
+            List<SelectionSetNode> childNodes = new ArrayList<>(children.size());
+            for (PruningNode child : children) {
+                childNodes.add(child.isModified ? withChildren(child.node, child.getChildNodes()) : child.node);
+            }
+            return childNodes;
+        }
+
+        private void remove() {
+            isRemoved = true;
+            parent.children.remove(this);
+            if (parent.children.isEmpty() && parent.parent != null) {
+                parent.remove();
+            } else {
+                parent.updateCost();
+            }
+        }
+
+        // only costs of ancestors are affected by removal of nested selection set
+        private void updateCost() {
+            for (PruningNode ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                long childrenCost = 0L;
+                for (PruningNode child : ancestor.children) {
+                    childrenCost = SelectionSetNode.addCost(childrenCost, child.cost);
+                }
+                ancestor.cost = ancestor.node == null ? childrenCost : SelectionSetNode.addCost(
+                        ancestor.node.getWeight(), SelectionSetNode.multiplyCost(childrenCost,
+                                ancestor.node.getMultiplier()));
+                ancestor.isModified = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Collection;
+
+/**
+ * Immutable selection set with its estimated cost and depth. Cost is calculated using weights and list multipliers of
+ * fields, depth is maximum nesting level of fields where fields of selection set itself have first level.
+ *
+ * @see com.github.vladislavsevruk.generator.strategy.cost.FieldCostRegistry
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class SelectionSetEstimate {
+
+    long cost;
+    int depth;
+    String selectionSet;
+
+    SelectionSetEstimate(Collection<SelectionSetNode> nodes) {
+        StringBuilder sink = new StringBuilder();
+        SelectionSetNode.appendSelectionSet(nodes, sink);
+        this.selectionSet = sink.toString();
+        this.cost = SelectionSetNode.getCost(nodes);
+        this.depth = SelectionSetNode.getDepth(nodes);
+    }
+}
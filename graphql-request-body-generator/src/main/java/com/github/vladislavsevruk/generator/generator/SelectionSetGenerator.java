@@ -23,15 +23,23 @@
  */
 package com.github.vladislavsevruk.generator.generator;
 
-import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
-import com.github.vladislavsevruk.generator.annotation.GqlField;
-import com.github.vladislavsevruk.generator.annotation.GqlUnion;
-import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
+import com.github.vladislavsevruk.generator.cache.SelectionSetCache;
+import com.github.vladislavsevruk.generator.cache.SelectionSetCacheKey;
+import com.github.vladislavsevruk.generator.descriptor.GqlFieldDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlModelDescriptor;
+import com.github.vladislavsevruk.generator.descriptor.GqlUnionTypeDescriptor;
+import com.github.vladislavsevruk.generator.metadata.GqlModelMetadataRegistry;
+import com.github.vladislavsevruk.generator.strategy.cost.FieldCostRegistry;
+import com.github.vladislavsevruk.generator.strategy.fragment.FragmentOutputManager;
+import com.github.vladislavsevruk.generator.strategy.looping.CountingLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.FieldAnnotationLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.UnionAnnotationLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.parallel.ParallelGenerationManager;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.BudgetFieldsPickingStrategy;
 import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetPaths;
 import com.github.vladislavsevruk.generator.util.GqlNamePicker;
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.context.TypeMetaResolvingContextManager;
@@ -40,13 +48,27 @@ import com.github.vladislavsevruk.resolver.resolver.field.FieldTypeResolver;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.extern.log4j.Log4j2;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
 
 /**
  * Generates selection sets for GraphQL operations for received model according to different field picking strategies.
@@ -54,166 +76,589 @@ import java.util.Set;
 @Log4j2
 public class SelectionSetGenerator {
 
-    private static final String DELIMITER = " ";
     private final FieldMarkingStrategy fieldMarkingStrategy;
-    private final LoopDetector loopDetector;
     private final LoopBreakingStrategy defaultLoopBreakingStrategy;
     private final TypeMeta<?> modelTypeMeta;
+    private final SelectionSetPaths selectionSetPaths;
     private final ResolvingContext<TypeMeta<?>> resolvingContext = TypeMetaResolvingContextManager.getContext();
     private final FieldTypeResolver<TypeMeta<?>> fieldTypeResolver = new FieldTypeMetaResolver(resolvingContext);
 
     public SelectionSetGenerator(TypeMeta<?> modelTypeMeta, FieldMarkingStrategy fieldMarkingStrategy,
             LoopBreakingStrategy defaultLoopBreakingStrategy) {
+        this(modelTypeMeta, fieldMarkingStrategy, defaultLoopBreakingStrategy, SelectionSetPaths.all());
+    }
+
+    public SelectionSetGenerator(TypeMeta<?> modelTypeMeta, FieldMarkingStrategy fieldMarkingStrategy,
+            LoopBreakingStrategy defaultLoopBreakingStrategy, SelectionSetPaths selectionSetPaths) {
         Objects.requireNonNull(modelTypeMeta);
         Objects.requireNonNull(fieldMarkingStrategy);
+        Objects.requireNonNull(selectionSetPaths);
         this.modelTypeMeta = modelTypeMeta;
         this.fieldMarkingStrategy = fieldMarkingStrategy;
         this.defaultLoopBreakingStrategy = defaultLoopBreakingStrategy;
-        this.loopDetector = new LoopDetector(modelTypeMeta);
+        this.selectionSetPaths = selectionSetPaths;
     }
 
     /**
-     * Builds selection set for GraphQL operation according to received field picking strategy.
+     * Builds selection set for GraphQL operation according to received field picking strategy and estimates its cost
+     * and depth. Estimated selection sets generated using cacheable strategies are reused for the same model and
+     * selection set paths.
+     *
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @return <code>SelectionSetEstimate</code> with resulted selection set and its estimated cost and depth.
+     * @see BudgetFieldsPickingStrategy
+     * @see FieldCostRegistry
+     */
+    public SelectionSetEstimate estimate(FieldsPickingStrategy fieldsPickingStrategy) {
+        Objects.requireNonNull(fieldsPickingStrategy);
+        SelectionSetCacheKey cacheKey = SelectionSetCacheKey.of(modelTypeMeta, fieldMarkingStrategy,
+                fieldsPickingStrategy, defaultLoopBreakingStrategy, selectionSetPaths);
+        return SelectionSetCache.getEstimated(cacheKey,
+                () -> new SelectionSetEstimate(collectRootQueryParameters(fieldsPickingStrategy)));
+    }
+
+    /**
+     * Builds selection set for GraphQL operation according to received field picking strategy. Selection sets
+     * generated using cacheable strategies are reused for the same model and selection set paths. Selection sets
+     * precomputed at compile time are used without reflection if they match received strategy and selection set
+     * paths don't restrict any field.
      *
      * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for query.
      * @return <code>String</code> with resulted selection set.
+     * @see GqlModelMetadataRegistry
+     * @see SelectionSetCache
      */
     public String generate(FieldsPickingStrategy fieldsPickingStrategy) {
         Objects.requireNonNull(fieldsPickingStrategy);
-        log.debug("Generating selection set for '{}' model using '{}' field marking strategy "
-                        + "and '{}' field picking strategy.", modelTypeMeta.getType().getName(),
-                fieldMarkingStrategy.getClass().getName(), fieldsPickingStrategy.getClass().getName());
-        MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
-                .get(modelTypeMeta);
-        Set<String> queryParams = collectQueryParameters(hierarchy, modelTypeMeta, fieldsPickingStrategy);
-        return "{" + String.join(DELIMITER, queryParams) + "}";
+        if (selectionSetPaths.isAll()) {
+            String precomputedSelectionSet = GqlModelMetadataRegistry.getSelectionSet(modelTypeMeta,
+                    fieldMarkingStrategy, fieldsPickingStrategy, defaultLoopBreakingStrategy);
+            if (precomputedSelectionSet != null) {
+                return precomputedSelectionSet;
+            }
+        }
+        SelectionSetCacheKey cacheKey = SelectionSetCacheKey.of(modelTypeMeta, fieldMarkingStrategy,
+                fieldsPickingStrategy, defaultLoopBreakingStrategy, selectionSetPaths);
+        return SelectionSetCache.get(cacheKey, () -> generateSelectionSet(fieldsPickingStrategy));
     }
 
-    private void addFieldWithSelectionSetQueryParameter(Set<String> queryParams, TypeMeta<?> typeMeta, Field field,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        TypeMeta<?> fieldTypeMeta = fieldTypeResolver.resolveField(typeMeta, field);
+    /**
+     * Builds selection set for GraphQL operation according to received field picking strategy and appends it to
+     * received sink.
+     *
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @param sink                  <code>StringBuilder</code> to append selection set to.
+     */
+    public void generate(FieldsPickingStrategy fieldsPickingStrategy, StringBuilder sink) {
+        sink.append(generate(fieldsPickingStrategy));
+    }
+
+    /**
+     * Builds selection set for GraphQL operation according to received field picking strategy and appends it to
+     * received sink. If named fragments output is used repeated sub-selections are replaced with fragment spreads and
+     * fragment definitions are added to received fragments of GraphQL document, so they can be appended to the end of
+     * document. If fragments clash with already collected ones by name selection set is appended inline.
+     *
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @param sink                  <code>StringBuilder</code> to append selection set to.
+     * @param fragments             <code>Map</code> with names and definitions of fragments used at GraphQL document.
+     * @see FragmentOutputManager
+     */
+    public void generate(FieldsPickingStrategy fieldsPickingStrategy, StringBuilder sink,
+            Map<String, String> fragments) {
+        if (!FragmentOutputManager.isNamedFragments()) {
+            generate(fieldsPickingStrategy, sink);
+            return;
+        }
+        Objects.requireNonNull(fieldsPickingStrategy);
+        SelectionSetCacheKey cacheKey = SelectionSetCacheKey.of(modelTypeMeta, fieldMarkingStrategy,
+                fieldsPickingStrategy, defaultLoopBreakingStrategy, selectionSetPaths);
+        FragmentedSelectionSet selectionSet = SelectionSetCache.getFragmented(cacheKey,
+                () -> FragmentExtractor.extract(collectRootQueryParameters(fieldsPickingStrategy)));
+        if (!selectionSet.isCompatibleWith(fragments)) {
+            log.debug("Fragments of '{}' model clash with fragments of document.", modelTypeMeta.getType().getName());
+            generate(fieldsPickingStrategy, sink);
+            return;
+        }
+        fragments.putAll(selectionSet.getFragments());
+        sink.append(selectionSet.getSelectionSet());
+    }
+
+    FieldMarkingStrategy getFieldMarkingStrategy() {
+        return fieldMarkingStrategy;
+    }
+
+    private void addFieldQueryParameter(Set<SelectionSetNode> queryParams, TypeMeta<?> typeMeta,
+            GqlFieldDescriptor fieldDescriptor, GenerationContext context) {
+        String fieldName = fieldDescriptor.getField().getName();
+        if (fieldDescriptor.isDelegate()) {
+            log.debug("'{}' is delegate.", fieldName);
+            queryParams.addAll(collectDelegatedQueryParameters(typeMeta, fieldDescriptor, context));
+        } else if (fieldDescriptor.isUnion()) {
+            log.debug("'{}' is union.", fieldName);
+            addUnionQueryParameters(queryParams, fieldDescriptor, context.withFieldPaths(fieldDescriptor));
+        } else if (fieldDescriptor.isWithSelectionSet()) {
+            log.debug("'{}' is field with selection set.", fieldName);
+            addFieldWithSelectionSetQueryParameter(queryParams, typeMeta, fieldDescriptor,
+                    context.withFieldPaths(fieldDescriptor));
+        } else {
+            log.debug("'{}' is field.", fieldName);
+            queryParams.add(SelectionSetNode.leaf(fieldDescriptor.getNameWithArgumentsAndAlias(),
+                    FieldCostRegistry.getWeight(fieldDescriptor.getField())));
+        }
+    }
+
+    private void addFieldWithSelectionSetQueryParameter(Set<SelectionSetNode> queryParams, TypeMeta<?> typeMeta,
+            GqlFieldDescriptor fieldDescriptor, GenerationContext context) {
+        TypeMeta<?> fieldTypeMeta = fieldTypeResolver.resolveField(typeMeta, fieldDescriptor.getField());
+        if (context.isLoopFree(getSelectionSetTypeMeta(fieldTypeMeta))) {
+            addResolvedFieldWithSelectionSetQueryParameter(queryParams, fieldTypeMeta, fieldDescriptor,
+                    context.withoutLoopDetection());
+            return;
+        }
+        LoopDetector loopDetector = context.loopDetector;
         loopDetector.addToTrace(fieldTypeMeta);
         LoopBreakingStrategy fieldAnnotationLoopBreakingStrategy = new FieldAnnotationLoopBreakingStrategy(
-                field.getAnnotation(GqlField.class), defaultLoopBreakingStrategy);
+                fieldDescriptor.getFieldAnnotation(), defaultLoopBreakingStrategy);
         if (loopDetector.shouldBreakOnItem(fieldTypeMeta, fieldAnnotationLoopBreakingStrategy)) {
             log.warn("'{}' won't be added to selection set to avoid endless loop.", loopDetector.getTrace());
         } else {
-            Set<String> fieldWithSelectionSetQueryParams = collectFieldWithSelectionSetQueryParameters(fieldTypeMeta,
-                    fieldsPickingStrategy);
-            if (!fieldWithSelectionSetQueryParams.isEmpty()) {
-                String fieldNameWithArgumentsAndAlias = GqlNamePicker.getFieldNameWithArgumentsAndAlias(field);
-                String fieldWithSelectionSetQueryParam = fieldNameWithArgumentsAndAlias + "{" + String.join(DELIMITER,
-                        fieldWithSelectionSetQueryParams) + "}";
-                queryParams.add(fieldWithSelectionSetQueryParam);
-            }
+            addResolvedFieldWithSelectionSetQueryParameter(queryParams, fieldTypeMeta, fieldDescriptor, context);
         }
         loopDetector.removeLastItemFromTrace();
     }
 
-    private void addQueryParameter(Set<String> queryParams, TypeMeta<?> typeMeta, Field field,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        if (field.getAnnotation(GqlDelegate.class) != null) {
-            log.debug("'{}' is delegate.", field.getName());
-            queryParams.addAll(collectDelegatedQueryParameters(typeMeta, field, fieldsPickingStrategy));
-        } else if (field.getAnnotation(GqlUnion.class) != null) {
-            GqlUnion unionAnnotation = field.getAnnotation(GqlUnion.class);
-            log.debug("'{}' is union.", field.getName());
-            addUnionQueryParameters(queryParams, unionAnnotation.value(), field, fieldsPickingStrategy);
-        } else {
-            GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
-            if (fieldAnnotation != null && fieldAnnotation.withSelectionSet()) {
-                log.debug("'{}' is field with selection set.", field.getName());
-                addFieldWithSelectionSetQueryParameter(queryParams, typeMeta, field, fieldsPickingStrategy);
+    private void addQueryParameter(Set<SelectionSetNode> queryParams, TypeMeta<?> typeMeta,
+            GqlFieldDescriptor fieldDescriptor, GenerationContext context) {
+        String deferredFragmentName = fieldDescriptor.getDeferredFragmentName();
+        if (deferredFragmentName == null) {
+            addFieldQueryParameter(queryParams, typeMeta, fieldDescriptor, context);
+            return;
+        }
+        log.debug("'{}' is deferred.", fieldDescriptor.getField().getName());
+        Set<SelectionSetNode> deferredQueryParams = new LinkedHashSet<>();
+        addFieldQueryParameter(deferredQueryParams, typeMeta, fieldDescriptor, context);
+        if (!deferredQueryParams.isEmpty()) {
+            queryParams.add(SelectionSetNode.of(deferredFragmentName, deferredQueryParams));
+        }
+    }
+
+    // subtrees are forked with their own traces while other fields are added in order of joining
+    private void addQueryParametersInParallel(Set<SelectionSetNode> queryParams, TypeMeta<?> typeMeta,
+            List<GqlFieldDescriptor> pickedFields, GenerationContext context) {
+        List<ForkJoinTask<Set<SelectionSetNode>>> tasks = new ArrayList<>(pickedFields.size());
+        for (GqlFieldDescriptor fieldDescriptor : pickedFields) {
+            if (isSubtree(fieldDescriptor)) {
+                GenerationContext taskContext = context.fork();
+                tasks.add(new GenerationTask<>(() -> {
+                    Set<SelectionSetNode> fieldQueryParams = new LinkedHashSet<>();
+                    addQueryParameter(fieldQueryParams, typeMeta, fieldDescriptor, taskContext);
+                    return fieldQueryParams;
+                }).fork());
             } else {
-                log.debug("'{}' is field.", field.getName());
-                String fieldNameWithArgumentsAndAlias = GqlNamePicker.getFieldNameWithArgumentsAndAlias(field);
-                queryParams.add(fieldNameWithArgumentsAndAlias);
+                tasks.add(null);
+            }
+        }
+        for (int i = 0; i < pickedFields.size(); ++i) {
+            ForkJoinTask<Set<SelectionSetNode>> task = tasks.get(i);
+            if (task != null) {
+                queryParams.addAll(task.join());
+            } else {
+                addQueryParameter(queryParams, typeMeta, pickedFields.get(i), context);
             }
         }
     }
 
-    private void addUnionQueryParameter(Set<String> queryParams, GqlUnionType unionType,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        TypeMeta<?> unionTypeMeta = new TypeMeta<>(unionType.value());
-        loopDetector.addToTrace(unionTypeMeta);
-        LoopBreakingStrategy unionAnnotationLoopBreakingStrategy = new UnionAnnotationLoopBreakingStrategy(unionType,
-                defaultLoopBreakingStrategy);
-        if (loopDetector.shouldBreakOnItem(unionTypeMeta, unionAnnotationLoopBreakingStrategy)) {
-            log.warn("'{}' won't be added to selection set to avoid endless loop.", loopDetector.getTrace());
-        } else {
-            MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
-                    .get(unionTypeMeta);
-            Set<String> fieldWithSelectionSetQueryParams = collectQueryParameters(hierarchy, unionTypeMeta,
-                    fieldsPickingStrategy);
-            if (!fieldWithSelectionSetQueryParams.isEmpty()) {
-                String unionName = GqlNamePicker.getUnionName(unionType);
-                String fieldWithSelectionSetQueryParam = "... on " + unionName + "{" + String.join(DELIMITER,
-                        fieldWithSelectionSetQueryParams) + "}";
-                queryParams.add(fieldWithSelectionSetQueryParam);
-            }
+    private void addResolvedFieldWithSelectionSetQueryParameter(Set<SelectionSetNode> queryParams,
+            TypeMeta<?> fieldTypeMeta, GqlFieldDescriptor fieldDescriptor, GenerationContext context) {
+        TypeMeta<?> selectionSetTypeMeta = getSelectionSetTypeMeta(fieldTypeMeta);
+        Set<SelectionSetNode> fieldWithSelectionSetQueryParams = collectSubtreeQueryParameters(selectionSetTypeMeta,
+                context);
+        if (!fieldWithSelectionSetQueryParams.isEmpty()) {
+            queryParams.add(SelectionSetNode.of(fieldDescriptor.getNameWithArgumentsAndAlias(),
+                    GqlNamePicker.getObjectTypeName(selectionSetTypeMeta.getType()), fieldWithSelectionSetQueryParams,
+                    FieldCostRegistry.getWeight(fieldDescriptor.getField()),
+                    getCostMultiplier(fieldDescriptor, fieldTypeMeta.getType())));
         }
-        loopDetector.removeLastItemFromTrace();
     }
 
-    private void addUnionQueryParameters(Set<String> queryParams, GqlUnionType[] unionTypes, Field field,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        Set<String> unionQueryParams = new LinkedHashSet<>();
-        for (GqlUnionType unionType : unionTypes) {
-            addUnionQueryParameter(unionQueryParams, unionType, fieldsPickingStrategy);
+    private void addUnionQueryParameters(Set<SelectionSetNode> queryParams, GqlFieldDescriptor fieldDescriptor,
+            GenerationContext context) {
+        Map<GqlUnionTypeDescriptor, Set<SelectionSetNode>> unionTypesQueryParams = collectUnionTypesQueryParameters(
+                fieldDescriptor.getUnionTypeDescriptors(), context);
+        Set<SelectionSetNode> commonQueryParams = fieldDescriptor.isCommonUnionFieldsHoisted()
+                ? collectCommonQueryParameters(unionTypesQueryParams.values()) : Collections.emptySet();
+        Set<SelectionSetNode> unionQueryParams = new LinkedHashSet<>();
+        if (!commonQueryParams.isEmpty()) {
+            log.debug("'{}' union types have {} common fields.", fieldDescriptor.getField().getName(),
+                    commonQueryParams.size());
+            String interfaceName = fieldDescriptor.getCommonUnionFieldsInterface();
+            if (interfaceName != null) {
+                unionQueryParams.add(SelectionSetNode.of("... on " + interfaceName, interfaceName, commonQueryParams));
+            } else {
+                unionQueryParams.addAll(commonQueryParams);
+            }
+        }
+        for (Entry<GqlUnionTypeDescriptor, Set<SelectionSetNode>> entry : unionTypesQueryParams.entrySet()) {
+            Set<SelectionSetNode> distinctQueryParams = new LinkedHashSet<>(entry.getValue());
+            distinctQueryParams.removeAll(commonQueryParams);
+            if (!distinctQueryParams.isEmpty()) {
+                GqlUnionTypeDescriptor unionTypeDescriptor = entry.getKey();
+                unionQueryParams.add(SelectionSetNode.of(unionTypeDescriptor.getInlineFragmentName(),
+                        unionTypeDescriptor.getName(), distinctQueryParams));
+            }
         }
         if (!unionQueryParams.isEmpty()) {
-            String fieldNameWithArgumentsAndAlias = GqlNamePicker.getFieldNameWithArgumentsAndAlias(field);
-            String fieldWithSelectionSetQueryParam = fieldNameWithArgumentsAndAlias + "{" + String.join(DELIMITER,
-                    unionQueryParams) + "}";
-            queryParams.add(fieldWithSelectionSetQueryParam);
+            queryParams.add(SelectionSetNode.of(fieldDescriptor.getNameWithArgumentsAndAlias(), null, unionQueryParams,
+                    FieldCostRegistry.getWeight(fieldDescriptor.getField()),
+                    getCostMultiplier(fieldDescriptor, fieldDescriptor.getField().getType())));
+        }
+    }
+
+    // fields are common only if they are shared by all union types that are present at selection set
+    private Set<SelectionSetNode> collectCommonQueryParameters(
+            Collection<Set<SelectionSetNode>> unionTypesQueryParams) {
+        if (unionTypesQueryParams.size() < 2) {
+            return Collections.emptySet();
+        }
+        Iterator<Set<SelectionSetNode>> iterator = unionTypesQueryParams.iterator();
+        Set<SelectionSetNode> commonQueryParams = new LinkedHashSet<>(iterator.next());
+        while (iterator.hasNext() && !commonQueryParams.isEmpty()) {
+            commonQueryParams.retainAll(iterator.next());
         }
+        return commonQueryParams;
     }
 
-    private Set<String> collectDelegatedQueryParameters(TypeMeta<?> typeMeta, Field field,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        TypeMeta<?> fieldTypeMeta = fieldTypeResolver.resolveField(typeMeta, field);
+    private Set<SelectionSetNode> collectDelegatedQueryParameters(TypeMeta<?> typeMeta,
+            GqlFieldDescriptor fieldDescriptor, GenerationContext context) {
+        TypeMeta<?> fieldTypeMeta = fieldTypeResolver.resolveField(typeMeta, fieldDescriptor.getField());
         MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
                 .get(fieldTypeMeta);
-        return collectQueryParameters(hierarchy, fieldTypeMeta, fieldsPickingStrategy);
+        return collectQueryParameters(hierarchy, fieldTypeMeta, context);
     }
 
-    private Set<String> collectFieldWithSelectionSetQueryParameters(TypeMeta<?> fieldTypeMeta,
-            FieldsPickingStrategy fieldsPickingStrategy) {
-        if (Collection.class.isAssignableFrom(fieldTypeMeta.getType()) || fieldTypeMeta.getType().isArray()) {
-            TypeMeta<?> genericTypeMeta = fieldTypeMeta.getGenericTypes()[0];
-            MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
-                    .get(genericTypeMeta);
-            return collectQueryParameters(hierarchy, genericTypeMeta, fieldsPickingStrategy);
-        }
+    private Collection<TypeMeta<?>> collectLinkedTypes(TypeMeta<?> typeMeta) {
+        Set<TypeMeta<?>> linkedTypes = new LinkedHashSet<>();
         MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
-                .get(fieldTypeMeta);
-        return collectQueryParameters(hierarchy, fieldTypeMeta, fieldsPickingStrategy);
+                .get(typeMeta);
+        collectLinkedTypes(hierarchy, typeMeta, linkedTypes);
+        return linkedTypes;
+    }
+
+    // fields picking strategy is ignored so graph contains all links that can be used for generation
+    private void collectLinkedTypes(MappedVariableHierarchy<TypeMeta<?>> hierarchy, TypeMeta<?> typeMeta,
+            Set<TypeMeta<?>> linkedTypes) {
+        GqlModelDescriptor modelDescriptor = GqlModelDescriptor.of(typeMeta.getType());
+        for (GqlFieldDescriptor fieldDescriptor : modelDescriptor.getMarkedFields(fieldMarkingStrategy)) {
+            if (fieldDescriptor.isDelegate()) {
+                // delegated fields are added to the same selection set
+                TypeMeta<?> fieldTypeMeta = fieldTypeResolver.resolveField(typeMeta, fieldDescriptor.getField());
+                collectLinkedTypes(resolvingContext.getMappedVariableHierarchyStorage().get(fieldTypeMeta),
+                        fieldTypeMeta, linkedTypes);
+            } else if (fieldDescriptor.isUnion()) {
+                for (GqlUnionTypeDescriptor unionTypeDescriptor : fieldDescriptor.getUnionTypeDescriptors()) {
+                    linkedTypes.add(unionTypeDescriptor.getTypeMeta());
+                }
+            } else if (fieldDescriptor.isWithSelectionSet()) {
+                linkedTypes.add(getSelectionSetTypeMeta(
+                        fieldTypeResolver.resolveField(typeMeta, fieldDescriptor.getField())));
+            }
+        }
+        Class<?> superclass = modelDescriptor.getSuperclass();
+        if (superclass != null) {
+            collectLinkedTypes(hierarchy, getTypeMeta(hierarchy, superclass), linkedTypes);
+        }
     }
 
-    private Set<String> collectQueryParameters(MappedVariableHierarchy<TypeMeta<?>> hierarchy, TypeMeta<?> typeMeta,
-            FieldsPickingStrategy fieldsPickingStrategy) {
+    private Set<SelectionSetNode> collectQueryParameters(MappedVariableHierarchy<TypeMeta<?>> hierarchy,
+            TypeMeta<?> typeMeta, GenerationContext context) {
         log.debug("Collecting GraphQL fields for '{}' model.", typeMeta.getType().getName());
-        Set<String> queryParams = new LinkedHashSet<>();
-        for (Field field : typeMeta.getType().getDeclaredFields()) {
-            if (field.isSynthetic() || !fieldMarkingStrategy.isMarkedField(field)) {
-                continue;
+        Set<SelectionSetNode> queryParams = new LinkedHashSet<>();
+        GqlModelDescriptor modelDescriptor = GqlModelDescriptor.of(typeMeta.getType());
+        List<GqlFieldDescriptor> pickedFields = new ArrayList<>();
+        int subtreesCount = 0;
+        for (GqlFieldDescriptor fieldDescriptor : modelDescriptor.getMarkedFields(fieldMarkingStrategy)) {
+            log.debug("Marked '{}' selection set field.", fieldDescriptor.getField().getName());
+            if (context.fieldsPickingStrategy.shouldBePicked(fieldDescriptor.getField())
+                    && context.isOnSelectedPath(fieldDescriptor)) {
+                log.debug("Picked '{}' selection set field.", fieldDescriptor.getField().getName());
+                pickedFields.add(fieldDescriptor);
+                subtreesCount += isSubtree(fieldDescriptor) ? 1 : 0;
             }
-            log.debug("Marked '{}' selection set field.", field.getName());
-            if (fieldsPickingStrategy.shouldBePicked(field)) {
-                log.debug("Picked '{}' selection set field.", field.getName());
-                addQueryParameter(queryParams, typeMeta, field, fieldsPickingStrategy);
+        }
+        if (context.shouldFork(subtreesCount)) {
+            addQueryParametersInParallel(queryParams, typeMeta, pickedFields, context);
+        } else {
+            for (GqlFieldDescriptor fieldDescriptor : pickedFields) {
+                addQueryParameter(queryParams, typeMeta, fieldDescriptor, context);
             }
         }
-        Class<?> superclass = typeMeta.getType().getSuperclass();
-        if (superclass != null && !Object.class.equals(superclass)) {
+        Class<?> superclass = modelDescriptor.getSuperclass();
+        if (superclass != null) {
             queryParams.addAll(
-                    collectQueryParameters(hierarchy, getTypeMeta(hierarchy, superclass), fieldsPickingStrategy));
+                    collectQueryParameters(hierarchy, getTypeMeta(hierarchy, superclass), context));
+        }
+        return mergeLabeledDeferredFragments(queryParams);
+    }
+
+    private Collection<SelectionSetNode> collectRootQueryParameters(FieldsPickingStrategy fieldsPickingStrategy) {
+        log.debug("Generating selection set for '{}' model using '{}' field marking strategy "
+                        + "and '{}' field picking strategy.", modelTypeMeta.getType().getName(),
+                fieldMarkingStrategy.getClass().getName(), fieldsPickingStrategy.getClass().getName());
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
+                .get(modelTypeMeta);
+        ForkJoinPool pool = ParallelGenerationManager.getPool();
+        GenerationContext context = new GenerationContext(fieldsPickingStrategy, selectionSetPaths,
+                new LoopDetector(modelTypeMeta), createTypeCycleAnalyzer(), isCountingSupported(), pool != null,
+                pool != null ? new ConcurrentHashMap<>() : new HashMap<>());
+        GenerationContext rootContext = context.isLoopFree(modelTypeMeta) ? context.withoutLoopDetection() : context;
+        Set<SelectionSetNode> queryParams = pool != null ? pool.invoke(
+                new GenerationTask<>(() -> collectQueryParameters(hierarchy, modelTypeMeta, rootContext)))
+                : collectQueryParameters(hierarchy, modelTypeMeta, rootContext);
+        if (fieldsPickingStrategy instanceof BudgetFieldsPickingStrategy) {
+            BudgetFieldsPickingStrategy budgetStrategy = (BudgetFieldsPickingStrategy) fieldsPickingStrategy;
+            return SelectionSetBudgetPruner.prune(queryParams, budgetStrategy.getMaxCost(),
+                    budgetStrategy.getMaxDepth());
         }
         return queryParams;
     }
 
+    // subtree depends only on trace counts for counting strategies, so it is generated once for every trace state
+    private Set<SelectionSetNode> collectSubtreeQueryParameters(TypeMeta<?> typeMeta, GenerationContext context) {
+        SubtreeKey subtreeKey = context.getSubtreeKey(typeMeta);
+        Set<SelectionSetNode> queryParams = subtreeKey != null ? context.subtrees.get(subtreeKey) : null;
+        if (queryParams != null) {
+            log.debug("Reusing generated selection set for '{}' model.", typeMeta.getType().getName());
+            return queryParams;
+        }
+        MappedVariableHierarchy<TypeMeta<?>> hierarchy = resolvingContext.getMappedVariableHierarchyStorage()
+                .get(typeMeta);
+        queryParams = Collections.unmodifiableSet(collectQueryParameters(hierarchy, typeMeta, context));
+        if (subtreeKey != null) {
+            context.subtrees.put(subtreeKey, queryParams);
+        }
+        return queryParams;
+    }
+
+    private Set<SelectionSetNode> collectUnionTypeQueryParameters(GqlUnionTypeDescriptor unionTypeDescriptor,
+            GenerationContext context) {
+        TypeMeta<?> unionTypeMeta = unionTypeDescriptor.getTypeMeta();
+        if (context.isLoopFree(unionTypeMeta)) {
+            return collectSubtreeQueryParameters(unionTypeMeta, context.withoutLoopDetection());
+        }
+        LoopDetector loopDetector = context.loopDetector;
+        loopDetector.addToTrace(unionTypeMeta);
+        LoopBreakingStrategy unionAnnotationLoopBreakingStrategy = new UnionAnnotationLoopBreakingStrategy(
+                unionTypeDescriptor.getUnionType(), defaultLoopBreakingStrategy);
+        Set<SelectionSetNode> unionTypeQueryParams = Collections.emptySet();
+        if (loopDetector.shouldBreakOnItem(unionTypeMeta, unionAnnotationLoopBreakingStrategy)) {
+            log.warn("'{}' won't be added to selection set to avoid endless loop.", loopDetector.getTrace());
+        } else {
+            unionTypeQueryParams = collectSubtreeQueryParameters(unionTypeMeta, context);
+        }
+        loopDetector.removeLastItemFromTrace();
+        return unionTypeQueryParams;
+    }
+
+    private Map<GqlUnionTypeDescriptor, Set<SelectionSetNode>> collectUnionTypesQueryParameters(
+            List<GqlUnionTypeDescriptor> unionTypeDescriptors, GenerationContext context) {
+        Map<GqlUnionTypeDescriptor, ForkJoinTask<Set<SelectionSetNode>>> tasks = new LinkedHashMap<>();
+        if (context.shouldFork(unionTypeDescriptors.size())) {
+            for (GqlUnionTypeDescriptor unionTypeDescriptor : unionTypeDescriptors) {
+                GenerationContext taskContext = context.fork();
+                tasks.put(unionTypeDescriptor,
+                        new GenerationTask<>(() -> collectUnionTypeQueryParameters(unionTypeDescriptor, taskContext))
+                                .fork());
+            }
+        }
+        Map<GqlUnionTypeDescriptor, Set<SelectionSetNode>> unionTypesQueryParams = new LinkedHashMap<>();
+        for (GqlUnionTypeDescriptor unionTypeDescriptor : unionTypeDescriptors) {
+            ForkJoinTask<Set<SelectionSetNode>> task = tasks.get(unionTypeDescriptor);
+            Set<SelectionSetNode> unionTypeQueryParams = task != null ? task.join()
+                    : collectUnionTypeQueryParameters(unionTypeDescriptor, context);
+            if (!unionTypeQueryParams.isEmpty()) {
+                unionTypesQueryParams.put(unionTypeDescriptor, unionTypeQueryParams);
+            }
+        }
+        return unionTypesQueryParams;
+    }
+
+    private TypeCycleAnalyzer createTypeCycleAnalyzer() {
+        // subtrees without loops can skip loop detection only if strategy never breaks on non-repeated elements
+        if (defaultLoopBreakingStrategy instanceof CountingLoopBreakingStrategy
+                && ((CountingLoopBreakingStrategy) defaultLoopBreakingStrategy).isBreakingOnlyRepeatedElements()) {
+            return TypeCycleAnalyzer.of(fieldMarkingStrategy, this::collectLinkedTypes);
+        }
+        return null;
+    }
+
+    private String generateSelectionSet(FieldsPickingStrategy fieldsPickingStrategy) {
+        Collection<SelectionSetNode> queryParams = collectRootQueryParameters(fieldsPickingStrategy);
+        StringBuilder sink = new StringBuilder();
+        SelectionSetNode.appendSelectionSet(queryParams, sink);
+        return sink.toString();
+    }
+
+    private int getCostMultiplier(GqlFieldDescriptor fieldDescriptor, Class<?> fieldType) {
+        return isList(fieldType) ? FieldCostRegistry.getListMultiplier(fieldDescriptor.getField()) : 1;
+    }
+
+    private TypeMeta<?> getSelectionSetTypeMeta(TypeMeta<?> fieldTypeMeta) {
+        if (isList(fieldTypeMeta.getType())) {
+            return fieldTypeMeta.getGenericTypes()[0];
+        }
+        return fieldTypeMeta;
+    }
+
     private TypeMeta<?> getTypeMeta(MappedVariableHierarchy<TypeMeta<?>> hierarchy, Class<?> clazz) {
         TypeVariableMap<TypeMeta<?>> typeVariableMap = hierarchy.getTypeVariableMap(clazz);
         return resolvingContext.getTypeResolverPicker().pickTypeResolver(clazz).resolve(typeVariableMap, clazz);
     }
+
+    private boolean isCountingSupported() {
+        // annotation based strategies are either nesting ones or default one
+        return defaultLoopBreakingStrategy instanceof CountingLoopBreakingStrategy
+                && ((CountingLoopBreakingStrategy) defaultLoopBreakingStrategy).isCountingSupported();
+    }
+
+    private boolean isList(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || type.isArray();
+    }
+
+    private boolean isSubtree(GqlFieldDescriptor fieldDescriptor) {
+        return fieldDescriptor.isUnion() || fieldDescriptor.isWithSelectionSet() && !fieldDescriptor.isDelegate();
+    }
+
+    // labels of deferred fragments should be unique, so fields deferred with the same label are grouped together
+    private Set<SelectionSetNode> mergeLabeledDeferredFragments(Set<SelectionSetNode> queryParams) {
+        Map<String, Set<SelectionSetNode>> labeledDeferredQueryParams = new HashMap<>();
+        int labeledDeferredFragmentsCount = 0;
+        for (SelectionSetNode queryParam : queryParams) {
+            if (GqlNamePicker.isLabeledDeferredFragmentName(queryParam.getName())) {
+                labeledDeferredQueryParams.computeIfAbsent(queryParam.getName(), name -> new LinkedHashSet<>())
+                        .addAll(queryParam.getChildren());
+                labeledDeferredFragmentsCount++;
+            }
+        }
+        if (labeledDeferredQueryParams.size() == labeledDeferredFragmentsCount) {
+            return queryParams;
+        }
+        Set<SelectionSetNode> mergedQueryParams = new LinkedHashSet<>();
+        for (SelectionSetNode queryParam : queryParams) {
+            if (!GqlNamePicker.isLabeledDeferredFragmentName(queryParam.getName())) {
+                mergedQueryParams.add(queryParam);
+                continue;
+            }
+            Set<SelectionSetNode> deferredQueryParams = labeledDeferredQueryParams.remove(queryParam.getName());
+            if (deferredQueryParams != null) {
+                log.debug("Fields deferred with '{}' are grouped together.", queryParam.getName());
+                mergedQueryParams.add(SelectionSetNode.of(queryParam.getName(), deferredQueryParams));
+            }
+        }
+        return mergedQueryParams;
+    }
+
+    /**
+     * Holds state of single selection set generation, so generator itself can be safely shared between threads.
+     * Subtrees that can't contain loops are generated using context without loop detection. Subtrees generated by
+     * separate fork-join tasks use forked contexts with their own loop detectors. Every field with selection set uses
+     * context with its own node of selection set paths.
+     */
+    private static final class GenerationContext {
+
+        // usual threshold of fork-join tasks that keeps workers busy without splitting small subtrees
+        private static final int MAX_SURPLUS_QUEUED_TASKS = 3;
+        private final FieldsPickingStrategy fieldsPickingStrategy;
+        private final boolean isCountingSupported;
+        private final boolean isParallel;
+        private final LoopDetector loopDetector;
+        private final SelectionSetPaths paths;
+        private final Map<SubtreeKey, Set<SelectionSetNode>> subtrees;
+        private final TypeCycleAnalyzer typeCycleAnalyzer;
+
+        private GenerationContext(FieldsPickingStrategy fieldsPickingStrategy, SelectionSetPaths paths,
+                LoopDetector loopDetector, TypeCycleAnalyzer typeCycleAnalyzer, boolean isCountingSupported,
+                boolean isParallel, Map<SubtreeKey, Set<SelectionSetNode>> subtrees) {
+            this.fieldsPickingStrategy = fieldsPickingStrategy;
+            this.paths = paths;
+            this.loopDetector = loopDetector;
+            this.typeCycleAnalyzer = typeCycleAnalyzer;
+            this.isCountingSupported = isCountingSupported;
+            this.isParallel = isParallel;
+            this.subtrees = subtrees;
+        }
+
+        private GenerationContext fork() {
+            return loopDetector == null ? this
+                    : new GenerationContext(fieldsPickingStrategy, paths, loopDetector.copy(), typeCycleAnalyzer,
+                            isCountingSupported, isParallel, subtrees);
+        }
+
+        private SubtreeKey getSubtreeKey(TypeMeta<?> typeMeta) {
+            if (loopDetector == null) {
+                return new SubtreeKey(typeMeta, paths, null);
+            }
+            return isCountingSupported ? new SubtreeKey(typeMeta, paths, loopDetector.getTraceCounts()) : null;
+        }
+
+        private boolean isLoopFree(TypeMeta<?> typeMeta) {
+            return loopDetector == null || typeCycleAnalyzer != null && typeCycleAnalyzer.isLoopFree(typeMeta);
+        }
+
+        // delegates don't have own path segment as their fields are added to the same selection set
+        private boolean isOnSelectedPath(GqlFieldDescriptor fieldDescriptor) {
+            return fieldDescriptor.isDelegate() || paths.getFieldPaths(fieldDescriptor.getName()) != null;
+        }
+
+        private boolean shouldFork(int subtreesCount) {
+            return isParallel && subtreesCount > 1 && ForkJoinTask.inForkJoinPool()
+                    && ForkJoinTask.getSurplusQueuedTaskCount() <= MAX_SURPLUS_QUEUED_TASKS;
+        }
+
+        private GenerationContext withoutLoopDetection() {
+            return loopDetector == null ? this
+                    : new GenerationContext(fieldsPickingStrategy, paths, null, null, isCountingSupported,
+                            isParallel, subtrees);
+        }
+
+        private GenerationContext withFieldPaths(GqlFieldDescriptor fieldDescriptor) {
+            SelectionSetPaths fieldPaths = paths.getFieldPaths(fieldDescriptor.getName());
+            return fieldPaths == paths ? this
+                    : new GenerationContext(fieldsPickingStrategy, fieldPaths, loopDetector, typeCycleAnalyzer,
+                            isCountingSupported, isParallel, subtrees);
+        }
+    }
+
+    /**
+     * Runs part of selection set generation as fork-join task.
+     *
+     * @param <T> type of generation result.
+     */
+    private static final class GenerationTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+        private final transient Supplier<T> generator;
+
+        private GenerationTask(Supplier<T> generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        protected T compute() {
+            return generator.get();
+        }
+    }
+
+    /**
+     * Identifies generated subtree by its model, selection set paths and trace state. Trace state isn't used for
+     * subtrees generated without loop detection.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class SubtreeKey {
+
+        private final TypeMeta<?> typeMeta;
+        private final SelectionSetPaths paths;
+        private final Map<TypeMeta<?>, Integer> traceCounts;
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable node of generated selection set: field name with alias and arguments or inline fragment with nested
+ * selections if present. Nodes are rendered to a single sink without intermediate strings for every nesting level.
+ * Nodes with nested selections may keep name of GraphQL type these selections belong to, so identical sub-selections
+ * can be extracted to named fragments. Every node keeps its estimated cost and depth that are calculated once on node
+ * creation from weight and list multiplier of field and from nested selections.
+ *
+ * @see com.github.vladislavsevruk.generator.strategy.cost.FieldCostRegistry
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class SelectionSetNode {
+
+    private static final char DELIMITER = ' ';
+    private static final String FRAGMENT_PREFIX = "...";
+    List<SelectionSetNode> children;
+    long cost;
+    int depth;
+    @Getter(AccessLevel.NONE)
+    int hashCode;
+    int multiplier;
+    String name;
+    String typeName;
+    int weight;
+
+    private SelectionSetNode(String name, String typeName, List<SelectionSetNode> children, int weight,
+            int multiplier) {
+        this.name = name;
+        this.typeName = typeName;
+        this.children = children;
+        this.weight = weight;
+        this.multiplier = multiplier;
+        this.cost = addCost(weight, multiplyCost(getCost(children), multiplier));
+        this.depth = (isFragment() ? 0 : 1) + getDepth(children);
+        this.hashCode = 31 * (31 * (31 * (31 * name.hashCode() + Objects.hashCode(typeName)) + children.hashCode())
+                + weight) + multiplier;
+    }
+
+    /**
+     * Appends received nodes as selection set surrounded by braces to received sink.
+     *
+     * @param nodes <code>Collection</code> of <code>SelectionSetNode</code> to append.
+     * @param sink  <code>StringBuilder</code> to append selection set to.
+     */
+    public static void appendSelectionSet(Collection<SelectionSetNode> nodes, StringBuilder sink) {
+        sink.append('{');
+        boolean isFirst = true;
+        for (SelectionSetNode node : nodes) {
+            if (!isFirst) {
+                sink.append(DELIMITER);
+            }
+            node.appendTo(sink);
+            isFirst = false;
+        }
+        sink.append('}');
+    }
+
+    /**
+     * Returns total cost of received nodes. Cost that exceeds <code>long</code> range is limited by
+     * {@link Long#MAX_VALUE}.
+     *
+     * @param nodes <code>Collection</code> of <code>SelectionSetNode</code> to sum cost for.
+     * @return <code>long</code> with sum of nodes cost.
+     */
+    public static long getCost(Collection<SelectionSetNode> nodes) {
+        long cost = 0L;
+        for (SelectionSetNode node : nodes) {
+            cost = addCost(cost, node.cost);
+        }
+        return cost;
+    }
+
+    /**
+     * Returns maximum depth of received nodes.
+     *
+     * @param nodes <code>Collection</code> of <code>SelectionSetNode</code> to get depth for.
+     * @return <code>int</code> with maximum nesting level of fields at received nodes.
+     */
+    public static int getDepth(Collection<SelectionSetNode> nodes) {
+        int depth = 0;
+        for (SelectionSetNode node : nodes) {
+            depth = Math.max(depth, node.depth);
+        }
+        return depth;
+    }
+
+    /**
+     * Creates node for field without selection set with default weight.
+     *
+     * @param name <code>String</code> with field name, alias and arguments.
+     * @return <code>SelectionSetNode</code> without nested selections.
+     */
+    public static SelectionSetNode leaf(String name) {
+        return leaf(name, 1);
+    }
+
+    /**
+     * Creates node for field without selection set with received weight.
+     *
+     * @param name   <code>String</code> with field name, alias and arguments.
+     * @param weight <code>int</code> with own cost of field.
+     * @return <code>SelectionSetNode</code> without nested selections.
+     */
+    public static SelectionSetNode leaf(String name, int weight) {
+        return new SelectionSetNode(name, null, Collections.emptyList(), weight, 1);
+    }
+
+    /**
+     * Creates node for field or inline fragment with nested selections.
+     *
+     * @param name     <code>String</code> with field name, alias and arguments or inline fragment type condition.
+     * @param children <code>Collection</code> of nested <code>SelectionSetNode</code>.
+     * @return <code>SelectionSetNode</code> with nested selections.
+     */
+    public static SelectionSetNode of(String name, Collection<SelectionSetNode> children) {
+        return of(name, null, children);
+    }
+
+    /**
+     * Creates node for field or inline fragment with nested selections of received GraphQL type.
+     *
+     * @param name     <code>String</code> with field name, alias and arguments or inline fragment type condition.
+     * @param typeName <code>String</code> with name of GraphQL type nested selections belong to.
+     * @param children <code>Collection</code> of nested <code>SelectionSetNode</code>.
+     * @return <code>SelectionSetNode</code> with nested selections.
+     */
+    public static SelectionSetNode of(String name, String typeName, Collection<SelectionSetNode> children) {
+        return of(name, typeName, children, name.startsWith(FRAGMENT_PREFIX) ? 0 : 1, 1);
+    }
+
+    /**
+     * Creates node for field or inline fragment with nested selections of received GraphQL type with received weight
+     * and multiplier of nested selections cost.
+     *
+     * @param name       <code>String</code> with field name, alias and arguments or inline fragment type condition.
+     * @param typeName   <code>String</code> with name of GraphQL type nested selections belong to.
+     * @param children   <code>Collection</code> of nested <code>SelectionSetNode</code>.
+     * @param weight     <code>int</code> with own cost of field.
+     * @param multiplier <code>int</code> with multiplier of nested selections cost.
+     * @return <code>SelectionSetNode</code> with nested selections.
+     */
+    public static SelectionSetNode of(String name, String typeName, Collection<SelectionSetNode> children, int weight,
+            int multiplier) {
+        return new SelectionSetNode(name, typeName, Collections.unmodifiableList(new ArrayList<>(children)), weight,
+                multiplier);
+    }
+
+    /**
+     * Appends this node with all nested selections to received sink.
+     *
+     * @param sink <code>StringBuilder</code> to append node to.
+     */
+    public void appendTo(StringBuilder sink) {
+        sink.append(name);
+        if (!children.isEmpty()) {
+            appendSelectionSet(children, sink);
+        }
+    }
+
+    /**
+     * Checks if this node is inline fragment or fragment spread.
+     *
+     * @return <code>true</code> if node is fragment, <code>false</code> if it is field.
+     */
+    public boolean isFragment() {
+        return name.startsWith(FRAGMENT_PREFIX);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SelectionSetNode)) {
+            return false;
+        }
+        SelectionSetNode otherNode = (SelectionSetNode) other;
+        return hashCode == otherNode.hashCode && weight == otherNode.weight && multiplier == otherNode.multiplier
+                && name.equals(otherNode.name) && Objects.equals(typeName, otherNode.typeName) && children
+                .equals(otherNode.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sink = new StringBuilder();
+        appendTo(sink);
+        return sink.toString();
+    }
+
+    // cost is limited by max value instead of overflow
+    static long addCost(long first, long second) {
+        long sum = first + second;
+        return sum < 0L ? Long.MAX_VALUE : sum;
+    }
+
+    static long multiplyCost(long cost, int multiplier) {
+        if (multiplier != 0 && cost > Long.MAX_VALUE / multiplier) {
+            return Long.MAX_VALUE;
+        }
+        return cost * multiplier;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.cache.LoopFreeTypeCache;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Analyzes graph of model types linked by fields with selection set, union types and delegates to find types which
+ * subtrees can never contain loops. Graph is split to strongly connected components: type is loop free if its component
+ * has no cycle and all types linked to it are loop free as well. Graph is traversed without recursion, so model depth
+ * isn't limited by thread stack size. Results for cacheable field marking strategies are shared via
+ * {@link LoopFreeTypeCache}, so every type is analyzed only once.
+ */
+@Log4j2
+final class TypeCycleAnalyzer {
+
+    private final Function<TypeMeta<?>, Collection<TypeMeta<?>>> linkedTypesProvider;
+    private final Map<TypeMeta<?>, Boolean> loopFreeTypes;
+
+    private TypeCycleAnalyzer(Map<TypeMeta<?>, Boolean> loopFreeTypes,
+            Function<TypeMeta<?>, Collection<TypeMeta<?>>> linkedTypesProvider) {
+        this.loopFreeTypes = loopFreeTypes;
+        this.linkedTypesProvider = linkedTypesProvider;
+    }
+
+    /**
+     * Creates analyzer for graph built using received field marking strategy.
+     *
+     * @param fieldMarkingStrategy <code>FieldMarkingStrategy</code> that was used for graph building.
+     * @param linkedTypesProvider  <code>Function</code> that returns types linked to received one.
+     * @return <code>TypeCycleAnalyzer</code> for received graph.
+     */
+    static TypeCycleAnalyzer of(FieldMarkingStrategy fieldMarkingStrategy,
+            Function<TypeMeta<?>, Collection<TypeMeta<?>>> linkedTypesProvider) {
+        return new TypeCycleAnalyzer(LoopFreeTypeCache.get(fieldMarkingStrategy), linkedTypesProvider);
+    }
+
+    /**
+     * Checks if subtree of received type can't contain loops, so it can be generated without loop detection.
+     *
+     * @param typeMeta <code>TypeMeta</code> of graph node to check.
+     * @return <code>true</code> if no loop can be reached from received type, <code>false</code> otherwise.
+     */
+    boolean isLoopFree(TypeMeta<?> typeMeta) {
+        Boolean isLoopFree = loopFreeTypes.get(typeMeta);
+        if (isLoopFree == null) {
+            log.debug("Analyzing type graph of '{}' model for loops.", typeMeta.getType().getName());
+            connect(typeMeta, new AnalysisState());
+            isLoopFree = loopFreeTypes.get(typeMeta);
+        }
+        return isLoopFree;
+    }
+
+    // Tarjan's algorithm with explicit call stack, types analyzed earlier are treated as already completed components
+    private void connect(TypeMeta<?> root, AnalysisState state) {
+        Deque<TraversalFrame> callStack = new ArrayDeque<>();
+        callStack.push(visit(root, state));
+        while (!callStack.isEmpty()) {
+            TraversalFrame frame = callStack.peek();
+            if (frame.linkedTypes.hasNext()) {
+                TypeMeta<?> linkedType = frame.linkedTypes.next();
+                if (loopFreeTypes.containsKey(linkedType)) {
+                    continue;
+                }
+                if (!state.indexes.containsKey(linkedType)) {
+                    callStack.push(visit(linkedType, state));
+                } else if (state.onStack.contains(linkedType)) {
+                    updateLowLink(frame.typeMeta, state.indexes.get(linkedType), state);
+                }
+                continue;
+            }
+            callStack.pop();
+            if (state.lowLinks.get(frame.typeMeta).equals(state.indexes.get(frame.typeMeta))) {
+                completeComponent(frame.typeMeta, state);
+            }
+            TraversalFrame parentFrame = callStack.peek();
+            if (parentFrame != null) {
+                updateLowLink(parentFrame.typeMeta, state.lowLinks.get(frame.typeMeta), state);
+            }
+        }
+    }
+
+    private void completeComponent(TypeMeta<?> root, AnalysisState state) {
+        List<TypeMeta<?>> component = new ArrayList<>();
+        TypeMeta<?> member;
+        do {
+            member = state.stack.pop();
+            state.onStack.remove(member);
+            component.add(member);
+        } while (!member.equals(root));
+        boolean isLoopFree = component.size() == 1 && !state.linkedTypes.get(root).contains(root) && state.linkedTypes
+                .get(root).stream().allMatch(loopFreeTypes::get);
+        for (TypeMeta<?> componentMember : component) {
+            loopFreeTypes.put(componentMember, isLoopFree);
+        }
+    }
+
+    private void updateLowLink(TypeMeta<?> typeMeta, int lowLink, AnalysisState state) {
+        state.lowLinks.put(typeMeta, Math.min(state.lowLinks.get(typeMeta), lowLink));
+    }
+
+    private TraversalFrame visit(TypeMeta<?> typeMeta, AnalysisState state) {
+        int index = state.indexes.size();
+        state.indexes.put(typeMeta, index);
+        state.lowLinks.put(typeMeta, index);
+        state.stack.push(typeMeta);
+        state.onStack.add(typeMeta);
+        Collection<TypeMeta<?>> linkedTypes = linkedTypesProvider.apply(typeMeta);
+        state.linkedTypes.put(typeMeta, linkedTypes);
+        return new TraversalFrame(typeMeta, linkedTypes.iterator());
+    }
+
+    /**
+     * Holds state of single graph traversal.
+     */
+    private static final class AnalysisState {
+
+        private final Map<TypeMeta<?>, Integer> indexes = new HashMap<>();
+        private final Map<TypeMeta<?>, Collection<TypeMeta<?>>> linkedTypes = new HashMap<>();
+        private final Map<TypeMeta<?>, Integer> lowLinks = new HashMap<>();
+        private final Set<TypeMeta<?>> onStack = new HashSet<>();
+        private final Deque<TypeMeta<?>> stack = new ArrayDeque<>();
+    }
+
+    /**
+     * Holds type which linked types are being traversed and iterator over the rest of them.
+     */
+    private static final class TraversalFrame {
+
+        private final Iterator<TypeMeta<?>> linkedTypes;
+        private final TypeMeta<?> typeMeta;
+
+        private TraversalFrame(TypeMeta<?> typeMeta, Iterator<TypeMeta<?>> linkedTypes) {
+            this.typeMeta = typeMeta;
+            this.linkedTypes = linkedTypes;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator.mutation;
+
+import com.github.vladislavsevruk.generator.generator.GqlBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlParameterValue;
+import com.github.vladislavsevruk.generator.util.StringUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * Generates request bodies for bulk GraphQL mutations. Every input is rendered as separate root field of mutation with
+ * <code>m0</code>, <code>m1</code>, etc. alias and as many of them as allowed by maximum body size and maximum operations
+ * number are packed into single request body. Inputs are consumed lazily while request bodies are iterated, so only
+ * currently generated request body is kept in memory.
+ */
+@Log4j2
+public class GqlBulkMutationRequestBodyGenerator extends GqlBodyGenerator implements Iterable<String> {
+
+    private static final String ALIAS_PREFIX = "m";
+    private static final String REQUEST_BODY_END = "}\"}";
+
+    private final BiConsumer<Iterable<? extends GqlParameterValue<?>>, StringBuilder> fieldWriter;
+    private final Iterable<? extends Iterable<? extends GqlParameterValue<?>>> inputArguments;
+    private int maxBodySize = Integer.MAX_VALUE;
+    private int maxOperations = Integer.MAX_VALUE;
+    private final String operationHeader;
+
+    GqlBulkMutationRequestBodyGenerator(String operationAlias,
+            BiConsumer<Iterable<? extends GqlParameterValue<?>>, StringBuilder> fieldWriter,
+            Iterable<? extends Iterable<? extends GqlParameterValue<?>>> inputArguments) {
+        this.fieldWriter = fieldWriter;
+        this.inputArguments = inputArguments;
+        this.operationHeader = StringUtil.isNotBlank(operationAlias) ? "mutation " + operationAlias + "{" : "mutation{";
+    }
+
+    /**
+     * Returns iterator that lazily generates request bodies for received inputs.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new RequestBodyIterator(inputArguments.iterator());
+    }
+
+    /**
+     * Sets maximum size of single request body in bytes at UTF-8 encoding. Input that exceeds this limit on its own
+     * is generated as separate request body.
+     *
+     * @param maxBodySize <code>int</code> with maximum request body size in bytes.
+     * @return this.
+     */
+    public GqlBulkMutationRequestBodyGenerator maxBodySize(int maxBodySize) {
+        if (maxBodySize <= 0) {
+            throw new IllegalArgumentException("Maximum body size should be positive.");
+        }
+        this.maxBodySize = maxBodySize;
+        return this;
+    }
+
+    /**
+     * Sets maximum number of mutations at single request body.
+     *
+     * @param maxOperations <code>int</code> with maximum number of mutations per request body.
+     * @return this.
+     */
+    public GqlBulkMutationRequestBodyGenerator maxOperations(int maxOperations) {
+        if (maxOperations <= 0) {
+            throw new IllegalArgumentException("Maximum operations number should be positive.");
+        }
+        this.maxOperations = maxOperations;
+        return this;
+    }
+
+    private final class RequestBodyIterator implements Iterator<String> {
+
+        private final StringBuilder field = new StringBuilder();
+        private int fieldSize;
+        private boolean hasPendingField;
+        private final Iterator<? extends Iterable<? extends GqlParameterValue<?>>> inputs;
+
+        private RequestBodyIterator(Iterator<? extends Iterable<? extends GqlParameterValue<?>>> inputs) {
+            this.inputs = inputs;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasPendingField || inputs.hasNext();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StringBuilder body = new StringBuilder();
+            appendRequestBodyStart("", body);
+            body.append(operationHeader);
+            int bodySize = StringUtil.utf8Length(body) + REQUEST_BODY_END.length();
+            int operations = 0;
+            while (operations < maxOperations && hasNext()) {
+                if (!hasPendingField) {
+                    generateField(inputs.next());
+                }
+                String alias = ALIAS_PREFIX + operations;
+                int aliasedFieldSize = (operations == 0 ? 0 : 1) + alias.length() + 1 + fieldSize;
+                if (bodySize + aliasedFieldSize > maxBodySize) {
+                    if (operations != 0) {
+                        hasPendingField = true;
+                        break;
+                    }
+                    log.warn("Mutation exceeds maximum body size on its own and is generated as separate body.");
+                }
+                if (operations != 0) {
+                    body.append(' ');
+                }
+                body.append(alias).append(':').append(field);
+                bodySize += aliasedFieldSize;
+                operations++;
+                hasPendingField = false;
+            }
+            log.debug("Generated bulk mutation body with {} operations.", operations);
+            return body.append(REQUEST_BODY_END).toString();
+        }
+
+        private void generateField(Iterable<? extends GqlParameterValue<?>> arguments) {
+            field.setLength(0);
+            fieldWriter.accept(arguments, field);
+            StringUtil.escapeQuotes(field, 0);
+            fieldSize = StringUtil.utf8Length(field);
+        }
+    }
+}
@@ -33,8 +33,7 @@ import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStr
 import com.github.vladislavsevruk.generator.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Iterator;
 
 /**
  * Generates GraphQL mutation arguments according to different field picking strategies.
@@ -60,33 +59,65 @@ public class GqlMutationArgumentsGenerator extends BaseGqlArgumentsGenerator {
     public String generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
             ModelArgumentStrategy modelArgumentStrategy, VariablePickingStrategy variablePickingStrategy,
             Iterable<? extends GqlParameterValue<?>> arguments) {
-        if (!arguments.iterator().hasNext()) {
+        StringBuilder sink = new StringBuilder();
+        generate(inputFieldsPickingStrategy, modelArgumentStrategy, variablePickingStrategy, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL mutation arguments generated according to received field picking strategies to received sink.
+     *
+     * @param inputFieldsPickingStrategy        <code>InputFieldsPickingStrategy</code> to filter required fields for
+     *                                          mutation input.
+     * @param modelArgumentStrategy             <code>ModelArgumentStrategy</code> for mutation argument generation.
+     * @param variablePickingStrategy           <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param arguments                         <code>Iterable</code> of <code>GqlParameterValue</code> with argument
+     *                                          names and values.
+     * @param sink                              <code>StringBuilder</code> to append resulted GraphQL mutation
+     *                                          arguments to.
+     */
+    public void generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            ModelArgumentStrategy modelArgumentStrategy, VariablePickingStrategy variablePickingStrategy,
+            Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
+        Iterator<? extends GqlParameterValue<?>> iterator = arguments.iterator();
+        if (!iterator.hasNext()) {
             log.warn("GraphQL mutation argument iterable is empty.");
-            return "";
+            return;
+        }
+        sink.append('(');
+        while (iterator.hasNext()) {
+            appendArgumentValue(inputFieldsPickingStrategy, modelArgumentStrategy, variablePickingStrategy,
+                    iterator.next(), sink);
+            if (iterator.hasNext()) {
+                sink.append(',');
+            }
         }
-        return "(" + StreamSupport.stream(arguments.spliterator(), false)
-                .map(argument -> generateArgumentValue(inputFieldsPickingStrategy, modelArgumentStrategy,
-                        variablePickingStrategy, argument)).collect(Collectors.joining(",")) + ")";
+        sink.append(')');
     }
 
-    private String generateArgumentValue(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+    private void appendArgumentValue(InputFieldsPickingStrategy inputFieldsPickingStrategy,
             ModelArgumentStrategy modelArgumentStrategy, VariablePickingStrategy variablePickingStrategy,
-            GqlParameterValue<?> argument) {
+            GqlParameterValue<?> argument, StringBuilder sink) {
         if (variablePickingStrategy.isVariable(argument)) {
-            return argument.getName() + ":$" + variablePickingStrategy.getVariableName(argument);
+            sink.append(argument.getName()).append(":$").append(variablePickingStrategy.getVariableName(argument));
+            return;
         }
         if (isDelegate(argument)) {
             boolean withVariables = ((GqlDelegateArgument<?>) argument).isShouldUseVariables();
-            return generateModelArguments(argument.getValue(), inputFieldsPickingStrategy, withVariables);
+            appendModelArguments(argument.getValue(), inputFieldsPickingStrategy, withVariables, sink);
+            return;
         }
         if (!modelArgumentStrategy.isModelArgument(argument)) {
-            return argument.getName() + ":" + StringUtil.generateEscapedValueString(argument.getValue());
+            sink.append(argument.getName()).append(':');
+            StringUtil.appendEscapedValueString(argument.getValue(), sink);
+            return;
         }
         Object inputValue = argument.getValue();
         log.debug("Generating '{}' argument value for '{}' model using '{}' input field "
                         + "marking strategy and '{}' field picking strategy.", argument.getName(),
                 inputValue.getClass().getName(), inputFieldMarkingStrategy.getClass().getName(),
                 inputFieldsPickingStrategy.getClass().getName());
-        return argument.getName() + ":" + generateArgumentModelValue(inputValue, inputFieldsPickingStrategy, true);
+        sink.append(argument.getName()).append(':');
+        appendArgumentModelValue(inputValue, inputFieldsPickingStrategy, true, sink);
     }
 }
@@ -98,12 +98,41 @@ public class GqlMutationBodyGenerator extends GqlBodyGenerator {
             ModelArgumentStrategy modelArgumentStrategy, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
             VariablePickingStrategy variablePickingStrategy, String operationAlias,
             Iterable<? extends GqlParameterValue<?>> arguments) {
-        String mutation = unwrappedGqlMutationBodyGenerator.generate(inputFieldsPickingStrategy, modelArgumentStrategy,
-                selectionSetFieldsPickingStrategy, variablePickingStrategy, operationAlias, arguments);
+        StringBuilder sink = new StringBuilder();
+        generate(inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetFieldsPickingStrategy,
+                variablePickingStrategy, operationAlias, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL mutation body built with received arguments according to received field picking strategies to
+     * received sink.
+     *
+     * @param inputFieldsPickingStrategy        <code>InputFieldsPickingStrategy</code> to filter required fields for
+     *                                          mutation input.
+     * @param modelArgumentStrategy             <code>ModelArgumentStrategy</code> for mutation argument generation.
+     * @param selectionSetFieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for
+     *                                          mutation selection set.
+     * @param variablePickingStrategy           <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param operationAlias                    <code>String</code> with alias that should be used for GraphQL operation
+     *                                          generation.
+     * @param arguments                         <code>Iterable</code> of <code>GqlParameterValue</code> with argument
+     *                                          names and values.
+     * @param sink                              <code>StringBuilder</code> to append resulted GraphQL mutation body to.
+     */
+    public void generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            ModelArgumentStrategy modelArgumentStrategy, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
+            VariablePickingStrategy variablePickingStrategy, String operationAlias,
+            Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
         String variablesStr = variablesGenerator.generate(inputFieldsPickingStrategy, variablePickingStrategy,
                 arguments);
-        String wrappedMutation = wrapForRequestBody(mutation, variablesStr);
-        log.debug("Resulted wrapped mutation: {}", wrappedMutation);
-        return wrappedMutation;
+        int bodyStart = sink.length();
+        int mutationStart = appendRequestBodyStart(variablesStr, sink);
+        unwrappedGqlMutationBodyGenerator.generate(inputFieldsPickingStrategy, modelArgumentStrategy,
+                selectionSetFieldsPickingStrategy, variablePickingStrategy, operationAlias, arguments, sink);
+        appendRequestBodyEnd(mutationStart, sink);
+        if (log.isDebugEnabled()) {
+            log.debug("Resulted wrapped mutation: {}", sink.substring(bodyStart));
+        }
     }
 }
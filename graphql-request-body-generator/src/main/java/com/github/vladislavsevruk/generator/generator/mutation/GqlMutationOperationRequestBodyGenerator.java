@@ -335,9 +335,27 @@ public abstract class GqlMutationOperationRequestBodyGenerator<T extends GqlMuta
         return thisInstance();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InputFieldsPickingStrategy getVariablesFieldsPickingStrategy() {
+        return inputFieldsPickingStrategy;
+    }
+
     @Override
     protected void setExtendedArgumentsStrategiesToDefault() {
         inputFieldsPickingStrategy = InputGenerationStrategy.defaultStrategy().getInputFieldsPickingStrategy();
         modelArgumentStrategy = ModelArgumentGenerationStrategy.defaultStrategy().getModelArgumentStrategy();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeOperation(StringBuilder sink) {
+        new UnwrappedGqlMutationBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
+                inputFieldsPickingStrategy, modelArgumentStrategy, getSelectionSetFieldsPickingStrategy(),
+                getVariablePickingStrategy(), getOperationAlias(), getArguments(), sink);
+    }
 }
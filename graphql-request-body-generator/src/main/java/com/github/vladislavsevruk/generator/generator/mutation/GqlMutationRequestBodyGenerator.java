@@ -23,6 +23,20 @@
  */
 package com.github.vladislavsevruk.generator.generator.mutation;
 
+import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
+import com.github.vladislavsevruk.generator.param.GqlInputArgument;
+import com.github.vladislavsevruk.generator.param.GqlParameterValue;
+import com.github.vladislavsevruk.generator.strategy.argument.ModelArgumentStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
 /**
  * Generates request body for GraphQL mutations with received arguments and selection set according to different field
  * picking strategies.
@@ -34,13 +48,67 @@ public class GqlMutationRequestBodyGenerator
         super(mutationName);
     }
 
+    /**
+     * Creates bulk mutation generator that renders every received input as separate aliased mutation with
+     * <code>input</code> argument. Arguments set for this generator are added to every mutation as well.
+     *
+     * @param inputs <code>Iterable</code> with mutation inputs.
+     * @return <code>GqlBulkMutationRequestBodyGenerator</code> for received inputs.
+     */
+    public GqlBulkMutationRequestBodyGenerator bulk(Iterable<?> inputs) {
+        return bulk(inputs, input -> Collections.singletonList(GqlInputArgument.of(input)));
+    }
+
+    /**
+     * Creates bulk mutation generator that renders every received input as separate aliased mutation with arguments
+     * provided by received mapper. Arguments set for this generator are added to every mutation as well. Bulk
+     * mutations don't support variables, so all argument values are inlined.
+     *
+     * @param inputs          <code>Iterable</code> with mutation inputs.
+     * @param argumentsMapper <code>Function</code> that maps input to mutation arguments.
+     * @param <I>             type of inputs.
+     * @return <code>GqlBulkMutationRequestBodyGenerator</code> for received inputs.
+     */
+    public <I> GqlBulkMutationRequestBodyGenerator bulk(Iterable<I> inputs,
+            Function<? super I, ? extends Iterable<? extends GqlParameterValue<?>>> argumentsMapper) {
+        Iterable<Iterable<? extends GqlParameterValue<?>>> inputArguments = () -> StreamSupport
+                .stream(inputs.spliterator(), false)
+                .<Iterable<? extends GqlParameterValue<?>>>map(argumentsMapper::apply).iterator();
+        String selectionSet = getSelectionSetGenerator().generate(getSelectionSetFieldsPickingStrategy());
+        GqlMutationArgumentsGenerator mutationArgumentsGenerator = new GqlMutationArgumentsGenerator(
+                FieldMarkingStrategySourceManager.input().getStrategy());
+        String mutationName = getOperationName();
+        Iterable<? extends GqlParameterValue<?>> commonArguments = getArguments();
+        InputFieldsPickingStrategy fieldsPickingStrategy = inputFieldsPickingStrategy;
+        ModelArgumentStrategy argumentStrategy = modelArgumentStrategy;
+        VariablePickingStrategy variablePickingStrategy = getVariablePickingStrategy();
+        return new GqlBulkMutationRequestBodyGenerator(getOperationAlias(), (arguments, sink) -> {
+            List<GqlParameterValue<?>> mutationArguments = new ArrayList<>();
+            commonArguments.forEach(mutationArguments::add);
+            arguments.forEach(mutationArguments::add);
+            mutationArguments.forEach(argument -> verifyIsNotVariable(variablePickingStrategy, argument));
+            sink.append(mutationName);
+            mutationArgumentsGenerator.generate(fieldsPickingStrategy, argumentStrategy, variablePickingStrategy,
+                    mutationArguments, sink);
+            sink.append(selectionSet);
+        }, inputArguments);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public String generate() {
-        return new GqlMutationBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
+    protected void writeBody(StringBuilder sink) {
+        new GqlMutationBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
                 inputFieldsPickingStrategy, modelArgumentStrategy, getSelectionSetFieldsPickingStrategy(),
-                getVariablePickingStrategy(), getOperationAlias(), getArguments());
+                getVariablePickingStrategy(), getOperationAlias(), getArguments(), sink);
+    }
+
+    private static void verifyIsNotVariable(VariablePickingStrategy variablePickingStrategy,
+            GqlParameterValue<?> argument) {
+        if (variablePickingStrategy.isVariable(argument) || (argument instanceof GqlDelegateArgument
+                && ((GqlDelegateArgument<?>) argument).isShouldUseVariables())) {
+            throw new IllegalArgumentException("Variables aren't supported by bulk mutations.");
+        }
     }
 }
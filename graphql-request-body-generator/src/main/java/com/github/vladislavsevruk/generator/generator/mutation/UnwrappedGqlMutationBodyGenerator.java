@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.generator.generator.mutation;
 
+import com.github.vladislavsevruk.generator.generator.FragmentedSelectionSet;
 import com.github.vladislavsevruk.generator.generator.GqlVariableArgumentsGenerator;
 import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
 import com.github.vladislavsevruk.generator.param.GqlParameterValue;
@@ -36,6 +37,8 @@ import com.github.vladislavsevruk.generator.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -103,17 +106,50 @@ public class UnwrappedGqlMutationBodyGenerator {
             ModelArgumentStrategy modelArgumentStrategy, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
             VariablePickingStrategy variablePickingStrategy, String operationAlias,
             Iterable<? extends GqlParameterValue<?>> arguments) {
+        StringBuilder sink = new StringBuilder();
+        generate(inputFieldsPickingStrategy, modelArgumentStrategy, selectionSetFieldsPickingStrategy,
+                variablePickingStrategy, operationAlias, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL mutation body generated with received arguments according to received field picking strategies
+     * to received sink.
+     *
+     * @param inputFieldsPickingStrategy        <code>InputFieldsPickingStrategy</code> to filter required fields for
+     *                                          mutation input.
+     * @param modelArgumentStrategy             <code>ModelArgumentStrategy</code> for mutation argument generation.
+     * @param selectionSetFieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter required fields for
+     *                                          mutation selection set.
+     * @param variablePickingStrategy           <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param operationAlias                    <code>String</code> with alias that should be used for GraphQL operation
+     *                                          generation.
+     * @param arguments                         <code>Iterable</code> of <code>GqlParameterValue</code> with argument
+     *                                          names and values.
+     * @param sink                              <code>StringBuilder</code> to append resulted GraphQL mutation to.
+     */
+    public void generate(InputFieldsPickingStrategy inputFieldsPickingStrategy,
+            ModelArgumentStrategy modelArgumentStrategy, FieldsPickingStrategy selectionSetFieldsPickingStrategy,
+            VariablePickingStrategy variablePickingStrategy, String operationAlias,
+            Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
         Objects.requireNonNull(arguments);
         log.info("Generating '{}' GraphQL mutation.", mutationName);
-        String selectionSet = selectionSetGenerator.generate(selectionSetFieldsPickingStrategy);
-        String operationArgumentsStr = operationArgumentsGenerator.generate(inputFieldsPickingStrategy,
-                variablePickingStrategy, arguments);
-        String argumentsStr = mutationArgumentsGenerator.generate(inputFieldsPickingStrategy, modelArgumentStrategy,
-                variablePickingStrategy, arguments);
-        String operationPrefix = StringUtil.isNotBlank(operationAlias) ? "mutation " + operationAlias : "mutation";
-        String mutation = operationPrefix + operationArgumentsStr + "{" + mutationName + argumentsStr + selectionSet
-                + "}";
-        log.debug("Resulted mutation: {}", mutation);
-        return mutation;
+        int mutationStart = sink.length();
+        sink.append("mutation");
+        if (StringUtil.isNotBlank(operationAlias)) {
+            sink.append(' ').append(operationAlias);
+        }
+        sink.append(operationArgumentsGenerator.generate(inputFieldsPickingStrategy, variablePickingStrategy,
+                arguments));
+        sink.append('{').append(mutationName);
+        mutationArgumentsGenerator.generate(inputFieldsPickingStrategy, modelArgumentStrategy, variablePickingStrategy,
+                arguments, sink);
+        Map<String, String> fragments = new LinkedHashMap<>();
+        selectionSetGenerator.generate(selectionSetFieldsPickingStrategy, sink, fragments);
+        sink.append('}');
+        FragmentedSelectionSet.appendFragments(fragments, sink);
+        if (log.isDebugEnabled()) {
+            log.debug("Resulted mutation: {}", sink.substring(mutationStart));
+        }
     }
 }
@@ -38,9 +38,15 @@ public class UnwrappedGqlMutationRequestBodyGenerator
      * {@inheritDoc}
      */
     @Override
-    public String generate() {
-        return new UnwrappedGqlMutationBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
-                inputFieldsPickingStrategy, modelArgumentStrategy, getSelectionSetFieldsPickingStrategy(),
-                getVariablePickingStrategy(), getOperationAlias(), getArguments());
+    protected boolean isWrappedBody() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeBody(StringBuilder sink) {
+        writeOperation(sink);
     }
 }
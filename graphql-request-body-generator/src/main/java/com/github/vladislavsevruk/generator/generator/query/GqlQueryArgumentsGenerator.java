@@ -32,8 +32,7 @@ import com.github.vladislavsevruk.generator.strategy.variable.VariablePickingStr
 import com.github.vladislavsevruk.generator.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Iterator;
 
 /**
  * Generates GraphQL query arguments according to different field picking strategies.
@@ -55,25 +54,49 @@ public class GqlQueryArgumentsGenerator extends BaseGqlArgumentsGenerator {
      */
     public String generate(VariablePickingStrategy variablePickingStrategy,
             Iterable<? extends GqlParameterValue<?>> arguments) {
-        if (!arguments.iterator().hasNext()) {
+        StringBuilder sink = new StringBuilder();
+        generate(variablePickingStrategy, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL query arguments built according to received field picking strategy to received sink.
+     *
+     * @param variablePickingStrategy <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param arguments               <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and
+     *                                values.
+     * @param sink                    <code>StringBuilder</code> to append resulted GraphQL query arguments to.
+     */
+    public void generate(VariablePickingStrategy variablePickingStrategy,
+            Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
+        Iterator<? extends GqlParameterValue<?>> iterator = arguments.iterator();
+        if (!iterator.hasNext()) {
             log.debug("GraphQL query argument iterable is empty.");
-            return "";
+            return;
+        }
+        sink.append('(');
+        while (iterator.hasNext()) {
+            appendArgumentValue(variablePickingStrategy, iterator.next(), sink);
+            if (iterator.hasNext()) {
+                sink.append(',');
+            }
         }
-        return "(" + StreamSupport.stream(arguments.spliterator(), false)
-                .map(argument -> generateArgumentValue(variablePickingStrategy, argument))
-                .collect(Collectors.joining(",")) + ")";
+        sink.append(')');
     }
 
-    private String generateArgumentValue(VariablePickingStrategy variablePickingStrategy,
-            GqlParameterValue<?> argument) {
+    private void appendArgumentValue(VariablePickingStrategy variablePickingStrategy, GqlParameterValue<?> argument,
+            StringBuilder sink) {
         if (variablePickingStrategy.isVariable(argument)) {
-            return argument.getName() + ":$" + variablePickingStrategy.getVariableName(argument);
+            sink.append(argument.getName()).append(":$").append(variablePickingStrategy.getVariableName(argument));
+            return;
         }
         if (isDelegate(argument)) {
             boolean withVariables = ((GqlDelegateArgument<?>) argument).isShouldUseVariables();
-            return generateModelArguments(argument.getValue(),
-                    InputGenerationStrategy.nonNullsFields().getInputFieldsPickingStrategy(), withVariables);
+            appendModelArguments(argument.getValue(),
+                    InputGenerationStrategy.nonNullsFields().getInputFieldsPickingStrategy(), withVariables, sink);
+            return;
         }
-        return argument.getName() + ":" + StringUtil.generateEscapedValueString(argument.getValue());
+        sink.append(argument.getName()).append(':');
+        StringUtil.appendEscapedValueString(argument.getValue(), sink);
     }
 }
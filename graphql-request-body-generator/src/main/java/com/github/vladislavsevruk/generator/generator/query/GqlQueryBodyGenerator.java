@@ -85,13 +85,35 @@ public class GqlQueryBodyGenerator extends GqlBodyGenerator {
      */
     public String generate(FieldsPickingStrategy fieldsPickingStrategy, VariablePickingStrategy variablePickingStrategy,
             String operationAlias, Iterable<? extends GqlParameterValue<?>> arguments) {
-        String query = unwrappedGqlQueryBodyGenerator.generate(fieldsPickingStrategy, variablePickingStrategy,
-                operationAlias, arguments);
+        StringBuilder sink = new StringBuilder();
+        generate(fieldsPickingStrategy, variablePickingStrategy, operationAlias, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL query body built with received arguments according to received field picking strategy to
+     * received sink.
+     *
+     * @param fieldsPickingStrategy   <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @param variablePickingStrategy <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param operationAlias          <code>String</code> with alias that should be used for GraphQL operation
+     *                                generation.
+     * @param arguments               <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and
+     *                                values.
+     * @param sink                    <code>StringBuilder</code> to append resulted GraphQL query body to.
+     */
+    public void generate(FieldsPickingStrategy fieldsPickingStrategy, VariablePickingStrategy variablePickingStrategy,
+            String operationAlias, Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
         String variablesStr = variablesGenerator.generate(
                 InputGenerationStrategy.nonNullsFields().getInputFieldsPickingStrategy(), variablePickingStrategy,
                 arguments);
-        String wrappedQuery = wrapForRequestBody(query, variablesStr);
-        log.debug("Resulted wrapped query: {}", wrappedQuery);
-        return wrappedQuery;
+        int bodyStart = sink.length();
+        int queryStart = appendRequestBodyStart(variablesStr, sink);
+        unwrappedGqlQueryBodyGenerator.generate(fieldsPickingStrategy, variablePickingStrategy, operationAlias,
+                arguments, sink);
+        appendRequestBodyEnd(queryStart, sink);
+        if (log.isDebugEnabled()) {
+            log.debug("Resulted wrapped query: {}", sink.substring(bodyStart));
+        }
     }
 }
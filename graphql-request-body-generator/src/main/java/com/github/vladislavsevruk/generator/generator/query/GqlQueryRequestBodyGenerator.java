@@ -42,10 +42,19 @@ public class GqlQueryRequestBodyGenerator extends GqlOperationRequestBodyGenerat
      * {@inheritDoc}
      */
     @Override
-    public String generate() {
-        return new GqlQueryBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
+    protected void writeBody(StringBuilder sink) {
+        new GqlQueryBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
                 getSelectionSetFieldsPickingStrategy(), getVariablePickingStrategy(), getOperationAlias(),
-                getArguments());
+                getArguments(), sink);
     }
-}
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeOperation(StringBuilder sink) {
+        new UnwrappedGqlQueryBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
+                getSelectionSetFieldsPickingStrategy(), getVariablePickingStrategy(), getOperationAlias(),
+                getArguments(), sink);
+    }
+}
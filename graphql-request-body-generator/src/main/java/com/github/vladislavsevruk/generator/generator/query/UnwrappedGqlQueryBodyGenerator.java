@@ -23,6 +23,7 @@
  */
 package com.github.vladislavsevruk.generator.generator.query;
 
+import com.github.vladislavsevruk.generator.generator.FragmentedSelectionSet;
 import com.github.vladislavsevruk.generator.generator.GqlVariableArgumentsGenerator;
 import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
 import com.github.vladislavsevruk.generator.param.GqlParameterValue;
@@ -34,6 +35,8 @@ import com.github.vladislavsevruk.generator.util.StringUtil;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -89,17 +92,44 @@ public class UnwrappedGqlQueryBodyGenerator {
      */
     public String generate(FieldsPickingStrategy fieldsPickingStrategy, VariablePickingStrategy variablePickingStrategy,
             String operationAlias, Iterable<? extends GqlParameterValue<?>> arguments) {
+        StringBuilder sink = new StringBuilder();
+        generate(fieldsPickingStrategy, variablePickingStrategy, operationAlias, arguments, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends GraphQL query body built with received arguments according to received field picking strategy to
+     * received sink.
+     *
+     * @param fieldsPickingStrategy   <code>FieldsPickingStrategy</code> to filter required fields for query.
+     * @param variablePickingStrategy <code>VariablePickingStrategy</code> for mutation variables generation.
+     * @param operationAlias          <code>String</code> with alias that should be used for GraphQL operation
+     *                                generation.
+     * @param arguments               <code>Iterable</code> of <code>GqlParameterValue</code> with argument names and
+     *                                values.
+     * @param sink                    <code>StringBuilder</code> to append resulted GraphQL query to.
+     */
+    public void generate(FieldsPickingStrategy fieldsPickingStrategy, VariablePickingStrategy variablePickingStrategy,
+            String operationAlias, Iterable<? extends GqlParameterValue<?>> arguments, StringBuilder sink) {
         Objects.requireNonNull(arguments);
         log.info("Generating '{}' GraphQL query.", queryName);
-        String selectionSet = selectionSetGenerator.generate(fieldsPickingStrategy);
+        int queryStart = sink.length();
         String operationArgumentsStr = operationArgumentsGenerator.generate(variablePickingStrategy, arguments);
-        String query = "{" + queryName + queryArgumentsGenerator.generate(variablePickingStrategy, arguments)
-                + selectionSet + "}";
         if (StringUtil.isNotBlank(operationAlias) || StringUtil.isNotBlank(operationArgumentsStr)) {
-            String operationPrefix = StringUtil.isNotBlank(operationAlias) ? "query " + operationAlias : "query";
-            query = operationPrefix + operationArgumentsStr + query;
+            sink.append("query");
+            if (StringUtil.isNotBlank(operationAlias)) {
+                sink.append(' ').append(operationAlias);
+            }
+            sink.append(operationArgumentsStr);
+        }
+        sink.append('{').append(queryName);
+        queryArgumentsGenerator.generate(variablePickingStrategy, arguments, sink);
+        Map<String, String> fragments = new LinkedHashMap<>();
+        selectionSetGenerator.generate(fieldsPickingStrategy, sink, fragments);
+        sink.append('}');
+        FragmentedSelectionSet.appendFragments(fragments, sink);
+        if (log.isDebugEnabled()) {
+            log.debug("Resulted query: {}", sink.substring(queryStart));
         }
-        log.debug("Resulted query: {}", query);
-        return query;
     }
 }
@@ -43,10 +43,25 @@ public class UnwrappedGqlQueryRequestBodyGenerator
      * {@inheritDoc}
      */
     @Override
-    public String generate() {
-        return new UnwrappedGqlQueryBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
+    protected boolean isWrappedBody() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeBody(StringBuilder sink) {
+        writeOperation(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeOperation(StringBuilder sink) {
+        new UnwrappedGqlQueryBodyGenerator(getOperationName(), getSelectionSetGenerator()).generate(
                 getSelectionSetFieldsPickingStrategy(), getVariablePickingStrategy(), getOperationAlias(),
-                getArguments());
+                getArguments(), sink);
     }
 }
-
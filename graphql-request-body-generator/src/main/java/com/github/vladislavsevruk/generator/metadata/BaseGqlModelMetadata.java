@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.metadata;
+
+import com.github.vladislavsevruk.generator.accessor.ValueAccessor;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrder;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base implementation of {@link GqlModelMetadata} that keeps precomputed selection sets at flat table. Generated
+ * metadata classes extend it and register selection sets and value accessors at constructor.
+ */
+public abstract class BaseGqlModelMetadata implements GqlModelMetadata {
+
+    private static final int MARKING_TYPES_AMOUNT = FieldMarkingStrategyType.values().length;
+    private static final int ORDERS_AMOUNT = OutputOrder.values().length;
+    private static final int STRATEGIES_AMOUNT = SelectionSetGenerationStrategy.values().length;
+    private final List<String> fieldNames;
+    private final Class<?> modelClass;
+    private final String[] selectionSets = new String[MARKING_TYPES_AMOUNT * STRATEGIES_AMOUNT * ORDERS_AMOUNT];
+    private final Map<String, ValueAccessor> valueAccessors = new HashMap<>();
+
+    protected BaseGqlModelMetadata(Class<?> modelClass, String... fieldNames) {
+        this.modelClass = Objects.requireNonNull(modelClass);
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(fieldNames.clone()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getModelClass() {
+        return modelClass;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSelectionSet(FieldMarkingStrategyType fieldMarkingStrategyType,
+            SelectionSetGenerationStrategy selectionSetGenerationStrategy, OutputOrder outputOrder) {
+        return selectionSets[getIndex(fieldMarkingStrategyType, selectionSetGenerationStrategy, outputOrder)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValueAccessor getValueAccessor(String fieldName) {
+        return valueAccessors.get(fieldName);
+    }
+
+    /**
+     * Registers precomputed selection set for received strategies.
+     *
+     * @param fieldMarkingStrategyType       <code>FieldMarkingStrategyType</code> of field marking strategy.
+     * @param selectionSetGenerationStrategy <code>SelectionSetGenerationStrategy</code> used to filter fields.
+     * @param outputOrder                    <code>OutputOrder</code> of fields at selection set.
+     * @param selectionSet                   <code>String</code> with precomputed selection set.
+     */
+    protected final void addSelectionSet(FieldMarkingStrategyType fieldMarkingStrategyType,
+            SelectionSetGenerationStrategy selectionSetGenerationStrategy, OutputOrder outputOrder,
+            String selectionSet) {
+        selectionSets[getIndex(fieldMarkingStrategyType, selectionSetGenerationStrategy, outputOrder)] = Objects
+                .requireNonNull(selectionSet);
+    }
+
+    /**
+     * Registers typed accessor for value of model field.
+     *
+     * @param fieldName     <code>String</code> with java name of model field.
+     * @param valueAccessor <code>ValueAccessor</code> that receives field value from model.
+     */
+    protected final void addValueAccessor(String fieldName, ValueAccessor valueAccessor) {
+        valueAccessors.put(Objects.requireNonNull(fieldName), Objects.requireNonNull(valueAccessor));
+    }
+
+    private int getIndex(FieldMarkingStrategyType fieldMarkingStrategyType,
+            SelectionSetGenerationStrategy selectionSetGenerationStrategy, OutputOrder outputOrder) {
+        return (fieldMarkingStrategyType.ordinal() * STRATEGIES_AMOUNT + selectionSetGenerationStrategy.ordinal())
+                * ORDERS_AMOUNT + outputOrder.ordinal();
+    }
+}
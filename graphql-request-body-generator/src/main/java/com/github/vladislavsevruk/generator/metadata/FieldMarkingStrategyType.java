@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.metadata;
+
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+
+/**
+ * Contains predefined field marking strategies that selection sets can be precomputed for.
+ *
+ * @see GqlModelMetadata
+ */
+public enum FieldMarkingStrategyType {
+
+    ALL_EXCEPT_IGNORED,
+    ONLY_MARKED;
+
+    /**
+     * Returns type of received field marking strategy or <code>null</code> if it isn't one of predefined strategies.
+     *
+     * @param fieldMarkingStrategy <code>FieldMarkingStrategy</code> to get type for.
+     * @return <code>FieldMarkingStrategyType</code> of received strategy or <code>null</code> for custom strategies.
+     */
+    public static FieldMarkingStrategyType of(FieldMarkingStrategy fieldMarkingStrategy) {
+        Class<?> strategyClass = fieldMarkingStrategy.getClass();
+        if (AllExceptIgnoredFieldMarkingStrategy.class.equals(strategyClass)) {
+            return ALL_EXCEPT_IGNORED;
+        }
+        if (OnlyMarkedFieldMarkingStrategy.class.equals(strategyClass)) {
+            return ONLY_MARKED;
+        }
+        return null;
+    }
+}
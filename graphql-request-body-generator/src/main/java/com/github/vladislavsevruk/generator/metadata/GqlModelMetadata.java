@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.metadata;
+
+import com.github.vladislavsevruk.generator.accessor.ValueAccessor;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrder;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+
+import java.util.List;
+
+/**
+ * Contains metadata of model that was precomputed at compile time, so selection sets for it can be received without
+ * reflection. Selection sets are precomputed only for predefined field marking and selection set generation strategies
+ * and default endless loop breaking strategy.
+ *
+ * @see GqlModelMetadataRegistry
+ */
+public interface GqlModelMetadata {
+
+    /**
+     * Returns GraphQL names of fields declared by model in declaration order.
+     */
+    List<String> getFieldNames();
+
+    /**
+     * Returns class of model this metadata describes.
+     */
+    Class<?> getModelClass();
+
+    /**
+     * Returns precomputed selection set for received strategies.
+     *
+     * @param fieldMarkingStrategyType       <code>FieldMarkingStrategyType</code> of field marking strategy.
+     * @param selectionSetGenerationStrategy <code>SelectionSetGenerationStrategy</code> to filter fields.
+     * @param outputOrder                    <code>OutputOrder</code> of fields at selection set.
+     * @return <code>String</code> with selection set or <code>null</code> if it wasn't precomputed.
+     */
+    String getSelectionSet(FieldMarkingStrategyType fieldMarkingStrategyType,
+            SelectionSetGenerationStrategy selectionSetGenerationStrategy, OutputOrder outputOrder);
+
+    /**
+     * Returns typed accessor for value of received model field.
+     *
+     * @param fieldName <code>String</code> with java name of model field.
+     * @return <code>ValueAccessor</code> for field value or <code>null</code> if it wasn't generated.
+     */
+    ValueAccessor getValueAccessor(String fieldName);
+}
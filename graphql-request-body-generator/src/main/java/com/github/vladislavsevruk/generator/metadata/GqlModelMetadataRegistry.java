@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.metadata;
+
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides precomputed metadata of models. Metadata is either registered explicitly or loaded from class generated by
+ * annotation processor that is named after model binary name with <code>$</code> replaced by <code>_</code> and
+ * {@value #METADATA_CLASS_SUFFIX} suffix. Models without metadata are processed using reflection.
+ *
+ * @see GqlModelMetadata
+ */
+@Log4j2
+public final class GqlModelMetadataRegistry {
+
+    public static final String METADATA_CLASS_SUFFIX = "_GqlModelMetadata";
+    private static final LoopBreakingStrategy DEFAULT_LOOP_BREAKING_STRATEGY = EndlessLoopBreakingStrategy
+            .defaultStrategy().getLoopBreakingStrategy();
+    private static final ClassValue<GqlModelMetadata> GENERATED_METADATA = new ClassValue<GqlModelMetadata>() {
+        @Override
+        protected GqlModelMetadata computeValue(Class<?> type) {
+            return loadGeneratedMetadata(type);
+        }
+    };
+    private static final Map<Class<?>, GqlModelMetadata> REGISTERED_METADATA = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private GqlModelMetadataRegistry() {
+    }
+
+    /**
+     * Disables usage of precomputed metadata, so all models are processed using reflection.
+     */
+    public static void disable() {
+        log.info("Disabling precomputed model metadata.");
+        enabled = false;
+    }
+
+    /**
+     * Enables usage of precomputed metadata [default].
+     */
+    public static void enable() {
+        log.info("Enabling precomputed model metadata.");
+        enabled = true;
+    }
+
+    /**
+     * Returns precomputed metadata for received model.
+     *
+     * @param modelClass <code>Class</code> of model to get metadata for.
+     * @return <code>GqlModelMetadata</code> of received model or <code>null</code> if there is no such metadata or
+     * usage of metadata is disabled.
+     */
+    public static GqlModelMetadata get(Class<?> modelClass) {
+        if (!enabled) {
+            return null;
+        }
+        GqlModelMetadata metadata = REGISTERED_METADATA.get(modelClass);
+        return metadata != null ? metadata : GENERATED_METADATA.get(modelClass);
+    }
+
+    /**
+     * Returns name of class with generated metadata for received model.
+     *
+     * @param modelClass <code>Class</code> of model to get metadata class name for.
+     * @return <code>String</code> with fully qualified name of metadata class.
+     */
+    public static String getMetadataClassName(Class<?> modelClass) {
+        return modelClass.getName().replace('$', '_') + METADATA_CLASS_SUFFIX;
+    }
+
+    /**
+     * Returns precomputed selection set for received model and strategies if they match ones selection sets were
+     * precomputed for.
+     *
+     * @param modelTypeMeta               <code>TypeMeta</code> of model to get selection set for.
+     * @param fieldMarkingStrategy        <code>FieldMarkingStrategy</code> to get marked fields.
+     * @param fieldsPickingStrategy       <code>FieldsPickingStrategy</code> to filter fields.
+     * @param defaultLoopBreakingStrategy default <code>LoopBreakingStrategy</code> for endless loops.
+     * @return <code>String</code> with precomputed selection set or <code>null</code> if it cannot be used.
+     */
+    public static String getSelectionSet(TypeMeta<?> modelTypeMeta, FieldMarkingStrategy fieldMarkingStrategy,
+            FieldsPickingStrategy fieldsPickingStrategy, LoopBreakingStrategy defaultLoopBreakingStrategy) {
+        if (!enabled || modelTypeMeta.getGenericTypes().length != 0 || !DEFAULT_LOOP_BREAKING_STRATEGY
+                .equals(defaultLoopBreakingStrategy)) {
+            return null;
+        }
+        FieldMarkingStrategyType fieldMarkingStrategyType = FieldMarkingStrategyType.of(fieldMarkingStrategy);
+        SelectionSetGenerationStrategy selectionSetGenerationStrategy = getGenerationStrategy(fieldsPickingStrategy);
+        if (fieldMarkingStrategyType == null || selectionSetGenerationStrategy == null) {
+            return null;
+        }
+        GqlModelMetadata metadata = get(modelTypeMeta.getType());
+        if (metadata == null) {
+            return null;
+        }
+        log.debug("Using precomputed selection set for '{}' model.", modelTypeMeta.getType().getName());
+        return metadata.getSelectionSet(fieldMarkingStrategyType, selectionSetGenerationStrategy,
+                OutputOrderManager.getOrder());
+    }
+
+    /**
+     * Checks if usage of precomputed metadata is enabled.
+     *
+     * @return <code>true</code> if precomputed metadata is used, <code>false</code> otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers received metadata replacing previously registered metadata for the same model.
+     *
+     * @param metadata <code>GqlModelMetadata</code> to register.
+     */
+    public static void register(GqlModelMetadata metadata) {
+        log.debug("Registering metadata for '{}' model.", metadata.getModelClass().getName());
+        REGISTERED_METADATA.put(metadata.getModelClass(), metadata);
+    }
+
+    /**
+     * Removes all explicitly registered metadata.
+     */
+    public static void unregisterAll() {
+        REGISTERED_METADATA.clear();
+    }
+
+    private static SelectionSetGenerationStrategy getGenerationStrategy(FieldsPickingStrategy fieldsPickingStrategy) {
+        for (SelectionSetGenerationStrategy strategy : SelectionSetGenerationStrategy.values()) {
+            if (strategy.getFieldsPickingStrategy().getClass().equals(fieldsPickingStrategy.getClass())) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    private static GqlModelMetadata loadGeneratedMetadata(Class<?> modelClass) {
+        if (modelClass.isPrimitive() || modelClass.isArray()) {
+            return null;
+        }
+        String metadataClassName = getMetadataClassName(modelClass);
+        try {
+            Class<?> metadataClass = Class.forName(metadataClassName, true, modelClass.getClassLoader());
+            if (!GqlModelMetadata.class.isAssignableFrom(metadataClass)) {
+                log.warn("'{}' doesn't implement '{}' so it will be ignored.", metadataClassName,
+                        GqlModelMetadata.class.getName());
+                return null;
+            }
+            GqlModelMetadata metadata = (GqlModelMetadata) metadataClass.getDeclaredConstructor().newInstance();
+            if (!modelClass.equals(metadata.getModelClass())) {
+                log.warn("'{}' describes '{}' model instead of '{}' so it will be ignored.", metadataClassName,
+                        metadata.getModelClass().getName(), modelClass.getName());
+                return null;
+            }
+            log.debug("Loaded generated metadata for '{}' model.", modelClass.getName());
+            return metadata;
+        } catch (ClassNotFoundException cnfEx) {
+            log.debug("There is no generated metadata for '{}' model.", modelClass.getName());
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+            log.warn(String.format("Failed to load generated metadata for '%s' model.", modelClass.getName()), ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.cost;
+
+import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.cache.SelectionSetCache;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contains weights and list multipliers of fields that are used for selection set cost estimation. Cost of field
+ * without selection set equals to its weight, while cost of field with selection set equals to its weight plus cost of
+ * nested selection set multiplied by list multiplier if field is list. Weights and list multipliers registered here
+ * take priority over ones from {@link GqlField} annotation, fields without both use default values. With default
+ * values cost of selection set equals to amount of its fields. Any modification invalidates {@link SelectionSetCache}.
+ */
+@Log4j2
+public final class FieldCostRegistry {
+
+    private static final int DEFAULT_LIST_MULTIPLIER = 1;
+    private static final int DEFAULT_WEIGHT = 1;
+    private static final Map<Field, FieldCost> FIELD_COSTS = new ConcurrentHashMap<>();
+    private static volatile int defaultListMultiplier = DEFAULT_LIST_MULTIPLIER;
+    private static volatile int defaultWeight = DEFAULT_WEIGHT;
+
+    private FieldCostRegistry() {
+    }
+
+    /**
+     * Returns list multiplier that is used for list fields without registered or annotated list multiplier.
+     */
+    public static int getDefaultListMultiplier() {
+        return defaultListMultiplier;
+    }
+
+    /**
+     * Returns weight that is used for fields without registered or annotated weight.
+     */
+    public static int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Returns list multiplier of received field.
+     *
+     * @param field <code>Field</code> to get list multiplier for.
+     * @return <code>int</code> with registered, annotated or default list multiplier.
+     */
+    public static int getListMultiplier(Field field) {
+        FieldCost fieldCost = FIELD_COSTS.get(field);
+        if (fieldCost != null) {
+            return fieldCost.listMultiplier;
+        }
+        GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+        if (fieldAnnotation != null && fieldAnnotation.listMultiplier() >= 0) {
+            return fieldAnnotation.listMultiplier();
+        }
+        return defaultListMultiplier;
+    }
+
+    /**
+     * Returns weight of received field.
+     *
+     * @param field <code>Field</code> to get weight for.
+     * @return <code>int</code> with registered, annotated or default weight.
+     */
+    public static int getWeight(Field field) {
+        FieldCost fieldCost = FIELD_COSTS.get(field);
+        if (fieldCost != null) {
+            return fieldCost.weight;
+        }
+        GqlField fieldAnnotation = field.getAnnotation(GqlField.class);
+        if (fieldAnnotation != null && fieldAnnotation.weight() >= 0) {
+            return fieldAnnotation.weight();
+        }
+        return defaultWeight;
+    }
+
+    /**
+     * Registers weight and list multiplier for field of received model.
+     *
+     * @param model          <code>Class</code> of model that declares field.
+     * @param fieldName      <code>String</code> with name of model field.
+     * @param weight         <code>int</code> with own cost of field.
+     * @param listMultiplier <code>int</code> with multiplier of nested selection set cost for list field.
+     * @throws IllegalArgumentException if model doesn't declare field with received name or any value is negative.
+     */
+    public static void register(Class<?> model, String fieldName, int weight, int listMultiplier) {
+        verifyNotNegative(weight, "Weight");
+        verifyNotNegative(listMultiplier, "List multiplier");
+        Field field;
+        try {
+            field = model.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException noSuchFieldException) {
+            throw new IllegalArgumentException(
+                    String.format("'%s' doesn't declare '%s' field.", model.getName(), fieldName),
+                    noSuchFieldException);
+        }
+        log.debug("Registering weight {} and list multiplier {} for '{}'.", weight, listMultiplier, field);
+        FIELD_COSTS.put(field, new FieldCost(listMultiplier, weight));
+        SelectionSetCache.invalidate();
+    }
+
+    /**
+     * Removes all registered field costs and restores default weight and list multiplier.
+     */
+    public static void reset() {
+        log.debug("Resetting field costs.");
+        FIELD_COSTS.clear();
+        defaultListMultiplier = DEFAULT_LIST_MULTIPLIER;
+        defaultWeight = DEFAULT_WEIGHT;
+        SelectionSetCache.invalidate();
+    }
+
+    /**
+     * Sets list multiplier that is used for list fields without registered or annotated list multiplier.
+     *
+     * @param newDefaultListMultiplier <code>int</code> with default list multiplier.
+     * @throws IllegalArgumentException if received value is negative.
+     */
+    public static void setDefaultListMultiplier(int newDefaultListMultiplier) {
+        verifyNotNegative(newDefaultListMultiplier, "List multiplier");
+        defaultListMultiplier = newDefaultListMultiplier;
+        SelectionSetCache.invalidate();
+    }
+
+    /**
+     * Sets weight that is used for fields without registered or annotated weight.
+     *
+     * @param newDefaultWeight <code>int</code> with default weight.
+     * @throws IllegalArgumentException if received value is negative.
+     */
+    public static void setDefaultWeight(int newDefaultWeight) {
+        verifyNotNegative(newDefaultWeight, "Weight");
+        defaultWeight = newDefaultWeight;
+        SelectionSetCache.invalidate();
+    }
+
+    private static void verifyNotNegative(int value, String valueName) {
+        if (value < 0) {
+            throw new IllegalArgumentException(valueName + " should be greater than or equal to zero.");
+        }
+    }
+
+    /**
+     * Contains registered weight and list multiplier of field.
+     */
+    private static final class FieldCost {
+
+        private final int listMultiplier;
+        private final int weight;
+
+        private FieldCost(int listMultiplier, int weight) {
+            this.listMultiplier = listMultiplier;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.fragment;
+
+/**
+ * Contains modes of sub-selections output at generated GraphQL operations:<ul>
+ * <li> inline selections, where every sub-selection is rendered at place of its field [default]
+ * <li> named fragments, where repeated identical sub-selections of the same type are rendered once as named fragment
+ * definition at the end of operation and referenced using fragment spreads
+ * </ul>
+ * Named fragment gets name of model type with 'Fields' postfix, e.g.
+ * <code>fragment AddressFields on Address{...}</code> referenced as <code>...AddressFields</code>. Simple class name of model is used as type condition of fragment, so
+ * model classes should be named the same way as GraphQL types. Sub-selection is extracted to fragment only if it
+ * makes operation shorter.
+ *
+ * @see FragmentOutputManager
+ */
+public enum FragmentOutput {
+
+    INLINE,
+    NAMED_FRAGMENTS
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.fragment;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Manages output of repeated sub-selections at generated GraphQL operations. Selection sets with named fragments are
+ * cached separately from inline ones, so switching mode doesn't require cache invalidation.
+ *
+ * @see FragmentOutput
+ */
+@Log4j2
+public final class FragmentOutputManager {
+
+    private static volatile FragmentOutput fragmentOutput = FragmentOutput.INLINE;
+
+    private FragmentOutputManager() {
+    }
+
+    /**
+     * Returns current output of repeated sub-selections.
+     */
+    public static FragmentOutput getFragmentOutput() {
+        return fragmentOutput;
+    }
+
+    /**
+     * Checks if repeated sub-selections are currently extracted to named fragments.
+     *
+     * @return <code>true</code> if named fragments are used, <code>false</code> otherwise.
+     */
+    public static boolean isNamedFragments() {
+        return fragmentOutput == FragmentOutput.NAMED_FRAGMENTS;
+    }
+
+    /**
+     * Sets output that renders every sub-selection inline at place of its field.
+     */
+    public static void useInlineSelections() {
+        useFragmentOutput(FragmentOutput.INLINE);
+    }
+
+    /**
+     * Sets output that extracts repeated identical sub-selections of the same type to named fragments.
+     */
+    public static void useNamedFragments() {
+        useFragmentOutput(FragmentOutput.NAMED_FRAGMENTS);
+    }
+
+    private static void useFragmentOutput(FragmentOutput newFragmentOutput) {
+        log.info("Using {} fragment output.", newFragmentOutput);
+        fragmentOutput = newFragmentOutput;
+    }
+}
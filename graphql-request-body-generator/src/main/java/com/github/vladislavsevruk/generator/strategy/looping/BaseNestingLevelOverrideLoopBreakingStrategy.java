@@ -25,14 +25,16 @@ package com.github.vladislavsevruk.generator.strategy.looping;
 
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Provides loop breaking strategy for excluding looped element from looping sequence based on values from annotation.
  *
+ * @see CountingLoopBreakingStrategy
  * @see LoopBreakingStrategy
  */
-public class BaseNestingLevelOverrideLoopBreakingStrategy implements LoopBreakingStrategy {
+public class BaseNestingLevelOverrideLoopBreakingStrategy implements CountingLoopBreakingStrategy {
 
     private final LoopBreakingStrategy delegate;
 
@@ -45,6 +47,46 @@ public class BaseNestingLevelOverrideLoopBreakingStrategy implements LoopBreakin
         }
     }
 
+    /**
+     * Checks if strategy used for received nesting level breaks loop only on elements that are present at trace more
+     * than once.
+     *
+     * @return <code>true</code> if loop is never broken on elements present at trace only once, <code>false</code>
+     * otherwise.
+     */
+    @Override
+    public boolean isBreakingOnlyRepeatedElements() {
+        return isCountingSupported() && ((CountingLoopBreakingStrategy) delegate).isBreakingOnlyRepeatedElements();
+    }
+
+    /**
+     * Checks if counting of trace items is supported by strategy used for received nesting level.
+     *
+     * @return <code>true</code> if counting of trace items is supported, <code>false</code> otherwise.
+     */
+    @Override
+    public boolean isCountingSupported() {
+        return delegate instanceof CountingLoopBreakingStrategy
+                && ((CountingLoopBreakingStrategy) delegate).isCountingSupported();
+    }
+
+    /**
+     * Checks if loop should be broken on item with received element type. If strategy used for received nesting level
+     * doesn't support counting of trace items it is checked against trace that consists of received amount of items
+     * with the same element type.
+     *
+     * @param elementTypeMeta   <code>TypeMeta</code> of item element to check.
+     * @param elementTraceCount number of trace items with the same element type including checked item.
+     * @return <code>true</code> if loop should be broken on received item, <code>false</code> otherwise.
+     */
+    @Override
+    public boolean shouldBreakOnElement(TypeMeta<?> elementTypeMeta, int elementTraceCount) {
+        if (!isCountingSupported()) {
+            return delegate.shouldBreakOnItem(elementTypeMeta, Collections.nCopies(elementTraceCount, elementTypeMeta));
+        }
+        return ((CountingLoopBreakingStrategy) delegate).shouldBreakOnElement(elementTypeMeta, elementTraceCount);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.looping;
+
+import com.github.vladislavsevruk.generator.util.TypeMetaUtil;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+import java.util.List;
+
+/**
+ * Provides loop breaking strategy that makes decision using only number of trace items with the same element type, so
+ * loop detector can keep such numbers updated while trace changes instead of scanning whole trace on every check.
+ * Collections and arrays are treated as their element types.
+ *
+ * @see LoopBreakingStrategy
+ */
+public interface CountingLoopBreakingStrategy extends LoopBreakingStrategy {
+
+    /**
+     * Checks if this strategy breaks loop only on elements that are present at trace more than once. Subtrees that can
+     * never contain loops are generated without loop detection for such strategies.
+     *
+     * @return <code>true</code> if loop is never broken on elements present at trace only once, <code>false</code>
+     * otherwise.
+     */
+    default boolean isBreakingOnlyRepeatedElements() {
+        return false;
+    }
+
+    /**
+     * Checks if counting of trace items is supported by this strategy. Strategies that doesn't support it are checked
+     * against whole trace.
+     *
+     * @return <code>true</code> if counting of trace items is supported, <code>false</code> otherwise.
+     */
+    default boolean isCountingSupported() {
+        return true;
+    }
+
+    /**
+     * Checks if loop should be broken on item with received element type.
+     *
+     * @param elementTypeMeta   <code>TypeMeta</code> of item element to check.
+     * @param elementTraceCount number of trace items with the same element type including checked item.
+     * @return <code>true</code> if loop should be broken on received item, <code>false</code> otherwise.
+     */
+    boolean shouldBreakOnElement(TypeMeta<?> elementTypeMeta, int elementTraceCount);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean shouldBreakOnItem(TypeMeta<?> typeMeta, List<TypeMeta<?>> trace) {
+        TypeMeta<?> elementTypeMeta = TypeMetaUtil.getElementTypeMeta(typeMeta);
+        int elementTraceCount = 0;
+        for (TypeMeta<?> traceItem : trace) {
+            if (elementTypeMeta.equals(TypeMetaUtil.getElementTypeMeta(traceItem))) {
+                elementTraceCount++;
+            }
+        }
+        return shouldBreakOnElement(elementTypeMeta, elementTraceCount);
+    }
+}
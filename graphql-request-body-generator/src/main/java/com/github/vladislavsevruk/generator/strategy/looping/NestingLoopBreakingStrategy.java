@@ -23,12 +23,11 @@
  */
 package com.github.vladislavsevruk.generator.strategy.looping;
 
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.EqualsAndHashCode;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.Collection;
-import java.util.List;
-
 /**
  * Provides loop breaking strategy that allows to generate looped items with allowed level of nesting starting from 0
  * to keep only single item at query, e.g. for self-referencing structure <pre>{@code item{id item{...}}}</pre>
@@ -60,8 +59,9 @@ import java.util.List;
  * }
  * }</pre>
  */
+@EqualsAndHashCode
 @Log4j2
-public class NestingLoopBreakingStrategy implements LoopBreakingStrategy {
+public class NestingLoopBreakingStrategy implements CountingLoopBreakingStrategy, CacheableStrategy {
 
     private final int maxNestingLoopLevel;
 
@@ -77,16 +77,15 @@ public class NestingLoopBreakingStrategy implements LoopBreakingStrategy {
      * {@inheritDoc}
      */
     @Override
-    public boolean shouldBreakOnItem(TypeMeta<?> typeMeta, List<TypeMeta<?>> trace) {
-        TypeMeta<?> elementTypeMeta = getElementTypeMeta(typeMeta);
-        return trace.stream().map(this::getElementTypeMeta).filter(traceItem -> traceItem.equals(elementTypeMeta))
-                .count() > maxNestingLoopLevel + 1;
+    public boolean isBreakingOnlyRepeatedElements() {
+        return maxNestingLoopLevel >= 0;
     }
 
-    private TypeMeta<?> getElementTypeMeta(TypeMeta<?> typeMeta) {
-        while (Collection.class.isAssignableFrom(typeMeta.getType()) || typeMeta.getType().isArray()) {
-            typeMeta = typeMeta.getGenericTypes()[0];
-        }
-        return typeMeta;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBreakOnElement(TypeMeta<?> elementTypeMeta, int elementTraceCount) {
+        return elementTraceCount > maxNestingLoopLevel + 1;
     }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.generator.strategy.marker;
 
 import com.github.vladislavsevruk.generator.annotation.GqlIgnore;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 
 import java.lang.reflect.Field;
 
@@ -31,7 +32,7 @@ import java.lang.reflect.Field;
  * Provides query generation strategy for all fields marking except ones that are marked by {@link GqlIgnore}
  * annotation.
  */
-public class AllExceptIgnoredFieldMarkingStrategy implements FieldMarkingStrategy {
+public class AllExceptIgnoredFieldMarkingStrategy implements FieldMarkingStrategy, CacheableStrategy {
 
     /**
      * {@inheritDoc}
@@ -36,9 +36,24 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Log4j2
 public class FieldMarkingStrategyManagerImpl implements FieldMarkingStrategyManager {
 
+    private final Runnable strategyChangeListener;
     private FieldMarkingStrategy strategy = new AllExceptIgnoredFieldMarkingStrategy();
     private final ReadWriteLock strategyLock = new ReentrantReadWriteLock();
 
+    public FieldMarkingStrategyManagerImpl() {
+        this(() -> {
+        });
+    }
+
+    /**
+     * Creates manager that notifies received listener every time current strategy is switched.
+     *
+     * @param strategyChangeListener <code>Runnable</code> to call after strategy switch.
+     */
+    public FieldMarkingStrategyManagerImpl(Runnable strategyChangeListener) {
+        this.strategyChangeListener = strategyChangeListener;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -59,6 +74,7 @@ public class FieldMarkingStrategyManagerImpl implements FieldMarkingStrategyMana
         log.info("Using all fields except ignored ones marking strategy.");
         strategy = new AllExceptIgnoredFieldMarkingStrategy();
         strategyLock.writeLock().unlock();
+        strategyChangeListener.run();
     }
 
     /**
@@ -70,6 +86,7 @@ public class FieldMarkingStrategyManagerImpl implements FieldMarkingStrategyMana
         log.info("Using custom marking strategy.");
         strategy = customStrategy;
         strategyLock.writeLock().unlock();
+        strategyChangeListener.run();
     }
 
     /**
@@ -81,5 +98,6 @@ public class FieldMarkingStrategyManagerImpl implements FieldMarkingStrategyMana
         log.info("Using only marked fields marking strategy.");
         strategy = new OnlyMarkedFieldMarkingStrategy();
         strategyLock.writeLock().unlock();
+        strategyChangeListener.run();
     }
 }
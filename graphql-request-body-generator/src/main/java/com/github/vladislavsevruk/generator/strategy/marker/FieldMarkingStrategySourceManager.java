@@ -23,15 +23,19 @@
  */
 package com.github.vladislavsevruk.generator.strategy.marker;
 
+import com.github.vladislavsevruk.generator.cache.SelectionSetCache;
+
 /**
- * Manages model fields marking strategies for input and selection set.
+ * Manages model fields marking strategies for input and selection set. Switching selection set marking strategy
+ * invalidates {@link SelectionSetCache}.
  *
  * @see FieldMarkingStrategyManager
  */
 public final class FieldMarkingStrategySourceManager {
 
     private static final FieldMarkingStrategyManager INPUT_MANAGER = new FieldMarkingStrategyManagerImpl();
-    private static final FieldMarkingStrategyManager SELECTION_SET_MANAGER = new FieldMarkingStrategyManagerImpl();
+    private static final FieldMarkingStrategyManager SELECTION_SET_MANAGER = new FieldMarkingStrategyManagerImpl(
+            SelectionSetCache::invalidate);
 
     private FieldMarkingStrategySourceManager() {
     }
@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.strategy.marker;
 import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
 import com.github.vladislavsevruk.generator.annotation.GqlField;
 import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 
 import java.lang.reflect.Field;
 
@@ -33,7 +34,7 @@ import java.lang.reflect.Field;
  * Provides query generation strategy for marking only fields that are marked by {@link GqlField}, {@link GqlDelegate}
  * or {@link GqlUnion} annotations.
  */
-public class OnlyMarkedFieldMarkingStrategy implements FieldMarkingStrategy {
+public class OnlyMarkedFieldMarkingStrategy implements FieldMarkingStrategy, CacheableStrategy {
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Contains orders of model fields, input methods and map entries at generated GraphQL operations:<ul>
+ * <li> declaration order, that depends on order of reflection data provided by JVM [default]
+ * <li> canonical order, that is stable across JVM builds and restarts
+ * </ul>
+ * Canonical order is defined as following:<ul>
+ * <li> fields of every class are sorted by GraphQL name and then by java field name, fields of superclass follow fields
+ * of subclass
+ * <li> input methods of every class are sorted by GraphQL name and then by method signature and follow fields
+ * <li> map entries of delegated maps are sorted by string representation of key
+ * <li> properties and map entries of variables JSON are sorted by name
+ * </ul>
+ * Operation arguments keep order in which they were added, union types keep order of annotation values and generated
+ * operations have no optional whitespaces in both modes, so same operation is rendered to byte-identical text in
+ * canonical mode.
+ *
+ * @see OutputOrderManager
+ */
+public enum OutputOrder {
+
+    CANONICAL,
+    DECLARATION;
+
+    /**
+     * Returns entries of received map at this order.
+     *
+     * @param map <code>Map</code> to get entries of.
+     * @param <K> type of keys.
+     * @param <V> type of values.
+     * @return <code>Collection</code> of map entries.
+     */
+    public <K, V> Collection<Entry<K, V>> entries(Map<K, V> map) {
+        if (this == DECLARATION || map.size() < 2) {
+            return map.entrySet();
+        }
+        List<Entry<K, V>> entries = new ArrayList<>(map.entrySet());
+        entries.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+        return entries;
+    }
+}
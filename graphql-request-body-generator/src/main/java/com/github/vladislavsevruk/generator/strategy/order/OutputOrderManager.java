@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.order;
+
+import com.github.vladislavsevruk.generator.cache.SelectionSetCache;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Manages order of model fields, input methods and map entries at generated GraphQL operations. Switching order
+ * invalidates {@link SelectionSetCache}.
+ *
+ * @see OutputOrder
+ */
+@Log4j2
+public final class OutputOrderManager {
+
+    private static volatile OutputOrder order = OutputOrder.DECLARATION;
+
+    private OutputOrderManager() {
+    }
+
+    /**
+     * Returns current order.
+     */
+    public static OutputOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Checks if canonical order is currently used.
+     *
+     * @return <code>true</code> if canonical order is used, <code>false</code> otherwise.
+     */
+    public static boolean isCanonical() {
+        return order == OutputOrder.CANONICAL;
+    }
+
+    /**
+     * Sets canonical order that renders same operation to byte-identical text across JVM builds and restarts.
+     */
+    public static void useCanonicalOrder() {
+        useOrder(OutputOrder.CANONICAL);
+    }
+
+    /**
+     * Sets declaration order that depends on order of reflection data provided by JVM.
+     */
+    public static void useDeclarationOrder() {
+        useOrder(OutputOrder.DECLARATION);
+    }
+
+    private static void useOrder(OutputOrder newOrder) {
+        log.info("Using {} output order.", newOrder);
+        order = newOrder;
+        SelectionSetCache.invalidate();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.parallel;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Manages parallel generation of selection sets. In parallel mode independent subtrees of selection set, i.e. fields
+ * with selection set and union types, are generated by separate tasks of fork-join pool with their own loop detection
+ * traces and reassembled in declaration order, so generated selection sets are the same as in sequential mode.
+ * Subtrees are split only while pool has few queued tasks, so small models are still generated by single thread.
+ */
+@Log4j2
+public final class ParallelGenerationManager {
+
+    private static volatile ForkJoinPool pool;
+
+    private ParallelGenerationManager() {
+    }
+
+    /**
+     * Returns fork-join pool used for parallel generation or <code>null</code> if selection sets are generated
+     * sequentially.
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Checks if selection sets are currently generated in parallel.
+     *
+     * @return <code>true</code> if parallel generation is used, <code>false</code> otherwise.
+     */
+    public static boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Sets parallel generation of selection sets using common fork-join pool.
+     */
+    public static void useParallelGeneration() {
+        useParallelGeneration(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sets parallel generation of selection sets using received fork-join pool.
+     *
+     * @param newPool <code>ForkJoinPool</code> to run generation tasks at.
+     */
+    public static void useParallelGeneration(ForkJoinPool newPool) {
+        Objects.requireNonNull(newPool);
+        log.info("Using parallel selection set generation with parallelism {}.", newPool.getParallelism());
+        pool = newPool;
+    }
+
+    /**
+     * Sets sequential generation of selection sets at calling thread.
+     */
+    public static void useSequentialGeneration() {
+        log.info("Using sequential selection set generation.");
+        pool = null;
+    }
+}
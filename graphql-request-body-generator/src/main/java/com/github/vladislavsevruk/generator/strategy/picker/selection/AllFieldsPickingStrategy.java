@@ -23,12 +23,14 @@
  */
 package com.github.vladislavsevruk.generator.strategy.picker.selection;
 
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
+
 import java.lang.reflect.Field;
 
 /**
  * Provides selection set generation strategy for picking all fields.
  */
-public class AllFieldsPickingStrategy implements FieldsPickingStrategy {
+public class AllFieldsPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.picker.selection;
+
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
+import com.github.vladislavsevruk.generator.strategy.cost.FieldCostRegistry;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Selection set generation strategy that picks fields using wrapped strategy and then prunes least important nested
+ * selection sets until selection set fits received maximum cost and depth. Nested selection sets of deeper fields are
+ * treated as less important ones, the most expensive selection set is pruned first among ones at the same depth.
+ * Strategy is cacheable if wrapped strategy is cacheable.
+ *
+ * @see FieldCostRegistry
+ */
+@Getter
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class BudgetFieldsPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
+
+    FieldsPickingStrategy fieldsPickingStrategy;
+    long maxCost;
+    int maxDepth;
+
+    private BudgetFieldsPickingStrategy(FieldsPickingStrategy fieldsPickingStrategy, long maxCost, int maxDepth) {
+        this.fieldsPickingStrategy = fieldsPickingStrategy;
+        this.maxCost = maxCost;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Creates strategy that fits selection set generated with received fields picking strategy to received maximum
+     * cost.
+     *
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter fields before pruning.
+     * @param maxCost               <code>long</code> with maximum cost of selection set.
+     * @return new <code>BudgetFieldsPickingStrategy</code>.
+     */
+    public static BudgetFieldsPickingStrategy of(FieldsPickingStrategy fieldsPickingStrategy, long maxCost) {
+        return of(fieldsPickingStrategy, maxCost, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates strategy that fits selection set generated with received fields picking strategy to received maximum
+     * cost and depth.
+     *
+     * @param fieldsPickingStrategy <code>FieldsPickingStrategy</code> to filter fields before pruning.
+     * @param maxCost               <code>long</code> with maximum cost of selection set.
+     * @param maxDepth              <code>int</code> with maximum nesting level of fields, fields of operation
+     *                              selection set itself have first level.
+     * @return new <code>BudgetFieldsPickingStrategy</code>.
+     * @throws IllegalArgumentException if maximum cost is negative or maximum depth is less than one.
+     */
+    public static BudgetFieldsPickingStrategy of(FieldsPickingStrategy fieldsPickingStrategy, long maxCost,
+            int maxDepth) {
+        Objects.requireNonNull(fieldsPickingStrategy);
+        if (maxCost < 0) {
+            throw new IllegalArgumentException("Max cost should be greater than or equal to zero.");
+        }
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Max depth should be greater than zero.");
+        }
+        return new BudgetFieldsPickingStrategy(fieldsPickingStrategy, maxCost, maxDepth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return fieldsPickingStrategy instanceof CacheableStrategy
+                && ((CacheableStrategy) fieldsPickingStrategy).isCacheable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBePicked(Field field) {
+        return fieldsPickingStrategy.shouldBePicked(field);
+    }
+}
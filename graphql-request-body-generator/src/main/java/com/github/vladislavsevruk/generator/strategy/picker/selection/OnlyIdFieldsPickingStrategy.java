@@ -26,6 +26,7 @@ package com.github.vladislavsevruk.generator.strategy.picker.selection;
 import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
 import com.github.vladislavsevruk.generator.annotation.GqlField;
 import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 import com.github.vladislavsevruk.generator.util.GqlNamePicker;
 
 import java.lang.reflect.Field;
@@ -33,7 +34,7 @@ import java.lang.reflect.Field;
 /**
  * Provides selection set generation strategy for picking only 'id' fields itself or fields with nested 'id' field.
  */
-public class OnlyIdFieldsPickingStrategy implements FieldsPickingStrategy {
+public class OnlyIdFieldsPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
 
     private static final String ID = "id";
 
@@ -25,13 +25,14 @@ package com.github.vladislavsevruk.generator.strategy.picker.selection;
 
 import com.github.vladislavsevruk.generator.annotation.GqlDelegate;
 import com.github.vladislavsevruk.generator.annotation.GqlField;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 
 import java.lang.reflect.Field;
 
 /**
  * Provides selection set generation strategy for picking only non-null fields.
  */
-public class OnlyNonNullFieldsPickingStrategy implements FieldsPickingStrategy {
+public class OnlyNonNullFieldsPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.picker.selection;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Compiled trie of paths that restrict fields of selection set. Path contains GraphQL field names separated by dots,
+ * e.g. <code>items.product.reviews</code>, while path that starts with exclamation mark, e.g.
+ * <code>!customer.orders</code>, excludes field with all its nested fields. If at least one include path is present
+ * only fields on include paths are selected and last field of every include path is selected with all its nested
+ * fields. Fields of delegates are treated as fields of model that contains delegate. Exclude path wins over the same
+ * include path. Paths are immutable and comparable by value, so they are used as part of selection set cache key.
+ */
+@EqualsAndHashCode
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class SelectionSetPaths {
+
+    private static final SelectionSetPaths ALL = new SelectionSetPaths(true, false, Collections.emptyMap());
+    private static final SelectionSetPaths EXCLUDED = new SelectionSetPaths(false, true, Collections.emptyMap());
+    private static final String EXCLUDE_PREFIX = "!";
+    private static final SelectionSetPaths NONE = new SelectionSetPaths(false, false, Collections.emptyMap());
+    private static final String SEPARATOR_REGEX = "\\.";
+
+    Map<String, SelectionSetPaths> children;
+    boolean excluded;
+    boolean included;
+
+    private SelectionSetPaths(boolean included, boolean excluded, Map<String, SelectionSetPaths> children) {
+        this.included = included;
+        this.excluded = excluded;
+        this.children = children;
+    }
+
+    /**
+     * Returns paths that select all fields.
+     */
+    public static SelectionSetPaths all() {
+        return ALL;
+    }
+
+    /**
+     * Compiles received include and exclude paths into trie.
+     *
+     * @param paths <code>String</code> array with include paths and exclude paths that start with exclamation mark.
+     * @return <code>SelectionSetPaths</code> compiled from received paths.
+     * @throws IllegalArgumentException if any path contains empty field name.
+     */
+    public static SelectionSetPaths of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Compiles received include and exclude paths into trie.
+     *
+     * @param paths <code>Collection</code> with include paths and exclude paths that start with exclamation mark.
+     * @return <code>SelectionSetPaths</code> compiled from received paths.
+     * @throws IllegalArgumentException if any path contains empty field name.
+     */
+    public static SelectionSetPaths of(Collection<String> paths) {
+        Objects.requireNonNull(paths);
+        PathNode root = new PathNode();
+        boolean hasIncludePaths = false;
+        for (String path : paths) {
+            Objects.requireNonNull(path);
+            boolean isExcludePath = path.startsWith(EXCLUDE_PREFIX);
+            hasIncludePaths |= !isExcludePath;
+            PathNode node = root;
+            for (String fieldName : (isExcludePath ? path.substring(EXCLUDE_PREFIX.length()) : path)
+                    .split(SEPARATOR_REGEX, -1)) {
+                String trimmedFieldName = fieldName.trim();
+                if (trimmedFieldName.isEmpty()) {
+                    throw new IllegalArgumentException(String.format("'%s' isn't valid selection set path.", path));
+                }
+                node = node.children.computeIfAbsent(trimmedFieldName, key -> new PathNode());
+            }
+            node.excluded |= isExcludePath;
+            node.included |= !isExcludePath;
+        }
+        return compile(root, !hasIncludePaths);
+    }
+
+    /**
+     * Returns paths for nested fields of field with received GraphQL name.
+     *
+     * @param fieldName <code>String</code> with GraphQL name of field.
+     * @return <code>SelectionSetPaths</code> for nested fields or <code>null</code> if field shouldn't be selected.
+     */
+    public SelectionSetPaths getFieldPaths(String fieldName) {
+        SelectionSetPaths fieldPaths = children.get(fieldName);
+        if (fieldPaths == null) {
+            return included ? ALL : null;
+        }
+        return fieldPaths.excluded ? null : fieldPaths;
+    }
+
+    /**
+     * Checks if these paths select all fields.
+     *
+     * @return <code>true</code> if paths don't restrict any field, <code>false</code> otherwise.
+     */
+    public boolean isAll() {
+        return ALL.equals(this);
+    }
+
+    private static SelectionSetPaths compile(PathNode node, boolean isParentIncluded) {
+        if (node.excluded) {
+            return EXCLUDED;
+        }
+        boolean isIncluded = isParentIncluded || node.included;
+        Map<String, SelectionSetPaths> children = new HashMap<>();
+        for (Entry<String, PathNode> entry : node.children.entrySet()) {
+            SelectionSetPaths child = compile(entry.getValue(), isIncluded);
+            // children that repeat default behavior of this node are redundant
+            if (isIncluded ? !ALL.equals(child) : !EXCLUDED.equals(child) && !NONE.equals(child)) {
+                children.put(entry.getKey(), child);
+            }
+        }
+        if (children.isEmpty()) {
+            return isIncluded ? ALL : NONE;
+        }
+        return new SelectionSetPaths(isIncluded, false, Collections.unmodifiableMap(children));
+    }
+
+    /**
+     * Mutable node of trie that is used only during paths compilation.
+     */
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+        private boolean excluded;
+        private boolean included;
+    }
+}
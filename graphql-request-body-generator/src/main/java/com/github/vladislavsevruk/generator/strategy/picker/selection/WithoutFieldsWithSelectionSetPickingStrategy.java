@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.generator.strategy.picker.selection;
 
 import com.github.vladislavsevruk.generator.annotation.GqlField;
 import com.github.vladislavsevruk.generator.annotation.GqlUnion;
+import com.github.vladislavsevruk.generator.cache.CacheableStrategy;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
@@ -32,7 +33,7 @@ import java.util.Objects;
 /**
  * Provides selection set generation strategy for picking only fields that do not have nested fields.
  */
-public class WithoutFieldsWithSelectionSetPickingStrategy implements FieldsPickingStrategy {
+public class WithoutFieldsWithSelectionSetPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
 
     /**
      * {@inheritDoc}
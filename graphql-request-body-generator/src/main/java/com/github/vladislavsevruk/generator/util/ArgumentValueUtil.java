@@ -23,8 +23,10 @@
  */
 package com.github.vladislavsevruk.generator.util;
 
+import com.github.vladislavsevruk.generator.accessor.ValueAccessor;
 import com.github.vladislavsevruk.generator.annotation.GqlIgnore;
 import com.github.vladislavsevruk.generator.annotation.GqlInput;
+import com.github.vladislavsevruk.generator.descriptor.GqlModelDescriptor;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Field;
@@ -32,6 +34,8 @@ import java.lang.reflect.Method;
 
 /**
  * Gets argument values for GraphQL operations from fields and methods using reflection.
+ *
+ * @see ValueAccessor
  */
 @Log4j2
 public final class ArgumentValueUtil {
@@ -42,21 +46,41 @@ public final class ArgumentValueUtil {
     }
 
     /**
-     * Gets value for received field from received object.
+     * Finds getter method for received field among received methods.
+     *
+     * @param field   <code>Field</code> to find getter method for.
+     * @param methods array of public <code>Method</code> of class that contains field.
+     * @return getter <code>Method</code> or <code>null</code> if there is no suitable method.
+     */
+    public static Method findGetterMethod(Field field, Method[] methods) {
+        String fieldName = GqlNamePicker.getFieldName(field);
+        for (Method method : methods) {
+            if (method.getAnnotation(GqlIgnore.class) != null || !canBeGetter(method)) {
+                continue;
+            }
+            String nameFromAnnotation = getNameFromAnnotation(method);
+            if (nameFromAnnotation.equals(fieldName)) {
+                return method;
+            }
+            String methodName = method.getName();
+            String clearedMethodName = removeGetterPrefixIfPresent(methodName);
+            if (methodName.equals(field.getName()) || clearedMethodName.equals(field.getName())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets value for received field from received object using accessor that was compiled for this field once.
      *
      * @param field <code>Field</code> to get value for.
      * @param value <code>Object</code> of class that contains field.
      * @return <code>Object</code> received from field directly or related getter method.
      */
     public static Object getValue(Field field, Object value) {
-        Method getterMethod = findGetterMethod(field);
-        if (getterMethod != null) {
-            log.debug("Found '{}' getter method for '{}' field.", getterMethod.getName(), field.getName());
-            return getValueByMethod(value, getterMethod);
-        } else {
-            log.debug("There was no getter method for '{}' field found.", field.getName());
-            return getValueByField(value, field);
-        }
+        return GqlModelDescriptor.of(field.getDeclaringClass()).getFieldDescriptor(field).getValueAccessor()
+                .getValue(value);
     }
 
     /**
@@ -103,24 +127,6 @@ public final class ArgumentValueUtil {
         return !(returnType.equals(void.class) || returnType.equals(Void.class));
     }
 
-    private static Method findGetterMethod(Field field) {
-        for (Method method : field.getDeclaringClass().getMethods()) {
-            if (method.getAnnotation(GqlIgnore.class) != null || !canBeGetter(method)) {
-                continue;
-            }
-            String nameFromAnnotation = getNameFromAnnotation(method);
-            if (nameFromAnnotation.equals(GqlNamePicker.getFieldName(field))) {
-                return method;
-            }
-            String methodName = method.getName();
-            String clearedMethodName = removeGetterPrefixIfPresent(methodName);
-            if (methodName.equals(field.getName()) || clearedMethodName.equals(field.getName())) {
-                return method;
-            }
-        }
-        return null;
-    }
-
     private static String getNameFromAnnotation(Method method) {
         GqlInput fieldAnnotation = method.getAnnotation(GqlInput.class);
         return fieldAnnotation != null ? fieldAnnotation.name() : "";
@@ -23,9 +23,12 @@
  */
 package com.github.vladislavsevruk.generator.util;
 
+import com.github.vladislavsevruk.generator.annotation.GqlDefer;
 import com.github.vladislavsevruk.generator.annotation.GqlField;
 import com.github.vladislavsevruk.generator.annotation.GqlFieldArgument;
 import com.github.vladislavsevruk.generator.annotation.GqlInput;
+import com.github.vladislavsevruk.generator.annotation.GqlStream;
+import com.github.vladislavsevruk.generator.annotation.GqlType;
 import com.github.vladislavsevruk.generator.annotation.GqlUnionType;
 import com.github.vladislavsevruk.resolver.util.PrimitiveWrapperUtil;
 
@@ -42,9 +45,30 @@ import java.util.stream.Collectors;
  */
 public final class GqlNamePicker {
 
+    private static final String DEFERRED_FRAGMENT_NAME = "... @defer";
+    private static final String LABELED_DEFERRED_FRAGMENT_NAME_PREFIX = DEFERRED_FRAGMENT_NAME + "(label:";
+
     private GqlNamePicker() {
     }
 
+    /**
+     * Gets type condition of inline fragment with <code>@defer</code> directive for field with {@link GqlDefer}
+     * annotation.
+     *
+     * @param field <code>Field</code> to get deferred inline fragment for.
+     * @return <code>String</code> with inline fragment with directive or <code>null</code> if field isn't deferred.
+     */
+    public static String getDeferredFragmentName(Field field) {
+        GqlDefer deferAnnotation = field.getAnnotation(GqlDefer.class);
+        if (deferAnnotation == null) {
+            return null;
+        }
+        if (deferAnnotation.label().isEmpty()) {
+            return DEFERRED_FRAGMENT_NAME;
+        }
+        return LABELED_DEFERRED_FRAGMENT_NAME_PREFIX + "\"" + deferAnnotation.label() + "\")";
+    }
+
     /**
      * Gets field name for GraphQL operation from {@link GqlField} annotation if present or using field name.
      *
@@ -61,10 +85,10 @@ public final class GqlNamePicker {
 
     /**
      * Gets name for GraphQL operation from {@link GqlField} annotation with field alias and arguments if present or
-     * using field name.
+     * using field name. <code>@stream</code> directive is added to name of field with {@link GqlStream} annotation.
      *
-     * @param field <code>Field</code> to get name, alias and arguments for.
-     * @return <code>String</code> with field name, alias and arguments.
+     * @param field <code>Field</code> to get name, alias, arguments and directives for.
+     * @return <code>String</code> with field name, alias, arguments and directives.
      */
     public static String getFieldNameWithArgumentsAndAlias(Field field) {
         String fieldName = getFieldName(field);
@@ -73,7 +97,7 @@ public final class GqlNamePicker {
             fieldName = addAliasIfPresent(fieldName, fieldAnnotation);
             fieldName = addArgumentsIfPresent(fieldName, fieldAnnotation);
         }
-        return fieldName;
+        return addStreamDirectiveIfPresent(fieldName, field.getAnnotation(GqlStream.class));
     }
 
     /**
@@ -100,6 +124,17 @@ public final class GqlNamePicker {
         return method.getName();
     }
 
+    /**
+     * Gets name of GraphQL object type from {@link GqlType} annotation of model class.
+     *
+     * @param type <code>Class</code> to get GraphQL type name for.
+     * @return <code>String</code> with GraphQL type name or <code>null</code> if model class isn't annotated.
+     */
+    public static String getObjectTypeName(Class<?> type) {
+        GqlType typeAnnotation = type.getAnnotation(GqlType.class);
+        return typeAnnotation != null ? typeAnnotation.value() : null;
+    }
+
     /**
      * Gets name for GraphQL union type from {@link GqlUnionType} annotation.
      *
@@ -113,6 +148,18 @@ public final class GqlNamePicker {
         return unionType.value().getSimpleName();
     }
 
+    /**
+     * Checks if received selection set item name is type condition of inline fragment with labeled <code>@defer</code>
+     * directive.
+     *
+     * @param name <code>String</code> with name of selection set item.
+     * @return <code>true</code> if name belongs to inline fragment with labeled <code>@defer</code> directive,
+     * <code>false</code> otherwise.
+     */
+    public static boolean isLabeledDeferredFragmentName(String name) {
+        return name.startsWith(LABELED_DEFERRED_FRAGMENT_NAME_PREFIX);
+    }
+
     private static String addAliasIfPresent(String fieldName, GqlField fieldAnnotation) {
         String alias = fieldAnnotation.alias();
         return alias.isEmpty() ? fieldName : alias + ":" + fieldName;
@@ -128,6 +175,15 @@ public final class GqlNamePicker {
         return fieldName;
     }
 
+    private static String addStreamDirectiveIfPresent(String fieldName, GqlStream streamAnnotation) {
+        if (streamAnnotation == null) {
+            return fieldName;
+        }
+        String label = streamAnnotation.label();
+        return fieldName + " @stream(initialCount:" + streamAnnotation.initialCount() + (label.isEmpty() ? ""
+                : ",label:\"" + label + "\"") + ")";
+    }
+
     private static String generateArgumentValue(GqlFieldArgument argument) {
         return argument.name() + ":" + argument.value();
     }
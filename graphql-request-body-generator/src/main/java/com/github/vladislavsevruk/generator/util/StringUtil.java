@@ -25,8 +25,8 @@ package com.github.vladislavsevruk.generator.util;
 
 import lombok.extern.log4j.Log4j2;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.util.Iterator;
 
 /**
  * Contains utility methods for escaped strings generation.
@@ -34,6 +34,9 @@ import java.util.stream.Collectors;
 @Log4j2
 public final class StringUtil {
 
+    private static final String[] LITERAL_ESCAPES = createEscapesTable(true);
+    private static final String[] QUOTE_ESCAPES = createEscapesTable(false);
+
     private StringUtil() {
     }
 
@@ -46,7 +49,66 @@ public final class StringUtil {
      * @return <code>String</code> with generated escaped value.
      */
     public static String addQuotesForStringArgument(String value) {
-        return String.format("\"%s\"", screenSpaceSymbols(escapeQuotes(value)));
+        StringBuilder sink = new StringBuilder(value.length() + 8);
+        appendQuotesForStringArgument(value, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends escaped value string for parameter values to received sink.
+     *
+     * @param value <code>Object</code> to generated escaped String for.
+     * @param sink  <code>StringBuilder</code> to append escaped value to.
+     * @see #generateEscapedValueString(Object)
+     */
+    public static void appendEscapedValueString(Object value, StringBuilder sink) {
+        if (value == null) {
+            log.debug("Value is null.");
+            sink.append("null");
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (Iterable.class.isAssignableFrom(valueClass) || valueClass.isArray()) {
+            log.debug("Value is iterable or array.");
+            // compose all elements through the comma and surround by square brackets
+            sink.append('[');
+            Iterator<?> iterator = StreamUtil.createStream(value).iterator();
+            while (iterator.hasNext()) {
+                Object element = iterator.next();
+                if (CharSequence.class.isAssignableFrom(element.getClass())) {
+                    appendQuotesForStringArgument(element.toString(), sink);
+                } else {
+                    sink.append(element);
+                }
+                if (iterator.hasNext()) {
+                    sink.append(',');
+                }
+            }
+            sink.append(']');
+            return;
+        }
+        if (CharSequence.class.isAssignableFrom(valueClass)) {
+            log.debug("Value is char sequence.");
+            // add escaped quotes for literals
+            appendQuotesForStringArgument(value.toString(), sink);
+            return;
+        }
+        sink.append(value);
+    }
+
+    /**
+     * Appends escaped value string for parameter values to received sink, e.g.<ul>
+     * <li>"literalValue" -&gt; "\"literalValue\""</li>
+     * <li>"literal\"With\"Quotes" -&gt; "\"literal\\\"With\\\"Quotes\""</li></ul>
+     * Quotes, backslashes and space symbols are escaped within single pass.
+     *
+     * @param value <code>String</code> to generated escaped String for.
+     * @param sink  <code>StringBuilder</code> to append escaped value to.
+     */
+    public static void appendQuotesForStringArgument(String value, StringBuilder sink) {
+        sink.append('"');
+        appendEscaped(value, LITERAL_ESCAPES, sink);
+        sink.append('"');
     }
 
     /**
@@ -58,7 +120,65 @@ public final class StringUtil {
      * @return <code>String</code> with generated escaped value.
      */
     public static String escapeQuotes(String value) {
-        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+        int extraLength = countExtraLength(value, 0, value.length(), QUOTE_ESCAPES);
+        if (extraLength == 0) {
+            return value;
+        }
+        StringBuilder sink = new StringBuilder(value.length() + extraLength);
+        appendEscaped(value, QUOTE_ESCAPES, sink);
+        return sink.toString();
+    }
+
+    /**
+     * Appends received value with escaped quotes and backslashes to received sink. Parts of value without symbols that
+     * should be escaped are appended as is, so no intermediate strings are created.
+     *
+     * @param value <code>CharSequence</code> to escape.
+     * @param sink  <code>Appendable</code> to append escaped value to.
+     * @throws IOException if an I/O error occurs while appending to sink.
+     * @see #escapeQuotes(String)
+     */
+    public static void escapeQuotes(CharSequence value, Appendable sink) throws IOException {
+        int length = value.length();
+        int notEscapedStart = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped = getEscaped(value.charAt(i), QUOTE_ESCAPES);
+            if (escaped != null) {
+                sink.append(value, notEscapedStart, i).append(escaped);
+                notEscapedStart = i + 1;
+            }
+        }
+        sink.append(value, notEscapedStart, length);
+    }
+
+    /**
+     * Escapes quotes and backslashes at received sink starting from received position in place, without creation of
+     * intermediate strings. Sink is expanded only once and only if it contains symbols that should be escaped.
+     *
+     * @param sink  <code>StringBuilder</code> with value to escape.
+     * @param start <code>int</code> with position of sink to start escaping from.
+     * @see #escapeQuotes(String)
+     */
+    public static void escapeQuotes(StringBuilder sink, int start) {
+        int end = sink.length();
+        int extraLength = countExtraLength(sink, start, end, QUOTE_ESCAPES);
+        if (extraLength == 0) {
+            return;
+        }
+        sink.setLength(end + extraLength);
+        // fill expanded sink from the tail so not yet processed symbols aren't overwritten
+        int writePosition = end + extraLength;
+        for (int readPosition = end - 1; readPosition >= start; readPosition--) {
+            char symbol = sink.charAt(readPosition);
+            String escaped = getEscaped(symbol, QUOTE_ESCAPES);
+            if (escaped == null) {
+                sink.setCharAt(--writePosition, symbol);
+                continue;
+            }
+            for (int i = escaped.length() - 1; i >= 0; i--) {
+                sink.setCharAt(--writePosition, escaped.charAt(i));
+            }
+        }
     }
 
     /**
@@ -76,22 +196,9 @@ public final class StringUtil {
      * @return <code>String</code> with generated escaped value.
      */
     public static String generateEscapedValueString(Object value) {
-        if (value == null) {
-            log.debug("Value is null.");
-            return "null";
-        }
-        Class<?> valueClass = value.getClass();
-        if (Iterable.class.isAssignableFrom(valueClass) || valueClass.isArray()) {
-            log.debug("Value is iterable or array.");
-            // compose all elements through the comma and surround by square brackets
-            return "[" + String.join(",", convertToStringList(value)) + "]";
-        }
-        if (CharSequence.class.isAssignableFrom(valueClass)) {
-            log.debug("Value is char sequence.");
-            // add escaped quotes for literals
-            return addQuotesForStringArgument(value.toString());
-        }
-        return String.valueOf(value);
+        StringBuilder sink = new StringBuilder();
+        appendEscapedValueString(value, sink);
+        return sink.toString();
     }
 
     /**
@@ -114,9 +221,69 @@ public final class StringUtil {
         return value.replace("\n", "\\n").replace("\t", "\\t").replace("\r", "\\r");
     }
 
-    private static List<String> convertToStringList(Object elements) {
-        return StreamUtil.createStream(elements)
-                .map(value -> CharSequence.class.isAssignableFrom(value.getClass()) ? addQuotesForStringArgument(
-                        value.toString()) : value.toString()).collect(Collectors.toList());
+    /**
+     * Counts number of bytes received value takes at UTF-8 encoding without encoding it.
+     *
+     * @param value <code>CharSequence</code> to count UTF-8 length for.
+     * @return <code>int</code> with number of bytes at UTF-8 encoding.
+     */
+    public static int utf8Length(CharSequence value) {
+        int length = 0;
+        int position = 0;
+        while (position < value.length()) {
+            char symbol = value.charAt(position++);
+            if (symbol < 0x80) {
+                length++;
+            } else if (symbol < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(symbol) && position < value.length() && Character
+                    .isLowSurrogate(value.charAt(position))) {
+                length += 4;
+                position++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void appendEscaped(CharSequence value, String[] escapes, StringBuilder sink) {
+        int length = value.length();
+        int notEscapedStart = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped = getEscaped(value.charAt(i), escapes);
+            if (escaped != null) {
+                sink.append(value, notEscapedStart, i).append(escaped);
+                notEscapedStart = i + 1;
+            }
+        }
+        sink.append(value, notEscapedStart, length);
+    }
+
+    private static int countExtraLength(CharSequence value, int start, int end, String[] escapes) {
+        int extraLength = 0;
+        for (int i = start; i < end; i++) {
+            String escaped = getEscaped(value.charAt(i), escapes);
+            if (escaped != null) {
+                extraLength += escaped.length() - 1;
+            }
+        }
+        return extraLength;
+    }
+
+    private static String[] createEscapesTable(boolean withSpaceSymbols) {
+        String[] escapes = new String[128];
+        escapes['\\'] = "\\\\";
+        escapes['"'] = "\\\"";
+        if (withSpaceSymbols) {
+            escapes['\n'] = "\\n";
+            escapes['\t'] = "\\t";
+            escapes['\r'] = "\\r";
+        }
+        return escapes;
+    }
+
+    private static String getEscaped(char symbol, String[] escapes) {
+        return symbol < escapes.length ? escapes[symbol] : null;
     }
 }
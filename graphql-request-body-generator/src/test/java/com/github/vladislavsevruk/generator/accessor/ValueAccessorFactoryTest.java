@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.accessor;
+
+import com.github.vladislavsevruk.generator.test.data.AccessorTestModel;
+import com.github.vladislavsevruk.generator.util.ArgumentValueUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+class ValueAccessorFactoryTest {
+
+    @Test
+    void fieldAccessorForNonPublicClassTest() throws NoSuchFieldException {
+        Field field = NonPublicModel.class.getDeclaredField("value");
+        ValueAccessor accessor = ValueAccessorFactory.forField(field, null);
+        Assertions.assertEquals("nonPublicValue", accessor.getValue(new NonPublicModel()));
+    }
+
+    @Test
+    void fieldAccessorUsesFieldWithoutGetterTest() throws NoSuchFieldException {
+        ValueAccessor accessor = createFieldAccessor("fieldWithoutGetter");
+        Assertions.assertEquals("fieldWithoutGetter", accessor.getValue(new AccessorTestModel()));
+    }
+
+    @Test
+    void fieldAccessorUsesGetterTest() throws NoSuchFieldException {
+        ValueAccessor accessor = createFieldAccessor("fieldWithGetter");
+        Assertions.assertEquals("valueFromGetter", accessor.getValue(new AccessorTestModel()));
+    }
+
+    @Test
+    void failingGetterReturnsNullTest() throws NoSuchFieldException {
+        ValueAccessor accessor = createFieldAccessor("fieldWithFailingGetter");
+        Assertions.assertNull(accessor.getValue(new AccessorTestModel()));
+    }
+
+    @Test
+    void methodAccessorTest() throws NoSuchMethodException {
+        Method method = AccessorTestModel.class.getMethod("getFieldWithGetter");
+        Assertions.assertEquals("valueFromGetter",
+                ValueAccessorFactory.forMethod(method).getValue(new AccessorTestModel()));
+    }
+
+    private ValueAccessor createFieldAccessor(String fieldName) throws NoSuchFieldException {
+        Field field = AccessorTestModel.class.getDeclaredField(fieldName);
+        Method getterMethod = ArgumentValueUtil.findGetterMethod(field, AccessorTestModel.class.getMethods());
+        return ValueAccessorFactory.forField(field, getterMethod);
+    }
+
+    private static class NonPublicModel {
+
+        private final String value = "nonPublicValue";
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class LoopFreeTypeCacheTest {
+
+    @BeforeEach
+    void invalidate() {
+        LoopFreeTypeCache.invalidate();
+    }
+
+    @AfterEach
+    void reset() {
+        LoopFreeTypeCache.setMaxSize(64);
+    }
+
+    @Test
+    void cacheIsBoundedTest() {
+        LoopFreeTypeCache.setMaxSize(1);
+        LoopFreeTypeCache.get(new OnlyMarkedFieldMarkingStrategy());
+        LoopFreeTypeCache.get(new AllExceptIgnoredFieldMarkingStrategy());
+        Assertions.assertEquals(1, LoopFreeTypeCache.size());
+    }
+
+    @Test
+    void cacheIsInvalidatedWithSelectionSetCacheTest() {
+        LoopFreeTypeCache.get(new OnlyMarkedFieldMarkingStrategy()).put(new TypeMeta<>(Integer.class), true);
+        SelectionSetCache.invalidate();
+        Assertions.assertEquals(0, LoopFreeTypeCache.size());
+    }
+
+    @Test
+    void negativeMaxSizeThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoopFreeTypeCache.setMaxSize(-1));
+    }
+
+    @Test
+    void nonCacheableStrategyResultsAreNotSharedTest() {
+        FieldMarkingStrategy fieldMarkingStrategy = field -> true;
+        Assertions.assertNotSame(LoopFreeTypeCache.get(fieldMarkingStrategy),
+                LoopFreeTypeCache.get(fieldMarkingStrategy));
+        Assertions.assertEquals(0, LoopFreeTypeCache.size());
+    }
+
+    @Test
+    void resultsAreSharedTest() {
+        FieldMarkingStrategy fieldMarkingStrategy = new OnlyMarkedFieldMarkingStrategy();
+        Map<TypeMeta<?>, Boolean> loopFreeTypes = LoopFreeTypeCache.get(fieldMarkingStrategy);
+        Assertions.assertSame(loopFreeTypes, LoopFreeTypeCache.get(fieldMarkingStrategy));
+        Assertions.assertEquals(1, LoopFreeTypeCache.size());
+    }
+
+    @Test
+    void zeroMaxSizeDisablesCacheTest() {
+        LoopFreeTypeCache.setMaxSize(0);
+        LoopFreeTypeCache.get(new OnlyMarkedFieldMarkingStrategy());
+        Assertions.assertEquals(0, LoopFreeTypeCache.size());
+    }
+}
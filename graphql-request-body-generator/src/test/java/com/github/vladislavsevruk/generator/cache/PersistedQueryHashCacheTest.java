@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PersistedQueryHashCacheTest {
+
+    @BeforeEach
+    void invalidate() {
+        PersistedQueryHashCache.invalidate();
+    }
+
+    @AfterEach
+    void reset() {
+        PersistedQueryHashCache.setMaxSize(1024);
+    }
+
+    @Test
+    void cacheIsBoundedTest() {
+        PersistedQueryHashCache.setMaxSize(1);
+        PersistedQueryHashCache.get("{firstQuery{id}}");
+        PersistedQueryHashCache.get("{secondQuery{id}}");
+        Assertions.assertEquals(1, PersistedQueryHashCache.size());
+    }
+
+    @Test
+    void calculateHashTest() {
+        Assertions.assertEquals("60eb9d27bc5ca9dacf5fe72b61ca448d379e4e59f0905c9506fa8fda35a65e7d",
+                PersistedQueryHashCache.calculateHash("{testQuery{selectionSetField}}"));
+    }
+
+    @Test
+    void hashIsCachedTest() {
+        String firstResult = PersistedQueryHashCache.get("{testQuery{selectionSetField}}");
+        String secondResult = PersistedQueryHashCache.get("{testQuery{selectionSetField}}");
+        Assertions.assertSame(firstResult, secondResult);
+        Assertions.assertEquals(1, PersistedQueryHashCache.size());
+    }
+
+    @Test
+    void negativeMaxSizeThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PersistedQueryHashCache.setMaxSize(-1));
+    }
+
+    @Test
+    void zeroMaxSizeDisablesCacheTest() {
+        PersistedQueryHashCache.setMaxSize(0);
+        PersistedQueryHashCache.get("{testQuery{selectionSetField}}");
+        Assertions.assertEquals(0, PersistedQueryHashCache.size());
+    }
+}
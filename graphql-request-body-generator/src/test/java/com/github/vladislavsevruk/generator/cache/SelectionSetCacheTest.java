@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.cache;
+
+import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.FieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import com.github.vladislavsevruk.generator.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SelectionSetCacheTest {
+
+    @BeforeEach
+    void invalidate() {
+        SelectionSetCache.invalidate();
+    }
+
+    @AfterEach
+    void reset() {
+        SelectionSetCache.setMaxSize(1024);
+        FieldMarkingStrategySourceManager.selectionSet().useAllExceptIgnoredFieldsStrategy();
+    }
+
+    @Test
+    void cacheIsBoundedTest() {
+        SelectionSetCache.setMaxSize(1);
+        generate(new TypeMeta<>(TestModel.class), SelectionSetGenerationStrategy.allFields().getFieldsPickingStrategy());
+        generate(new TypeMeta<>(SimpleSelectionSetTestModel.class),
+                SelectionSetGenerationStrategy.allFields().getFieldsPickingStrategy());
+        Assertions.assertEquals(1, SelectionSetCache.size());
+    }
+
+    @Test
+    void customCacheableStrategyIsCachedTest() {
+        CountingCacheableFieldsPickingStrategy fieldsPickingStrategy = new CountingCacheableFieldsPickingStrategy();
+        TypeMeta<?> typeMeta = new TypeMeta<>(SimpleSelectionSetTestModel.class);
+        String firstResult = generate(typeMeta, fieldsPickingStrategy);
+        String secondResult = generate(typeMeta, fieldsPickingStrategy);
+        Assertions.assertEquals("{selectionSetField}", firstResult);
+        Assertions.assertEquals(firstResult, secondResult);
+        Assertions.assertEquals(1, fieldsPickingStrategy.getCounter().get());
+    }
+
+    @Test
+    void customStrategyIsNotCachedTest() {
+        AtomicInteger counter = new AtomicInteger();
+        FieldsPickingStrategy fieldsPickingStrategy = field -> counter.incrementAndGet() > 0;
+        TypeMeta<?> typeMeta = new TypeMeta<>(SimpleSelectionSetTestModel.class);
+        generate(typeMeta, fieldsPickingStrategy);
+        generate(typeMeta, fieldsPickingStrategy);
+        Assertions.assertEquals(2, counter.get());
+        Assertions.assertEquals(0, SelectionSetCache.size());
+    }
+
+    @Test
+    void predefinedStrategiesAreCachedTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        FieldsPickingStrategy fieldsPickingStrategy = SelectionSetGenerationStrategy.allFields()
+                .getFieldsPickingStrategy();
+        String firstResult = generate(typeMeta, fieldsPickingStrategy);
+        String secondResult = generate(typeMeta, fieldsPickingStrategy);
+        Assertions.assertSame(firstResult, secondResult);
+        Assertions.assertEquals(1, SelectionSetCache.size());
+    }
+
+    @Test
+    void switchingMarkingStrategyInvalidatesCacheTest() {
+        generate(new TypeMeta<>(TestModel.class), SelectionSetGenerationStrategy.allFields().getFieldsPickingStrategy());
+        Assertions.assertEquals(1, SelectionSetCache.size());
+        FieldMarkingStrategySourceManager.selectionSet().useOnlyMarkedFieldsStrategy();
+        Assertions.assertEquals(0, SelectionSetCache.size());
+    }
+
+    private String generate(TypeMeta<?> typeMeta, FieldsPickingStrategy fieldsPickingStrategy) {
+        FieldMarkingStrategy fieldMarkingStrategy = FieldMarkingStrategySourceManager.selectionSet().getStrategy();
+        LoopBreakingStrategy loopBreakingStrategy = EndlessLoopBreakingStrategy.defaultStrategy()
+                .getLoopBreakingStrategy();
+        return new SelectionSetGenerator(typeMeta, fieldMarkingStrategy, loopBreakingStrategy)
+                .generate(fieldsPickingStrategy);
+    }
+
+    private static class CountingCacheableFieldsPickingStrategy implements FieldsPickingStrategy, CacheableStrategy {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public boolean shouldBePicked(Field field) {
+            counter.incrementAndGet();
+            return true;
+        }
+
+        AtomicInteger getCounter() {
+            return counter;
+        }
+    }
+}
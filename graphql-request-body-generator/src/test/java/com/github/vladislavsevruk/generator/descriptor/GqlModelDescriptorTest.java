@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.descriptor;
+
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.test.data.GenericTestModel;
+import com.github.vladislavsevruk.generator.test.data.InheritedTestModel;
+import com.github.vladislavsevruk.generator.test.data.SimpleTestModelWithMethodInput;
+import com.github.vladislavsevruk.generator.test.data.TestModel;
+import com.github.vladislavsevruk.generator.test.data.metadata.AccessedTestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class GqlModelDescriptorTest {
+
+    @Test
+    void descriptorIsBuiltOncePerClassTest() {
+        Assertions.assertSame(GqlModelDescriptor.of(TestModel.class), GqlModelDescriptor.of(TestModel.class));
+    }
+
+    @Test
+    void fieldDescriptorTest() {
+        GqlFieldDescriptor fieldDescriptor = getFieldDescriptor(TestModel.class, "entityWithAliasAndArgument");
+        Assertions.assertEquals("entityWithAliasAndArgument", fieldDescriptor.getName());
+        Assertions.assertEquals("aliasForEntityWithAliasAndArgument:entityWithAliasAndArgument"
+                        + "(argumentForEntityWithAliasAndArgument:\"valueForEntityWithAliasAndArgument\")",
+                fieldDescriptor.getNameWithArgumentsAndAlias());
+        Assertions.assertTrue(fieldDescriptor.isWithSelectionSet());
+        Assertions.assertFalse(fieldDescriptor.isDelegate());
+        Assertions.assertFalse(fieldDescriptor.isUnion());
+        Assertions.assertFalse(fieldDescriptor.isVariable());
+    }
+
+    @Test
+    void fieldNameFromAnnotationTest() {
+        Assertions.assertEquals("idField", getFieldDescriptor(TestModel.class, "id").getName());
+        Assertions.assertTrue(getFieldDescriptor(TestModel.class, "fieldWithDelegateAnnotation").isDelegate());
+    }
+
+    @Test
+    void inputMethodsTest() {
+        List<GqlMethodDescriptor> inputMethods = GqlModelDescriptor.of(SimpleTestModelWithMethodInput.class)
+                .getInputMethods();
+        Assertions.assertEquals(1, inputMethods.size());
+        Assertions.assertEquals("testValue", inputMethods.get(0).getName());
+        Assertions.assertFalse(inputMethods.get(0).isDelegate());
+    }
+
+    @Test
+    void markedFieldsTest() {
+        GqlModelDescriptor descriptor = GqlModelDescriptor.of(InheritedTestModel.class);
+        List<String> expectedAllExceptIgnored = Arrays.asList("id", "newDelegateAtDescendant",
+                "newEntityAtDescendant", "newFieldAtDescendant", "newFieldWithoutAnnotationAtDescendant");
+        Assertions.assertEquals(expectedAllExceptIgnored,
+                getFieldNames(descriptor, new AllExceptIgnoredFieldMarkingStrategy()));
+        List<String> expectedOnlyMarked = Arrays.asList("id", "newDelegateAtDescendant", "newEntityAtDescendant",
+                "newFieldAtDescendant");
+        Assertions.assertEquals(expectedOnlyMarked, getFieldNames(descriptor, new OnlyMarkedFieldMarkingStrategy()));
+    }
+
+    @Test
+    void markedFieldsForCacheableStrategyAreReusedTest() {
+        GqlModelDescriptor descriptor = GqlModelDescriptor.of(TestModel.class);
+        FieldMarkingStrategy fieldMarkingStrategy = new AllExceptIgnoredFieldMarkingStrategy();
+        Assertions.assertSame(descriptor.getMarkedFields(fieldMarkingStrategy),
+                descriptor.getMarkedFields(fieldMarkingStrategy));
+    }
+
+    @Test
+    void metadataValueAccessorIsUsedTest() {
+        AccessedTestModel model = new AccessedTestModel("accessedValue", "reflectedValue");
+        Assertions.assertEquals("precomputed accessedValue",
+                getFieldDescriptor(AccessedTestModel.class, "accessedField").getValueAccessor().getValue(model));
+        Assertions.assertEquals("reflectedValue",
+                getFieldDescriptor(AccessedTestModel.class, "reflectedField").getValueAccessor().getValue(model));
+    }
+
+    @Test
+    void superclassDescriptorTest() {
+        Assertions.assertSame(GqlModelDescriptor.of(GenericTestModel.class),
+                GqlModelDescriptor.of(InheritedTestModel.class).getSuperclassDescriptor());
+        Assertions.assertNull(GqlModelDescriptor.of(GenericTestModel.class).getSuperclassDescriptor());
+    }
+
+    private GqlFieldDescriptor getFieldDescriptor(Class<?> modelClass, String fieldName) {
+        return GqlModelDescriptor.of(modelClass).getFields().stream()
+                .filter(fieldDescriptor -> fieldDescriptor.getField().getName().equals(fieldName)).findAny()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private List<String> getFieldNames(GqlModelDescriptor descriptor, FieldMarkingStrategy fieldMarkingStrategy) {
+        return descriptor.getMarkedFields(fieldMarkingStrategy).stream()
+                .map(fieldDescriptor -> fieldDescriptor.getField().getName()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class FragmentExtractorTest {
+
+    private static final List<SelectionSetNode> FIRST_FIELDS = Arrays
+            .asList(SelectionSetNode.leaf("firstLongFieldName"), SelectionSetNode.leaf("secondLongFieldName"));
+    private static final List<SelectionSetNode> SECOND_FIELDS = Arrays
+            .asList(SelectionSetNode.leaf("thirdLongFieldName"), SelectionSetNode.leaf("fourthLongFieldName"));
+
+    @Test
+    void fragmentsWithSameTypeGetDifferentNamesTest() {
+        FragmentedSelectionSet result = FragmentExtractor.extract(Arrays
+                .asList(SelectionSetNode.of("a", "Item", FIRST_FIELDS), SelectionSetNode.of("b", "Item", FIRST_FIELDS),
+                        SelectionSetNode.of("c", "Item", FIRST_FIELDS), SelectionSetNode.of("d", "Item", SECOND_FIELDS),
+                        SelectionSetNode.of("e", "Item", SECOND_FIELDS),
+                        SelectionSetNode.of("f", "Item", SECOND_FIELDS)));
+        Assertions.assertEquals("{a{...ItemFields} b{...ItemFields} c{...ItemFields} d{...ItemFields2} "
+                + "e{...ItemFields2} f{...ItemFields2}}", result.getSelectionSet());
+        Map<String, String> expectedFragments = new LinkedHashMap<>();
+        expectedFragments.put("ItemFields", "fragment ItemFields on Item{firstLongFieldName secondLongFieldName}");
+        expectedFragments.put("ItemFields2", "fragment ItemFields2 on Item{thirdLongFieldName fourthLongFieldName}");
+        Assertions.assertEquals(expectedFragments, result.getFragments());
+    }
+
+    @Test
+    void nestedFragmentIsReferencedFromParentFragmentTest() {
+        SelectionSetNode nestedNode = SelectionSetNode.of("item", "Item", FIRST_FIELDS);
+        List<SelectionSetNode> parentFields = Arrays.asList(nestedNode, SelectionSetNode.leaf("parentLongFieldName"));
+        FragmentedSelectionSet result = FragmentExtractor.extract(Arrays
+                .asList(SelectionSetNode.of("a", "Parent", parentFields),
+                        SelectionSetNode.of("b", "Parent", parentFields),
+                        SelectionSetNode.of("c", "Parent", parentFields), nestedNode,
+                        SelectionSetNode.of("otherItem", "Item", FIRST_FIELDS)));
+        Assertions.assertEquals("{a{...ParentFields} b{...ParentFields} c{...ParentFields} item{...ItemFields} "
+                + "otherItem{...ItemFields}}", result.getSelectionSet());
+        Assertions.assertEquals(Arrays.asList("ParentFields", "ItemFields"),
+                Arrays.asList(result.getFragments().keySet().toArray()));
+        Assertions.assertEquals("fragment ParentFields on Parent{item{...ItemFields} parentLongFieldName}",
+                result.getFragments().get("ParentFields"));
+    }
+
+    @Test
+    void shortSubSelectionIsNotExtractedTest() {
+        List<SelectionSetNode> fields = Collections.singletonList(SelectionSetNode.leaf("id"));
+        FragmentedSelectionSet result = FragmentExtractor.extract(Arrays
+                .asList(SelectionSetNode.of("a", "Item", fields), SelectionSetNode.of("b", "Item", fields)));
+        Assertions.assertEquals("{a{id} b{id}}", result.getSelectionSet());
+        Assertions.assertTrue(result.getFragments().isEmpty());
+    }
+
+    @Test
+    void subSelectionsWithoutTypeAreNotExtractedTest() {
+        FragmentedSelectionSet result = FragmentExtractor.extract(Arrays
+                .asList(SelectionSetNode.of("a", FIRST_FIELDS), SelectionSetNode.of("b", FIRST_FIELDS)));
+        Assertions.assertEquals("{a{firstLongFieldName secondLongFieldName} b{firstLongFieldName "
+                + "secondLongFieldName}}", result.getSelectionSet());
+        Assertions.assertTrue(result.getFragments().isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlInputArgument;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
+import com.github.vladislavsevruk.generator.test.data.SimpleInputTestModel;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GqlBatchRequestBodyGeneratorTest {
+
+    @Test
+    void batchOfGeneratorsTest() {
+        GqlOperationRequestBodyGenerator<?> query = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class);
+        GqlOperationRequestBodyGenerator<?> mutation = GqlRequestBodyGenerator.mutation("testMutation")
+                .arguments(GqlInputArgument.of(new SimpleInputTestModel().setTestField("value")))
+                .selectionSet(SimpleSelectionSetTestModel.class);
+        String result = GqlRequestBodyGenerator.batch().operations(Arrays.asList(query, mutation)).generate();
+        Assertions.assertEquals("[" + query.generate() + "," + mutation.generate() + "]", result);
+    }
+
+    @Test
+    void batchOfPreparedOperationTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        String result = GqlRequestBodyGenerator.batch().operations(preparedOperation,
+                Arrays.asList(Collections.singletonMap("id", 1), Collections.singletonMap("id", 2))).generate();
+        String expectedResult = "[{\"variables\":{\"id\":1},\"query\":\"query($id:Int!){testQuery(id:$id){"
+                + "selectionSetField}}\"},{\"variables\":{\"id\":2},\"query\":\"query($id:Int!){testQuery(id:$id){"
+                + "selectionSetField}}\"}]";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void emptyBatchTest() {
+        Assertions.assertEquals("[]", GqlRequestBodyGenerator.batch().generate());
+    }
+
+    @Test
+    void identicalOperationsOfDifferentGeneratorsTest() {
+        GqlOperationRequestBodyGenerator<?> firstQuery = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class);
+        GqlOperationRequestBodyGenerator<?> secondQuery = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 2, true)).selectionSet(SimpleSelectionSetTestModel.class);
+        String result = GqlRequestBodyGenerator.batch().operations(Arrays.asList(firstQuery, secondQuery)).generate();
+        Assertions.assertEquals("[" + firstQuery.generate() + "," + secondQuery.generate() + "]", result);
+    }
+
+    @Test
+    void operationOfRepeatedGeneratorIsRenderedOnceTest() {
+        AtomicInteger renderCount = new AtomicInteger();
+        GqlOperationRequestBodyGenerator<?> query = new GqlQueryRequestBodyGenerator("testQuery") {
+            @Override
+            protected void writeOperation(StringBuilder sink) {
+                renderCount.incrementAndGet();
+                super.writeOperation(sink);
+            }
+        }.arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class);
+        String result = GqlRequestBodyGenerator.batch().operations(Arrays.asList(query, query, query)).generate();
+        String expectedOperation = "{\"variables\":{\"id\":1},\"query\":\"query($id:Int!){testQuery(id:$id){"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals("[" + expectedOperation + "," + expectedOperation + "," + expectedOperation + "]",
+                result);
+        Assertions.assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    void unwrappedGeneratorIsWrappedAtBatchTest() {
+        GqlOperationRequestBodyGenerator<?> unwrappedQuery = GqlRequestBodyGenerator.unwrapped().query("testQuery")
+                .selectionSet(SimpleSelectionSetTestModel.class);
+        String result = GqlRequestBodyGenerator.batch().operation(unwrappedQuery).generate();
+        Assertions.assertEquals("[{\"query\":\"{testQuery{selectionSetField}}\"}]", result);
+    }
+
+    @Test
+    void writeToWriterTest() throws IOException {
+        GqlBatchRequestBodyGenerator batchGenerator = GqlRequestBodyGenerator.batch()
+                .operation(GqlRequestBodyGenerator.query("testQuery").selectionSet(SimpleSelectionSetTestModel.class))
+                .operation(GqlRequestBodyGenerator.query("testQuery").selectionSet(SimpleSelectionSetTestModel.class));
+        StringWriter writer = new StringWriter();
+        batchGenerator.writeTo(writer);
+        Assertions.assertEquals("[{\"query\":\"{testQuery{selectionSetField}}\"},"
+                + "{\"query\":\"{testQuery{selectionSetField}}\"}]", writer.toString());
+    }
+}
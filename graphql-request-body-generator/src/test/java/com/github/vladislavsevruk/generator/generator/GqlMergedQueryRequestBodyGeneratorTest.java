@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.query.GqlQueryRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlArgument;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class GqlMergedQueryRequestBodyGeneratorTest {
+
+    @Test
+    void conflictingVariableDeclarationsThrowsExceptionTest() {
+        GqlMergedQueryRequestBodyGenerator generator = GqlRequestBodyGenerator.mergedQuery()
+                .query(GqlRequestBodyGenerator.query("firstQuery").arguments(GqlVariableArgument.of("id", 1, true))
+                        .selectionSet(SimpleSelectionSetTestModel.class))
+                .query(GqlRequestBodyGenerator.query("secondQuery").arguments(GqlVariableArgument.of("id", "1"))
+                        .selectionSet(SimpleSelectionSetTestModel.class));
+        Assertions.assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @Test
+    void conflictingVariableValuesThrowsExceptionTest() {
+        GqlMergedQueryRequestBodyGenerator generator = GqlRequestBodyGenerator.mergedQuery()
+                .query(GqlRequestBodyGenerator.query("firstQuery").arguments(GqlVariableArgument.of("id", 1, true))
+                        .selectionSet(SimpleSelectionSetTestModel.class))
+                .query(GqlRequestBodyGenerator.query("secondQuery").arguments(GqlVariableArgument.of("id", 2, true))
+                        .selectionSet(SimpleSelectionSetTestModel.class));
+        Assertions.assertThrows(IllegalStateException.class, generator::generate);
+    }
+
+    @Test
+    void descriptorMapsAliasesToGeneratorsTest() {
+        GqlQueryRequestBodyGenerator firstQuery = GqlRequestBodyGenerator.query("firstQuery")
+                .selectionSet(SimpleSelectionSetTestModel.class);
+        GqlQueryRequestBodyGenerator secondQuery = GqlRequestBodyGenerator.query("secondQuery");
+        GqlMergedQueryDescriptor descriptor = GqlRequestBodyGenerator.mergedQuery().query(firstQuery)
+                .query("second", secondQuery).getDescriptor();
+        Assertions.assertEquals(Arrays.asList("q0", "second"), Arrays.asList(descriptor.getAliases().toArray()));
+        Assertions.assertSame(firstQuery, descriptor.getGenerator("q0"));
+        Assertions.assertSame(secondQuery, descriptor.getGenerator("second"));
+        Assertions.assertEquals(SimpleSelectionSetTestModel.class, descriptor.getSelectionSetTypeMeta("q0").getType());
+        Assertions.assertNull(descriptor.getGenerator("q1"));
+    }
+
+    @Test
+    void duplicateAliasThrowsExceptionTest() {
+        GqlMergedQueryRequestBodyGenerator generator = GqlRequestBodyGenerator.mergedQuery()
+                .query("alias", GqlRequestBodyGenerator.query("firstQuery"))
+                .query(GqlRequestBodyGenerator.query("secondQuery").operationAlias("alias"));
+        Assertions.assertThrows(IllegalArgumentException.class, generator::getDescriptor);
+    }
+
+    @Test
+    void generatedAliasesSkipExplicitOnesTest() {
+        String result = GqlRequestBodyGenerator.mergedQuery()
+                .query(GqlRequestBodyGenerator.query("firstQuery").selectionSet(SimpleSelectionSetTestModel.class))
+                .query("q0", GqlRequestBodyGenerator.query("secondQuery")
+                        .selectionSet(SimpleSelectionSetTestModel.class)).generate();
+        String expectedResult = "{\"query\":\"{q1:firstQuery{selectionSetField} q0:secondQuery{"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void mergedQueryWithOperationAliasTest() {
+        String result = GqlRequestBodyGenerator.mergedQuery().operationAlias("mergedQuery")
+                .query(GqlRequestBodyGenerator.query("firstQuery").arguments(GqlArgument.of("id", 1))
+                        .selectionSet(SimpleSelectionSetTestModel.class)).generate();
+        String expectedResult = "{\"query\":\"query mergedQuery{q0:firstQuery(id:1){selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void sharedVariablesAreDeclaredOnceTest() {
+        String result = GqlRequestBodyGenerator.mergedQuery()
+                .query(GqlRequestBodyGenerator.query("firstQuery").arguments(GqlVariableArgument.of("id", 1, true))
+                        .selectionSet(SimpleSelectionSetTestModel.class))
+                .query(GqlRequestBodyGenerator.query("secondQuery")
+                        .arguments(GqlVariableArgument.of("id", 1, true), GqlVariableArgument.of("name", "value"))
+                        .selectionSet(SimpleSelectionSetTestModel.class)).generate();
+        String expectedResult = "{\"variables\":{\"id\":1,\"name\":\"value\"},\"query\":\"query($id:Int!,"
+                + "$name:String){q0:firstQuery(id:$id){selectionSetField} q1:secondQuery(id:$id,name:$name){"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlArgument;
+import com.github.vladislavsevruk.generator.param.GqlInputArgument;
+import com.github.vladislavsevruk.generator.param.GqlParameterValue;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
+import com.github.vladislavsevruk.generator.strategy.picker.mutation.InputGenerationStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.generator.test.data.SimpleInputTestModel;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import com.github.vladislavsevruk.generator.test.data.TestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class GqlOperationSpecTest {
+
+    private static final GqlOperationSpec SHARED_SPEC = GqlOperationSpec.query("sharedQuery")
+            .withArguments(GqlArgument.of("id", 1)).withSelectionSet(TestModel.class)
+            .withSelectionSetFieldsPickingStrategy(SelectionSetGenerationStrategy.allFields());
+
+    @Test
+    void argumentsAreCopiedTest() {
+        List<GqlParameterValue<?>> arguments = new ArrayList<>();
+        arguments.add(GqlArgument.of("id", 1));
+        GqlOperationSpec spec = GqlOperationSpec.query("testQuery").withArguments(arguments)
+                .withSelectionSet(SimpleSelectionSetTestModel.class);
+        arguments.add(GqlArgument.of("name", "value"));
+        Assertions.assertEquals("{\"query\":\"{testQuery(id:1){selectionSetField}}\"}", spec.generate());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> spec.getArguments().add(GqlArgument.of("name", "value")));
+    }
+
+    @Test
+    void argumentValuesAreGeneratedPerCallTest() {
+        List<Integer> ids = new ArrayList<>();
+        ids.add(1);
+        GqlOperationSpec spec = GqlOperationSpec.query("testQuery").withArguments(GqlArgument.of("ids", ids))
+                .withSelectionSet(SimpleSelectionSetTestModel.class);
+        Assertions.assertEquals("{\"query\":\"{testQuery(ids:[1]){selectionSetField}}\"}", spec.generate());
+        ids.add(2);
+        Assertions.assertEquals("{\"query\":\"{testQuery(ids:[1,2]){selectionSetField}}\"}", spec.generate());
+    }
+
+    @Test
+    void concurrentGenerationTest() throws InterruptedException, ExecutionException {
+        String expectedResult = SHARED_SPEC.generate();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> tasks = Collections.nCopies(64, SHARED_SPEC::generate);
+            for (Future<String> future : executorService.invokeAll(tasks)) {
+                Assertions.assertEquals(expectedResult, future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void generateMutationTest() {
+        SimpleInputTestModel inputModel = new SimpleInputTestModel().setTestField("testValue");
+        String result = GqlOperationSpec.mutation("testMutation").withArguments(GqlInputArgument.of(inputModel))
+                .withInputFieldsPickingStrategy(InputGenerationStrategy.allFields())
+                .withSelectionSet(SimpleSelectionSetTestModel.class).generate();
+        String expectedResult = GqlRequestBodyGenerator.mutation("testMutation")
+                .arguments(InputGenerationStrategy.allFields(), GqlInputArgument.of(inputModel))
+                .selectionSet(SimpleSelectionSetTestModel.class).generate();
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void generatePersistedTest() {
+        String expectedResult = GqlRequestBodyGenerator.query("sharedQuery").arguments(GqlArgument.of("id", 1))
+                .selectionSet(TestModel.class, SelectionSetGenerationStrategy.allFields()).generatePersisted();
+        Assertions.assertEquals(expectedResult, SHARED_SPEC.generatePersisted());
+    }
+
+    @Test
+    void generateUnwrappedQueryTest() {
+        String result = GqlOperationSpec.query("testQuery").withArguments(GqlVariableArgument.of("id", 1, true))
+                .withOperationAlias("alias").withSelectionSet(SimpleSelectionSetTestModel.class)
+                .withWrappedBody(false).generate();
+        Assertions.assertEquals("query alias($id:Int!){testQuery(id:$id){selectionSetField}}", result);
+    }
+
+    @Test
+    void prepareTest() {
+        PreparedGqlOperation preparedOperation = GqlOperationSpec.query("testQuery")
+                .withArguments(GqlVariableArgument.of("id", 1, true))
+                .withSelectionSet(SimpleSelectionSetTestModel.class).prepare();
+        String expectedResult = "{\"variables\":{\"id\":2},\"query\":\"query($id:Int!){testQuery(id:$id){"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, preparedOperation.bind(Collections.singletonMap("id", 2)));
+    }
+
+    @Test
+    void withMethodsDoNotModifySpecTest() {
+        GqlOperationSpec spec = GqlOperationSpec.query("testQuery")
+                .withSelectionSet(SimpleSelectionSetTestModel.class);
+        GqlOperationSpec aliasedSpec = spec.withOperationAlias("alias");
+        Assertions.assertNotSame(spec, aliasedSpec);
+        Assertions.assertNull(spec.getOperationAlias());
+        Assertions.assertEquals("alias", aliasedSpec.getOperationAlias());
+        Assertions.assertEquals("{\"query\":\"{testQuery{selectionSetField}}\"}", spec.generate());
+    }
+
+    @Test
+    void withSelectionSetPathsTest() {
+        GqlOperationSpec spec = SHARED_SPEC.withSelectionSetPaths("entity", "!entity.id");
+        String expectedResult = GqlRequestBodyGenerator.query("sharedQuery").arguments(GqlArgument.of("id", 1))
+                .selectionSet(TestModel.class, SelectionSetGenerationStrategy.allFields())
+                .selectionSetPaths("entity", "!entity.id").generate();
+        Assertions.assertEquals(expectedResult, spec.generate());
+        Assertions.assertEquals(SHARED_SPEC.generate(), spec.withSelectionSet(TestModel.class).generate());
+    }
+
+    @Test
+    void withoutSelectionSetTest() {
+        GqlOperationSpec spec = GqlOperationSpec.query("testQuery");
+        Assertions.assertThrows(NullPointerException.class, spec::generate);
+    }
+
+    @Test
+    void writeToWriterTest() throws IOException {
+        StringWriter writer = new StringWriter();
+        SHARED_SPEC.writeTo(writer);
+        Assertions.assertEquals(SHARED_SPEC.generate(), writer.toString());
+    }
+}
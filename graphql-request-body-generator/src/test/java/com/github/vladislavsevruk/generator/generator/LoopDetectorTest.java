@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LoopDetectorTest {
+
+    private static final TypeMeta<?> ITEM = new TypeMeta<>(Item.class);
+    private static final TypeMeta<?> ITEM_LIST = new TypeMeta<>(List.class, new TypeMeta<?>[]{ ITEM });
+    private static final TypeMeta<?> OTHER_ITEM = new TypeMeta<>(OtherItem.class);
+
+    @Test
+    void collectionElementsAreCountedAsElementTypeTest() {
+        LoopDetector loopDetector = new LoopDetector(ITEM);
+        LoopBreakingStrategy strategy = EndlessLoopBreakingStrategy.nestingStrategy(1);
+        loopDetector.addToTrace(ITEM_LIST);
+        loopDetector.addToTrace(ITEM_LIST);
+        Assertions.assertTrue(loopDetector.shouldBreakOnItem(ITEM_LIST, strategy));
+        loopDetector.removeLastItemFromTrace();
+        loopDetector.addToTrace(ITEM);
+        Assertions.assertTrue(loopDetector.shouldBreakOnItem(ITEM, strategy));
+    }
+
+    @Test
+    void countingStrategyMatchesTraceStrategyTest() {
+        LoopBreakingStrategy countingStrategy = EndlessLoopBreakingStrategy.nestingStrategy(2);
+        LoopBreakingStrategy traceStrategy = countingStrategy::shouldBreakOnItem;
+        LoopDetector loopDetector = new LoopDetector(ITEM);
+        TypeMeta<?>[] path = new TypeMeta<?>[]{ OTHER_ITEM, ITEM_LIST, OTHER_ITEM, ITEM, ITEM_LIST, ITEM };
+        for (TypeMeta<?> typeMeta : path) {
+            loopDetector.addToTrace(typeMeta);
+            Assertions.assertEquals(loopDetector.shouldBreakOnItem(typeMeta, traceStrategy),
+                    loopDetector.shouldBreakOnItem(typeMeta, countingStrategy), loopDetector.getTrace());
+        }
+    }
+
+    @Test
+    void loopIsResetAfterRemovingLoopedItemTest() {
+        LoopDetector loopDetector = new LoopDetector(ITEM);
+        LoopBreakingStrategy strategy = EndlessLoopBreakingStrategy.nestingStrategy(0);
+        loopDetector.addToTrace(ITEM);
+        Assertions.assertTrue(loopDetector.shouldBreakOnItem(ITEM, strategy));
+        loopDetector.removeLastItemFromTrace();
+        loopDetector.addToTrace(OTHER_ITEM);
+        Assertions.assertFalse(loopDetector.shouldBreakOnItem(OTHER_ITEM, (typeMeta, trace) -> true));
+    }
+
+    @Test
+    void nestingLevelIsRespectedTest() {
+        LoopDetector loopDetector = new LoopDetector(ITEM);
+        LoopBreakingStrategy strategy = EndlessLoopBreakingStrategy.nestingStrategy(2);
+        loopDetector.addToTrace(ITEM);
+        Assertions.assertFalse(loopDetector.shouldBreakOnItem(ITEM, strategy));
+        loopDetector.addToTrace(ITEM);
+        Assertions.assertFalse(loopDetector.shouldBreakOnItem(ITEM, strategy));
+        loopDetector.addToTrace(ITEM);
+        Assertions.assertTrue(loopDetector.shouldBreakOnItem(ITEM, strategy));
+        loopDetector.removeLastItemFromTrace();
+        Assertions.assertFalse(loopDetector.shouldBreakOnItem(ITEM, strategy));
+    }
+
+    private static class Item {
+    }
+
+    private static class OtherItem {
+    }
+}
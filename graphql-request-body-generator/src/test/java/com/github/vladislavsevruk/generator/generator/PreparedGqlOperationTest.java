@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
+import com.github.vladislavsevruk.generator.test.data.InputWithVariableFieldTestModel;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+class PreparedGqlOperationTest {
+
+    @Test
+    void bindMapTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        String result = preparedOperation.bind(Collections.singletonMap("id", 2));
+        String expectedResult = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 2, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .generate();
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void bindModelTest() {
+        InputWithVariableFieldTestModel inputModel = new InputWithVariableFieldTestModel()
+                .setTestField("testField").setTestFieldWithAnnotationValues("testFieldWithAnnotationValues");
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("customGqlQuery")
+                .arguments(GqlDelegateArgument.of(inputModel, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        String expectedResult = "{\"variables\":{\"testField\":\"getTestField method\",\"variableMethodName\":"
+                + "\"getVariableTypeInputMethod\"},\"query\":\"query($testField:String,$variableMethodName:"
+                + "CustomType=\\\"test\\\"){customGqlQuery(testField:$testField,"
+                + "testFieldWithAnnotationValues:\\\"testFieldWithAnnotationValues\\\","
+                + "variableTypeInputMethod:$variableMethodName){selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, preparedOperation.bindModel(inputModel));
+    }
+
+    @Test
+    void bindModelWithNotDeclaredVariableTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        InputWithVariableFieldTestModel inputModel = new InputWithVariableFieldTestModel().setTestField("testField");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> preparedOperation.bindModel(inputModel));
+    }
+
+    @Test
+    void bindNotDeclaredVariableTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        Map<String, Object> variables = Collections.singletonMap("name", "value");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> preparedOperation.bind(variables));
+    }
+
+    @Test
+    void bindWithoutVariablesTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.mutation("testMutation")
+                .selectionSet(SimpleSelectionSetTestModel.class).prepare();
+        String expectedResult = "{\"query\":\"mutation{testMutation{selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, preparedOperation.bind(Collections.emptyMap()));
+    }
+
+    @Test
+    void bindPersistedTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .prepare();
+        String expectedResult = "{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":"
+                + "\"4a63398d061daa3ec641bd52c89876697d386c81cc63b5b7848b3eb336bcd23d\"}},\"variables\":{\"id\":2}}";
+        Assertions.assertEquals(expectedResult, preparedOperation.bindPersisted(Collections.singletonMap("id", 2)));
+    }
+
+    @Test
+    void bindPersistedWithQueryTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .selectionSet(SimpleSelectionSetTestModel.class).prepare();
+        String expectedResult = "{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":"
+                + "\"60eb9d27bc5ca9dacf5fe72b61ca448d379e4e59f0905c9506fa8fda35a65e7d\"}},"
+                + "\"query\":\"{testQuery{selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, preparedOperation.bindPersistedWithQuery(Collections.emptyMap()));
+    }
+
+    @Test
+    void ofTest() {
+        PreparedGqlOperation preparedOperation = PreparedGqlOperation
+                .of("query($id:Int!){testQuery(id:$id){selectionSetField}}", "id");
+        String expectedResult = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 2, true)).selectionSet(SimpleSelectionSetTestModel.class)
+                .generate();
+        Assertions.assertEquals(expectedResult, preparedOperation.bind(Collections.singletonMap("id", 2)));
+        Assertions.assertEquals(Collections.singleton("id"), preparedOperation.getVariableNames());
+    }
+
+    @Test
+    void prepareWithNullVariableValueTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("name", "name", null, "String", false))
+                .selectionSet(SimpleSelectionSetTestModel.class).prepare();
+        Assertions.assertEquals(Collections.singleton("name"), preparedOperation.getVariableNames());
+        String expectedResult = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("name", "value")).selectionSet(SimpleSelectionSetTestModel.class)
+                .generate();
+        Assertions.assertEquals(expectedResult, preparedOperation.bind(Collections.singletonMap("name", "value")));
+    }
+
+    @Test
+    void prepareTest() {
+        PreparedGqlOperation preparedOperation = GqlRequestBodyGenerator.query("testQuery")
+                .arguments(GqlVariableArgument.of("id", 1, true), GqlVariableArgument.of("name", "value"))
+                .selectionSet(SimpleSelectionSetTestModel.class).prepare();
+        Assertions.assertEquals("query($id:Int!,$name:String){testQuery(id:$id,name:$name){selectionSetField}}",
+                preparedOperation.getOperation());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("id", "name")), preparedOperation.getVariableNames());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+class SelectionSetBudgetPrunerTest {
+
+    private static final List<SelectionSetNode> LEAVES = Arrays
+            .asList(SelectionSetNode.leaf("first"), SelectionSetNode.leaf("second"));
+
+    @Test
+    void ancestorMultipliersAreAppliedToRemovedCostTest() {
+        SelectionSetNode outer = SelectionSetNode.of("outer", null,
+                Arrays.asList(SelectionSetNode.of("a", LEAVES), SelectionSetNode.of("b", LEAVES)), 1, 10);
+        Collection<SelectionSetNode> result = SelectionSetBudgetPruner
+                .prune(Arrays.asList(SelectionSetNode.leaf("id"), outer), 40L, Integer.MAX_VALUE);
+        Assertions.assertEquals("[id, outer{b{first second}}]", result.toString());
+        Assertions.assertEquals(32L, SelectionSetNode.getCost(result));
+    }
+
+    @Test
+    void fieldsInsideInlineFragmentsHaveSameDepthTest() {
+        SelectionSetNode union = SelectionSetNode.of("union", Arrays.asList(SelectionSetNode
+                .of("... on First", "First", Collections.singletonList(SelectionSetNode.of("nested", LEAVES))),
+                SelectionSetNode.of("... on Second", "Second", LEAVES)));
+        Collection<SelectionSetNode> result = SelectionSetBudgetPruner
+                .prune(Collections.singletonList(union), Long.MAX_VALUE, 2);
+        Assertions.assertEquals("[union{... on Second{first second}}]", result.toString());
+    }
+
+    @Test
+    void fieldsWithoutSelectionSetAreNotPrunedByCostTest() {
+        Collection<SelectionSetNode> result = SelectionSetBudgetPruner
+                .prune(Arrays.asList(SelectionSetNode.leaf("id", 5), SelectionSetNode.of("nested", LEAVES)), 1L,
+                        Integer.MAX_VALUE);
+        Assertions.assertEquals("[id]", result.toString());
+        Assertions.assertEquals(5L, SelectionSetNode.getCost(result));
+    }
+
+    @Test
+    void mostExpensiveSelectionSetAtTheSameDepthIsPrunedFirstTest() {
+        SelectionSetNode cheap = SelectionSetNode.of("cheap", LEAVES);
+        SelectionSetNode expensive = SelectionSetNode.of("expensive", null, LEAVES, 1, 10);
+        Collection<SelectionSetNode> result = SelectionSetBudgetPruner
+                .prune(Arrays.asList(cheap, expensive), 10L, Integer.MAX_VALUE);
+        Assertions.assertEquals("[cheap{first second}]", result.toString());
+    }
+
+    @Test
+    void parentWithoutRemainingSelectionsIsPrunedTest() {
+        SelectionSetNode parent = SelectionSetNode
+                .of("parent", Collections.singletonList(SelectionSetNode.of("child", LEAVES)));
+        Collection<SelectionSetNode> result = SelectionSetBudgetPruner
+                .prune(Arrays.asList(SelectionSetNode.leaf("id"), parent), 3L, Integer.MAX_VALUE);
+        Assertions.assertEquals("[id]", result.toString());
+    }
+}
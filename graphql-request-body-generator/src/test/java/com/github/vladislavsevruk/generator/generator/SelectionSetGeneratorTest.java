@@ -36,9 +36,17 @@ import com.github.vladislavsevruk.generator.test.data.GenericTestModel;
 import com.github.vladislavsevruk.generator.test.data.InheritedTestModel;
 import com.github.vladislavsevruk.generator.test.data.NestedTestModel;
 import com.github.vladislavsevruk.generator.test.data.TestModel;
+import com.github.vladislavsevruk.generator.test.data.incremental.BackslashStreamLabelPost;
+import com.github.vladislavsevruk.generator.test.data.incremental.NegativeInitialCountPost;
+import com.github.vladislavsevruk.generator.test.data.incremental.Post;
+import com.github.vladislavsevruk.generator.test.data.incremental.PostPreview;
+import com.github.vladislavsevruk.generator.test.data.incremental.QuotedDeferLabelPost;
+import com.github.vladislavsevruk.generator.test.data.incremental.StreamedTitlePost;
 import com.github.vladislavsevruk.generator.test.data.loop.LongLoopedItem1;
+import com.github.vladislavsevruk.generator.test.data.loop.MultiReferencedItem;
 import com.github.vladislavsevruk.generator.test.data.loop.SelfReferencedItem;
 import com.github.vladislavsevruk.generator.test.data.loop.ShortLoopedItem1;
+import com.github.vladislavsevruk.generator.test.data.union.TestModelWithHoistedUnion;
 import com.github.vladislavsevruk.generator.test.data.union.TestModelWithUnion;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
@@ -304,6 +312,18 @@ class SelectionSetGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generateOnlyMarkedIdModelWithDeferredFieldsTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(Post.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        String result = bodyGenerator.generate(new OnlyIdFieldsPickingStrategy());
+        String expectedResult = "{... @defer(label:\"author\"){author{id}} "
+                + "comments @stream(initialCount:2,label:\"comments\"){id} id}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
     @Test
     void generateOnlyMarkedInheritedModelWithAnnotationsTest() {
         TypeMeta<?> modelMeta = new TypeMeta<>(InheritedTestModel.class);
@@ -363,6 +383,69 @@ class SelectionSetGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generateOnlyMarkedModelWithFieldsDeferredWithSameLabelTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(PostPreview.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        String result = bodyGenerator.generate(new AllFieldsPickingStrategy());
+        Assertions.assertEquals("{... @defer(label:\"details\"){author{id name} body likes views} id}", result);
+    }
+
+    @Test
+    void generateOnlyMarkedModelWithDeferLabelWithQuoteTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(QuotedDeferLabelPost.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        AllFieldsPickingStrategy fieldsPickingStrategy = new AllFieldsPickingStrategy();
+        Assertions.assertThrows(IllegalStateException.class, () -> bodyGenerator.generate(fieldsPickingStrategy));
+    }
+
+    @Test
+    void generateOnlyMarkedModelWithNegativeStreamInitialCountTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(NegativeInitialCountPost.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        AllFieldsPickingStrategy fieldsPickingStrategy = new AllFieldsPickingStrategy();
+        Assertions.assertThrows(IllegalStateException.class, () -> bodyGenerator.generate(fieldsPickingStrategy));
+    }
+
+    @Test
+    void generateOnlyMarkedModelWithStreamLabelWithBackslashTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(BackslashStreamLabelPost.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        AllFieldsPickingStrategy fieldsPickingStrategy = new AllFieldsPickingStrategy();
+        Assertions.assertThrows(IllegalStateException.class, () -> bodyGenerator.generate(fieldsPickingStrategy));
+    }
+
+    @Test
+    void generateOnlyMarkedModelWithStreamedNonListFieldTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(StreamedTitlePost.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        AllFieldsPickingStrategy fieldsPickingStrategy = new AllFieldsPickingStrategy();
+        Assertions.assertThrows(IllegalStateException.class, () -> bodyGenerator.generate(fieldsPickingStrategy));
+    }
+
+    @Test
+    void generateOnlyMarkedModelWithDeferredAndStreamedFieldsTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(Post.class);
+        int nestingLevel = 0;
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta,
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(nestingLevel));
+        String result = bodyGenerator.generate(new AllFieldsPickingStrategy());
+        String expectedResult = "{... @defer(label:\"author\"){author{id name}} ... @defer{body} "
+                + "comments @stream(initialCount:2,label:\"comments\"){id text} id "
+                + "... @defer(label:\"statistics\"){likes views} tags @stream(initialCount:0)}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
     @Test
     void generateOnlyMarkedModelWithUnionsTest() {
         TypeMeta<?> modelMeta = new TypeMeta<>(TestModelWithUnion.class);
@@ -375,6 +458,18 @@ class SelectionSetGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generateOnlyMarkedModelWithHoistedUnionsTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(TestModelWithHoistedUnion.class);
+        SelectionSetGenerator bodyGenerator = new SelectionSetGenerator(modelMeta, new OnlyMarkedFieldMarkingStrategy(),
+                new NestingLoopBreakingStrategy(0));
+        String result = bodyGenerator.generate(new AllFieldsPickingStrategy());
+        String expectedResult = "{hoistedUnion{id ... on UnionType1{nonNullField} ... on UnionType3{title}} "
+                + "interfaceUnion{... on Node{id} ... on UnionType1{nonNullField} ... on UnionType3{title}} "
+                + "union{... on UnionType1{id nonNullField} ... on UnionType3{id title}}}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
     @Test
     void generateOnlyMarkedNonNullGenericModelWithAnnotationsTest() {
         TypeMeta<?> modelMeta = new TypeProvider<GenericTestModel<NestedTestModel>>() {}.getTypeMeta();
@@ -508,6 +603,21 @@ class SelectionSetGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generateWithNestingLoopBreakingStrategyMultiReferencedItemTest() {
+        TypeMeta<?> modelMeta = new TypeMeta<>(MultiReferencedItem.class);
+        NestingLoopBreakingStrategy countingStrategy = new NestingLoopBreakingStrategy(3);
+        // strategy that doesn't support counting is checked against whole trace without reusing subtrees
+        LoopBreakingStrategy traceStrategy = countingStrategy::shouldBreakOnItem;
+        String result = new SelectionSetGenerator(modelMeta, new AllExceptIgnoredFieldMarkingStrategy(),
+                countingStrategy).generate(new AllFieldsPickingStrategy());
+        String expectedResult = new SelectionSetGenerator(modelMeta, new AllExceptIgnoredFieldMarkingStrategy(),
+                traceStrategy).generate(new AllFieldsPickingStrategy());
+        Assertions.assertEquals(expectedResult, result);
+        Assertions.assertTrue(result.startsWith("{children{children{children{id} id parent{id} siblings{id}} id"),
+                result);
+    }
+
     @ParameterizedTest
     @MethodSource("provideNestingLoopBreakingStrategyValues")
     void generateWithNestingLoopBreakingStrategySelfReferencedItemTest(int nestingLevel, String expectedResult) {
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator;
+
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TypeCycleAnalyzerTest {
+
+    private static final TypeMeta<?> A = new TypeMeta<>(Integer.class);
+    private static final TypeMeta<?> B = new TypeMeta<>(Long.class);
+    private static final TypeMeta<?> C = new TypeMeta<>(Short.class);
+    private static final TypeMeta<?> D = new TypeMeta<>(Byte.class);
+    private static final TypeMeta<?> E = new TypeMeta<>(Double.class);
+    private static final TypeMeta<?> F = new TypeMeta<>(Float.class);
+    private static final FieldMarkingStrategy NON_CACHEABLE_STRATEGY = field -> true;
+
+    @Test
+    void acyclicGraphIsLoopFreeTest() {
+        Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph = new HashMap<>();
+        graph.put(A, Arrays.asList(B, C));
+        graph.put(B, Collections.singletonList(C));
+        TypeCycleAnalyzer analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> links(graph, typeMeta));
+        Assertions.assertTrue(analyzer.isLoopFree(A));
+        Assertions.assertTrue(analyzer.isLoopFree(B));
+        Assertions.assertTrue(analyzer.isLoopFree(C));
+    }
+
+    @Test
+    void cycleMembersAndTypesReachingCycleAreNotLoopFreeTest() {
+        // A -> B -> C -> B, C -> D, A -> E -> F
+        Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph = new HashMap<>();
+        graph.put(A, Arrays.asList(B, E));
+        graph.put(B, Collections.singletonList(C));
+        graph.put(C, Arrays.asList(B, D));
+        graph.put(E, Collections.singletonList(F));
+        TypeCycleAnalyzer analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> links(graph, typeMeta));
+        Assertions.assertFalse(analyzer.isLoopFree(A));
+        Assertions.assertFalse(analyzer.isLoopFree(B));
+        Assertions.assertFalse(analyzer.isLoopFree(C));
+        Assertions.assertTrue(analyzer.isLoopFree(D));
+        Assertions.assertTrue(analyzer.isLoopFree(E));
+        Assertions.assertTrue(analyzer.isLoopFree(F));
+    }
+
+    @Test
+    void deepGraphDoesNotOverflowStackTest() {
+        Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph = new HashMap<>();
+        TypeMeta<?> root = new IdentityTypeMeta();
+        TypeMeta<?> previous = root;
+        for (int i = 0; i < 100_000; ++i) {
+            TypeMeta<?> next = new IdentityTypeMeta();
+            graph.put(previous, Collections.singletonList(next));
+            previous = next;
+        }
+        TypeCycleAnalyzer analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> links(graph, typeMeta));
+        Assertions.assertTrue(analyzer.isLoopFree(root));
+        graph.put(previous, Collections.singletonList(root));
+        analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> links(graph, typeMeta));
+        Assertions.assertFalse(analyzer.isLoopFree(root));
+        Assertions.assertFalse(analyzer.isLoopFree(previous));
+    }
+
+    @Test
+    void graphIsTraversedOnlyOnceTest() {
+        Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph = new HashMap<>();
+        graph.put(A, Arrays.asList(B, C));
+        graph.put(C, Collections.singletonList(A));
+        AtomicInteger calls = new AtomicInteger();
+        TypeCycleAnalyzer analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> {
+            calls.incrementAndGet();
+            return links(graph, typeMeta);
+        });
+        Assertions.assertFalse(analyzer.isLoopFree(C));
+        Assertions.assertTrue(analyzer.isLoopFree(B));
+        Assertions.assertFalse(analyzer.isLoopFree(A));
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    void selfReferenceIsLoopTest() {
+        Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph = new HashMap<>();
+        graph.put(A, Collections.singletonList(A));
+        TypeCycleAnalyzer analyzer = TypeCycleAnalyzer.of(NON_CACHEABLE_STRATEGY, typeMeta -> links(graph, typeMeta));
+        Assertions.assertFalse(analyzer.isLoopFree(A));
+    }
+
+    private Collection<TypeMeta<?>> links(Map<TypeMeta<?>, Collection<TypeMeta<?>>> graph, TypeMeta<?> typeMeta) {
+        return graph.getOrDefault(typeMeta, Collections.emptyList());
+    }
+
+    // every instance represents distinct type to build graphs larger than amount of available classes
+    private static final class IdentityTypeMeta extends TypeMeta<Object> {
+
+        private IdentityTypeMeta() {
+            super(Object.class);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.generator.mutation;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.param.GqlArgument;
+import com.github.vladislavsevruk.generator.param.GqlInputArgument;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
+import com.github.vladislavsevruk.generator.test.data.SimpleInputTestModel;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class GqlBulkMutationRequestBodyGeneratorTest {
+
+    @Test
+    void allInputsAtSingleBodyTest() {
+        List<String> result = toList(GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(inputs("first", "second")));
+        String expectedResult = "{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"first\\\"}){"
+                + "selectionSetField} m1:upsertItem(input:{testField:\\\"second\\\"}){selectionSetField}}\"}";
+        Assertions.assertEquals(Collections.singletonList(expectedResult), result);
+    }
+
+    @Test
+    void commonArgumentsAndOperationAliasTest() {
+        List<String> result = toList(GqlRequestBodyGenerator.mutation("upsertItem").operationAlias("sync")
+                .arguments(GqlArgument.of("tenant", "main")).selectionSet(SimpleSelectionSetTestModel.class)
+                .bulk(Arrays.asList(1, 2), id -> Collections.singletonList(GqlArgument.of("id", id))));
+        String expectedResult = "{\"query\":\"mutation sync{m0:upsertItem(tenant:\\\"main\\\",id:1){"
+                + "selectionSetField} m1:upsertItem(tenant:\\\"main\\\",id:2){selectionSetField}}\"}";
+        Assertions.assertEquals(Collections.singletonList(expectedResult), result);
+    }
+
+    @Test
+    void emptyInputsTest() {
+        Iterator<String> iterator = GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(Collections.emptyList()).iterator();
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void inputsAreConsumedLazilyTest() {
+        List<Integer> consumedInputs = new ArrayList<>();
+        Iterator<String> iterator = GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(Arrays.asList(1, 2, 3, 4, 5), id -> {
+                    consumedInputs.add(id);
+                    return Collections.singletonList(GqlArgument.of("id", id));
+                }).maxOperations(2).iterator();
+        Assertions.assertTrue(consumedInputs.isEmpty());
+        iterator.next();
+        Assertions.assertEquals(Arrays.asList(1, 2), consumedInputs);
+    }
+
+    @Test
+    void maxBodySizeTest() {
+        GqlBulkMutationRequestBodyGenerator generator = GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class)
+                .bulk(inputs("first", "second", "third", "\u0451\u0436\u0438\u043a")).maxBodySize(148);
+        List<String> result = toList(generator);
+        String expectedFirstBody = "{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"first\\\"}){"
+                + "selectionSetField} m1:upsertItem(input:{testField:\\\"second\\\"}){selectionSetField}}\"}";
+        String expectedSecondBody = "{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"third\\\"}){"
+                + "selectionSetField} m1:upsertItem(input:{testField:\\\"\u0451\u0436\u0438\u043a\\\"}){"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals(Arrays.asList(expectedFirstBody, expectedSecondBody), result);
+        result.forEach(body -> Assertions.assertTrue(body.getBytes(StandardCharsets.UTF_8).length <= 148));
+    }
+
+    @Test
+    void maxBodySizeExceededBySingleInputTest() {
+        List<String> result = toList(GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(inputs("first", "second")).maxBodySize(10));
+        String expectedFirstBody = "{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"first\\\"}){"
+                + "selectionSetField}}\"}";
+        String expectedSecondBody = "{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"second\\\"}){"
+                + "selectionSetField}}\"}";
+        Assertions.assertEquals(Arrays.asList(expectedFirstBody, expectedSecondBody), result);
+    }
+
+    @Test
+    void maxOperationsTest() {
+        List<String> result = toList(GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(inputs("first", "second", "third"))
+                .maxOperations(2));
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertTrue(result.get(0).contains(" m1:"));
+        Assertions.assertEquals("{\"query\":\"mutation{m0:upsertItem(input:{testField:\\\"third\\\"}){"
+                + "selectionSetField}}\"}", result.get(1));
+    }
+
+    @Test
+    void nonPositiveLimitThrowsExceptionTest() {
+        GqlBulkMutationRequestBodyGenerator generator = GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class).bulk(inputs("first"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.maxBodySize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.maxOperations(-1));
+    }
+
+    @Test
+    void variablesThrowsExceptionTest() {
+        GqlBulkMutationRequestBodyGenerator generator = GqlRequestBodyGenerator.mutation("upsertItem")
+                .selectionSet(SimpleSelectionSetTestModel.class)
+                .bulk(Collections.singletonList(1), id -> Collections.singletonList(GqlVariableArgument.of("id", id)));
+        Iterator<String> iterator = generator.iterator();
+        Assertions.assertThrows(IllegalArgumentException.class, iterator::next);
+    }
+
+    private List<SimpleInputTestModel> inputs(String... values) {
+        List<SimpleInputTestModel> inputs = new ArrayList<>();
+        for (String value : values) {
+            inputs.add(new SimpleInputTestModel().setTestField(value));
+        }
+        return inputs;
+    }
+
+    private List<String> toList(Iterable<String> bodies) {
+        List<String> result = new ArrayList<>();
+        bodies.forEach(result::add);
+        return result;
+    }
+}
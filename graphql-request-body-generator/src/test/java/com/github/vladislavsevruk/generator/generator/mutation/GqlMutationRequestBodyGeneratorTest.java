@@ -40,6 +40,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -875,4 +877,19 @@ class GqlMutationRequestBodyGeneratorTest {
         }
         return String.join(",", values);
     }
+
+    @Test
+    void writeToWriterTest() throws IOException {
+        FieldMarkingStrategySourceManager.input().useAllExceptIgnoredFieldsStrategy();
+        SimpleInputTestModel simpleInputTestModel1 = new SimpleInputTestModel().setTestField("testValue1");
+        SimpleInputTestModel simpleInputTestModel2 = new SimpleInputTestModel().setTestField("testValue2");
+        GqlInputArgument<List<SimpleInputTestModel>> inputArgument = GqlInputArgument
+                .of(Arrays.asList(simpleInputTestModel1, simpleInputTestModel2));
+        StringWriter writer = new StringWriter();
+        new GqlMutationRequestBodyGenerator("customGqlMutation").arguments(inputArgument)
+                .selectionSet(SimpleSelectionSetTestModel.class).writeTo(writer);
+        String expectedResult = "{\"query\":\"mutation{customGqlMutation(input:[{testField:\\\"testValue1\\\"},"
+                + "{testField:\\\"testValue2\\\"}]){selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, writer.toString());
+    }
 }
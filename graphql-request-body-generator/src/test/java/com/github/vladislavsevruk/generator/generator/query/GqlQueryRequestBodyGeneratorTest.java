@@ -25,6 +25,7 @@ package com.github.vladislavsevruk.generator.generator.query;
 
 import com.github.vladislavsevruk.generator.param.GqlArgument;
 import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
+import com.github.vladislavsevruk.generator.param.GqlVariableArgument;
 import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
 import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
@@ -46,6 +47,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -781,6 +784,25 @@ class GqlQueryRequestBodyGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generatePersistedTest() {
+        String result = new GqlQueryRequestBodyGenerator("testQuery").selectionSet(SimpleSelectionSetTestModel.class)
+                .arguments(GqlVariableArgument.of("id", 1, true)).generatePersisted();
+        String expectedResult = "{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":"
+                + "\"4a63398d061daa3ec641bd52c89876697d386c81cc63b5b7848b3eb336bcd23d\"}},\"variables\":{\"id\":1}}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void generatePersistedWithQueryTest() {
+        String result = new GqlQueryRequestBodyGenerator("testQuery").selectionSet(SimpleSelectionSetTestModel.class)
+                .arguments(GqlVariableArgument.of("id", 1, true)).generatePersistedWithQuery();
+        String expectedResult = "{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":"
+                + "\"4a63398d061daa3ec641bd52c89876697d386c81cc63b5b7848b3eb336bcd23d\"}},\"variables\":{\"id\":1},"
+                + "\"query\":\"query($id:Int!){testQuery(id:$id){selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, result);
+    }
+
     @Test
     void generateShortLoopedItemsAtSelectionSetDefaultLoopBreakingStrategyTest() {
         String result = new GqlQueryRequestBodyGenerator("customGqlQuery").selectionSet(ShortLoopedItem1.class)
@@ -836,6 +858,15 @@ class GqlQueryRequestBodyGeneratorTest {
         Assertions.assertEquals(expectedResult, result);
     }
 
+    @Test
+    void generateToStringBuilderTest() throws IOException {
+        StringBuilder sink = new StringBuilder("prefix");
+        new GqlQueryRequestBodyGenerator("customGqlQuery").arguments(GqlArgument.of("id", 1))
+                .selectionSet(SimpleSelectionSetTestModel.class).generate(sink);
+        String expectedResult = "prefix{\"query\":\"{customGqlQuery(id:1){selectionSetField}}\"}";
+        Assertions.assertEquals(expectedResult, sink.toString());
+    }
+
     @Test
     void generateWithArrayArgumentTest() {
         FieldMarkingStrategySourceManager.selectionSet().useAllExceptIgnoredFieldsStrategy();
@@ -965,4 +996,33 @@ class GqlQueryRequestBodyGeneratorTest {
                 + "variableTypeInputMethod:\\\"getVariableTypeInputMethod\\\"){selectionSetField}}\"}";
         Assertions.assertEquals(expectedResult, result);
     }
+
+    @Test
+    void writeToWriterTest() throws IOException {
+        GqlQueryRequestBodyGenerator generator = new GqlQueryRequestBodyGenerator("customGqlQuery")
+                .arguments(GqlArgument.of("id", 1)).operationAlias("alias")
+                .selectionSet(SimpleSelectionSetTestModel.class);
+        StringWriter writer = new StringWriter();
+        generator.writeTo(writer);
+        Assertions.assertEquals(generator.generate(), writer.toString());
+    }
+
+    @Test
+    void writeToWriterWithEscapedOperationTest() throws IOException {
+        GqlQueryRequestBodyGenerator generator = new GqlQueryRequestBodyGenerator("customGqlQuery")
+                .arguments(GqlArgument.of("name", "quoted \"value\""), GqlVariableArgument.of("id", 1, true))
+                .selectionSet(SimpleSelectionSetTestModel.class);
+        StringWriter writer = new StringWriter();
+        generator.writeTo(writer);
+        Assertions.assertEquals(generator.generate(), writer.toString());
+    }
+
+    @Test
+    void writeUnwrappedToWriterTest() throws IOException {
+        UnwrappedGqlQueryRequestBodyGenerator generator = new UnwrappedGqlQueryRequestBodyGenerator("customGqlQuery")
+                .arguments(GqlArgument.of("name", "value")).selectionSet(SimpleSelectionSetTestModel.class);
+        StringWriter writer = new StringWriter();
+        generator.writeTo(writer);
+        Assertions.assertEquals(generator.generate(), writer.toString());
+    }
 }
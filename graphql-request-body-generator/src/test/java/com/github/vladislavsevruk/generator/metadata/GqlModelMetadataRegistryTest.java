@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.metadata;
+
+import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
+import com.github.vladislavsevruk.generator.strategy.looping.EndlessLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrder;
+import com.github.vladislavsevruk.generator.strategy.order.OutputOrderManager;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.SelectionSetGenerationStrategy;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import com.github.vladislavsevruk.generator.test.data.metadata.PrecomputedTestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+class GqlModelMetadataRegistryTest {
+
+    private static final LoopBreakingStrategy DEFAULT_LOOP_BREAKING_STRATEGY = EndlessLoopBreakingStrategy
+            .defaultStrategy().getLoopBreakingStrategy();
+
+    @AfterEach
+    void reset() {
+        GqlModelMetadataRegistry.enable();
+        GqlModelMetadataRegistry.unregisterAll();
+        OutputOrderManager.useDeclarationOrder();
+    }
+
+    @Test
+    void disabledMetadataIsNotUsedTest() {
+        GqlModelMetadataRegistry.disable();
+        Assertions.assertNull(GqlModelMetadataRegistry.get(PrecomputedTestModel.class));
+        Assertions.assertEquals("{reflectedField}",
+                generate(PrecomputedTestModel.class, new AllExceptIgnoredFieldMarkingStrategy(),
+                        DEFAULT_LOOP_BREAKING_STRATEGY));
+    }
+
+    @Test
+    void generatedMetadataIsUsedTest() {
+        GqlModelMetadata metadata = GqlModelMetadataRegistry.get(PrecomputedTestModel.class);
+        Assertions.assertNotNull(metadata);
+        Assertions.assertEquals(Collections.singletonList("reflectedField"), metadata.getFieldNames());
+        Assertions.assertEquals("{precomputedField}",
+                generate(PrecomputedTestModel.class, new AllExceptIgnoredFieldMarkingStrategy(),
+                        DEFAULT_LOOP_BREAKING_STRATEGY));
+    }
+
+    @Test
+    void metadataClassNameTest() {
+        Assertions.assertEquals("com.github.vladislavsevruk.generator.metadata.GqlModelMetadataRegistryTest_Model"
+                + "_GqlModelMetadata", GqlModelMetadataRegistry.getMetadataClassName(Model.class));
+    }
+
+    @Test
+    void missedSelectionSetFallsBackToReflectionTest() {
+        Assertions.assertEquals("{reflectedField}",
+                generate(PrecomputedTestModel.class, new OnlyMarkedFieldMarkingStrategy(),
+                        DEFAULT_LOOP_BREAKING_STRATEGY));
+        OutputOrderManager.useCanonicalOrder();
+        Assertions.assertEquals("{reflectedField}",
+                generate(PrecomputedTestModel.class, new AllExceptIgnoredFieldMarkingStrategy(),
+                        DEFAULT_LOOP_BREAKING_STRATEGY));
+    }
+
+    @Test
+    void modelWithoutMetadataTest() {
+        Assertions.assertNull(GqlModelMetadataRegistry.get(SimpleSelectionSetTestModel.class));
+    }
+
+    @Test
+    void nonDefaultStrategiesFallBackToReflectionTest() {
+        Assertions.assertEquals("{reflectedField}",
+                generate(PrecomputedTestModel.class, field -> true, DEFAULT_LOOP_BREAKING_STRATEGY));
+        Assertions.assertEquals("{reflectedField}",
+                generate(PrecomputedTestModel.class, new AllExceptIgnoredFieldMarkingStrategy(),
+                        EndlessLoopBreakingStrategy.nestingStrategy(1)));
+    }
+
+    @Test
+    void registeredMetadataIsUsedTest() {
+        GqlModelMetadataRegistry.register(new BaseGqlModelMetadata(SimpleSelectionSetTestModel.class) {
+            {
+                addSelectionSet(FieldMarkingStrategyType.ALL_EXCEPT_IGNORED, SelectionSetGenerationStrategy.ALL_FIELDS,
+                        OutputOrder.DECLARATION, "{registeredField}");
+            }
+        });
+        Assertions.assertEquals("{registeredField}",
+                generate(SimpleSelectionSetTestModel.class, new AllExceptIgnoredFieldMarkingStrategy(),
+                        DEFAULT_LOOP_BREAKING_STRATEGY));
+    }
+
+    private String generate(Class<?> modelClass, FieldMarkingStrategy fieldMarkingStrategy,
+            LoopBreakingStrategy loopBreakingStrategy) {
+        return new SelectionSetGenerator(new TypeMeta<>(modelClass), fieldMarkingStrategy, loopBreakingStrategy)
+                .generate(SelectionSetGenerationStrategy.ALL_FIELDS.getFieldsPickingStrategy());
+    }
+
+    private static class Model {
+    }
+}
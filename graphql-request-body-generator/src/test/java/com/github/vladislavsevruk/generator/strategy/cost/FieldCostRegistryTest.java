@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.cost;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.SelectionSetEstimate;
+import com.github.vladislavsevruk.generator.test.data.cost.Catalog;
+import com.github.vladislavsevruk.generator.test.data.cost.Review;
+import com.github.vladislavsevruk.generator.test.data.fragment.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FieldCostRegistryTest {
+
+    @AfterEach
+    void reset() {
+        FieldCostRegistry.reset();
+    }
+
+    @Test
+    void annotatedCostIsUsedTest() {
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.query("catalog").selectionSet(Catalog.class)
+                .estimateSelectionSet();
+        Assertions.assertEquals("{id products{id name reviews{id text}} summary}", estimate.getSelectionSet());
+        Assertions.assertEquals(57L, estimate.getCost());
+        Assertions.assertEquals(3, estimate.getDepth());
+    }
+
+    @Test
+    void defaultCostEqualsToFieldsAmountTest() {
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.query("order").selectionSet(Order.class)
+                .estimateSelectionSet();
+        Assertions.assertEquals(33L, estimate.getCost());
+        Assertions.assertEquals(3, estimate.getDepth());
+    }
+
+    @Test
+    void defaultListMultiplierIsUsedForListsWithoutAnnotatedMultiplierTest() {
+        FieldCostRegistry.setDefaultListMultiplier(3);
+        Assertions.assertEquals(3, FieldCostRegistry.getDefaultListMultiplier());
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.query("catalog").selectionSet(Catalog.class)
+                .estimateSelectionSet();
+        Assertions.assertEquals(97L, estimate.getCost());
+    }
+
+    @Test
+    void invalidCostThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FieldCostRegistry.register(Review.class, "text", -1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FieldCostRegistry.register(Review.class, "unknown", 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FieldCostRegistry.setDefaultWeight(-1));
+    }
+
+    @Test
+    void registeredCostTakesPriorityOverAnnotatedOneTest() throws NoSuchFieldException {
+        GqlRequestBodyGenerator.query("catalog").selectionSet(Catalog.class).estimateSelectionSet();
+        FieldCostRegistry.register(Catalog.class, "summary", 0, 1);
+        FieldCostRegistry.register(Review.class, "text", 4, 1);
+        Assertions.assertEquals(0, FieldCostRegistry.getWeight(Catalog.class.getDeclaredField("summary")));
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.query("catalog").selectionSet(Catalog.class)
+                .estimateSelectionSet();
+        Assertions.assertEquals(82L, estimate.getCost());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.fragment;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import com.github.vladislavsevruk.generator.test.data.fragment.Order;
+import com.github.vladislavsevruk.generator.test.data.fragment.Shipment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FragmentOutputManagerTest {
+
+    private static final String ADDRESS_FRAGMENT
+            = "fragment AddressFields on Address{city country line1 line2 postalCode region}";
+    private static final String ORDER_SELECTION_SET = "{billingAddress{...AddressFields} customer{address{"
+            + "...AddressFields} name} id shippingAddress{...AddressFields} warehouse{address{...AddressFields} id}}";
+
+    @AfterEach
+    void reset() {
+        FragmentOutputManager.useInlineSelections();
+    }
+
+    @Test
+    void inlineSelectionsIsDefaultTest() {
+        Assertions.assertEquals(FragmentOutput.INLINE, FragmentOutputManager.getFragmentOutput());
+        Assertions.assertFalse(FragmentOutputManager.isNamedFragments());
+        String result = GqlRequestBodyGenerator.unwrapped().query("order").selectionSet(Order.class).generate();
+        Assertions.assertFalse(result.contains("fragment"));
+    }
+
+    @Test
+    void namedFragmentsAtMergedQueryAreDefinedOnceTest() {
+        FragmentOutputManager.useNamedFragments();
+        String result = GqlRequestBodyGenerator.mergedQuery()
+                .query("first", GqlRequestBodyGenerator.query("order").selectionSet(Order.class))
+                .query("second", GqlRequestBodyGenerator.query("order").selectionSet(Order.class)).generate();
+        Assertions.assertEquals("{\"query\":\"{first:order" + ORDER_SELECTION_SET + " second:order"
+                + ORDER_SELECTION_SET + "} " + ADDRESS_FRAGMENT + "\"}", result);
+    }
+
+    @Test
+    void namedFragmentsAtMutationTest() {
+        FragmentOutputManager.useNamedFragments();
+        String result = GqlRequestBodyGenerator.unwrapped().mutation("createOrder").selectionSet(Order.class)
+                .generate();
+        Assertions.assertEquals("mutation{createOrder" + ORDER_SELECTION_SET + "} " + ADDRESS_FRAGMENT, result);
+    }
+
+    @Test
+    void namedFragmentsAtQueryTest() {
+        FragmentOutputManager.useNamedFragments();
+        String result = GqlRequestBodyGenerator.query("order").selectionSet(Order.class).generate();
+        Assertions.assertEquals("{\"query\":\"{order" + ORDER_SELECTION_SET + "} " + ADDRESS_FRAGMENT + "\"}",
+                result);
+    }
+
+    @Test
+    void repeatedSubSelectionsOfModelWithoutTypeNameAreNotExtractedTest() {
+        String inlineResult = GqlRequestBodyGenerator.unwrapped().query("shipment").selectionSet(Shipment.class)
+                .generate();
+        FragmentOutputManager.useNamedFragments();
+        String result = GqlRequestBodyGenerator.unwrapped().query("shipment").selectionSet(Shipment.class).generate();
+        Assertions.assertEquals(inlineResult, result);
+        Assertions.assertFalse(result.contains("fragment"));
+    }
+
+    @Test
+    void selectionSetWithoutRepeatedSubSelectionsIsNotChangedTest() {
+        String inlineResult = GqlRequestBodyGenerator.unwrapped().query("testQuery")
+                .selectionSet(SimpleSelectionSetTestModel.class).generate();
+        FragmentOutputManager.useNamedFragments();
+        String result = GqlRequestBodyGenerator.unwrapped().query("testQuery")
+                .selectionSet(SimpleSelectionSetTestModel.class).generate();
+        Assertions.assertEquals(inlineResult, result);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.looping;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BaseNestingLevelOverrideLoopBreakingStrategyTest {
+
+    private static final TypeMeta<?> ITEM = new TypeMeta<>(Integer.class);
+
+    @Test
+    void countingStrategyIsUsedForOverriddenNestingLevelTest() {
+        CountingLoopBreakingStrategy strategy = new BaseNestingLevelOverrideLoopBreakingStrategy(1,
+                (typeMeta, trace) -> true) {};
+        Assertions.assertTrue(strategy.isCountingSupported());
+        Assertions.assertFalse(strategy.shouldBreakOnElement(ITEM, 1));
+        Assertions.assertFalse(strategy.shouldBreakOnElement(ITEM, 2));
+        Assertions.assertTrue(strategy.shouldBreakOnElement(ITEM, 3));
+    }
+
+    @Test
+    void nonCountingDefaultStrategyIsCheckedAgainstTraceTest() {
+        CountingLoopBreakingStrategy strategy = new BaseNestingLevelOverrideLoopBreakingStrategy(-1,
+                (typeMeta, trace) -> trace.size() > 1 && trace.contains(typeMeta)) {};
+        Assertions.assertFalse(strategy.isCountingSupported());
+        Assertions.assertFalse(strategy.shouldBreakOnElement(ITEM, 1));
+        Assertions.assertTrue(strategy.shouldBreakOnElement(ITEM, 2));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.order;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.GqlVariablesGenerator;
+import com.github.vladislavsevruk.generator.param.GqlDelegateArgument;
+import com.github.vladislavsevruk.generator.param.GqlInputArgument;
+import com.github.vladislavsevruk.generator.strategy.marker.FieldMarkingStrategySourceManager;
+import com.github.vladislavsevruk.generator.test.data.SimpleSelectionSetTestModel;
+import com.github.vladislavsevruk.generator.test.data.UnorderedTestModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class OutputOrderManagerTest {
+
+    @AfterEach
+    void reset() {
+        OutputOrderManager.useDeclarationOrder();
+    }
+
+    @Test
+    void canonicalOrderOfDelegatedMapTest() {
+        OutputOrderManager.useCanonicalOrder();
+        Map<String, Object> delegate = new LinkedHashMap<>();
+        delegate.put("second", 2);
+        delegate.put("first", 1);
+        String result = GqlRequestBodyGenerator.unwrapped().mutation("testMutation")
+                .arguments(GqlDelegateArgument.of(delegate)).selectionSet(SimpleSelectionSetTestModel.class).generate();
+        Assertions.assertEquals("mutation{testMutation(first:1,second:2){selectionSetField}}", result);
+    }
+
+    @Test
+    void canonicalOrderOfInputTest() {
+        OutputOrderManager.useCanonicalOrder();
+        String result = GqlRequestBodyGenerator.unwrapped().mutation("testMutation")
+                .arguments(GqlInputArgument.of(new UnorderedTestModel().setZeta("z").setAlpha(1)))
+                .selectionSet(SimpleSelectionSetTestModel.class).generate();
+        Assertions.assertEquals("mutation{testMutation(input:{alpha:1,zeta:\"z\",middle:\"method\"}){"
+                + "selectionSetField}}", result);
+    }
+
+    @Test
+    void canonicalOrderOfSelectionSetTest() {
+        String declarationOrderResult = GqlRequestBodyGenerator.unwrapped().query("testQuery")
+                .selectionSet(UnorderedTestModel.class).generate();
+        OutputOrderManager.useCanonicalOrder();
+        String canonicalOrderResult = GqlRequestBodyGenerator.unwrapped().query("testQuery")
+                .selectionSet(UnorderedTestModel.class).generate();
+        Assertions.assertEquals("{testQuery{alpha zeta}}", canonicalOrderResult);
+        Assertions.assertNotEquals(declarationOrderResult, canonicalOrderResult);
+    }
+
+    @Test
+    void canonicalOrderOfVariablesTest() {
+        OutputOrderManager.useCanonicalOrder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("second", new UnorderedTestModel().setZeta("z").setAlpha(1));
+        variables.put("first", 1);
+        String result = new GqlVariablesGenerator(FieldMarkingStrategySourceManager.input().getStrategy())
+                .generate(variables);
+        Assertions.assertEquals("{\"first\":1,\"second\":{\"alpha\":1,\"middleValue\":\"method\",\"zeta\":\"z\"}}",
+                result);
+    }
+
+    @Test
+    void declarationOrderIsDefaultTest() {
+        Assertions.assertEquals(OutputOrder.DECLARATION, OutputOrderManager.getOrder());
+        Assertions.assertFalse(OutputOrderManager.isCanonical());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.parallel;
+
+import com.github.vladislavsevruk.generator.cache.SelectionSetCache;
+import com.github.vladislavsevruk.generator.generator.SelectionSetGenerator;
+import com.github.vladislavsevruk.generator.strategy.looping.LoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.looping.NestingLoopBreakingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.AllExceptIgnoredFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.marker.OnlyMarkedFieldMarkingStrategy;
+import com.github.vladislavsevruk.generator.strategy.picker.selection.AllFieldsPickingStrategy;
+import com.github.vladislavsevruk.generator.test.data.TestModel;
+import com.github.vladislavsevruk.generator.test.data.loop.LongLoopedItem1;
+import com.github.vladislavsevruk.generator.test.data.loop.MultiReferencedItem;
+import com.github.vladislavsevruk.generator.test.data.union.TestModelWithHoistedUnion;
+import com.github.vladislavsevruk.generator.test.data.union.TestModelWithUnion;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelGenerationManagerTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @AfterEach
+    void reset() {
+        ParallelGenerationManager.useSequentialGeneration();
+        SelectionSetCache.invalidate();
+    }
+
+    @Test
+    void parallelGenerationIsSameAsSequentialForLoopedModelTest() {
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(LongLoopedItem1.class),
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(2)));
+    }
+
+    @Test
+    void parallelGenerationIsSameAsSequentialForModelTest() {
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(TestModel.class),
+                new AllExceptIgnoredFieldMarkingStrategy(), new NestingLoopBreakingStrategy(1)));
+    }
+
+    @Test
+    void parallelGenerationIsSameAsSequentialForMultiReferencedModelTest() {
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(MultiReferencedItem.class),
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(3)));
+    }
+
+    @Test
+    void parallelGenerationIsSameAsSequentialForTraceStrategyTest() {
+        LoopBreakingStrategy traceStrategy = new NestingLoopBreakingStrategy(3)::shouldBreakOnItem;
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(MultiReferencedItem.class),
+                new OnlyMarkedFieldMarkingStrategy(), traceStrategy));
+    }
+
+    @Test
+    void parallelGenerationIsSameAsSequentialForUnionsTest() {
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(TestModelWithUnion.class),
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(0)));
+        verifyParallelGeneration(new SelectionSetGenerator(new TypeMeta<>(TestModelWithHoistedUnion.class),
+                new OnlyMarkedFieldMarkingStrategy(), new NestingLoopBreakingStrategy(0)));
+    }
+
+    @Test
+    void sequentialGenerationIsDefaultTest() {
+        Assertions.assertFalse(ParallelGenerationManager.isParallel());
+        Assertions.assertNull(ParallelGenerationManager.getPool());
+    }
+
+    @Test
+    void useParallelGenerationTest() {
+        ParallelGenerationManager.useParallelGeneration(pool);
+        Assertions.assertTrue(ParallelGenerationManager.isParallel());
+        Assertions.assertSame(pool, ParallelGenerationManager.getPool());
+        ParallelGenerationManager.useParallelGeneration();
+        Assertions.assertSame(ForkJoinPool.commonPool(), ParallelGenerationManager.getPool());
+    }
+
+    private void verifyParallelGeneration(SelectionSetGenerator generator) {
+        String expectedResult = generator.generate(new AllFieldsPickingStrategy());
+        SelectionSetCache.invalidate();
+        ParallelGenerationManager.useParallelGeneration(pool);
+        Assertions.assertEquals(expectedResult, generator.generate(new AllFieldsPickingStrategy()));
+        ParallelGenerationManager.useSequentialGeneration();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.picker.selection;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.generator.SelectionSetEstimate;
+import com.github.vladislavsevruk.generator.test.data.cost.Catalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BudgetFieldsPickingStrategyTest {
+
+    private static final FieldsPickingStrategy ALL_FIELDS = SelectionSetGenerationStrategy.allFields()
+            .getFieldsPickingStrategy();
+
+    @Test
+    void budgetStrategyIsCacheableIfWrappedStrategyIsCacheableTest() {
+        Assertions.assertTrue(BudgetFieldsPickingStrategy.of(ALL_FIELDS, 10L).isCacheable());
+        Assertions.assertFalse(BudgetFieldsPickingStrategy.of(field -> true, 10L).isCacheable());
+        Assertions.assertEquals(BudgetFieldsPickingStrategy.of(ALL_FIELDS, 10L),
+                BudgetFieldsPickingStrategy.of(ALL_FIELDS, 10L, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void invalidBudgetThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BudgetFieldsPickingStrategy.of(ALL_FIELDS, -1L));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BudgetFieldsPickingStrategy.of(ALL_FIELDS, 10L, 0));
+    }
+
+    @Test
+    void selectionSetFittingBudgetIsNotPrunedTest() {
+        String result = GqlRequestBodyGenerator.unwrapped().query("catalog")
+                .selectionSet(Catalog.class, BudgetFieldsPickingStrategy.of(ALL_FIELDS, 57L)).generate();
+        Assertions.assertEquals("{catalog{id products{id name reviews{id text}} summary}}", result);
+    }
+
+    @Test
+    void selectionSetIsPrunedToMaxCostTest() {
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.unwrapped().query("catalog")
+                .selectionSet(Catalog.class, BudgetFieldsPickingStrategy.of(ALL_FIELDS, 30L)).estimateSelectionSet();
+        Assertions.assertEquals("{id products{id name} summary}", estimate.getSelectionSet());
+        Assertions.assertEquals(27L, estimate.getCost());
+        Assertions.assertEquals(2, estimate.getDepth());
+        String result = GqlRequestBodyGenerator.unwrapped().query("catalog")
+                .selectionSet(Catalog.class, BudgetFieldsPickingStrategy.of(ALL_FIELDS, 20L)).generate();
+        Assertions.assertEquals("{catalog{id summary}}", result);
+    }
+
+    @Test
+    void selectionSetIsPrunedToMaxDepthTest() {
+        SelectionSetEstimate estimate = GqlRequestBodyGenerator.unwrapped().query("catalog")
+                .selectionSet(Catalog.class, BudgetFieldsPickingStrategy.of(ALL_FIELDS, Long.MAX_VALUE, 1))
+                .estimateSelectionSet();
+        Assertions.assertEquals("{id summary}", estimate.getSelectionSet());
+        Assertions.assertEquals(1, estimate.getDepth());
+    }
+
+    @Test
+    void wrappedStrategyPicksFieldsTest() {
+        String result = GqlRequestBodyGenerator.unwrapped().query("catalog").selectionSet(Catalog.class,
+                BudgetFieldsPickingStrategy.of(SelectionSetGenerationStrategy.onlyId().getFieldsPickingStrategy(), 32L))
+                .generate();
+        Assertions.assertEquals("{catalog{id products{id reviews{id}}}}", result);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.generator.strategy.picker.selection;
+
+import com.github.vladislavsevruk.generator.GqlRequestBodyGenerator;
+import com.github.vladislavsevruk.generator.test.data.fragment.Order;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SelectionSetPathsTest {
+
+    private static final String ADDRESS_SELECTION_SET = "{city country line1 line2 postalCode region}";
+
+    @Test
+    void emptyPathsSelectAllFieldsTest() {
+        Assertions.assertTrue(SelectionSetPaths.of().isAll());
+        Assertions.assertNull(SelectionSetPaths.of("!customer", "customer").getFieldPaths("customer"));
+        Assertions.assertFalse(SelectionSetPaths.of("!customer").isAll());
+    }
+
+    @Test
+    void equalPathsAreEqualTest() {
+        SelectionSetPaths paths = SelectionSetPaths.of("customer.address", "!warehouse.address");
+        SelectionSetPaths samePaths = SelectionSetPaths
+                .of("!warehouse.address", "customer.address.city", "customer.address");
+        Assertions.assertEquals(paths, samePaths);
+        Assertions.assertEquals(paths.hashCode(), samePaths.hashCode());
+        Assertions.assertEquals(paths, SelectionSetPaths.of("customer.address"));
+        Assertions.assertNotEquals(paths, SelectionSetPaths.of("customer"));
+    }
+
+    @Test
+    void excludePathWinsOverIncludePathTest() {
+        String result = GqlRequestBodyGenerator.unwrapped().query("order")
+                .selectionSet(Order.class, "customer", "!customer.address").generate();
+        Assertions.assertEquals("{order{customer{name}}}", result);
+    }
+
+    @Test
+    void excludePathsRemoveSubtreesTest() {
+        String result = GqlRequestBodyGenerator.unwrapped().query("order")
+                .selectionSet(Order.class, "!customer.address", "!warehouse").generate();
+        Assertions.assertEquals("{order{billingAddress" + ADDRESS_SELECTION_SET + " customer{name} id shippingAddress"
+                + ADDRESS_SELECTION_SET + "}}", result);
+    }
+
+    @Test
+    void includePathsRestrictSelectionSetTest() {
+        String result = GqlRequestBodyGenerator.unwrapped().query("order")
+                .selectionSet(Order.class, "customer.address.city", "warehouse", "!warehouse.address.region")
+                .generate();
+        Assertions.assertEquals("{order{customer{address{city}} warehouse{address{city country line1 line2 postalCode}"
+                + " id}}}", result);
+    }
+
+    @Test
+    void invalidPathThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SelectionSetPaths.of("customer..address"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SelectionSetPaths.of(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SelectionSetPaths.of("!"));
+    }
+
+    @Test
+    void pathsAreResetWhenSelectionSetModelIsSetTest() {
+        String restrictedResult = GqlRequestBodyGenerator.unwrapped().query("order").selectionSet(Order.class, "id")
+                .generate();
+        Assertions.assertEquals("{order{id}}", restrictedResult);
+        String result = GqlRequestBodyGenerator.unwrapped().query("order").selectionSetPaths("id")
+                .selectionSet(Order.class).generate();
+        Assertions.assertEquals(GqlRequestBodyGenerator.unwrapped().query("order")
+                .selectionSet(Order.class, new String[0]).generate(), result);
+        Assertions.assertTrue(result.contains("warehouse"));
+    }
+}
@@ -33,6 +33,31 @@ import java.util.stream.Stream;
 
 class StringUtilTest {
 
+    @Test
+    void addQuotesForStringArgumentTest() {
+        String result = StringUtil.addQuotesForStringArgument("a\"b\\c\nd\te\rf");
+        Assertions.assertEquals("\"a\\\"b\\\\c\\nd\\te\\rf\"", result);
+    }
+
+    @Test
+    void escapeQuotesInPlaceTest() {
+        StringBuilder sink = new StringBuilder("prefix\"{a(b:\"c\\\"\")}");
+        StringUtil.escapeQuotes(sink, 7);
+        Assertions.assertEquals("prefix\"{a(b:\\\"c\\\\\\\"\\\")}", sink.toString());
+    }
+
+    @Test
+    void escapeQuotesInPlaceWithoutEscapedSymbolsTest() {
+        StringBuilder sink = new StringBuilder("{a{b c}}");
+        StringUtil.escapeQuotes(sink, 0);
+        Assertions.assertEquals("{a{b c}}", sink.toString());
+    }
+
+    @Test
+    void escapeQuotesTest() {
+        Assertions.assertEquals("a\\\"b\\\\c\nd", StringUtil.escapeQuotes("a\"b\\c\nd"));
+    }
+
     @Test
     void isBlankNullTest() {
         Assertions.assertFalse(StringUtil.isNotBlank(null));
@@ -50,6 +75,11 @@ class StringUtilTest {
         Assertions.assertFalse(StringUtil.isNotBlank(value));
     }
 
+    @Test
+    void utf8LengthTest() {
+        Assertions.assertEquals(10, StringUtil.utf8Length("a\u00e9\u20ac\ud83d\ude00"));
+    }
+
     private static Stream<Arguments> blankValues() {
         return Stream.of(Arguments.of(" "), Arguments.of("\t"), Arguments.of("\n"), Arguments.of("\r"));
     }